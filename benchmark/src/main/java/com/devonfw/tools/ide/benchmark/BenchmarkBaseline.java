@@ -0,0 +1,187 @@
+package com.devonfw.tools.ide.benchmark;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares the JSON result of a JMH run (created with {@code -rf json}) with a baseline and fails if a benchmark got slower than the given threshold. With
+ * {@code --update} the result becomes the new baseline. Since scores are only comparable when measured on the same machine, no baseline is checked in and
+ * it has to be created locally (e.g. from a run on the main branch) before comparing. The comparison fails if the baseline is missing or has no score for a
+ * benchmark of the result, so a missing baseline can never pass as "no regression".
+ * <pre>
+ * java -cp target/benchmarks.jar com.devonfw.tools.ide.benchmark.BenchmarkBaseline jmh-result.json baseline.json [--threshold=10] [--update]
+ * </pre>
+ */
+public final class BenchmarkBaseline {
+
+  /** The default threshold in percent a benchmark may get slower before it is considered a regression. */
+  public static final double DEFAULT_THRESHOLD = 10;
+
+  private static final String OPTION_THRESHOLD = "--threshold=";
+
+  private static final String OPTION_UPDATE = "--update";
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private final PrintStream out;
+
+  private final double threshold;
+
+  /**
+   * The constructor.
+   *
+   * @param out the {@link PrintStream} to report to.
+   * @param threshold the threshold in percent a benchmark may get slower before it is considered a regression.
+   */
+  public BenchmarkBaseline(PrintStream out, double threshold) {
+
+    super();
+    this.out = out;
+    this.threshold = threshold;
+  }
+
+  /**
+   * @param result the {@link Path} to the JSON result of the current JMH run.
+   * @param baseline the {@link Path} to the JSON result of the baseline.
+   * @return the number of regressions including benchmarks without a score in the baseline.
+   * @throws IOException on error reading the given files.
+   * @throws IllegalStateException if the baseline does not exist or contains no scores.
+   */
+  public int compare(Path result, Path baseline) throws IOException {
+
+    if (!Files.isRegularFile(baseline)) {
+      throw new IllegalStateException("Baseline " + baseline + " does not exist - run with " + OPTION_UPDATE + " to create it.");
+    }
+    Map<String, Score> current = read(result);
+    Map<String, Score> reference = read(baseline);
+    if (reference.isEmpty()) {
+      throw new IllegalStateException("Baseline " + baseline + " contains no scores - run with " + OPTION_UPDATE + " to create it.");
+    }
+    int regressions = 0;
+    this.out.printf("%-90s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+    for (Map.Entry<String, Score> entry : current.entrySet()) {
+      String key = entry.getKey();
+      Score score = entry.getValue();
+      Score referenceScore = reference.get(key);
+      if (referenceScore == null) {
+        // a benchmark without baseline cannot be verified
+        this.out.printf("%-90s %14s %14.3f %9s%n", key, "-", score.value(), "NEW!");
+        regressions++;
+      } else if (!referenceScore.unit().equals(score.unit())) {
+        this.out.printf("%-90s %14s %14s %9s%n", key, referenceScore.unit(), score.unit(), "UNIT");
+      } else {
+        double slowdown = score.getSlowdown(referenceScore);
+        String change = String.format("%+8.1f%%", slowdown);
+        if (slowdown > this.threshold) {
+          change = change + "!";
+          regressions++;
+        }
+        this.out.printf("%-90s %14.3f %14.3f %9s%n", key, referenceScore.value(), score.value(), change);
+      }
+    }
+    for (String key : reference.keySet()) {
+      if (!current.containsKey(key)) {
+        this.out.printf("%-90s %14.3f %14s %9s%n", key, reference.get(key).value(), "-", "MISSING");
+      }
+    }
+    if (regressions > 0) {
+      this.out.printf("%d benchmark(s) got slower by more than %.1f%% or have no baseline.%n", regressions, this.threshold);
+    }
+    return regressions;
+  }
+
+  private static Map<String, Score> read(Path file) throws IOException {
+
+    Map<String, Score> map = new LinkedHashMap<>();
+    JsonNode results = MAPPER.readTree(file.toFile());
+    for (JsonNode result : results) {
+      StringBuilder key = new StringBuilder(result.get("benchmark").asText());
+      JsonNode params = result.get("params");
+      if (params != null) {
+        params.properties().forEach(param -> key.append(':').append(param.getKey()).append('=').append(param.getValue().asText()));
+      }
+      String mode = result.get("mode").asText();
+      key.append(" (").append(mode).append(')');
+      JsonNode metric = result.get("primaryMetric");
+      map.put(key.toString(), new Score(mode, metric.get("score").asDouble(), metric.get("scoreUnit").asText()));
+    }
+    return map;
+  }
+
+  /**
+   * @param args the command-line arguments.
+   */
+  public static void main(String[] args) {
+
+    Path result = null;
+    Path baseline = null;
+    double threshold = DEFAULT_THRESHOLD;
+    boolean update = false;
+    int fileCount = 0;
+    for (String arg : args) {
+      if (arg.startsWith(OPTION_THRESHOLD)) {
+        threshold = Double.parseDouble(arg.substring(OPTION_THRESHOLD.length()));
+      } else if (arg.equals(OPTION_UPDATE)) {
+        update = true;
+      } else if (fileCount == 0) {
+        result = Path.of(arg);
+        fileCount++;
+      } else if (fileCount == 1) {
+        baseline = Path.of(arg);
+        fileCount++;
+      } else {
+        throw new IllegalArgumentException("Unexpected argument: " + arg);
+      }
+    }
+    if ((result == null) || (baseline == null)) {
+      System.err.println("Usage: BenchmarkBaseline <result.json> <baseline.json> [--threshold=<percent>] [--update]");
+      System.exit(2);
+    }
+    try {
+      if (update) {
+        Files.createDirectories(baseline.toAbsolutePath().getParent());
+        Files.copy(result, baseline, StandardCopyOption.REPLACE_EXISTING);
+        System.out.println("Updated baseline " + baseline);
+      } else {
+        int regressions = new BenchmarkBaseline(System.out, threshold).compare(result, baseline);
+        System.exit((regressions == 0) ? 0 : 1);
+      }
+    } catch (IllegalStateException e) {
+      System.err.println(e.getMessage());
+      System.exit(2);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to compare " + result + " with " + baseline, e);
+    }
+  }
+
+  /**
+   * @param mode the JMH mode (e.g. "thrpt" or "avgt").
+   * @param value the score.
+   * @param unit the unit of the score.
+   */
+  private record Score(String mode, double value, String unit) {
+
+    /**
+     * @param baseline the {@link Score} of the baseline.
+     * @return the slowdown in percent compared to the given baseline. Negative if faster.
+     */
+    double getSlowdown(Score baseline) {
+
+      if ("thrpt".equals(this.mode)) {
+        // higher throughput is better
+        return (baseline.value - this.value) * 100 / baseline.value;
+      }
+      // all other modes measure time where lower is better
+      return (this.value - baseline.value) * 100 / baseline.value;
+    }
+  }
+
+}
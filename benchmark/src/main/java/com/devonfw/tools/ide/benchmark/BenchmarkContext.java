@@ -0,0 +1,40 @@
+package com.devonfw.tools.ide.benchmark;
+
+import java.nio.file.Path;
+
+import com.devonfw.tools.ide.context.AbstractIdeContext;
+import com.devonfw.tools.ide.context.IdeStartContextImpl;
+import com.devonfw.tools.ide.io.IdeProgressBar;
+import com.devonfw.tools.ide.io.IdeProgressBarNone;
+import com.devonfw.tools.ide.log.IdeLogLevel;
+import com.devonfw.tools.ide.log.IdeLogListenerNone;
+
+/**
+ * Implementation of {@link com.devonfw.tools.ide.context.IdeContext} for benchmarks. It only logs warnings and errors so the measured code is not dominated
+ * by console output and it never interacts with the user.
+ */
+public class BenchmarkContext extends AbstractIdeContext {
+
+  /**
+   * The constructor.
+   *
+   * @param workingDirectory the {@link Path} to the current working directory, typically the project of the {@link BenchmarkFixtures}.
+   */
+  public BenchmarkContext(Path workingDirectory) {
+
+    super(new IdeStartContextImpl(IdeLogLevel.WARNING, IdeLogListenerNone.INSTANCE), workingDirectory);
+  }
+
+  @Override
+  protected String readLine() {
+
+    throw new IllegalStateException("Benchmarks must not ask for user input!");
+  }
+
+  @Override
+  public IdeProgressBar newProgressBar(String title, long size, String unitName, long unitSize) {
+
+    return new IdeProgressBarNone(title, size, unitName, unitSize);
+  }
+
+}
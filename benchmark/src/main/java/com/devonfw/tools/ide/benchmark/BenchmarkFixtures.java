@@ -0,0 +1,358 @@
+package com.devonfw.tools.ide.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+
+import com.devonfw.tools.ide.context.IdeContext;
+
+/**
+ * Reproducible fixtures for the benchmarks. All content is generated from a fixed seed so every run and every machine measures the same data without any
+ * network access. The fixtures are created once in the {@link #getRoot() root folder} and only recreated if {@link #FIXTURE_VERSION} changes:
+ * <ul>
+ * <li>an {@link #getIdeRoot() IDE_ROOT} with a {@link #getProject() project} defining {@link #VARIABLE_COUNT} chained variables and large workspace
+ * templates,</li>
+ * <li>a synthetic {@link #getUrlsPath() ide-urls repository} with {@link #TOOL_COUNT} tools having {@link #VERSION_COUNT} versions each,</li>
+ * <li>a {@link #getZipFile() ZIP} and a {@link #getTarGzFile() TGZ} archive with {@link #ARCHIVE_FILE_COUNT} files each and</li>
+ * <li>{@link #PATH_ENTRY_COUNT} folders for the {@link #getPath() PATH} with the {@link #BINARY_NAME binary} only in the last one.</li>
+ * </ul>
+ */
+public final class BenchmarkFixtures {
+
+  /** Name of the system property to override the {@link #getRoot() root folder} of the fixtures. */
+  public static final String PROPERTY_ROOT = "ide.benchmark.fixtures";
+
+  /** Number of tools in the {@link #getUrlsPath() ide-urls repository}. */
+  public static final int TOOL_COUNT = 5;
+
+  /** Number of versions per tool in the {@link #getUrlsPath() ide-urls repository}. */
+  public static final int VERSION_COUNT = 2000;
+
+  /** Number of variables defined in the {@link #getProject() project}. */
+  public static final int VARIABLE_COUNT = 200;
+
+  /** Number of files in the generated archives. */
+  public static final int ARCHIVE_FILE_COUNT = 2000;
+
+  /** Number of folders on the {@link #getPath() PATH}. */
+  public static final int PATH_ENTRY_COUNT = 100;
+
+  /** Number of components in the workspace templates. */
+  public static final int COMPONENT_COUNT = 300;
+
+  /** Name of the binary that is only located in the last folder of the {@link #getPath() PATH}. */
+  public static final String BINARY_NAME = "ide-benchmark-tool";
+
+  /** Fake commit ID of the {@link #getUrlsPath() ide-urls repository} so its index can be used. */
+  private static final String COMMIT_ID = "0123456789abcdef0123456789abcdef01234567";
+
+  /** Has to be incremented whenever the generated fixtures change. */
+  private static final int FIXTURE_VERSION = 1;
+
+  private static final long SEED = 4711L;
+
+  private static final String MARKER = ".fixture-version";
+
+  private static Path root;
+
+  private BenchmarkFixtures() {
+
+    // static utility class
+  }
+
+  /**
+   * @return the root folder of the fixtures. Will be created on the first call if it does not exist or is outdated.
+   */
+  public static synchronized Path getRoot() {
+
+    if (root == null) {
+      Path path = Path.of(System.getProperty(PROPERTY_ROOT, "target/benchmark-fixtures")).toAbsolutePath();
+      try {
+        Path marker = path.resolve(MARKER);
+        if (!Files.exists(marker) || !Files.readString(marker).equals(Integer.toString(FIXTURE_VERSION))) {
+          delete(path);
+          create(path);
+          Files.writeString(marker, Integer.toString(FIXTURE_VERSION));
+        }
+      } catch (IOException e) {
+        throw new IllegalStateException("Failed to create benchmark fixtures in " + path, e);
+      }
+      root = path;
+    }
+    return root;
+  }
+
+  /**
+   * @return the {@link IdeContext#getIdeRoot() IDE_ROOT}.
+   */
+  public static Path getIdeRoot() {
+
+    return getRoot().resolve("ide-root");
+  }
+
+  /**
+   * @return the {@link IdeContext#getIdeHome() IDE_HOME} of the benchmark project.
+   */
+  public static Path getProject() {
+
+    return getIdeRoot().resolve("project");
+  }
+
+  /**
+   * @return the {@link IdeContext#getUrlsPath() ide-urls repository}.
+   */
+  public static Path getUrlsPath() {
+
+    return getIdeRoot().resolve(IdeContext.FOLDER_UNDERSCORE_IDE).resolve(IdeContext.FOLDER_URLS);
+  }
+
+  /**
+   * @return the ZIP archive with {@link #ARCHIVE_FILE_COUNT} files.
+   */
+  public static Path getZipFile() {
+
+    return getRoot().resolve("archives/benchmark.zip");
+  }
+
+  /**
+   * @return the TGZ archive with {@link #ARCHIVE_FILE_COUNT} files.
+   */
+  public static Path getTarGzFile() {
+
+    return getRoot().resolve("archives/benchmark.tgz");
+  }
+
+  /**
+   * @return the workspace template from the {@code setup} folder.
+   */
+  public static Path getSetupTemplate() {
+
+    return getProject().resolve("settings/workspace/setup/benchmark.xml");
+  }
+
+  /**
+   * @return the workspace template from the {@code update} folder.
+   */
+  public static Path getUpdateTemplate() {
+
+    return getProject().resolve("settings/workspace/update/benchmark.xml");
+  }
+
+  /**
+   * @return the folder containing the {@link #PATH_ENTRY_COUNT} folders of the {@link #getPath() PATH}.
+   */
+  public static Path getPathFolder() {
+
+    return getRoot().resolve("path");
+  }
+
+  /**
+   * @return the value for the {@code PATH} variable with {@link #PATH_ENTRY_COUNT} entries.
+   */
+  public static String getPath() {
+
+    Path pathFolder = getPathFolder();
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < PATH_ENTRY_COUNT; i++) {
+      if (i > 0) {
+        sb.append(File.pathSeparatorChar);
+      }
+      sb.append(pathFolder.resolve(getPathEntryName(i)));
+    }
+    return sb.toString();
+  }
+
+  /**
+   * @return the {@link #VERSION_COUNT} versions of each tool in the {@link #getUrlsPath() ide-urls repository} in a random but reproducible order.
+   */
+  public static List<String> getVersions() {
+
+    Random random = new Random(SEED);
+    List<String> versions = new ArrayList<>(VERSION_COUNT);
+    for (int major = 1; versions.size() < VERSION_COUNT; major++) {
+      for (int minor = 0; (minor < 10) && (versions.size() < VERSION_COUNT); minor++) {
+        for (int patch = 0; (patch < 10) && (versions.size() < VERSION_COUNT); patch++) {
+          String version = major + "." + minor + "." + patch;
+          int qualifier = random.nextInt(20);
+          if (qualifier == 0) {
+            version = version + "-beta" + (random.nextInt(3) + 1);
+          } else if (qualifier == 1) {
+            version = version + "-rc" + (random.nextInt(3) + 1);
+          } else if (qualifier == 2) {
+            version = version + "_" + random.nextInt(100);
+          }
+          versions.add(version);
+        }
+      }
+    }
+    Collections.shuffle(versions, random);
+    return versions;
+  }
+
+  /**
+   * @param i the index of the variable.
+   * @return the name of the variable. The value of each variable references the variable with half of its index so resolving it requires recursion.
+   */
+  public static String getVariableName(int i) {
+
+    return "BENCHMARK_VAR_" + i;
+  }
+
+  /**
+   * @param i the index of the tool.
+   * @return the name of the tool in the {@link #getUrlsPath() ide-urls repository}. The edition has the same name.
+   */
+  public static String getToolName(int i) {
+
+    return "tool" + i;
+  }
+
+  private static String getPathEntryName(int i) {
+
+    return String.format("entry%03d", i);
+  }
+
+  private static void create(Path path) throws IOException {
+
+    createProject(path.resolve("ide-root/project"));
+    createUrls(path.resolve("ide-root/_ide/urls"));
+    createArchives(path.resolve("archives"));
+    createPath(path.resolve("path"));
+  }
+
+  private static void createProject(Path project) throws IOException {
+
+    Files.createDirectories(project.resolve("workspaces/main"));
+    Path settings = project.resolve("settings");
+    Files.createDirectories(project.resolve("conf"));
+    Files.createDirectories(settings);
+    try (BufferedWriter writer = Files.newBufferedWriter(settings.resolve("ide.properties"))) {
+      writer.write(getVariableName(0) + "=/opt/benchmark\n");
+      for (int i = 1; i < VARIABLE_COUNT; i++) {
+        writer.write(getVariableName(i) + "=${" + getVariableName(i / 2) + "}/segment" + i + "\n");
+      }
+    }
+    try (BufferedWriter writer = Files.newBufferedWriter(project.resolve("conf/ide.properties"))) {
+      for (int i = 10; i < VARIABLE_COUNT; i += 10) {
+        writer.write(getVariableName(i) + "=${" + getVariableName(i / 2) + "}/custom" + i + "\n");
+      }
+      writer.write(getVariableName(0) + "=/opt/custom\n");
+    }
+    Random random = new Random(SEED);
+    writeTemplate(settings.resolve("workspace/setup/benchmark.xml"), random, 0);
+    writeTemplate(settings.resolve("workspace/update/benchmark.xml"), random, COMPONENT_COUNT / 2);
+  }
+
+  private static void writeTemplate(Path file, Random random, int offset) throws IOException {
+
+    Files.createDirectories(file.getParent());
+    try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+      writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+      writer.write("<application xmlns:merge=\"https://github.com/devonfw/IDEasy/merge\">\n");
+      for (int i = offset; i < offset + COMPONENT_COUNT; i++) {
+        writer.write("  <component name=\"Component" + i + "\">\n");
+        for (int j = 0; j < 10; j++) {
+          int variable = random.nextInt(VARIABLE_COUNT);
+          writer.write("    <option name=\"option" + j + "\" value=\"${" + getVariableName(variable) + "}/value" + random.nextInt(1000) + "\"/>\n");
+        }
+        writer.write("  </component>\n");
+      }
+      writer.write("</application>\n");
+    }
+  }
+
+  private static void createUrls(Path urls) throws IOException {
+
+    List<String> versions = getVersions();
+    for (int t = 0; t < TOOL_COUNT; t++) {
+      String tool = getToolName(t);
+      Path edition = urls.resolve(tool).resolve(tool);
+      for (String version : versions) {
+        Path versionFolder = edition.resolve(version);
+        Files.createDirectories(versionFolder);
+        Files.writeString(versionFolder.resolve("urls"), "https://example.com/" + tool + "/" + version + "/" + tool + "-" + version + ".tgz\n");
+      }
+    }
+    Path refs = urls.resolve(".git/refs/heads");
+    Files.createDirectories(refs);
+    Files.writeString(urls.resolve(".git/HEAD"), "ref: refs/heads/main\n");
+    Files.writeString(refs.resolve("main"), COMMIT_ID + "\n");
+  }
+
+  private static void createArchives(Path folder) throws IOException {
+
+    Files.createDirectories(folder);
+    Random random = new Random(SEED);
+    try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(folder.resolve("benchmark.zip")));
+        TarArchiveOutputStream tar = new TarArchiveOutputStream(new GzipCompressorOutputStream(Files.newOutputStream(folder.resolve("benchmark.tgz"))))) {
+      tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+      for (int i = 0; i < ARCHIVE_FILE_COUNT; i++) {
+        String name = "benchmark/folder" + (i % 50) + "/file" + i + ".txt";
+        byte[] content = createContent(random, 1024 + random.nextInt(15 * 1024));
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content);
+        zip.closeEntry();
+        TarArchiveEntry entry = new TarArchiveEntry(name);
+        entry.setSize(content.length);
+        tar.putArchiveEntry(entry);
+        tar.write(content);
+        tar.closeArchiveEntry();
+      }
+    }
+  }
+
+  private static byte[] createContent(Random random, int size) {
+
+    // text with limited alphabet so the archives compress like real-world content
+    byte[] content = new byte[size];
+    for (int i = 0; i < size; i++) {
+      content[i] = (byte) ('a' + random.nextInt(16));
+    }
+    return content;
+  }
+
+  private static void createPath(Path folder) throws IOException {
+
+    for (int i = 0; i < PATH_ENTRY_COUNT; i++) {
+      Path entry = folder.resolve(getPathEntryName(i));
+      Files.createDirectories(entry);
+      for (int j = 0; j < 20; j++) {
+        Files.writeString(entry.resolve("other-tool" + j), "");
+      }
+    }
+    Path binary = folder.resolve(getPathEntryName(PATH_ENTRY_COUNT - 1)).resolve(BINARY_NAME);
+    try (OutputStream out = Files.newOutputStream(binary)) {
+      out.write("#!/bin/sh\n".getBytes(StandardCharsets.US_ASCII));
+    }
+    binary.toFile().setExecutable(true);
+  }
+
+  private static void delete(Path path) throws IOException {
+
+    if (!Files.exists(path)) {
+      return;
+    }
+    try (Stream<Path> files = Files.walk(path)) {
+      for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(file);
+      }
+    }
+  }
+
+}
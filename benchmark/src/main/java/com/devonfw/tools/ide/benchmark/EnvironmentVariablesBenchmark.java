@@ -0,0 +1,70 @@
+package com.devonfw.tools.ide.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.devonfw.tools.ide.environment.EnvironmentVariables;
+
+/**
+ * Benchmark of {@link EnvironmentVariables#resolve(String, Object) resolving} variables through the layered {@link EnvironmentVariables} of a project
+ * with {@link BenchmarkFixtures#VARIABLE_COUNT} recursively chained variables.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EnvironmentVariablesBenchmark {
+
+  private EnvironmentVariables variables;
+
+  private String[] expressions;
+
+  /**
+   * Creates the {@link BenchmarkContext} for the project of the {@link BenchmarkFixtures}.
+   */
+  @Setup
+  public void setup() {
+
+    this.variables = new BenchmarkContext(BenchmarkFixtures.getProject()).getVariables();
+    this.expressions = new String[BenchmarkFixtures.VARIABLE_COUNT];
+    for (int i = 0; i < this.expressions.length; i++) {
+      this.expressions[i] = "prefix/${" + BenchmarkFixtures.getVariableName(i) + "}/middle/${" + BenchmarkFixtures.getVariableName(i / 3) + "}/suffix";
+    }
+  }
+
+  /**
+   * @param blackhole the {@link Blackhole}.
+   */
+  @Benchmark
+  public void resolve(Blackhole blackhole) {
+
+    for (String expression : this.expressions) {
+      blackhole.consume(this.variables.resolve(expression, this));
+    }
+  }
+
+  /**
+   * @param blackhole the {@link Blackhole}.
+   */
+  @Benchmark
+  public void get(Blackhole blackhole) {
+
+    for (int i = 0; i < BenchmarkFixtures.VARIABLE_COUNT; i++) {
+      blackhole.consume(this.variables.get(BenchmarkFixtures.getVariableName(i)));
+    }
+  }
+
+}
@@ -0,0 +1,84 @@
+package com.devonfw.tools.ide.benchmark;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.devonfw.tools.ide.io.FileAccess;
+import com.devonfw.tools.ide.io.TarCompression;
+
+/**
+ * Benchmark of {@link FileAccess#extractZip(Path, Path)} and {@link FileAccess#extractTar(Path, Path, TarCompression)} with the archives of the
+ * {@link BenchmarkFixtures} containing {@link BenchmarkFixtures#ARCHIVE_FILE_COUNT} files. Every invocation extracts into an empty folder.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileAccessExtractBenchmark {
+
+  private FileAccess fileAccess;
+
+  private Path targetDir;
+
+  /**
+   * Creates the {@link BenchmarkContext}.
+   */
+  @Setup
+  public void setup() {
+
+    this.fileAccess = new BenchmarkContext(BenchmarkFixtures.getProject()).getFileAccess();
+  }
+
+  /**
+   * Prepares an empty target folder.
+   */
+  @Setup(Level.Invocation)
+  public void prepareTargetDir() {
+
+    this.targetDir = BenchmarkFixtures.getRoot().resolve("extract");
+    this.fileAccess.delete(this.targetDir);
+  }
+
+  /**
+   * Deletes the extracted files.
+   */
+  @TearDown(Level.Invocation)
+  public void deleteTargetDir() {
+
+    this.fileAccess.delete(this.targetDir);
+  }
+
+  /**
+   * Extracts the ZIP archive.
+   */
+  @Benchmark
+  public void extractZip() {
+
+    this.fileAccess.extractZip(BenchmarkFixtures.getZipFile(), this.targetDir);
+  }
+
+  /**
+   * Extracts the TGZ archive.
+   */
+  @Benchmark
+  public void extractTarGz() {
+
+    this.fileAccess.extractTar(BenchmarkFixtures.getTarGzFile(), this.targetDir, TarCompression.GZ);
+  }
+
+}
@@ -0,0 +1,71 @@
+package com.devonfw.tools.ide.benchmark;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.devonfw.tools.ide.common.SystemPath;
+import com.devonfw.tools.ide.context.IdeContext;
+
+/**
+ * Benchmark of {@link SystemPath#findBinary(Path)} with a {@link BenchmarkFixtures#getPath() PATH} of {@link BenchmarkFixtures#PATH_ENTRY_COUNT} entries
+ * where the binary is only found in the last entry.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SystemPathBenchmark {
+
+  private SystemPath systemPath;
+
+  private Path binary;
+
+  private Path missingBinary;
+
+  /**
+   * Creates the {@link SystemPath} from the {@link BenchmarkFixtures}.
+   */
+  @Setup
+  public void setup() {
+
+    IdeContext context = new BenchmarkContext(BenchmarkFixtures.getProject());
+    this.systemPath = new SystemPath(context, BenchmarkFixtures.getPath(), context.getIdeRoot(), context.getSoftwarePath(), File.pathSeparatorChar,
+        List.of());
+    this.binary = Path.of(BenchmarkFixtures.BINARY_NAME);
+    this.missingBinary = Path.of("ide-benchmark-missing");
+  }
+
+  /**
+   * @return the {@link Path} to the binary found on the {@link SystemPath}.
+   */
+  @Benchmark
+  public Path findBinary() {
+
+    return this.systemPath.findBinary(this.binary);
+  }
+
+  /**
+   * @return the given {@link Path} as the binary is not found on the {@link SystemPath}.
+   */
+  @Benchmark
+  public Path findMissingBinary() {
+
+    return this.systemPath.findBinary(this.missingBinary);
+  }
+
+}
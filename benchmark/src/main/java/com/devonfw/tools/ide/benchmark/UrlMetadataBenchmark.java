@@ -0,0 +1,69 @@
+package com.devonfw.tools.ide.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.url.model.UrlMetadata;
+import com.devonfw.tools.ide.url.model.folder.UrlRepository;
+import com.devonfw.tools.ide.version.VersionIdentifier;
+
+/**
+ * Benchmark of {@link UrlMetadata#getSortedVersions(String, String, com.devonfw.tools.ide.tool.ToolCommandlet)} on the synthetic ide-urls repository of the
+ * {@link BenchmarkFixtures}. Each invocation uses a new {@link UrlMetadata} so it measures a cold lookup as done once per process.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UrlMetadataBenchmark {
+
+  private IdeContext context;
+
+  private String tool;
+
+  /**
+   * Creates the {@link BenchmarkContext} and the index of the ide-urls repository of the {@link BenchmarkFixtures}.
+   */
+  @Setup
+  public void setup() {
+
+    this.context = new BenchmarkContext(BenchmarkFixtures.getProject());
+    this.tool = BenchmarkFixtures.getToolName(BenchmarkFixtures.TOOL_COUNT - 1);
+    // create the index upfront so it is not part of the measurement
+    new UrlMetadata(this.context).getSortedVersions(this.tool, this.tool, null);
+  }
+
+  /**
+   * @return the sorted versions loaded from the folder tree of the ide-urls repository.
+   */
+  @Benchmark
+  public List<VersionIdentifier> getSortedVersionsFromFolders() {
+
+    UrlMetadata urlMetadata = new UrlMetadata(this.context, UrlRepository.load(BenchmarkFixtures.getUrlsPath()));
+    return urlMetadata.getSortedVersions(this.tool, this.tool, null);
+  }
+
+  /**
+   * @return the sorted versions loaded from the index of the ide-urls repository.
+   */
+  @Benchmark
+  public List<VersionIdentifier> getSortedVersionsFromIndex() {
+
+    return new UrlMetadata(this.context).getSortedVersions(this.tool, this.tool, null);
+  }
+
+}
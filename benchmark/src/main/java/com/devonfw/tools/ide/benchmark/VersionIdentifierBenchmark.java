@@ -0,0 +1,118 @@
+package com.devonfw.tools.ide.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.devonfw.tools.ide.version.BoundaryType;
+import com.devonfw.tools.ide.version.VersionIdentifier;
+import com.devonfw.tools.ide.version.VersionRange;
+
+/**
+ * Benchmark of {@link VersionIdentifier#of(String) parsing}, {@link VersionIdentifier#compareVersion(VersionIdentifier) comparing}, and
+ * {@link VersionIdentifier#resolveVersionPattern(com.devonfw.tools.ide.version.GenericVersionRange, List) resolving} versions as done for every version of
+ * the ide-urls repository when resolving or listing versions of a tool.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VersionIdentifierBenchmark {
+
+  private String[] versions;
+
+  private VersionIdentifier[] versionIdentifiers;
+
+  private List<VersionIdentifier> sortedVersions;
+
+  private VersionRange range;
+
+  /**
+   * Loads the versions of the {@link BenchmarkFixtures}.
+   */
+  @Setup
+  public void setup() {
+
+    this.versions = BenchmarkFixtures.getVersions().toArray(String[]::new);
+    this.versionIdentifiers = new VersionIdentifier[this.versions.length];
+    for (int i = 0; i < this.versions.length; i++) {
+      this.versionIdentifiers[i] = VersionIdentifier.of(this.versions[i]);
+    }
+    this.sortedVersions = new ArrayList<>(Arrays.asList(this.versionIdentifiers));
+    this.sortedVersions.sort(Collections.reverseOrder());
+    this.range = VersionRange.of(this.versionIdentifiers[this.versions.length / 4], this.versionIdentifiers[this.versions.length / 2],
+        BoundaryType.CLOSED);
+  }
+
+  /**
+   * @param blackhole the {@link Blackhole}.
+   */
+  @Benchmark
+  public void parse(Blackhole blackhole) {
+
+    for (String version : this.versions) {
+      blackhole.consume(VersionIdentifier.of(version));
+    }
+  }
+
+  /**
+   * @param blackhole the {@link Blackhole}.
+   */
+  @Benchmark
+  public void compareVersion(Blackhole blackhole) {
+
+    for (int i = 1; i < this.versionIdentifiers.length; i++) {
+      blackhole.consume(this.versionIdentifiers[i - 1].compareVersion(this.versionIdentifiers[i]));
+    }
+  }
+
+  /**
+   * @return the sorted {@link VersionIdentifier}s.
+   */
+  @Benchmark
+  public List<VersionIdentifier> sort() {
+
+    List<VersionIdentifier> list = new ArrayList<>(Arrays.asList(this.versionIdentifiers));
+    list.sort(null);
+    return list;
+  }
+
+  /**
+   * @param blackhole the {@link Blackhole}.
+   */
+  @Benchmark
+  public void resolveVersion(Blackhole blackhole) {
+
+    for (int i = 0; i < this.versionIdentifiers.length; i += 10) {
+      blackhole.consume(VersionIdentifier.resolveVersionPattern(this.versionIdentifiers[i], this.sortedVersions));
+    }
+  }
+
+  /**
+   * @param blackhole the {@link Blackhole}.
+   */
+  @Benchmark
+  public void rangeContains(Blackhole blackhole) {
+
+    for (VersionIdentifier version : this.versionIdentifiers) {
+      blackhole.consume(this.range.contains(version));
+    }
+  }
+
+}
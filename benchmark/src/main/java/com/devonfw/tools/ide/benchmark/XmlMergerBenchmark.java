@@ -0,0 +1,72 @@
+package com.devonfw.tools.ide.benchmark;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.environment.EnvironmentVariables;
+import com.devonfw.tools.ide.merge.xml.XmlMerger;
+
+/**
+ * Benchmark of {@link XmlMerger} merging the large {@link BenchmarkFixtures#getSetupTemplate() setup} and
+ * {@link BenchmarkFixtures#getUpdateTemplate() update} templates of the {@link BenchmarkFixtures} into a workspace file.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class XmlMergerBenchmark {
+
+  private IdeContext context;
+
+  private XmlMerger merger;
+
+  private EnvironmentVariables variables;
+
+  private Path workspaceFile;
+
+  /**
+   * Creates the {@link BenchmarkContext} and the {@link XmlMerger}.
+   */
+  @Setup
+  public void setup() {
+
+    this.context = new BenchmarkContext(BenchmarkFixtures.getProject());
+    this.merger = new XmlMerger(this.context);
+    this.variables = this.context.getVariables();
+    this.workspaceFile = this.context.getWorkspacePath().resolve("benchmark.xml");
+  }
+
+  /**
+   * Deletes the workspace file so every iteration starts with the initial setup.
+   */
+  @Setup(Level.Iteration)
+  public void deleteWorkspaceFile() {
+
+    this.context.getFileAccess().delete(this.workspaceFile);
+  }
+
+  /**
+   * @return the number of errors.
+   */
+  @Benchmark
+  public int merge() {
+
+    return this.merger.merge(BenchmarkFixtures.getSetupTemplate(), BenchmarkFixtures.getUpdateTemplate(), this.variables, this.workspaceFile);
+  }
+
+}
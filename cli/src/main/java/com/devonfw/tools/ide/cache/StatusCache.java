@@ -0,0 +1,120 @@
+package com.devonfw.tools.ide.cache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.io.HttpMetadataCache;
+
+/**
+ * Persistent cache for the results of status checks (e.g. the online check or the latest version of IDEasy) that are expensive to determine but rarely
+ * change. This allows repeated invocations of {@code ide status} to return instantly.
+ * <p>
+ * Each entry is stored as {@code cache/status/«key»} inside {@link IdeContext#getUserHomeIde() ~/.ide}. The file contains the value and its last modification
+ * time is the time of the check. Nothing is cached if {@link IdeContext#getUserHomeIde() ~/.ide} does not exist.
+ */
+public class StatusCache {
+
+  private static final Logger LOG = LoggerFactory.getLogger(StatusCache.class);
+
+  private static final String FOLDER_STATUS = "status";
+
+  private final IdeContext context;
+
+  /**
+   * The constructor.
+   *
+   * @param context the {@link IdeContext}.
+   */
+  public StatusCache(IdeContext context) {
+
+    super();
+    this.context = context;
+  }
+
+  /**
+   * @return the {@link Path} to the folder of this cache or {@code null} if {@link IdeContext#getUserHomeIde() ~/.ide} does not exist.
+   */
+  public Path getCachePath() {
+
+    Path userHomeIde = this.context.getUserHomeIde();
+    if ((userHomeIde == null) || !Files.isDirectory(userHomeIde)) {
+      return null;
+    }
+    return userHomeIde.resolve(HttpMetadataCache.FOLDER_CACHE).resolve(FOLDER_STATUS);
+  }
+
+  /**
+   * @param key the key of the entry (has to be a valid filename).
+   * @param maxAge the maximum {@link Duration} since the entry was {@link #set(String, String) set}.
+   * @return the cached value or {@code null} if not cached or older than the given {@code maxAge}.
+   */
+  public String get(String key, Duration maxAge) {
+
+    Path cachePath = getCachePath();
+    if (cachePath == null) {
+      return null;
+    }
+    Path file = cachePath.resolve(key);
+    try {
+      FileTime lastModified = Files.getLastModifiedTime(file);
+      long age = System.currentTimeMillis() - lastModified.toMillis();
+      if ((age < 0) || (age > maxAge.toMillis())) {
+        LOG.trace("Cached status {} is outdated", key);
+        return null;
+      }
+      String value = Files.readString(file).trim();
+      LOG.debug("Using cached status {}={} from {} seconds ago", key, value, age / 1000);
+      return value;
+    } catch (IOException e) {
+      // not cached
+      return null;
+    }
+  }
+
+  /**
+   * @param key the key of the entry (has to be a valid filename).
+   * @param value the value to cache.
+   */
+  public void set(String key, String value) {
+
+    Path cachePath = getCachePath();
+    if (cachePath == null) {
+      return;
+    }
+    Path file = cachePath.resolve(key);
+    try {
+      Files.createDirectories(cachePath);
+      Path tmpFile = Files.createTempFile(cachePath, key, ".tmp");
+      Files.writeString(tmpFile, value);
+      Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      LOG.debug("Failed to cache status {} in {}", key, file, e);
+    }
+  }
+
+  /**
+   * @param key the key of the entry to remove.
+   */
+  public void remove(String key) {
+
+    Path cachePath = getCachePath();
+    if (cachePath == null) {
+      return;
+    }
+    Path file = cachePath.resolve(key);
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      LOG.debug("Failed to remove cached status {} from {}", key, file, e);
+    }
+  }
+
+}
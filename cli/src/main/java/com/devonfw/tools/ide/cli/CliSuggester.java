@@ -8,12 +8,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.devonfw.tools.ide.commandlet.Commandlet;
+import com.devonfw.tools.ide.commandlet.CommandletDescriptor;
 import com.devonfw.tools.ide.context.IdeContext;
 import com.devonfw.tools.ide.log.IdeLogLevel;
 import com.devonfw.tools.ide.property.EnumProperty;
 import com.devonfw.tools.ide.property.Property;
 import com.devonfw.tools.ide.step.StepImpl;
-import com.devonfw.tools.ide.tool.ToolCommandlet;
 import com.devonfw.tools.ide.validation.ValidationState;
 
 /**
@@ -230,8 +230,8 @@ public class CliSuggester {
   private List<String> getAllCommandletNames() {
 
     List<String> names = new ArrayList<>();
-    for (Commandlet cmd : this.context.getCommandletManager().getCommandlets()) {
-      names.add(cmd.getName());
+    for (CommandletDescriptor descriptor : this.context.getCommandletManager().getCommandletDescriptors()) {
+      names.add(descriptor.name());
     }
     return names;
   }
@@ -244,9 +244,9 @@ public class CliSuggester {
   private List<String> getAllToolNames() {
 
     List<String> names = new ArrayList<>();
-    for (Commandlet cmd : this.context.getCommandletManager().getCommandlets()) {
-      if (cmd instanceof ToolCommandlet) {
-        names.add(cmd.getName());
+    for (CommandletDescriptor descriptor : this.context.getCommandletManager().getCommandletDescriptors()) {
+      if (descriptor.isTool()) {
+        names.add(descriptor.name());
       }
     }
     return names;
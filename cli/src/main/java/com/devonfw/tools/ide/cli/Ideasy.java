@@ -12,7 +12,11 @@ import com.devonfw.tools.ide.context.AbstractIdeContext;
 import com.devonfw.tools.ide.context.IdeContext;
 import com.devonfw.tools.ide.context.IdeContextConsole;
 import com.devonfw.tools.ide.context.IdeStartContextImpl;
+import com.devonfw.tools.ide.daemon.IdeDaemon;
+import com.devonfw.tools.ide.daemon.IdeDaemonClient;
 import com.devonfw.tools.ide.log.JulLogLevel;
+import com.devonfw.tools.ide.profile.IdeProfiler;
+import com.devonfw.tools.ide.profile.IdeProfilerSpan;
 import com.devonfw.tools.ide.property.FlagProperty;
 import com.devonfw.tools.ide.property.Property;
 
@@ -35,9 +39,9 @@ public final class Ideasy {
   /**
    * The constructor.
    *
-   * @param context the predefined {@link IdeContext} for testing.
+   * @param context the predefined {@link IdeContext} (e.g. for testing or kept warm by the {@link IdeDaemon daemon}).
    */
-  Ideasy(AbstractIdeContext context) {
+  public Ideasy(AbstractIdeContext context) {
 
     super();
     this.context = context;
@@ -123,7 +127,9 @@ public final class Ideasy {
     contextCommandlet.run();
     if (this.context == null) {
       startContext = contextCommandlet.getStartContext();
-      this.context = new IdeContextConsole(startContext);
+      try (IdeProfilerSpan span = IdeProfiler.start("startup", "create context")) {
+        this.context = new IdeContextConsole(startContext);
+      }
     }
   }
 
@@ -135,7 +141,14 @@ public final class Ideasy {
   public static void main(String... args) {
 
     JulLogLevel.init();
-    int exitStatus = new Ideasy().run(args);
+    Integer exitStatus = null;
+    // a profiled call shall measure the cold start and not the call of the daemon
+    if (!IdeProfiler.enableFromEnvironment()) {
+      exitStatus = IdeDaemonClient.runIfAvailable(args);
+    }
+    if (exitStatus == null) {
+      exitStatus = new Ideasy().run(args);
+    }
     System.exit(exitStatus);
   }
 
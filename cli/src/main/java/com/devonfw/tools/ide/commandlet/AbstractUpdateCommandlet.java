@@ -13,6 +13,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.devonfw.tools.ide.cli.CliException;
+import com.devonfw.tools.ide.completion.CompletionIndex;
 import com.devonfw.tools.ide.context.AbstractIdeContext;
 import com.devonfw.tools.ide.context.IdeContext;
 import com.devonfw.tools.ide.context.IdeStartContextImpl;
@@ -28,6 +29,7 @@ import com.devonfw.tools.ide.tool.ToolCommandlet;
 import com.devonfw.tools.ide.tool.ToolEdition;
 import com.devonfw.tools.ide.tool.ToolEditionAndVersion;
 import com.devonfw.tools.ide.tool.ToolInstallRequest;
+import com.devonfw.tools.ide.tool.ToolInstallScheduler;
 import com.devonfw.tools.ide.tool.custom.CustomToolCommandlet;
 import com.devonfw.tools.ide.tool.custom.CustomToolMetadata;
 import com.devonfw.tools.ide.tool.extra.ExtraToolInstallation;
@@ -105,6 +107,7 @@ public abstract class AbstractUpdateCommandlet extends Commandlet {
     updateSoftware();
     updateRepositories();
     createStartScripts();
+    CompletionIndex.update(this.context);
   }
 
   private void reloadContext() {
@@ -337,9 +340,7 @@ public abstract class AbstractUpdateCommandlet extends Commandlet {
     }
 
     // update/install the toolCommandlets
-    for (ToolCommandlet toolCommandlet : toolCommandlets) {
-      this.context.newStep("Install " + toolCommandlet.getName()).run(() -> toolCommandlet.install(false));
-    }
+    new ToolInstallScheduler(this.context, toolCommandlets).install();
 
     ExtraTools extraTools = ExtraToolsMapper.get().loadJsonFromFolder(this.context.getSettingsPath());
     if (extraTools != null) {
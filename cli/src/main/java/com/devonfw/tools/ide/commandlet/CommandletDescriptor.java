@@ -0,0 +1,72 @@
+package com.devonfw.tools.ide.commandlet;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.property.KeywordProperty;
+import com.devonfw.tools.ide.tool.LocalToolCommandlet;
+import com.devonfw.tools.ide.tool.ToolCommandlet;
+
+/**
+ * Constant metadata of a {@link Commandlet} that allows to find it without creating an instance.
+ *
+ * @param name the {@link Commandlet#getName() name} of the {@link Commandlet}.
+ * @param type the {@link Class} reflecting the {@link Commandlet}.
+ * @param factory the {@link Function} to create the {@link Commandlet} for a given {@link IdeContext}.
+ * @param keywords the {@link KeywordProperty#getName() name}, {@link KeywordProperty#getOptionName() option name} and
+ *     {@link KeywordProperty#getAlias() alias} of the {@link Commandlet#getFirstKeyword() first keyword}. Empty if the {@link Commandlet} has no first
+ *     keyword.
+ */
+public record CommandletDescriptor(String name, Class<? extends Commandlet> type, Function<IdeContext, ? extends Commandlet> factory,
+    List<String> keywords) {
+
+  /**
+   * @return {@code true} if the {@link Commandlet} is a {@link ToolCommandlet}, {@code false} otherwise.
+   */
+  public boolean isTool() {
+
+    return ToolCommandlet.class.isAssignableFrom(this.type);
+  }
+
+  /**
+   * @return {@code true} if the {@link Commandlet} is a {@link LocalToolCommandlet}, {@code false} otherwise.
+   */
+  public boolean isLocalTool() {
+
+    return LocalToolCommandlet.class.isAssignableFrom(this.type);
+  }
+
+  /**
+   * @param <C> type of the {@link Commandlet}.
+   * @param name the {@link #name() name}.
+   * @param type the {@link #type() type}.
+   * @param factory the {@link #factory() factory}.
+   * @param additionalKeywords the {@link #keywords() keywords} in addition to the {@link #name() name}.
+   * @return the new {@link CommandletDescriptor} for a {@link Commandlet} with a first keyword equal to its {@link #name() name}.
+   */
+  public static <C extends Commandlet> CommandletDescriptor of(String name, Class<C> type, Function<IdeContext, C> factory, String... additionalKeywords) {
+
+    String[] keywords = new String[additionalKeywords.length + 1];
+    keywords[0] = name;
+    System.arraycopy(additionalKeywords, 0, keywords, 1, additionalKeywords.length);
+    return new CommandletDescriptor(name, type, factory, List.of(keywords));
+  }
+
+  /**
+   * @param commandlet the {@link Commandlet} instance.
+   * @return the {@link CommandletDescriptor} describing the given {@link Commandlet} and always returning it from its {@link #factory() factory}.
+   */
+  public static CommandletDescriptor of(Commandlet commandlet) {
+
+    KeywordProperty keyword = commandlet.getFirstKeyword();
+    List<String> keywords = List.of();
+    if (keyword != null) {
+      keywords = Stream.of(keyword.getName(), keyword.getOptionName(), keyword.getAlias()).filter(Objects::nonNull).distinct().toList();
+    }
+    return new CommandletDescriptor(commandlet.getName(), commandlet.getClass(), context -> commandlet, keywords);
+  }
+
+}
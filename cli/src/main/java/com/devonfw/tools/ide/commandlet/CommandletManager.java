@@ -2,6 +2,7 @@ package com.devonfw.tools.ide.commandlet;
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 
 import com.devonfw.tools.ide.cli.CliArguments;
 import com.devonfw.tools.ide.completion.CompletionCandidateCollector;
@@ -36,10 +37,22 @@ public interface CommandletManager {
   Commandlet getCommandletByFirstKeyword(String keyword);
 
   /**
-   * @return the {@link Collection} of all registered {@link Commandlet}s.
+   * @return the {@link Collection} of all registered {@link Commandlet}s. Will create all {@link Commandlet}s that have not been created before so only use
+   *     this if you really need every {@link Commandlet} instance (e.g. for help). Otherwise prefer {@link #getCommandletDescriptors()}.
    */
   Collection<Commandlet> getCommandlets();
 
+  /**
+   * @return the {@link Collection} of the {@link CommandletDescriptor}s of all registered {@link Commandlet}s in the order of their registration.
+   */
+  Collection<CommandletDescriptor> getCommandletDescriptors();
+
+  /**
+   * @return the {@link List} of the {@link LocalToolCommandlet}s where the {@link LocalToolCommandlet#getToolPath() tool path} is an existing directory.
+   *     Only creates the {@link Commandlet}s of tools that are present in the software folder.
+   */
+  List<LocalToolCommandlet> getInstalledLocalToolCommandlets();
+
   /**
    * @param name the {@link Commandlet#getName() name} of the requested {@link Commandlet}.
    * @return the requested {@link Commandlet}.
@@ -1,12 +1,18 @@
 package com.devonfw.tools.ide.commandlet;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,6 +25,8 @@ import com.devonfw.tools.ide.context.IdeContext;
 import com.devonfw.tools.ide.git.repository.RepositoryCommandlet;
 import com.devonfw.tools.ide.property.KeywordProperty;
 import com.devonfw.tools.ide.property.Property;
+import com.devonfw.tools.ide.tool.LocalToolCommandlet;
+import com.devonfw.tools.ide.tool.PackageManagerBasedLocalToolCommandlet;
 import com.devonfw.tools.ide.tool.androidstudio.AndroidStudio;
 import com.devonfw.tools.ide.tool.aws.Aws;
 import com.devonfw.tools.ide.tool.az.Azure;
@@ -76,21 +84,109 @@ import com.devonfw.tools.ide.tool.vscode.Vscode;
 import com.devonfw.tools.ide.tool.yarn.Yarn;
 
 /**
- * Implementation of {@link CommandletManager}.
+ * Implementation of {@link CommandletManager}. The {@link Commandlet}s are registered via their {@link CommandletDescriptor} and only instantiated on
+ * demand, so a single CLI call does not pay for the construction of all {@link Commandlet}s and their properties.
  */
 public class CommandletManagerImpl implements CommandletManager {
 
   private static final Logger LOG = LoggerFactory.getLogger(CommandletManagerImpl.class);
 
+  /** The {@link CommandletDescriptor}s of all built-in {@link Commandlet}s in the order of registration. */
+  static final List<CommandletDescriptor> DESCRIPTORS = List.of(
+      CommandletDescriptor.of("help", HelpCommandlet.class, HelpCommandlet::new, "--help", "-h"),
+      CommandletDescriptor.of("env", EnvironmentCommandlet.class, EnvironmentCommandlet::new),
+      CommandletDescriptor.of("complete", CompleteCommandlet.class, CompleteCommandlet::new),
+      CommandletDescriptor.of("daemon", DaemonCommandlet.class, DaemonCommandlet::new),
+      CommandletDescriptor.of("shell", ShellCommandlet.class, ShellCommandlet::new),
+      CommandletDescriptor.of("install", InstallCommandlet.class, InstallCommandlet::new),
+      CommandletDescriptor.of("set-version", VersionSetCommandlet.class, VersionSetCommandlet::new),
+      CommandletDescriptor.of("get-version", VersionGetCommandlet.class, VersionGetCommandlet::new),
+      CommandletDescriptor.of("list-versions", VersionListCommandlet.class, VersionListCommandlet::new),
+      CommandletDescriptor.of("get-edition", EditionGetCommandlet.class, EditionGetCommandlet::new),
+      CommandletDescriptor.of("set-edition", EditionSetCommandlet.class, EditionSetCommandlet::new),
+      CommandletDescriptor.of("list-editions", EditionListCommandlet.class, EditionListCommandlet::new),
+      CommandletDescriptor.of("version", VersionCommandlet.class, VersionCommandlet::new, "--version", "-v"),
+      CommandletDescriptor.of("status", StatusCommandlet.class, StatusCommandlet::new),
+      CommandletDescriptor.of("repository", RepositoryCommandlet.class, RepositoryCommandlet::new),
+      CommandletDescriptor.of("uninstall", UninstallCommandlet.class, UninstallCommandlet::new),
+      CommandletDescriptor.of("ln", LnCommandlet.class, LnCommandlet::new),
+      CommandletDescriptor.of("update", UpdateCommandlet.class, UpdateCommandlet::new),
+      CommandletDescriptor.of("cleanup", CleanupCommandlet.class, CleanupCommandlet::new),
+      CommandletDescriptor.of("upgrade-settings", UpgradeSettingsCommandlet.class, UpgradeSettingsCommandlet::new),
+      CommandletDescriptor.of("create", CreateCommandlet.class, CreateCommandlet::new),
+      CommandletDescriptor.of("build", BuildCommandlet.class, BuildCommandlet::new),
+      CommandletDescriptor.of("release", ReleaseCommandlet.class, ReleaseCommandlet::new),
+      CommandletDescriptor.of("install-plugin", InstallPluginCommandlet.class, InstallPluginCommandlet::new),
+      CommandletDescriptor.of("uninstall-plugin", UninstallPluginCommandlet.class, UninstallPluginCommandlet::new),
+      CommandletDescriptor.of("upgrade", UpgradeCommandlet.class, UpgradeCommandlet::new),
+      CommandletDescriptor.of("fix-vpn-tls-problem", TruststoreCommandlet.class, TruststoreCommandlet::new),
+      CommandletDescriptor.of("gh", Gh.class, Gh::new),
+      CommandletDescriptor.of("helm", Helm.class, Helm::new),
+      CommandletDescriptor.of("java", Java.class, Java::new),
+      CommandletDescriptor.of("ng", Ng.class, Ng::new),
+      CommandletDescriptor.of("node", Node.class, Node::new),
+      CommandletDescriptor.of("npm", Npm.class, Npm::new),
+      CommandletDescriptor.of("mvn", Mvn.class, Mvn::new),
+      CommandletDescriptor.of("msvc", Msvc.class, Msvc::new),
+      CommandletDescriptor.of("gcloganalyzer", GcLogAnalyzer.class, GcLogAnalyzer::new),
+      CommandletDescriptor.of("gcviewer", GcViewer.class, GcViewer::new),
+      CommandletDescriptor.of("gradle", Gradle.class, Gradle::new),
+      CommandletDescriptor.of("eclipse", Eclipse.class, Eclipse::new),
+      CommandletDescriptor.of("terraform", Terraform.class, Terraform::new),
+      CommandletDescriptor.of("oc", Oc.class, Oc::new),
+      CommandletDescriptor.of("quarkus", Quarkus.class, Quarkus::new),
+      CommandletDescriptor.of("ruby", Ruby.class, Ruby::new),
+      CommandletDescriptor.of("rust", Rust.class, Rust::new),
+      CommandletDescriptor.of("kotlinc", Kotlinc.class, Kotlinc::new),
+      CommandletDescriptor.of("kotlinc-native", KotlincNative.class, KotlincNative::new),
+      CommandletDescriptor.of("kubectl", KubeCtl.class, KubeCtl::new),
+      CommandletDescriptor.of("tomcat", Tomcat.class, Tomcat::new),
+      CommandletDescriptor.of("task", Task.class, Task::new),
+      CommandletDescriptor.of("vscode", Vscode.class, Vscode::new),
+      CommandletDescriptor.of("az", Azure.class, Azure::new),
+      CommandletDescriptor.of("aws", Aws.class, Aws::new),
+      CommandletDescriptor.of("jmc", Jmc.class, Jmc::new),
+      CommandletDescriptor.of("dotnet", DotNet.class, DotNet::new),
+      CommandletDescriptor.of("inso", Inso.class, Inso::new),
+      CommandletDescriptor.of("intellij", Intellij.class, Intellij::new),
+      CommandletDescriptor.of("jasypt", Jasypt.class, Jasypt::new),
+      CommandletDescriptor.of("docker", Docker.class, Docker::new),
+      CommandletDescriptor.of("sonar", Sonar.class, Sonar::new),
+      CommandletDescriptor.of("android-studio", AndroidStudio.class, AndroidStudio::new),
+      CommandletDescriptor.of("graalvm", GraalVm.class, GraalVm::new),
+      CommandletDescriptor.of("pgadmin", PgAdmin.class, PgAdmin::new),
+      CommandletDescriptor.of("lazydocker", LazyDocker.class, LazyDocker::new),
+      CommandletDescriptor.of("python", Python.class, Python::new),
+      CommandletDescriptor.of("pycharm", Pycharm.class, Pycharm::new),
+      CommandletDescriptor.of("spring", Spring.class, Spring::new),
+      CommandletDescriptor.of("uv", Uv.class, Uv::new),
+      CommandletDescriptor.of("yarn", Yarn.class, Yarn::new),
+      CommandletDescriptor.of("copilot", Copilot.class, Copilot::new),
+      CommandletDescriptor.of("corepack", Corepack.class, Corepack::new),
+      CommandletDescriptor.of("pip", Pip.class, Pip::new),
+      CommandletDescriptor.of("go", Go.class, Go::new),
+      CommandletDescriptor.of("gui", Gui.class, Gui::new),
+      CommandletDescriptor.of("squirrel-sql", SquirrelSql.class, SquirrelSql::new),
+      CommandletDescriptor.of("spyder", Spyder.class, Spyder::new),
+      CommandletDescriptor.of("nest", Nest.class, Nest::new),
+      CommandletDescriptor.of("cdk", Cdk.class, Cdk::new),
+      CommandletDescriptor.of("claude", Claude.class, Claude::new),
+      CommandletDescriptor.of("mvnd", Mvnd.class, Mvnd::new),
+      CommandletDescriptor.of("just", Just.class, Just::new),
+      CommandletDescriptor.of("soapui", SoapUi.class, SoapUi::new),
+      CommandletDescriptor.of("ruff", Ruff.class, Ruff::new));
+
   private final IdeContext context;
 
-  private final Map<Class<? extends Commandlet>, Commandlet> commandletTypeMap;
+  private final Map<Class<? extends Commandlet>, CommandletDescriptor> descriptorTypeMap;
 
-  private final Map<String, Commandlet> commandletNameMap;
+  private final Map<String, CommandletDescriptor> descriptorNameMap;
 
-  private final Map<String, Commandlet> firstKeywordMap;
+  private final Map<String, CommandletDescriptor> firstKeywordMap;
 
-  private final Collection<Commandlet> commandlets;
+  private final Collection<CommandletDescriptor> descriptors;
+
+  private final Map<Class<? extends Commandlet>, Commandlet> commandletTypeMap;
 
   /**
    * The constructor.
@@ -101,91 +197,14 @@ public class CommandletManagerImpl implements CommandletManager {
 
     super();
     this.context = context;
-    this.commandletTypeMap = new HashMap<>();
-    this.commandletNameMap = new HashMap<>();
+    this.descriptorTypeMap = new HashMap<>();
+    this.descriptorNameMap = new LinkedHashMap<>();
     this.firstKeywordMap = new HashMap<>();
-    this.commandlets = Collections.unmodifiableCollection(this.commandletTypeMap.values());
-    add(new HelpCommandlet(context));
-    add(new EnvironmentCommandlet(context));
-    add(new CompleteCommandlet(context));
-    add(new ShellCommandlet(context));
-    add(new InstallCommandlet(context));
-    add(new VersionSetCommandlet(context));
-    add(new VersionGetCommandlet(context));
-    add(new VersionListCommandlet(context));
-    add(new EditionGetCommandlet(context));
-    add(new EditionSetCommandlet(context));
-    add(new EditionListCommandlet(context));
-    add(new VersionCommandlet(context));
-    add(new StatusCommandlet(context));
-    add(new RepositoryCommandlet(context));
-    add(new UninstallCommandlet(context));
-    add(new LnCommandlet(context));
-    add(new UpdateCommandlet(context));
-    add(new CleanupCommandlet(context));
-    add(new UpgradeSettingsCommandlet(context));
-    add(new CreateCommandlet(context));
-    add(new BuildCommandlet(context));
-    add(new ReleaseCommandlet(context));
-    add(new InstallPluginCommandlet(context));
-    add(new UninstallPluginCommandlet(context));
-    add(new UpgradeCommandlet(context));
-    add(new TruststoreCommandlet(context));
-    add(new Gh(context));
-    add(new Helm(context));
-    add(new Java(context));
-    add(new Ng(context));
-    add(new Node(context));
-    add(new Npm(context));
-    add(new Mvn(context));
-    add(new Msvc(context));
-    add(new GcLogAnalyzer(context));
-    add(new GcViewer(context));
-    add(new Gradle(context));
-    add(new Eclipse(context));
-    add(new Terraform(context));
-    add(new Oc(context));
-    add(new Quarkus(context));
-    add(new Ruby(context));
-    add(new Rust(context));
-    add(new Kotlinc(context));
-    add(new KotlincNative(context));
-    add(new KubeCtl(context));
-    add(new Tomcat(context));
-    add(new Task(context));
-    add(new Vscode(context));
-    add(new Azure(context));
-    add(new Aws(context));
-    add(new Jmc(context));
-    add(new DotNet(context));
-    add(new Inso(context));
-    add(new Intellij(context));
-    add(new Jasypt(context));
-    add(new Docker(context));
-    add(new Sonar(context));
-    add(new AndroidStudio(context));
-    add(new GraalVm(context));
-    add(new PgAdmin(context));
-    add(new LazyDocker(context));
-    add(new Python(context));
-    add(new Pycharm(context));
-    add(new Spring(context));
-    add(new Uv(context));
-    add(new Yarn(context));
-    add(new Copilot(context));
-    add(new Corepack(context));
-    add(new Pip(context));
-    add(new Go(context));
-    add(new Gui(context));
-    add(new SquirrelSql(context));
-    add(new Spyder(context));
-    add(new Nest(context));
-    add(new Cdk(context));
-    add(new Claude(context));
-    add(new Mvnd(context));
-    add(new Just(context));
-    add(new SoapUi(context));
-    add(new Ruff(context));
+    this.descriptors = Collections.unmodifiableCollection(this.descriptorNameMap.values());
+    this.commandletTypeMap = new HashMap<>();
+    for (CommandletDescriptor descriptor : DESCRIPTORS) {
+      register(descriptor);
+    }
   }
 
   /**
@@ -193,22 +212,31 @@ public class CommandletManagerImpl implements CommandletManager {
    */
   protected void add(Commandlet commandlet) {
 
+    validate(commandlet);
+    register(CommandletDescriptor.of(commandlet));
+    this.commandletTypeMap.put(commandlet.getClass(), commandlet);
+  }
+
+  private void register(CommandletDescriptor descriptor) {
+
+    for (String keyword : descriptor.keywords()) {
+      CommandletDescriptor duplicate = this.firstKeywordMap.putIfAbsent(keyword, descriptor);
+      if (duplicate != null) {
+        LOG.debug("Duplicate keyword {} already used by {} so it cannot be associated also with {}", keyword, duplicate.name(), descriptor.name());
+      }
+    }
+    this.descriptorTypeMap.put(descriptor.type(), descriptor);
+    CommandletDescriptor duplicate = this.descriptorNameMap.put(descriptor.name(), descriptor);
+    if (duplicate != null) {
+      throw new IllegalStateException("Commandlet " + descriptor.name() + " has the same name as " + duplicate.type().getSimpleName());
+    }
+  }
+
+  private static void validate(Commandlet commandlet) {
+
     boolean hasRequiredProperty = false;
     List<Property<?>> properties = commandlet.getProperties();
     int propertyCount = properties.size();
-    KeywordProperty keyword = commandlet.getFirstKeyword();
-    if (keyword != null) {
-      String name = keyword.getName();
-      registerKeyword(name, commandlet);
-      String optionName = keyword.getOptionName();
-      if (!optionName.equals(name)) {
-        registerKeyword(optionName, commandlet);
-      }
-      String alias = keyword.getAlias();
-      if (alias != null) {
-        registerKeyword(alias, commandlet);
-      }
-    }
     for (int i = 0; i < propertyCount; i++) {
       Property<?> property = properties.get(i);
       if (property.isRequired()) {
@@ -219,47 +247,93 @@ public class CommandletManagerImpl implements CommandletManager {
     if (!hasRequiredProperty) {
       throw new IllegalStateException("Commandlet " + commandlet + " must have at least one mandatory property!");
     }
-    this.commandletTypeMap.put(commandlet.getClass(), commandlet);
-    Commandlet duplicate = this.commandletNameMap.put(commandlet.getName(), commandlet);
-    if (duplicate != null) {
-      throw new IllegalStateException("Commandlet " + commandlet + " has the same name as " + duplicate);
-    }
   }
 
-  private void registerKeyword(String keyword, Commandlet commandlet) {
+  private synchronized Commandlet getCommandlet(CommandletDescriptor descriptor) {
 
-    Commandlet duplicate = this.firstKeywordMap.putIfAbsent(keyword, commandlet);
-    if (duplicate != null) {
-      LOG.debug("Duplicate keyword {} already used by {} so it cannot be associated also with {}", keyword, duplicate, commandlet);
+    if (descriptor == null) {
+      return null;
     }
+    Commandlet commandlet = this.commandletTypeMap.get(descriptor.type());
+    if (commandlet == null) {
+      commandlet = descriptor.factory().apply(this.context);
+      validate(commandlet);
+      this.commandletTypeMap.put(descriptor.type(), commandlet);
+    }
+    return commandlet;
+  }
+
+  @Override
+  public Collection<CommandletDescriptor> getCommandletDescriptors() {
+
+    return this.descriptors;
   }
 
   @Override
   public Collection<Commandlet> getCommandlets() {
 
-    return this.commandlets;
+    List<Commandlet> commandlets = new ArrayList<>(this.descriptors.size());
+    for (CommandletDescriptor descriptor : this.descriptors) {
+      commandlets.add(getCommandlet(descriptor));
+    }
+    return commandlets;
+  }
+
+  @Override
+  public List<LocalToolCommandlet> getInstalledLocalToolCommandlets() {
+
+    Path softwarePath = this.context.getSoftwarePath();
+    if (softwarePath == null) {
+      return List.of();
+    }
+    Set<String> folderNames = new HashSet<>();
+    collectFolderNames(softwarePath, folderNames);
+    collectFolderNames(this.context.getSoftwareExtraPath(), folderNames);
+    List<LocalToolCommandlet> tools = new ArrayList<>();
+    for (CommandletDescriptor descriptor : this.descriptors) {
+      // tools installed by a package manager (e.g. npm) live inside the folder of their parent tool so we cannot decide from the name
+      if (descriptor.isLocalTool() && (folderNames.contains(descriptor.name())
+          || PackageManagerBasedLocalToolCommandlet.class.isAssignableFrom(descriptor.type()))) {
+        LocalToolCommandlet tool = (LocalToolCommandlet) getCommandlet(descriptor);
+        Path toolPath = tool.getToolPath();
+        if ((toolPath != null) && Files.isDirectory(toolPath)) {
+          tools.add(tool);
+        }
+      }
+    }
+    return tools;
+  }
+
+  private void collectFolderNames(Path folder, Set<String> folderNames) {
+
+    if ((folder == null) || !Files.isDirectory(folder)) {
+      return;
+    }
+    for (Path child : this.context.getFileAccess().listChildren(folder, Files::isDirectory)) {
+      folderNames.add(child.getFileName().toString());
+    }
   }
 
   @Override
   public <C extends Commandlet> C getCommandlet(Class<C> commandletType) {
 
-    Commandlet commandlet = this.commandletTypeMap.get(commandletType);
-    if (commandlet == null) {
+    CommandletDescriptor descriptor = this.descriptorTypeMap.get(commandletType);
+    if (descriptor == null) {
       throw new IllegalStateException("Commandlet for type " + commandletType + " is not registered!");
     }
-    return commandletType.cast(commandlet);
+    return commandletType.cast(getCommandlet(descriptor));
   }
 
   @Override
   public Commandlet getCommandlet(String name) {
 
-    return this.commandletNameMap.get(name);
+    return getCommandlet(this.descriptorNameMap.get(name));
   }
 
   @Override
   public Commandlet getCommandletByFirstKeyword(String keyword) {
 
-    return this.firstKeywordMap.get(keyword);
+    return getCommandlet(this.firstKeywordMap.get(keyword));
   }
 
   @Override
@@ -281,7 +355,7 @@ public class CommandletManagerImpl implements CommandletManager {
 
     private final Commandlet firstCandidate;
 
-    private final Iterator<Commandlet> commandletIterator;
+    private final Iterator<CommandletDescriptor> descriptorIterator;
 
     private final CliArguments arguments;
 
@@ -292,7 +366,7 @@ public class CommandletManagerImpl implements CommandletManager {
     private CommandletFinder(Commandlet firstCandidate, CliArguments arguments, CompletionCandidateCollector collector) {
 
       this.firstCandidate = firstCandidate;
-      this.commandletIterator = getCommandlets().iterator();
+      this.descriptorIterator = getCommandletDescriptors().iterator();
       this.arguments = arguments;
       this.collector = collector;
       if (isSuitable(firstCandidate)) {
@@ -324,19 +398,38 @@ public class CommandletManagerImpl implements CommandletManager {
       return (commandlet != null) && (!commandlet.isIdeHomeRequired() || (context.getIdeHome() != null));
     }
 
+    /**
+     * @param descriptor the {@link CommandletDescriptor} to check.
+     * @return {@code true} if the {@link Commandlet} may match the current argument and needs to be instantiated, {@code false} otherwise. Without
+     *     completion only a {@link Commandlet} with a matching {@link CommandletDescriptor#keywords() keyword} can match.
+     */
+    private boolean isCandidate(CommandletDescriptor descriptor) {
+
+      if (this.collector != null) {
+        return true;
+      }
+      CliArgument current = this.arguments.current();
+      List<String> keywords = descriptor.keywords();
+      return keywords.contains(current.get()) || keywords.contains(current.getKey());
+    }
+
     private Commandlet findNext() {
 
-      while (this.commandletIterator.hasNext()) {
-        Commandlet cmd = this.commandletIterator.next();
+      while (this.descriptorIterator.hasNext()) {
+        CommandletDescriptor descriptor = this.descriptorIterator.next();
+        if (!isCandidate(descriptor)) {
+          continue;
+        }
+        Commandlet cmd = getCommandlet(descriptor);
         if ((cmd != this.firstCandidate) && isSuitable(cmd)) {
           List<Property<?>> properties = cmd.getProperties();
-          // validation should already be done in add method and could be removed here...
+          // validation should already be done when the commandlet was created and could be removed here...
           if (properties.isEmpty()) {
             assert false : cmd.getClass().getSimpleName() + " has no properties!";
           } else {
             Property<?> property = properties.getFirst();
             if (property instanceof KeywordProperty) {
-              boolean matches = property.apply(arguments.copy(), context, cmd, this.collector);
+              boolean matches = property.apply(this.arguments.copy(), context, cmd, this.collector);
               if (matches) {
                 return cmd;
               }
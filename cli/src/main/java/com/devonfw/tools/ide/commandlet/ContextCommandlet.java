@@ -5,6 +5,8 @@ import com.devonfw.tools.ide.context.IdeContext;
 import com.devonfw.tools.ide.context.IdeStartContextImpl;
 import com.devonfw.tools.ide.log.IdeLogLevel;
 import com.devonfw.tools.ide.log.IdeLogListenerBuffer;
+import com.devonfw.tools.ide.profile.IdeProfiler;
+import com.devonfw.tools.ide.profile.IdeProfilerSpan;
 import com.devonfw.tools.ide.property.FlagProperty;
 import com.devonfw.tools.ide.property.LocaleProperty;
 
@@ -31,6 +33,8 @@ public class ContextCommandlet extends Commandlet {
 
   private final FlagProperty noColors;
 
+  private final FlagProperty profile;
+
   private final LocaleProperty locale;
 
   private IdeStartContextImpl startContext;
@@ -58,6 +62,7 @@ public class ContextCommandlet extends Commandlet {
     this.offline = add(new FlagProperty("--offline", false, "-o"));
     this.skipUpdates = add(new FlagProperty("--skip-updates", false));
     this.noColors = add(new FlagProperty("--no-colors", false));
+    this.profile = add(new FlagProperty("--profile", false));
     this.locale = add(new LocaleProperty("--locale", false, null));
   }
 
@@ -82,10 +87,15 @@ public class ContextCommandlet extends Commandlet {
   @Override
   protected void doRun() {
 
+    if (this.profile.isTrue()) {
+      IdeProfiler.enable(null);
+    }
     IdeLogLevel logLevel = determineLogLevel();
     if (this.startContext == null) {
-      IdeLogListenerBuffer listener = new IdeLogListenerBuffer();
-      this.startContext = new IdeStartContextImpl(logLevel, listener);
+      try (IdeProfilerSpan span = IdeProfiler.start("startup", "create start context")) {
+        IdeLogListenerBuffer listener = new IdeLogListenerBuffer();
+        this.startContext = new IdeStartContextImpl(logLevel, listener);
+      }
     } else if (this.context != null) {
       IdeStartContextImpl newStartContext = ((AbstractIdeContext) this.context).getStartContext();
       assert (this.startContext == newStartContext); // fast fail during development via assert
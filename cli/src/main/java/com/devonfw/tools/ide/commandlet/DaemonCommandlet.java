@@ -0,0 +1,55 @@
+package com.devonfw.tools.ide.commandlet;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.daemon.IdeDaemon;
+import com.devonfw.tools.ide.daemon.IdeDaemonClient;
+
+/**
+ * {@link Commandlet} to run the {@link IdeDaemon} in the foreground until it has been idle for {@link IdeDaemon#DEFAULT_IDLE_TIMEOUT}.
+ */
+public class DaemonCommandlet extends Commandlet {
+
+  /**
+   * The constructor.
+   *
+   * @param context the {@link IdeContext}.
+   */
+  public DaemonCommandlet(IdeContext context) {
+
+    super(context);
+    addKeyword(getName());
+  }
+
+  @Override
+  public String getName() {
+
+    return IdeDaemonClient.COMMANDLET_DAEMON;
+  }
+
+  @Override
+  public boolean isIdeRootRequired() {
+
+    return false;
+  }
+
+  @Override
+  public boolean isIdeHomeRequired() {
+
+    return false;
+  }
+
+  @Override
+  protected void doRun() {
+
+    Path socketFile = IdeDaemon.getSocketFile(this.context.getUserHome());
+    try {
+      new IdeDaemon(socketFile, IdeDaemon.DEFAULT_IDLE_TIMEOUT).run();
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to run IDEasy daemon on " + socketFile, e);
+    }
+  }
+
+}
@@ -51,4 +51,10 @@ public class EditionSetCommandlet extends Commandlet {
 
   }
 
+  @Override
+  public ToolCommandlet getToolForCompletion() {
+
+    return this.tool.getValue();
+  }
+
 }
@@ -11,6 +11,7 @@ import org.slf4j.LoggerFactory;
 
 import com.devonfw.tools.ide.context.AbstractIdeContext;
 import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.environment.EnvironmentSnapshot;
 import com.devonfw.tools.ide.environment.EnvironmentVariablesType;
 import com.devonfw.tools.ide.environment.VariableLine;
 import com.devonfw.tools.ide.environment.VariableSource;
@@ -74,7 +75,22 @@ public final class EnvironmentCommandlet extends Commandlet {
       }
     }
 
-    ((AbstractIdeContext) this.context).setPathSyntax(pathSyntax);
+    AbstractIdeContext ideContext = (AbstractIdeContext) this.context;
+    ideContext.setPathSyntax(pathSyntax);
+    EnvironmentSnapshot snapshot = null;
+    // the snapshot is bypassed for debug output (sources of the variables) and by default in tests (test projects may not be copied)
+    if (!LOG.isDebugEnabled() && ideContext.isEnvironmentSnapshotEnabled()) {
+      snapshot = EnvironmentSnapshot.of(this.context, getSyntax(winCmd));
+      if (snapshot != null) {
+        List<String> lines = snapshot.load();
+        if (lines != null) {
+          for (String line : lines) {
+            IdeLogLevel.PROCESSABLE.log(LOG, line);
+          }
+          return;
+        }
+      }
+    }
     List<VariableLine> variables = this.context.getVariables().collectVariables();
     Map<String, VariableLine> variableMap = variables.stream().collect(Collectors.toMap(VariableLine::getName, v -> v));
 
@@ -85,15 +101,35 @@ public final class EnvironmentCommandlet extends Commandlet {
       this.context.setEnvironmentOfInstalledTools(environmentVariableCollectorContext);
     }
 
-    printLines(variableMap, winCmd);
+    List<String> lines = new ArrayList<>();
+    printLines(variableMap, winCmd, lines);
 
     // Bash completions must be printed after the environment variables because they may reference variables such as TERRAFORM_HOME.
     if (this.bash.isTrue()) {
-      printBashCompletions();
+      printBashCompletions(lines);
+    }
+    if (snapshot != null) {
+      snapshot.save(this.context.getVariables(), variableMap.keySet(), lines);
+    }
+  }
+
+  private String getSyntax(boolean winCmd) {
+
+    if (winCmd) {
+      return "cmd";
+    } else if (this.bash.isTrue()) {
+      return "bash";
     }
+    return "sh";
+  }
+
+  private static void print(String line, List<String> output) {
+
+    IdeLogLevel.PROCESSABLE.log(LOG, line);
+    output.add(line);
   }
 
-  private void printLines(Map<String, VariableLine> variableMap, boolean winCmd) {
+  private void printLines(Map<String, VariableLine> variableMap, boolean winCmd, List<String> output) {
     if (LOG.isDebugEnabled()) {
       Map<EnvironmentVariablesType, List<VariableLine>> type2lines = variableMap.values().stream().collect(Collectors.groupingBy(l -> l.getSource().type()));
       for (EnvironmentVariablesType type : EnvironmentVariablesType.values()) {
@@ -114,7 +150,7 @@ public final class EnvironmentCommandlet extends Commandlet {
       List<VariableLine> variables = new ArrayList<>(variableMap.values());
       sortVariables(variables);
       for (VariableLine line : variables) {
-        IdeLogLevel.PROCESSABLE.log(LOG, format(line, winCmd));
+        print(format(line, winCmd), output);
       }
     }
   }
@@ -141,21 +177,21 @@ public final class EnvironmentCommandlet extends Commandlet {
    * <p>
    * These lines are only emitted for {@code env --bash}. The IDEasy shell wrapper evaluates this output, so tools can dynamically register completions without
    * modifying user files such as {@code ~/.bashrc}.
+   *
+   * @param lines the {@link List} where to add the printed lines.
    */
-  private void printBashCompletions() {
-
-    for (Commandlet commandlet : this.context.getCommandletManager().getCommandlets()) {
-      if (commandlet instanceof LocalToolCommandlet tool) {
-        try {
-          if (tool.isInstalled()) {
-            String bashCompletion = tool.getBashCompletion();
-            if ((bashCompletion != null) && !bashCompletion.isBlank()) {
-              IdeLogLevel.PROCESSABLE.log(LOG, bashCompletion);
-            }
+  private void printBashCompletions(List<String> lines) {
+
+    for (LocalToolCommandlet tool : this.context.getCommandletManager().getInstalledLocalToolCommandlets()) {
+      try {
+        if (tool.isInstalled()) {
+          String bashCompletion = tool.getBashCompletion();
+          if ((bashCompletion != null) && !bashCompletion.isBlank()) {
+            print(bashCompletion, lines);
           }
-        } catch (Exception e) {
-          LOG.warn("An error occurred while collecting Bash completion for tool {}.", tool.getName(), e);
         }
+      } catch (Exception e) {
+        LOG.warn("An error occurred while collecting Bash completion for tool {}.", tool.getName(), e);
       }
     }
   }
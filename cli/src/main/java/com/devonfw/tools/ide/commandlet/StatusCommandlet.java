@@ -2,6 +2,11 @@ package com.devonfw.tools.ide.commandlet;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,6 +15,7 @@ import com.devonfw.tools.ide.context.IdeContext;
 import com.devonfw.tools.ide.environment.EnvironmentVariables;
 import com.devonfw.tools.ide.git.GitContext;
 import com.devonfw.tools.ide.log.IdeLogLevel;
+import com.devonfw.tools.ide.log.IdeThreadLogBuffer;
 import com.devonfw.tools.ide.migration.IdeMigrator;
 import com.devonfw.tools.ide.os.SystemInfo;
 import com.devonfw.tools.ide.step.Step;
@@ -50,12 +56,25 @@ public class StatusCommandlet extends Commandlet {
   protected void doRun() {
     Step step = this.context.newStep(true, "Show IDE_ROOT and IDE_HOME");
     step.run(this.context::logIdeHomeAndRootStatus);
-    step = this.context.newStep(true, "Check for updates of IDEasy");
-    step.run(this::checkForUpdate);
-    step = this.context.newStep(true, "Show online status");
-    step.run(this::logOnlineStatus);
-    step = this.context.newStep(true, "Show git and bash location");
-    step.run(this::logGitBashLocationStatus);
+    // the probes for network, bash and git run in parallel while their results and log output are written in order by the steps bound to this thread
+    try (ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ide-status-", 1).factory())) {
+      GitContext gitContext = this.context.getGitContext();
+      // initialize lazy state of the context before it is accessed by the probe threads
+      this.context.getVariables();
+      this.context.getPath();
+      IdeasyCommandlet ideasy = new IdeasyCommandlet(this.context, null);
+      Probe<Boolean> offline = new Probe<>(executor, () -> Boolean.valueOf(this.context.isOffline()));
+      Probe<VersionIdentifier> latestVersion = new Probe<>(executor, () -> await(offline.result).booleanValue() ? null : ideasy.getLatestVersionCached());
+      Probe<Path> bashPath = new Probe<>(executor, this.context::findBash);
+      Probe<Path> gitPath = new Probe<>(executor, gitContext::findGit);
+
+      step = this.context.newStep(true, "Check for updates of IDEasy");
+      step.run(() -> checkForUpdate(ideasy, offline, latestVersion));
+      step = this.context.newStep(true, "Show online status");
+      step.run(() -> logOnlineStatus(offline));
+      step = this.context.newStep(true, "Show git and bash location");
+      step.run(() -> logGitBashLocationStatus(bashPath, gitPath));
+    }
 
     if (this.context.getIdeHome() != null) {
       step = this.context.newStep(true, "Show git status");
@@ -67,8 +86,11 @@ public class StatusCommandlet extends Commandlet {
     }
   }
 
-  private void checkForUpdate() {
-    new IdeasyCommandlet(this.context, null).checkIfUpdateIsAvailable();
+  private void checkForUpdate(IdeasyCommandlet ideasy, Probe<Boolean> offline, Probe<VersionIdentifier> latestVersion) {
+    // reuse the result of the online check from the probe thread instead of racing it on the shared cached value
+    ideasy.checkIfUpdateIsAvailable(offline.get().booleanValue(), latestVersion::get);
+    // flush the log of the version probe even if it was not needed
+    latestVersion.get();
     logSystemInfo();
   }
 
@@ -118,7 +140,9 @@ public class StatusCommandlet extends Commandlet {
     }
   }
 
-  private void logOnlineStatus() {
+  private void logOnlineStatus(Probe<Boolean> offline) {
+    // the online check has already completed so its cached result is logged without being done twice
+    offline.get();
     this.context.getNetworkStatus().logStatusMessage();
   }
 
@@ -134,15 +158,14 @@ public class StatusCommandlet extends Commandlet {
     }
   }
 
-  private void logGitBashLocationStatus() {
-    Path bashPath = this.context.findBash();
+  private void logGitBashLocationStatus(Probe<Path> bash, Probe<Path> git) {
+    Path bashPath = bash.get();
     if (bashPath != null) {
       IdeLogLevel.SUCCESS.log(LOG, "Found bash executable at: {}", bashPath);
     } else {
       LOG.error("No bash executable was found on your system!");
     }
-    GitContext gitContext = this.context.getGitContext();
-    Path gitPath = gitContext.findGit();
+    Path gitPath = git.get();
     if (gitPath != null) {
       IdeLogLevel.SUCCESS.log(LOG, "Found git executable at: {}", gitPath);
     } else {
@@ -150,6 +173,48 @@ public class StatusCommandlet extends Commandlet {
     }
   }
 
+  private static <T> T await(Future<T> future) {
+
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("Failed to determine status", e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while determining status", e);
+    }
+  }
+
+  /**
+   * A status check running on a worker thread. Its log output is collected in an {@link IdeThreadLogBuffer} and written when its result is consumed.
+   *
+   * @param <T> type of the result.
+   */
+  private static final class Probe<T> {
+
+    private final IdeThreadLogBuffer log;
+
+    private final Future<T> result;
+
+    private Probe(ExecutorService executor, Callable<T> task) {
+
+      this.log = new IdeThreadLogBuffer();
+      this.result = executor.submit(() -> this.log.call(task));
+    }
+
+    private T get() {
+
+      try {
+        return await(this.result);
+      } finally {
+        this.log.flush();
+      }
+    }
+  }
+
   @Override
   public boolean isIdeRootRequired() {
 
@@ -9,6 +9,7 @@ import org.slf4j.LoggerFactory;
 
 import com.devonfw.tools.ide.commandlet.Commandlet;
 import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.io.ContentStore;
 import com.devonfw.tools.ide.log.IdeLogLevel;
 import com.devonfw.tools.ide.step.Step;
 import com.devonfw.tools.ide.tool.mvn.MvnRepository;
@@ -61,9 +62,25 @@ public class CleanupCommandlet extends Commandlet {
       deleteUnusedSoftware(installedSoftware.getTools());
     }
 
+    ContentStore contentStore = new ContentStore(this.context);
+    if (contentStore.isEnabled()) {
+      this.context.newStep("Collect garbage in content store").run(() -> collectGarbage(contentStore));
+    }
+
     LOG.debug("Finished cleanup commandlet");
   }
 
+  /**
+   * Removes all entries from the {@link ContentStore} that are not used by any installed software anymore.
+   */
+  private void collectGarbage(ContentStore contentStore) {
+
+    int deletedBlobs = contentStore.collectGarbage();
+    if (deletedBlobs > 0) {
+      LOG.info("Removed {} unreferenced files from the content store.", deletedBlobs);
+    }
+  }
+
   /**
    * Discovers installed and unused software.
    *
@@ -1,17 +1,24 @@
 package com.devonfw.tools.ide.common;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -33,6 +40,11 @@ import com.devonfw.tools.ide.variable.IdeVariables;
  * come from a different IDEasy project and the use may have changed projects before calling us again. Recomputing the PATH ensures side-effects from other
  * projects. However, it also will ensure all the entries to IDEasy locations are automatically managed and therefore cannot be managed manually be the
  * end-user.
+ * <p>
+ * As {@link #findBinary(Path)} is invoked for every process that is launched, the results are cached per binary name (including negative results if the binary
+ * was not found). A cached result is invalidated by {@link #setPath(String, Path)} and whenever the modification time of a directory consulted for it has
+ * changed. Instead of probing every {@link #EXTENSION_PRIORITY extension} per directory, each PATH entry is listed once and its listing is reused until that
+ * directory is modified.
  */
 public class SystemPath {
 
@@ -40,6 +52,21 @@ public class SystemPath {
 
   private static final Pattern REGEX_WINDOWS_PATH = Pattern.compile("([a-zA-Z]:)?(\\\\[a-zA-Z0-9\\s_.-]+)+\\\\?");
 
+  /** {@link Predicate} accepting all binaries. Only lookups with this filter are cached. */
+  private static final Predicate<Path> ACCEPT_ALL = p -> true;
+
+  /**
+   * A directory modified less than this number of milliseconds before it was listed is not cached as the resolution of the modification time may be too coarse
+   * to detect further changes within that time.
+   */
+  private static final long RACY_MILLIS = 2000;
+
+  /** The {@link DirectoryListing}s shared by all {@link SystemPath} instances as they are validated against the modification time of their directory. */
+  private static final Map<Path, DirectoryListing> DIRECTORY_CACHE = new ConcurrentHashMap<>();
+
+  /** Whether the file system is case-insensitive so the names of a {@link DirectoryListing} have to be compared in lower case. */
+  private static final boolean CASE_INSENSITIVE = SystemInfoImpl.INSTANCE.isWindows() || SystemInfoImpl.INSTANCE.isMac();
+
   private final char pathSeparator;
 
   private final Map<String, Path> tool2pathMap;
@@ -50,6 +77,8 @@ public class SystemPath {
 
   private final IdeContext context;
 
+  private final Map<String, BinaryResolution> binaryCache;
+
   private static final List<String> EXTENSION_PRIORITY = List.of(".exe", ".cmd", ".bat", ".msi", ".ps1", "");
 
   /**
@@ -177,6 +206,7 @@ public class SystemPath {
     this.extraPathEntries = extraPathEntries;
     this.tool2pathMap = tool2PathMap;
     this.paths = paths;
+    this.binaryCache = new ConcurrentHashMap<>();
   }
 
   private void collectToolPath(Path softwarePath) {
@@ -222,13 +252,17 @@ public class SystemPath {
     return null;
   }
 
-  private Path findBinaryInOrder(Path path, String tool) {
+  private List<String> getExtensionPriority() {
 
-    List<String> extensionPriority = List.of("");
     if (this.context.getSystemInfo().isWindows() || SystemInfoImpl.INSTANCE.isWindows()) {
-      extensionPriority = EXTENSION_PRIORITY;
+      return EXTENSION_PRIORITY;
     }
-    for (String extension : extensionPriority) {
+    return List.of("");
+  }
+
+  private Path findBinaryInOrder(Path path, String tool) {
+
+    for (String extension : getExtensionPriority()) {
 
       Path fileToExecute = path.resolve(tool + extension);
 
@@ -265,7 +299,7 @@ public class SystemPath {
    *     was not found on PATH, the same {@link Path} instance is returned that was given as argument.
    */
   public Path findBinary(Path toolPath) {
-    return findBinary(toolPath, p -> true);
+    return findBinary(toolPath, ACCEPT_ALL);
   }
 
   /**
@@ -284,23 +318,20 @@ public class SystemPath {
     String fileName = toolPath.getFileName().toString();
 
     if (parent == null) {
-      for (Path path : this.extraPathEntries) {
-        Path binaryPath = findBinaryInOrder(path, fileName);
-        if (binaryPath != null && filter.test(binaryPath)) {
-          return binaryPath;
-        }
-      }
-      for (Path path : this.tool2pathMap.values()) {
-        Path binaryPath = findBinaryInOrder(path, fileName);
-        if (binaryPath != null && filter.test(binaryPath)) {
-          return binaryPath;
+      BinaryResolution resolution;
+      if (filter == ACCEPT_ALL) {
+        resolution = this.binaryCache.get(fileName);
+        if ((resolution == null) || !resolution.isValid()) {
+          resolution = resolveBinary(fileName, filter);
+          this.binaryCache.put(fileName, resolution);
+        } else {
+          LOG.trace("Using cached resolution of binary {} to {}", fileName, resolution.binary());
         }
+      } else {
+        resolution = resolveBinary(fileName, filter);
       }
-      for (Path path : this.paths) {
-        Path binaryPath = findBinaryInOrder(path, fileName);
-        if (binaryPath != null && filter.test(binaryPath)) {
-          return binaryPath;
-        }
+      if (resolution.binary() != null) {
+        return resolution.binary();
       }
     } else {
       Path binaryPath = findBinaryInOrder(parent, fileName);
@@ -312,6 +343,25 @@ public class SystemPath {
     return toolPath;
   }
 
+  private BinaryResolution resolveBinary(String fileName, Predicate<Path> filter) {
+
+    List<String> extensionPriority = getExtensionPriority();
+    List<Path> pathEntries = new ArrayList<>(this.extraPathEntries.size() + this.tool2pathMap.size() + this.paths.size());
+    pathEntries.addAll(this.extraPathEntries);
+    pathEntries.addAll(this.tool2pathMap.values());
+    pathEntries.addAll(this.paths);
+    List<DirectoryListing> listings = new ArrayList<>();
+    for (Path path : pathEntries) {
+      DirectoryListing listing = DirectoryListing.of(path);
+      listings.add(listing);
+      Path binaryPath = listing.findBinary(fileName, extensionPriority);
+      if (binaryPath != null && filter.test(binaryPath)) {
+        return new BinaryResolution(binaryPath, listings);
+      }
+    }
+    return new BinaryResolution(null, listings);
+  }
+
   /**
    * @param tool the name of the tool.
    * @return the {@link Path} to the directory of the tool where the binaries can be found or {@code null} if the tool is not installed.
@@ -328,6 +378,7 @@ public class SystemPath {
   public void setPath(String tool, Path path) {
 
     this.tool2pathMap.put(tool, path);
+    this.binaryCache.clear();
   }
 
   @Override
@@ -401,4 +452,111 @@ public class SystemPath {
 
     return REGEX_WINDOWS_PATH.matcher(pathString).matches();
   }
+
+  /**
+   * The result of resolving a binary on the PATH.
+   *
+   * @param binary the {@link Path} to the binary or {@code null} if not found.
+   * @param listings the {@link DirectoryListing}s of all PATH entries consulted for the result in order.
+   */
+  private record BinaryResolution(Path binary, List<DirectoryListing> listings) {
+
+    /**
+     * @return {@code true} if none of the consulted directories has been modified so this result is still valid, {@code false} otherwise.
+     */
+    boolean isValid() {
+
+      for (DirectoryListing listing : this.listings) {
+        if (DirectoryListing.of(listing.directory()) != listing) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  /**
+   * The names of the files in a PATH entry.
+   *
+   * @param directory the {@link Path} of the directory.
+   * @param modified the {@link BasicFileAttributes#lastModifiedTime() modification time} of the directory or {@code null} if it does not exist.
+   * @param fileKey the {@link BasicFileAttributes#fileKey() file key} of the directory (to detect a replaced symlink target) or {@code null}.
+   * @param names the names of the files in the directory or {@code null} if it could not be listed and each file has to be checked individually.
+   */
+  private record DirectoryListing(Path directory, FileTime modified, Object fileKey, Set<String> names) {
+
+    static DirectoryListing of(Path directory) {
+
+      BasicFileAttributes attributes;
+      try {
+        attributes = Files.readAttributes(directory, BasicFileAttributes.class);
+      } catch (IOException e) {
+        attributes = null;
+      }
+      DirectoryListing listing = DIRECTORY_CACHE.get(directory);
+      if ((listing != null) && listing.matches(attributes)) {
+        return listing;
+      }
+      listing = list(directory, attributes);
+      if ((attributes == null) || (System.currentTimeMillis() - attributes.lastModifiedTime().toMillis() >= RACY_MILLIS)) {
+        DIRECTORY_CACHE.put(directory, listing);
+      } else {
+        DIRECTORY_CACHE.remove(directory);
+      }
+      return listing;
+    }
+
+    private static DirectoryListing list(Path directory, BasicFileAttributes attributes) {
+
+      if (attributes == null) {
+        return new DirectoryListing(directory, null, null, Set.of());
+      } else if (!attributes.isDirectory()) {
+        return new DirectoryListing(directory, attributes.lastModifiedTime(), attributes.fileKey(), Set.of());
+      }
+      Set<String> names = new HashSet<>();
+      try (Stream<Path> children = Files.list(directory)) {
+        Iterator<Path> iterator = children.iterator();
+        while (iterator.hasNext()) {
+          names.add(normalizeName(iterator.next().getFileName().toString()));
+        }
+      } catch (IOException | UncheckedIOException e) {
+        LOG.trace("Failed to list PATH entry {}", directory, e);
+        names = null;
+      }
+      return new DirectoryListing(directory, attributes.lastModifiedTime(), attributes.fileKey(), names);
+    }
+
+    private static String normalizeName(String name) {
+
+      if (CASE_INSENSITIVE) {
+        return name.toLowerCase(Locale.ROOT);
+      }
+      return name;
+    }
+
+    private boolean matches(BasicFileAttributes attributes) {
+
+      if (attributes == null) {
+        return (this.modified == null);
+      }
+      return attributes.lastModifiedTime().equals(this.modified) && Objects.equals(attributes.fileKey(), this.fileKey);
+    }
+
+    Path findBinary(String tool, List<String> extensionPriority) {
+
+      for (String extension : extensionPriority) {
+        String name = tool + extension;
+        boolean exists;
+        if (this.names == null) {
+          exists = Files.exists(this.directory.resolve(name), LinkOption.NOFOLLOW_LINKS);
+        } else {
+          exists = this.names.contains(normalizeName(name));
+        }
+        if (exists) {
+          return this.directory.resolve(name);
+        }
+      }
+      return null;
+    }
+  }
 }
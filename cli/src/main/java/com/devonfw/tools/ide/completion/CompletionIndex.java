@@ -0,0 +1,306 @@
+package com.devonfw.tools.ide.completion;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.devonfw.tools.ide.commandlet.Commandlet;
+import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.os.SystemInfo;
+import com.devonfw.tools.ide.tool.ToolCommandlet;
+import com.devonfw.tools.ide.url.model.UrlMetadataIndex;
+import com.devonfw.tools.ide.version.VersionIdentifier;
+
+/**
+ * Precomputed index for auto-completion of the editions and versions of the tools from the {@link IdeContext#getUrlsPath() ide-urls repository}. It
+ * contains the editions of each tool and for each edition the versions available for the current {@link SystemInfo#getOs() OS} and
+ * {@link SystemInfo#getArchitecture() architecture}. The versions are sorted lexicographically so candidates for a prefix are found via binary search
+ * directly in the memory-mapped file without decoding or parsing all versions. The index is written by {@code ide update} and only used as long as the
+ * commit of the ide-urls repository and the system are unchanged.
+ */
+public final class CompletionIndex {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CompletionIndex.class);
+
+  /** The {@link Path#getFileName() filename} of the index file stored next to the {@link IdeContext#getUrlsPath() ide-urls repository}. */
+  public static final String FILENAME = "completion.idx";
+
+  private static final int MAGIC = 0x49444358;
+
+  private static final int FORMAT_VERSION = 1;
+
+  private final MappedByteBuffer data;
+
+  private final int dataStart;
+
+  private final Map<String, Map<String, Integer>> tools;
+
+  private CompletionIndex(MappedByteBuffer data, int dataStart, Map<String, Map<String, Integer>> tools) {
+
+    super();
+    this.data = data;
+    this.dataStart = dataStart;
+    this.tools = tools;
+  }
+
+  /**
+   * @param tool the name of the {@link ToolCommandlet tool}.
+   * @return the sorted {@link List} of the editions of the given tool or {@code null} if the tool is not indexed.
+   */
+  public List<String> getEditions(String tool) {
+
+    Map<String, Integer> editions = this.tools.get(tool);
+    if (editions == null) {
+      return null;
+    }
+    return List.copyOf(editions.keySet());
+  }
+
+  /**
+   * @param tool the name of the {@link ToolCommandlet tool}.
+   * @param edition the edition of the tool.
+   * @param prefix the prefix the versions have to start with. May be empty to match all versions.
+   * @return the versions starting with the given {@code prefix} sorted in ascending order or {@code null} if the edition is not indexed.
+   */
+  public String[] getVersions(String tool, String edition, String prefix) {
+
+    Map<String, Integer> editions = this.tools.get(tool);
+    Integer offset = (editions == null) ? null : editions.get(edition);
+    if (offset == null) {
+      return null;
+    }
+    ByteBuffer buffer = this.data.duplicate();
+    int start = this.dataStart + offset;
+    int count = buffer.getInt(start);
+    int low = 0;
+    int high = count;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (readString(buffer, getEntryPosition(buffer, start, mid)).compareTo(prefix) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    // ranks are the positions in descending version order so the highest rank is the lowest version
+    List<String> matches = new ArrayList<>();
+    List<Integer> ranks = new ArrayList<>();
+    for (int i = low; i < count; i++) {
+      buffer.position(getEntryPosition(buffer, start, i));
+      String version = readString(buffer);
+      if (!version.startsWith(prefix)) {
+        break;
+      }
+      matches.add(version);
+      ranks.add(buffer.getInt());
+    }
+    String[] versions = new String[matches.size()];
+    Integer[] order = new Integer[versions.length];
+    Arrays.setAll(order, i -> i);
+    Arrays.sort(order, (i1, i2) -> Integer.compare(ranks.get(i2), ranks.get(i1)));
+    for (int i = 0; i < versions.length; i++) {
+      versions[i] = matches.get(order[i]);
+    }
+    return versions;
+  }
+
+  private static int getEntryPosition(ByteBuffer buffer, int start, int index) {
+
+    return start + buffer.getInt(start + 4 + index * 4);
+  }
+
+  private static String readString(ByteBuffer buffer, int position) {
+
+    buffer.position(position);
+    return readString(buffer);
+  }
+
+  private static String readString(ByteBuffer buffer) {
+
+    // same format as DataOutput.writeUTF that is sufficient for the ASCII names of tools, editions and versions
+    int length = Short.toUnsignedInt(buffer.getShort());
+    byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * @param context the {@link IdeContext}.
+   * @return the {@link CompletionIndex} or {@code null} if it does not exist or is outdated.
+   */
+  public static CompletionIndex of(IdeContext context) {
+
+    Path indexFile = getIndexFile(context);
+    if (indexFile == null) {
+      return null;
+    }
+    String key = getKey(context);
+    try {
+      if ((key == null) || !key.equals(readKey(indexFile))) {
+        return null;
+      }
+      return read(indexFile);
+    } catch (IOException | RuntimeException e) {
+      LOG.debug("Failed to read completion index {}", indexFile, e);
+      return null;
+    }
+  }
+
+  /**
+   * Creates or updates the {@link CompletionIndex} for the current state of the {@link IdeContext#getUrlsPath() ide-urls repository}.
+   *
+   * @param context the {@link IdeContext}.
+   */
+  public static void update(IdeContext context) {
+
+    Path indexFile = getIndexFile(context);
+    String key = getKey(context);
+    if ((indexFile == null) || (key == null)) {
+      return;
+    }
+    try {
+      if (!key.equals(readKey(indexFile))) {
+        LOG.debug("Creating completion index {}", indexFile);
+        write(context, key, indexFile);
+      }
+    } catch (IOException | RuntimeException e) {
+      LOG.debug("Failed to create completion index {}", indexFile, e);
+    }
+  }
+
+  private static Path getIndexFile(IdeContext context) {
+
+    Path urlsPath = context.getUrlsPath();
+    if (urlsPath == null) {
+      return null;
+    }
+    return urlsPath.resolveSibling(FILENAME);
+  }
+
+  private static String getKey(IdeContext context) {
+
+    String commitId = UrlMetadataIndex.getCommitId(context.getUrlsPath());
+    if (commitId == null) {
+      return null;
+    }
+    SystemInfo systemInfo = context.getSystemInfo();
+    return commitId + "|" + systemInfo.getOs() + "|" + systemInfo.getArchitecture();
+  }
+
+  private static String readKey(Path indexFile) throws IOException {
+
+    if (!Files.isRegularFile(indexFile)) {
+      return null;
+    }
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+      if ((in.readInt() != MAGIC) || (in.readInt() != FORMAT_VERSION)) {
+        return null;
+      }
+      return in.readUTF();
+    }
+  }
+
+  private static CompletionIndex read(Path indexFile) throws IOException {
+
+    MappedByteBuffer data;
+    try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+      data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    ByteBuffer buffer = data.duplicate();
+    buffer.getInt(); // magic
+    buffer.getInt(); // format version
+    readString(buffer); // key
+    int headerLength = buffer.getInt();
+    int dataStart = buffer.position() + headerLength;
+    int toolCount = buffer.getInt();
+    Map<String, Map<String, Integer>> tools = new HashMap<>(toolCount * 2);
+    for (int i = 0; i < toolCount; i++) {
+      String tool = readString(buffer);
+      int editionCount = buffer.getInt();
+      Map<String, Integer> editions = new TreeMap<>();
+      for (int j = 0; j < editionCount; j++) {
+        String edition = readString(buffer);
+        editions.put(edition, buffer.getInt());
+      }
+      tools.put(tool, editions);
+    }
+    return new CompletionIndex(data, dataStart, tools);
+  }
+
+  private static void write(IdeContext context, String key, Path indexFile) throws IOException {
+
+    ByteArrayOutputStream headerBytes = new ByteArrayOutputStream();
+    ByteArrayOutputStream dataBytes = new ByteArrayOutputStream();
+    DataOutputStream header = new DataOutputStream(headerBytes);
+    DataOutputStream data = new DataOutputStream(dataBytes);
+    Path urlsPath = context.getUrlsPath();
+    List<ToolCommandlet> tools = new ArrayList<>();
+    for (Commandlet commandlet : context.getCommandletManager().getCommandlets()) {
+      if ((commandlet instanceof ToolCommandlet tool) && (tool.getToolRepository() == context.getDefaultToolRepository())
+          && Files.isDirectory(urlsPath.resolve(tool.getName()))) {
+        tools.add(tool);
+      }
+    }
+    header.writeInt(tools.size());
+    for (ToolCommandlet tool : tools) {
+      String name = tool.getName();
+      header.writeUTF(name);
+      List<String> editions = context.getUrls().getSortedEditions(name);
+      header.writeInt(editions.size());
+      for (String edition : editions) {
+        header.writeUTF(edition);
+        header.writeInt(data.size());
+        writeVersions(context.getUrls().getSortedVersions(name, edition, tool), data);
+      }
+    }
+    Path tmpFile = indexFile.resolveSibling(FILENAME + ".tmp");
+    try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(tmpFile))) {
+      out.writeInt(MAGIC);
+      out.writeInt(FORMAT_VERSION);
+      out.writeUTF(key);
+      out.writeInt(headerBytes.size());
+      headerBytes.writeTo(out);
+      dataBytes.writeTo(out);
+    }
+    Files.move(tmpFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  private static void writeVersions(List<VersionIdentifier> sortedVersions, DataOutputStream data) throws IOException {
+
+    int count = sortedVersions.size();
+    Map<String, Integer> version2rank = new TreeMap<>();
+    for (int i = 0; i < count; i++) {
+      version2rank.putIfAbsent(sortedVersions.get(i).toString(), i);
+    }
+    ByteArrayOutputStream entryBytes = new ByteArrayOutputStream();
+    DataOutputStream entries = new DataOutputStream(entryBytes);
+    int tableLength = 4 + version2rank.size() * 4;
+    data.writeInt(version2rank.size());
+    for (Map.Entry<String, Integer> entry : version2rank.entrySet()) {
+      data.writeInt(tableLength + entries.size());
+      entries.writeUTF(entry.getKey());
+      entries.writeInt(entry.getValue());
+    }
+    entryBytes.writeTo(data);
+  }
+
+}
@@ -50,6 +50,8 @@ import com.devonfw.tools.ide.git.GitContextImpl;
 import com.devonfw.tools.ide.git.GitUrl;
 import com.devonfw.tools.ide.io.FileAccess;
 import com.devonfw.tools.ide.io.FileAccessImpl;
+import com.devonfw.tools.ide.io.HttpClientManager;
+import com.devonfw.tools.ide.io.HttpMetadataCache;
 import com.devonfw.tools.ide.log.IdeLogArgFormatter;
 import com.devonfw.tools.ide.log.IdeLogLevel;
 import com.devonfw.tools.ide.log.IdeLogListener;
@@ -67,6 +69,8 @@ import com.devonfw.tools.ide.process.EnvironmentContext;
 import com.devonfw.tools.ide.process.ProcessContext;
 import com.devonfw.tools.ide.process.ProcessContextImpl;
 import com.devonfw.tools.ide.process.ProcessResult;
+import com.devonfw.tools.ide.profile.IdeProfiler;
+import com.devonfw.tools.ide.profile.IdeProfilerSpan;
 import com.devonfw.tools.ide.property.KeywordProperty;
 import com.devonfw.tools.ide.property.Property;
 import com.devonfw.tools.ide.step.Step;
@@ -174,6 +178,10 @@ public abstract class AbstractIdeContext implements IdeContext, IdeLogArgFormatt
 
   private NetworkStatus networkStatus;
 
+  private HttpClientManager httpClientManager;
+
+  private HttpMetadataCache httpMetadataCache;
+
   protected IdeSystem system;
 
   private WindowsHelper windowsHelper;
@@ -196,7 +204,20 @@ public abstract class AbstractIdeContext implements IdeContext, IdeLogArgFormatt
    */
   public AbstractIdeContext(IdeStartContextImpl startContext, Path workingDirectory) {
 
+    this(startContext, workingDirectory, null);
+  }
+
+  /**
+   * The constructor.
+   *
+   * @param startContext the {@link IdeStartContextImpl}.
+   * @param workingDirectory the optional {@link Path} to current working directory.
+   * @param system the optional {@link IdeSystem} to use instead of the system of this process.
+   */
+  protected AbstractIdeContext(IdeStartContextImpl startContext, Path workingDirectory, IdeSystem system) {
+
     super();
+    this.system = system;
     this.startContext = startContext;
     this.startContext.setArgFormatter(this);
     this.privacyMap = new HashMap<>();
@@ -204,7 +225,9 @@ public abstract class AbstractIdeContext implements IdeContext, IdeLogArgFormatt
     if (isTest()) {
       configureJavaUtilLogging(null);
     }
-    this.commandletManager = new CommandletManagerImpl(this);
+    try (IdeProfilerSpan span = IdeProfiler.start("startup", "create commandlet manager")) {
+      this.commandletManager = new CommandletManagerImpl(this);
+    }
     this.fileAccess = new FileAccessImpl(this);
     String userHomeProperty = getSystem().getProperty("user.home");
     if (userHomeProperty != null) {
@@ -223,15 +246,16 @@ public abstract class AbstractIdeContext implements IdeContext, IdeLogArgFormatt
     // detect IDE_HOME and WORKSPACE
     String workspace = null;
     Path ideHomeDir = null;
-    IdeHomeAndWorkspace ideHomeAndWorkspace = findIdeHome(workingDirectory);
-    if (ideHomeAndWorkspace != null) {
-      ideHomeDir = ideHomeAndWorkspace.home();
-      workspace = ideHomeAndWorkspace.workspace();
+    try (IdeProfilerSpan span = IdeProfiler.start("startup", "find IDE_HOME")) {
+      IdeHomeAndWorkspace ideHomeAndWorkspace = findIdeHome(workingDirectory);
+      if (ideHomeAndWorkspace != null) {
+        ideHomeDir = ideHomeAndWorkspace.home();
+        workspace = ideHomeAndWorkspace.workspace();
+      }
+      // detection completed, initializing variables
+      this.ideRoot = findIdeRoot(ideHomeDir);
     }
 
-    // detection completed, initializing variables
-    this.ideRoot = findIdeRoot(ideHomeDir);
-
     setCwd(workingDirectory, workspace, ideHomeDir);
 
     if (this.ideRoot != null) {
@@ -453,6 +477,15 @@ public abstract class AbstractIdeContext implements IdeContext, IdeLogArgFormatt
     return false;
   }
 
+  /**
+   * @return {@code true} if {@code ide env} may reuse and store an {@link com.devonfw.tools.ide.environment.EnvironmentSnapshot}, {@code false} otherwise
+   *     (always computes the environment).
+   */
+  public boolean isEnvironmentSnapshotEnabled() {
+
+    return !isTest();
+  }
+
   protected SystemPath computeSystemPath() {
 
     return new SystemPath(this);
@@ -476,12 +509,14 @@ public abstract class AbstractIdeContext implements IdeContext, IdeLogArgFormatt
 
   private EnvironmentVariables createVariables() {
 
-    AbstractEnvironmentVariables system = createSystemVariables();
-    AbstractEnvironmentVariables user = system.extend(this.userHomeIde, EnvironmentVariablesType.USER);
-    AbstractEnvironmentVariables settings = user.extend(this.settingsPath, EnvironmentVariablesType.SETTINGS);
-    AbstractEnvironmentVariables workspace = settings.extend(this.workspacePath, EnvironmentVariablesType.WORKSPACE);
-    AbstractEnvironmentVariables conf = workspace.extend(this.confPath, EnvironmentVariablesType.CONF);
-    return conf.resolved();
+    try (IdeProfilerSpan span = IdeProfiler.start("startup", "create variables")) {
+      AbstractEnvironmentVariables system = createSystemVariables();
+      AbstractEnvironmentVariables user = system.extend(this.userHomeIde, EnvironmentVariablesType.USER);
+      AbstractEnvironmentVariables settings = user.extend(this.settingsPath, EnvironmentVariablesType.SETTINGS);
+      AbstractEnvironmentVariables workspace = settings.extend(this.workspacePath, EnvironmentVariablesType.WORKSPACE);
+      AbstractEnvironmentVariables conf = workspace.extend(this.confPath, EnvironmentVariablesType.CONF);
+      return conf.resolved();
+    }
   }
 
   protected AbstractEnvironmentVariables createSystemVariables() {
@@ -830,7 +865,9 @@ public abstract class AbstractIdeContext implements IdeContext, IdeLogArgFormatt
 
     if (this.urlMetadata == null) {
       if (!isTest()) {
-        getGitContext().pullOrCloneAndResetIfNeeded(IDE_URLS_GIT, getUrlsPath(), null);
+        try (IdeProfilerSpan span = IdeProfiler.start("git", "update ide-urls")) {
+          getGitContext().pullOrCloneAndResetIfNeeded(IDE_URLS_GIT, getUrlsPath(), null);
+        }
       }
       this.urlMetadata = new UrlMetadata(this);
     }
@@ -905,6 +942,24 @@ public abstract class AbstractIdeContext implements IdeContext, IdeLogArgFormatt
     return this.networkStatus;
   }
 
+  @Override
+  public synchronized HttpClientManager getHttpClientManager() {
+
+    if (this.httpClientManager == null) {
+      this.httpClientManager = new HttpClientManager(this);
+    }
+    return this.httpClientManager;
+  }
+
+  @Override
+  public synchronized HttpMetadataCache getHttpMetadataCache() {
+
+    if (this.httpMetadataCache == null) {
+      this.httpMetadataCache = new HttpMetadataCache(this);
+    }
+    return this.httpMetadataCache;
+  }
+
   @Override
   public Locale getLocale() {
 
@@ -974,19 +1029,15 @@ public abstract class AbstractIdeContext implements IdeContext, IdeLogArgFormatt
     if (getSoftwarePath() == null) {
       return;
     }
-    for (Commandlet commandlet : getCommandletManager().getCommandlets()) {
-      if (commandlet instanceof LocalToolCommandlet tool) {
-        Path toolPath = tool.getToolPath();
-        // we cannot use isInstalled() here since it may spawn processes (e.g. "npm --version") what would be way too expensive.
-        if ((toolPath != null) && Files.isDirectory(toolPath)) {
-          try {
-            // for performance optimization, we do a hack here and assume that the installedVersion is never used by any setEnvironment method implementation.
-            ToolInstallation toolInstallation = new ToolInstallation(toolPath, toolPath, tool.getToolBinPath(), VersionIdentifier.LATEST, false);
-            tool.setEnvironment(environmentContext, toolInstallation, false);
-          } catch (Exception e) {
-            LOG.warn("Failed to set the environment variables of the installed tool {}.", tool.getName(), e);
-          }
-        }
+    // we cannot use isInstalled() here since it may spawn processes (e.g. "npm --version") what would be way too expensive.
+    for (LocalToolCommandlet tool : getCommandletManager().getInstalledLocalToolCommandlets()) {
+      Path toolPath = tool.getToolPath();
+      try {
+        // for performance optimization, we do a hack here and assume that the installedVersion is never used by any setEnvironment method implementation.
+        ToolInstallation toolInstallation = new ToolInstallation(toolPath, toolPath, tool.getToolBinPath(), VersionIdentifier.LATEST, false);
+        tool.setEnvironment(environmentContext, toolInstallation, false);
+      } catch (Exception e) {
+        LOG.warn("Failed to set the environment variables of the installed tool {}.", tool.getName(), e);
       }
     }
   }
@@ -1282,9 +1333,36 @@ public abstract class AbstractIdeContext implements IdeContext, IdeLogArgFormatt
       }
       throw t;
     } finally {
+      if (this.httpClientManager != null) {
+        this.httpClientManager.close();
+      }
       step.close();
       assert (this.currentStep == null);
       step.logSummary(supressStepSuccess);
+      writeProfile(cmd, current);
+    }
+  }
+
+  private void writeProfile(Commandlet cmd, CliArgument arguments) {
+
+    IdeProfiler profiler = IdeProfiler.disable();
+    if (profiler == null) {
+      return;
+    }
+    Path traceFile = profiler.getFile();
+    if (traceFile == null) {
+      Path idePath = getIdePath();
+      if (idePath == null) {
+        traceFile = this.cwd.resolve("ide" + IdeProfiler.EXTENSION);
+      } else {
+        traceFile = createLogfilePath(idePath, cmd, IdeProfiler.EXTENSION);
+      }
+    }
+    try {
+      profiler.write(traceFile, "ide " + String.join(" ", arguments.asArray()));
+      IdeLogLevel.INTERACTION.log(LOG, "Profile of this call written to {}", traceFile);
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to write profile to {}", traceFile, e);
     }
   }
 
@@ -1318,6 +1396,13 @@ public abstract class AbstractIdeContext implements IdeContext, IdeLogArgFormatt
     if (this.julConfigured) {
       return;
     }
+    try (IdeProfilerSpan span = IdeProfiler.start("startup", "configure logging")) {
+      doConfigureJavaUtilLogging(cmd);
+    }
+  }
+
+  private void doConfigureJavaUtilLogging(Commandlet cmd) {
+
     boolean writeLogfile = isWriteLogfile(cmd);
     this.startContext.setWriteLogfile(writeLogfile);
     Properties properties = createJavaUtilLoggingProperties(writeLogfile, cmd);
@@ -1359,7 +1444,7 @@ public abstract class AbstractIdeContext implements IdeContext, IdeLogArgFormatt
       properties.setProperty("handlers", JulConsoleHandler.class.getName() + "," + fileHandlerName);
       properties.setProperty(fileHandlerName + ".formatter", SimpleFormatter.class.getName());
       properties.setProperty(fileHandlerName + ".encoding", "UTF-8");
-      this.logfile = createLogfilePath(idePath, cmd);
+      this.logfile = createLogfilePath(idePath, cmd, ".log");
       getFileAccess().mkdirs(this.logfile.getParent());
       properties.setProperty(fileHandlerName + ".pattern", this.logfile.toString());
     } else {
@@ -1369,7 +1454,7 @@ public abstract class AbstractIdeContext implements IdeContext, IdeLogArgFormatt
     return properties;
   }
 
-  private Path createLogfilePath(Path idePath, Commandlet cmd) {
+  private Path createLogfilePath(Path idePath, Commandlet cmd, String extension) {
     LocalDateTime now = LocalDateTime.now();
     Path logsPath = idePath.resolve(FOLDER_LOGS).resolve(DateTimeUtil.formatDate(now, true));
     StringBuilder sb = new StringBuilder(32);
@@ -1385,7 +1470,7 @@ public abstract class AbstractIdeContext implements IdeContext, IdeLogArgFormatt
       sb.append('-');
     }
     sb.append(DateTimeUtil.formatTime(now));
-    sb.append(".log");
+    sb.append(extension);
     return logsPath.resolve(sb.toString());
   }
 
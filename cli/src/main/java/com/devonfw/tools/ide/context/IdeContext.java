@@ -17,9 +17,12 @@ import com.devonfw.tools.ide.environment.EnvironmentVariablesType;
 import com.devonfw.tools.ide.environment.IdeSystem;
 import com.devonfw.tools.ide.git.GitContext;
 import com.devonfw.tools.ide.io.FileAccess;
+import com.devonfw.tools.ide.io.HttpClientManager;
+import com.devonfw.tools.ide.io.HttpMetadataCache;
 import com.devonfw.tools.ide.io.IdeProgressBar;
 import com.devonfw.tools.ide.io.IdeProgressBarNone;
 import com.devonfw.tools.ide.log.IdeLogLevel;
+import com.devonfw.tools.ide.log.IdeThreadLogBuffer;
 import com.devonfw.tools.ide.merge.DirectoryMerger;
 import com.devonfw.tools.ide.network.NetworkStatus;
 import com.devonfw.tools.ide.os.SystemInfo;
@@ -235,6 +238,16 @@ public interface IdeContext extends IdeStartContext {
    */
   NetworkStatus getNetworkStatus();
 
+  /**
+   * @return the {@link HttpClientManager} providing the {@link java.net.http.HttpClient} shared by all HTTP communication.
+   */
+  HttpClientManager getHttpClientManager();
+
+  /**
+   * @return the {@link HttpMetadataCache} for metadata (e.g. version lists) retrieved via HTTP.
+   */
+  HttpMetadataCache getHttpMetadataCache();
+
   /**
    * @return {@code true} if {@link #isOfflineMode() offline mode} is active or we are NOT {@link #isOnline() online}, {@code false} otherwise.
    * @deprecated use {@link #getNetworkStatus()}
@@ -688,7 +701,8 @@ public interface IdeContext extends IdeStartContext {
    */
   default IdeProgressBar newProgressBarInMib(String title, long size) {
 
-    if ((size > 0) && (size < 1024)) {
+    if (((size > 0) && (size < 1024)) || IdeThreadLogBuffer.isActive()) {
+      // tiny size or running in parallel to the main thread that owns the console
       return new IdeProgressBarNone(title, size, IdeProgressBar.UNIT_NAME_MB, IdeProgressBar.UNIT_SIZE_MB);
     }
     return newProgressBar(title, size, IdeProgressBar.UNIT_NAME_MB, IdeProgressBar.UNIT_SIZE_MB);
@@ -726,6 +740,9 @@ public interface IdeContext extends IdeStartContext {
    * @return the new {@link IdeProgressBar} to use.
    */
   default IdeProgressBar newProgressBarForPlugins(long size) {
+    if (IdeThreadLogBuffer.isActive()) {
+      return new IdeProgressBarNone(IdeProgressBar.TITLE_INSTALL_PLUGIN, size, IdeProgressBar.UNIT_NAME_PLUGIN, IdeProgressBar.UNIT_SIZE_PLUGIN);
+    }
     return newProgressBar(IdeProgressBar.TITLE_INSTALL_PLUGIN, size, IdeProgressBar.UNIT_NAME_PLUGIN, IdeProgressBar.UNIT_SIZE_PLUGIN);
   }
 
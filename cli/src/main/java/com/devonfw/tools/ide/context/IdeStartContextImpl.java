@@ -323,6 +323,15 @@ public class IdeStartContextImpl implements IdeStartContext {
     this.writeLogfile = writeLogfile;
   }
 
+  /**
+   * Makes this {@link IdeStartContextImpl} the {@link #get() current instance}. Only needed if multiple contexts are kept in the same JVM (e.g. by the
+   * {@link com.devonfw.tools.ide.daemon.IdeDaemon daemon}).
+   */
+  public void makeCurrent() {
+
+    IdeStartContextImpl.instance = this;
+  }
+
   /**
    * @return the current {@link IdeStartContextImpl} instance.
    */
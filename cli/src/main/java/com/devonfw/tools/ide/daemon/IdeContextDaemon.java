@@ -0,0 +1,63 @@
+package com.devonfw.tools.ide.daemon;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+
+import com.devonfw.tools.ide.context.AbstractIdeContext;
+import com.devonfw.tools.ide.context.IdeStartContextImpl;
+import com.devonfw.tools.ide.environment.IdeSystemImpl;
+import com.devonfw.tools.ide.io.IdeProgressBar;
+import com.devonfw.tools.ide.io.IdeProgressBarNone;
+
+/**
+ * Implementation of {@link com.devonfw.tools.ide.context.IdeContext} kept warm by the {@link IdeDaemon} for the working directory and environment of a
+ * client. It can not interact with the user since the console belongs to the client.
+ */
+class IdeContextDaemon extends AbstractIdeContext {
+
+  /**
+   * The constructor.
+   *
+   * @param startContext the {@link IdeStartContextImpl}.
+   * @param workingDirectory the current working directory of the client.
+   * @param userHome the home directory of the client.
+   * @param environmentVariables the environment variables of the client.
+   */
+  IdeContextDaemon(IdeStartContextImpl startContext, Path workingDirectory, Path userHome, Map<String, String> environmentVariables) {
+
+    super(startContext, workingDirectory, new DaemonSystem(userHome, environmentVariables));
+  }
+
+  @Override
+  protected String readLine() {
+
+    throw new IllegalStateException("User input is not supported when running in the IDEasy daemon.");
+  }
+
+  @Override
+  public IdeProgressBar newProgressBar(String title, long size, String unitName, long unitSize) {
+
+    return new IdeProgressBarNone(title, size, unitName, unitSize);
+  }
+
+  /**
+   * {@link IdeSystemImpl} with the home directory and environment variables of the client and a copy of the system properties of the daemon.
+   */
+  private static class DaemonSystem extends IdeSystemImpl {
+
+    private DaemonSystem(Path userHome, Map<String, String> environmentVariables) {
+
+      super(copy(System.getProperties(), userHome), Map.copyOf(environmentVariables));
+    }
+
+    private static Properties copy(Properties properties, Path userHome) {
+
+      Properties copy = new Properties();
+      copy.putAll(properties);
+      copy.setProperty("user.home", userHome.toString());
+      return copy;
+    }
+  }
+
+}
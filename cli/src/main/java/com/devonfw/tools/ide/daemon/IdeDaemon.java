@@ -0,0 +1,447 @@
+package com.devonfw.tools.ide.daemon;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.devonfw.tools.ide.cli.Ideasy;
+import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.context.IdeStartContextImpl;
+import com.devonfw.tools.ide.log.IdeLogLevel;
+import com.devonfw.tools.ide.log.IdeLogListenerBuffer;
+import com.devonfw.tools.ide.version.IdeVersion;
+
+/**
+ * Resident background process of IDEasy that serves requests of the {@link IdeDaemonClient} via a Unix domain socket. For each working directory, set of
+ * options and environment of the client it keeps an {@link IdeContext} that has already been initialized so a request does not need to bootstrap it again.
+ * These contexts are discarded when a file in the {@code settings}, {@code conf} or {@code software} folder of their {@link IdeContext#getIdeHome() IDE_HOME}
+ * changes. The daemon terminates itself after it has been idle for the configured timeout.
+ * <p>
+ * Requests are served one after the other since the console output of IDEasy is written to {@link System#out} and {@link System#err} that are redirected to
+ * the client during a request. Only commandlets that neither interact with the user nor launch processes are {@link IdeDaemonClient#isEligible(String...)
+ * eligible}.
+ */
+public class IdeDaemon {
+
+  private static final Logger LOG = LoggerFactory.getLogger(IdeDaemon.class);
+
+  /** The default {@link Duration} after which an idle daemon terminates. */
+  public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(30);
+
+  /** The name of the folder with the socket files inside {@link IdeContext#getUserHomeIde() ~/.ide}. */
+  public static final String FOLDER_DAEMON = "daemon";
+
+  static final int PROTOCOL_VERSION = 2;
+
+  static final byte FRAME_OUT = 1;
+
+  static final byte FRAME_ERR = 2;
+
+  static final byte FRAME_EXIT = 3;
+
+  private static final int MAX_CONTEXTS = 8;
+
+  private static final long POLL_INTERVAL_MILLIS = 1000;
+
+  private static final String LOCK_SUFFIX = ".lock";
+
+  private final Path socketFile;
+
+  private final Duration idleTimeout;
+
+  private final Map<String, IdeContextDaemon> contexts;
+
+  private final Map<WatchKey, Path> watchedFolders;
+
+  private final CountDownLatch ready;
+
+  private WatchService watchService;
+
+  /**
+   * The constructor.
+   *
+   * @param socketFile the {@link Path} to the Unix domain socket to listen on.
+   * @param idleTimeout the {@link Duration} after which the daemon terminates if no request was received.
+   */
+  public IdeDaemon(Path socketFile, Duration idleTimeout) {
+
+    super();
+    this.socketFile = socketFile;
+    this.idleTimeout = idleTimeout;
+    this.contexts = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, IdeContextDaemon> eldest) {
+
+        return size() > MAX_CONTEXTS;
+      }
+    };
+    this.watchedFolders = new HashMap<>();
+    this.ready = new CountDownLatch(1);
+  }
+
+  /**
+   * @param userHome the {@link IdeContext#getUserHome() home directory of the user}.
+   * @return the {@link Path} to the Unix domain socket of the daemon for the current IDEasy {@link IdeVersion version}.
+   */
+  public static Path getSocketFile(Path userHome) {
+
+    String version = IdeVersion.getVersionString().replaceAll("[^a-zA-Z0-9._-]", "_");
+    return userHome.resolve(IdeContext.FOLDER_DOT_IDE).resolve(FOLDER_DAEMON).resolve("ideasy-" + version + ".sock");
+  }
+
+  /**
+   * Listens for requests until the daemon has been idle for the configured timeout. Only one daemon can listen on the same socket: the daemon holds a lock on
+   * a file next to the socket while it is running. If another daemon already holds it (e.g. two daemons were started concurrently from different shells), this
+   * method returns immediately without touching the socket of the other daemon.
+   *
+   * @return {@code true} if this daemon was listening on the socket until it terminated, {@code false} if another daemon is already running.
+   * @throws IOException if the socket could not be opened.
+   */
+  public boolean run() throws IOException {
+
+    try {
+      Files.createDirectories(this.socketFile.getParent());
+      Path lockFile = this.socketFile.resolveSibling(this.socketFile.getFileName() + LOCK_SUFFIX);
+      try (FileChannel lockChannel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+          FileLock lock = tryLock(lockChannel)) {
+        if (lock == null) {
+          LOG.debug("Another IDEasy daemon is already listening on {}", this.socketFile);
+          return false;
+        }
+        // only the owner of the lock may delete the socket so it can only be a stale one of a crashed daemon
+        Files.deleteIfExists(this.socketFile);
+        listen();
+        return true;
+      }
+    } finally {
+      this.ready.countDown();
+    }
+  }
+
+  private static FileLock tryLock(FileChannel lockChannel) throws IOException {
+
+    try {
+      return lockChannel.tryLock();
+    } catch (OverlappingFileLockException e) {
+      // held by another daemon in the same JVM
+      return null;
+    }
+  }
+
+  private void listen() throws IOException {
+
+    boolean bound = false;
+    try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX); Selector selector = Selector.open();
+        WatchService watcher = FileSystems.getDefault().newWatchService()) {
+      this.watchService = watcher;
+      server.bind(UnixDomainSocketAddress.of(this.socketFile));
+      bound = true;
+      server.configureBlocking(false);
+      server.register(selector, SelectionKey.OP_ACCEPT);
+      LOG.info("IDEasy daemon listening on {}", this.socketFile);
+      this.ready.countDown();
+      long idleNanos = this.idleTimeout.toNanos();
+      long lastRequest = System.nanoTime();
+      while (true) {
+        selector.select(POLL_INTERVAL_MILLIS);
+        selector.selectedKeys().clear();
+        invalidateChangedContexts();
+        SocketChannel client = server.accept();
+        if (client != null) {
+          // changes during the request (by the request itself or concurrently by the user) are processed by the next invalidateChangedContexts()
+          handle(client);
+          lastRequest = System.nanoTime();
+        } else if (System.nanoTime() - lastRequest > idleNanos) {
+          LOG.info("IDEasy daemon terminates after being idle for {}", this.idleTimeout);
+          break;
+        }
+      }
+    } finally {
+      this.contexts.clear();
+      this.watchedFolders.clear();
+      if (bound) {
+        Files.deleteIfExists(this.socketFile);
+      }
+    }
+  }
+
+  /**
+   * Waits until this daemon is listening on its socket or has terminated because another daemon is already running.
+   *
+   * @param timeout the maximum {@link Duration} to wait.
+   * @return {@code true} if this daemon is ready or has terminated, {@code false} if the timeout elapsed.
+   * @throws InterruptedException if the current thread was interrupted while waiting.
+   */
+  public boolean awaitReady(Duration timeout) throws InterruptedException {
+
+    return this.ready.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  private void handle(SocketChannel client) {
+
+    try (client) {
+      client.configureBlocking(true);
+      DataInputStream in = new DataInputStream(Channels.newInputStream(client));
+      DataOutputStream out = new DataOutputStream(Channels.newOutputStream(client));
+      Request request = Request.read(in);
+      int exitCode = serve(request, out);
+      synchronized (out) {
+        out.writeByte(FRAME_EXIT);
+        out.writeInt(exitCode);
+        out.flush();
+      }
+    } catch (IOException | RuntimeException e) {
+      LOG.debug("Failed to handle request of client", e);
+    }
+  }
+
+  /**
+   * @param request the {@link Request} to serve.
+   * @param out the {@link DataOutputStream} to the client.
+   * @return the exit code of the request.
+   */
+  int serve(Request request, DataOutputStream out) {
+
+    IdeStartContextImpl daemonStartContext = IdeStartContextImpl.get();
+    PrintStream systemOut = System.out;
+    PrintStream systemErr = System.err;
+    try (PrintStream clientOut = new PrintStream(new FrameOutputStream(out, FRAME_OUT), true, StandardCharsets.UTF_8);
+        PrintStream clientErr = new PrintStream(new FrameOutputStream(out, FRAME_ERR), true, StandardCharsets.UTF_8)) {
+      System.setOut(clientOut);
+      System.setErr(clientErr);
+      IdeContextDaemon context = getContext(request);
+      context.getStartContext().makeCurrent();
+      return new Ideasy(context).run(request.args());
+    } finally {
+      System.setOut(systemOut);
+      System.setErr(systemErr);
+      if (daemonStartContext != null) {
+        daemonStartContext.makeCurrent();
+      }
+    }
+  }
+
+  private IdeContextDaemon getContext(Request request) {
+
+    String key = request.getContextKey();
+    IdeContextDaemon context = this.contexts.get(key);
+    if (context == null) {
+      IdeStartContextImpl startContext = new IdeStartContextImpl(IdeLogLevel.INFO, new IdeLogListenerBuffer());
+      context = new IdeContextDaemon(startContext, request.cwd(), request.userHome(), request.env());
+      this.contexts.put(key, context);
+      watch(context);
+    }
+    return context;
+  }
+
+  private void watch(IdeContextDaemon context) {
+
+    List<Path> folders = new ArrayList<>();
+    folders.add(context.getUserHomeIde());
+    Path ideHome = context.getIdeHome();
+    if (ideHome != null) {
+      folders.add(context.getSettingsPath());
+      folders.add(context.getConfPath());
+      folders.add(context.getSoftwarePath());
+      folders.add(context.getWorkspacePath());
+    }
+    for (Path folder : folders) {
+      if ((folder != null) && Files.isDirectory(folder)) {
+        try {
+          WatchKey key = folder.register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE,
+              StandardWatchEventKinds.ENTRY_MODIFY);
+          this.watchedFolders.put(key, folder);
+        } catch (IOException e) {
+          LOG.debug("Failed to watch {}", folder, e);
+        }
+      }
+    }
+  }
+
+  private void invalidateChangedContexts() {
+
+    WatchKey key = this.watchService.poll();
+    while (key != null) {
+      key.pollEvents();
+      key.reset();
+      Path folder = this.watchedFolders.get(key);
+      if (folder != null) {
+        boolean removed = this.contexts.values().removeIf(context -> (context.getIdeHome() == null) || folder.startsWith(context.getIdeHome())
+            || folder.equals(context.getUserHomeIde()));
+        if (removed) {
+          LOG.debug("Discarded contexts after change in {}", folder);
+        }
+      }
+      key = this.watchService.poll();
+    }
+  }
+
+  /**
+   * A request of the {@link IdeDaemonClient}.
+   *
+   * @param cwd the current working directory of the client.
+   * @param userHome the home directory of the client.
+   * @param args the command-line arguments.
+   * @param env the environment variables of the client.
+   */
+  record Request(Path cwd, Path userHome, String[] args, Map<String, String> env) {
+
+    /** Environment variables that typically change between calls without any effect on IDEasy. */
+    private static final List<String> VOLATILE_VARIABLES = List.of("_", "OLDPWD", "PWD", "SHLVL", "COLUMNS", "LINES");
+
+    String getContextKey() {
+
+      StringBuilder sb = new StringBuilder();
+      sb.append(this.cwd).append('\n').append(this.userHome).append('\n');
+      for (String arg : this.args) {
+        if (!arg.startsWith("-")) {
+          break;
+        }
+        sb.append(arg).append(' ');
+      }
+      sb.append('\n');
+      for (Map.Entry<String, String> entry : new TreeMap<>(this.env).entrySet()) {
+        if (!VOLATILE_VARIABLES.contains(entry.getKey())) {
+          sb.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+        }
+      }
+      return sb.toString();
+    }
+
+    void write(DataOutputStream out) throws IOException {
+
+      out.writeInt(PROTOCOL_VERSION);
+      writeString(out, this.cwd.toString());
+      writeString(out, this.userHome.toString());
+      out.writeInt(this.args.length);
+      for (String arg : this.args) {
+        writeString(out, arg);
+      }
+      out.writeInt(this.env.size());
+      for (Map.Entry<String, String> entry : this.env.entrySet()) {
+        writeString(out, entry.getKey());
+        writeString(out, entry.getValue());
+      }
+      out.flush();
+    }
+
+    // other than writeUTF this is not limited to 64KB (e.g. for a long PATH)
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+
+      byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+
+      int length = in.readInt();
+      if (length < 0) {
+        throw new IOException("Invalid string length " + length);
+      }
+      return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+
+    static Request read(DataInputStream in) throws IOException {
+
+      int version = in.readInt();
+      if (version != PROTOCOL_VERSION) {
+        throw new IOException("Unsupported protocol version " + version);
+      }
+      Path cwd = Path.of(readString(in));
+      Path userHome = Path.of(readString(in));
+      String[] args = new String[in.readInt()];
+      for (int i = 0; i < args.length; i++) {
+        args[i] = readString(in);
+      }
+      int envCount = in.readInt();
+      Map<String, String> env = new HashMap<>(envCount * 2);
+      for (int i = 0; i < envCount; i++) {
+        env.put(readString(in), readString(in));
+      }
+      return new Request(cwd, userHome, args, env);
+    }
+  }
+
+  /**
+   * {@link OutputStream} that sends the written bytes as frames of the given type to the client.
+   */
+  private static final class FrameOutputStream extends OutputStream {
+
+    private final DataOutputStream out;
+
+    private final byte type;
+
+    private FrameOutputStream(DataOutputStream out, byte type) {
+
+      this.out = out;
+      this.type = type;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+
+      write(new byte[] { (byte) b }, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+
+      if (len == 0) {
+        return;
+      }
+      synchronized (this.out) {
+        this.out.writeByte(this.type);
+        this.out.writeInt(len);
+        this.out.write(b, off, len);
+      }
+    }
+
+    @Override
+    public void flush() throws IOException {
+
+      synchronized (this.out) {
+        this.out.flush();
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+
+      flush();
+    }
+  }
+
+}
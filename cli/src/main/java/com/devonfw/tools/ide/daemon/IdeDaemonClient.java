@@ -0,0 +1,160 @@
+package com.devonfw.tools.ide.daemon;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+
+import org.graalvm.nativeimage.ProcessProperties;
+
+import com.devonfw.tools.ide.cli.GraalVmHelper;
+import com.devonfw.tools.ide.commandlet.CompleteCommandlet;
+import com.devonfw.tools.ide.context.IdeContext;
+
+/**
+ * Client that delegates a call of IDEasy to a running {@link IdeDaemon} if enabled via the environment variable {@link #VARIABLE_IDE_DAEMON IDE_DAEMON}. This
+ * avoids the startup and bootstrapping for the calls of the shell integration ({@code ide env} and {@code ide complete}) that happen on every prompt and
+ * tab-completion. If no daemon is reachable, the call is executed as usual and (when running from the native image) a daemon is started in the background
+ * for subsequent calls.
+ */
+public final class IdeDaemonClient {
+
+  /** Name of the environment variable to enable the {@link IdeDaemon}. */
+  public static final String VARIABLE_IDE_DAEMON = "IDE_DAEMON";
+
+  /** The name of the {@link com.devonfw.tools.ide.commandlet.DaemonCommandlet}. */
+  public static final String COMMANDLET_DAEMON = "daemon";
+
+  private static final Set<String> SUPPORTED_OPTIONS = Set.of("-b", "--batch", "-q", "--quiet", "-o", "--offline", "-p", "--privacy", "--skip-updates",
+      "--no-colors");
+
+  private static final Set<String> SUPPORTED_COMMANDLETS = Set.of("env", CompleteCommandlet.NAME);
+
+  private IdeDaemonClient() {
+
+    // static helper
+  }
+
+  /**
+   * @param args the command-line arguments.
+   * @return the exit code of the call served by the {@link IdeDaemon} or {@code null} if the daemon is not enabled, the call is not
+   *     {@link #isEligible(String...) eligible} or no daemon is reachable so IDEasy has to be run as usual.
+   */
+  public static Integer runIfAvailable(String... args) {
+
+    Map<String, String> env = System.getenv();
+    if (!"true".equals(env.get(VARIABLE_IDE_DAEMON)) || !isEligible(args)) {
+      return null;
+    }
+    String userHome = System.getProperty("user.home");
+    if (userHome == null) {
+      return null;
+    }
+    Path userHomePath = Path.of(userHome);
+    if (!Files.exists(userHomePath.resolve(IdeContext.FOLDER_DOT_IDE).resolve(IdeContext.FILE_LICENSE_AGREEMENT))) {
+      return null; // the license agreement requires user interaction
+    }
+    Path socketFile = IdeDaemon.getSocketFile(userHomePath);
+    Path cwd = Path.of("").toAbsolutePath();
+    Integer exitCode = run(socketFile, cwd, userHomePath, env, System.out, System.err, args);
+    if ((exitCode == null) && GraalVmHelper.get().isNativeImage()) {
+      startDaemon();
+    }
+    return exitCode;
+  }
+
+  /**
+   * @param args the command-line arguments.
+   * @return {@code true} if the call can be served by the {@link IdeDaemon}, {@code false} otherwise. Only the non-interactive commandlets of the shell
+   *     integration are eligible that do not launch processes and the options given before them must not change the logging.
+   */
+  public static boolean isEligible(String... args) {
+
+    for (String arg : args) {
+      if (SUPPORTED_COMMANDLETS.contains(arg)) {
+        return true;
+      } else if (!SUPPORTED_OPTIONS.contains(arg)) {
+        return false;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Sends a request to the {@link IdeDaemon} and streams its output.
+   *
+   * @param socketFile the {@link Path} to the Unix domain socket of the {@link IdeDaemon}.
+   * @param cwd the current working directory.
+   * @param userHome the home directory of the user.
+   * @param env the environment variables.
+   * @param out the {@link OutputStream} for the standard output.
+   * @param err the {@link OutputStream} for the standard error.
+   * @param args the command-line arguments.
+   * @return the exit code or {@code null} if the {@link IdeDaemon} is not reachable.
+   */
+  static Integer run(Path socketFile, Path cwd, Path userHome, Map<String, String> env, OutputStream out, OutputStream err, String... args) {
+
+    if (!Files.exists(socketFile)) {
+      return null;
+    }
+    SocketChannel channel;
+    try {
+      channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+      channel.connect(UnixDomainSocketAddress.of(socketFile));
+    } catch (IOException | UnsupportedOperationException e) {
+      return null;
+    }
+    boolean outputWritten = false;
+    try (channel) {
+      DataOutputStream request = new DataOutputStream(Channels.newOutputStream(channel));
+      new IdeDaemon.Request(cwd, userHome, args, env).write(request);
+      DataInputStream response = new DataInputStream(Channels.newInputStream(channel));
+      while (true) {
+        byte type = response.readByte();
+        if (type == IdeDaemon.FRAME_EXIT) {
+          out.flush();
+          err.flush();
+          return response.readInt();
+        }
+        byte[] bytes = response.readNBytes(response.readInt());
+        if (type == IdeDaemon.FRAME_OUT) {
+          out.write(bytes);
+        } else {
+          err.write(bytes);
+        }
+        outputWritten = true;
+      }
+    } catch (EOFException e) {
+      // daemon terminated while serving the request
+    } catch (IOException e) {
+      // broken connection
+    }
+    if (outputWritten) {
+      return 255;
+    }
+    return null;
+  }
+
+  private static void startDaemon() {
+
+    try {
+      ProcessBuilder builder = new ProcessBuilder(ProcessProperties.getExecutableName(), COMMANDLET_DAEMON);
+      builder.redirectInput(ProcessBuilder.Redirect.DISCARD.file());
+      builder.redirectOutput(ProcessBuilder.Redirect.DISCARD);
+      builder.redirectError(ProcessBuilder.Redirect.DISCARD);
+      builder.start();
+    } catch (IOException | RuntimeException e) {
+      // the daemon is only an optimization
+    }
+  }
+
+}
@@ -0,0 +1,243 @@
+package com.devonfw.tools.ide.environment;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.devonfw.tools.ide.common.SystemPath;
+import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.variable.IdeVariables;
+import com.devonfw.tools.ide.version.IdeVersion;
+
+/**
+ * Persisted output of {@code ide env} for a specific {@link IdeContext#getIdeHome() IDE_HOME}, {@link IdeContext#getWorkspaceName() workspace} and shell
+ * syntax. Computing the environment requires to read all {@code ide.properties} files and to determine the environment of all installed tools. Since the shell
+ * integration calls {@code ide env} after every {@code ide} command and every {@code icd}, the rendered output is stored and reused as long as its inputs have
+ * not changed. These inputs are validated via a fingerprint of
+ * <ul>
+ *   <li>the IDEasy {@link IdeVersion version},</li>
+ *   <li>modification time and size of the contributing {@link EnvironmentVariables#getPropertiesFilePath() properties files},</li>
+ *   <li>the values of the system environment variables that are printed or referenced by these files (for {@code PATH} without the tool entries added
+ *   by IDEasy itself),</li>
+ *   <li>the entries of the {@link IdeContext#getSoftwarePath() software folder} and the targets of their links.</li>
+ * </ul>
+ */
+public final class EnvironmentSnapshot {
+
+  private static final Logger LOG = LoggerFactory.getLogger(EnvironmentSnapshot.class);
+
+  /** The name of the folder with the snapshots inside {@link IdeContext#FOLDER_DOT_IDE .ide} of {@link IdeContext#getIdeHome() IDE_HOME}. */
+  public static final String FOLDER_ENV = "env";
+
+  private static final int FORMAT_VERSION = 1;
+
+  private static final Pattern VARIABLE_REFERENCE = Pattern.compile("\\$\\{([^}]+)}");
+
+  private final IdeContext context;
+
+  private final Path snapshotFile;
+
+  private EnvironmentSnapshot(IdeContext context, Path snapshotFile) {
+
+    super();
+    this.context = context;
+    this.snapshotFile = snapshotFile;
+  }
+
+  /**
+   * @param context the {@link IdeContext}.
+   * @param syntax the name of the shell syntax of the output (e.g. "bash").
+   * @return the {@link EnvironmentSnapshot} for the current {@link IdeContext#getIdeHome() IDE_HOME} and {@link IdeContext#getWorkspaceName() workspace} or
+   *     {@code null} if not inside an IDE project.
+   */
+  public static EnvironmentSnapshot of(IdeContext context, String syntax) {
+
+    Path ideHome = context.getIdeHome();
+    String workspace = context.getWorkspaceName();
+    if ((ideHome == null) || (workspace == null)) {
+      return null;
+    }
+    Path snapshotFile = ideHome.resolve(IdeContext.FOLDER_DOT_IDE).resolve(FOLDER_ENV).resolve(workspace + "." + syntax);
+    return new EnvironmentSnapshot(context, snapshotFile);
+  }
+
+  /**
+   * @return the {@link Path} to the file of this snapshot.
+   */
+  public Path getSnapshotFile() {
+
+    return this.snapshotFile;
+  }
+
+  /**
+   * @return the stored output lines or {@code null} if the snapshot does not exist or is outdated.
+   */
+  public List<String> load() {
+
+    if (!Files.isRegularFile(this.snapshotFile)) {
+      return null;
+    }
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.snapshotFile)))) {
+      if (in.readInt() != FORMAT_VERSION) {
+        return null;
+      }
+      String fingerprint = in.readUTF();
+      List<Path> files = new ArrayList<>();
+      int fileCount = in.readInt();
+      for (int i = 0; i < fileCount; i++) {
+        files.add(Path.of(in.readUTF()));
+      }
+      List<String> envNames = new ArrayList<>();
+      int envCount = in.readInt();
+      for (int i = 0; i < envCount; i++) {
+        envNames.add(in.readUTF());
+      }
+      if (!fingerprint.equals(computeFingerprint(files, envNames))) {
+        LOG.debug("Environment snapshot {} is outdated", this.snapshotFile);
+        return null;
+      }
+      int lineCount = in.readInt();
+      List<String> lines = new ArrayList<>(lineCount);
+      for (int i = 0; i < lineCount; i++) {
+        lines.add(new String(in.readNBytes(in.readInt()), StandardCharsets.UTF_8));
+      }
+      LOG.debug("Using environment snapshot {}", this.snapshotFile);
+      return lines;
+    } catch (IOException | RuntimeException e) {
+      LOG.debug("Failed to read environment snapshot {}", this.snapshotFile, e);
+      return null;
+    }
+  }
+
+  /**
+   * @param variables the {@link EnvironmentVariables} the output has been computed from.
+   * @param variableNames the names of the printed variables.
+   * @param lines the output lines to store.
+   */
+  public void save(EnvironmentVariables variables, Collection<String> variableNames, List<String> lines) {
+
+    Set<Path> files = new TreeSet<>();
+    Set<String> envNames = new TreeSet<>(variableNames);
+    envNames.add(IdeVariables.PATH.getName());
+    EnvironmentVariables current = variables;
+    while (current != null) {
+      addFile(current.getPropertiesFilePath(), files, envNames);
+      addFile(current.getLegacyPropertiesFilePath(), files, envNames);
+      current = current.getParent();
+    }
+    List<Path> fileList = List.copyOf(files);
+    List<String> envNameList = List.copyOf(envNames);
+    try {
+      String fingerprint = computeFingerprint(fileList, envNameList);
+      Files.createDirectories(this.snapshotFile.getParent());
+      Path tmpFile = this.snapshotFile.resolveSibling(this.snapshotFile.getFileName() + ".tmp");
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpFile)))) {
+        out.writeInt(FORMAT_VERSION);
+        out.writeUTF(fingerprint);
+        out.writeInt(fileList.size());
+        for (Path file : fileList) {
+          out.writeUTF(file.toString());
+        }
+        out.writeInt(envNameList.size());
+        for (String envName : envNameList) {
+          out.writeUTF(envName);
+        }
+        out.writeInt(lines.size());
+        for (String line : lines) {
+          byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+          out.writeInt(bytes.length);
+          out.write(bytes);
+        }
+      }
+      Files.move(tmpFile, this.snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException | RuntimeException e) {
+      LOG.debug("Failed to write environment snapshot {}", this.snapshotFile, e);
+    }
+  }
+
+  private static void addFile(Path file, Set<Path> files, Set<String> envNames) {
+
+    if ((file == null) || !files.add(file) || !Files.isRegularFile(file)) {
+      return;
+    }
+    try {
+      Matcher matcher = VARIABLE_REFERENCE.matcher(Files.readString(file));
+      while (matcher.find()) {
+        envNames.add(matcher.group(1));
+      }
+    } catch (IOException e) {
+      LOG.debug("Failed to read {}", file, e);
+    }
+  }
+
+  private String computeFingerprint(List<Path> files, List<String> envNames) throws IOException {
+
+    StringBuilder sb = new StringBuilder();
+    sb.append(FORMAT_VERSION).append('|').append(IdeVersion.getVersionString()).append('|').append(this.snapshotFile).append('|')
+        .append(this.context.getSystemInfo()).append('\n');
+    for (Path file : files) {
+      appendFile(file, sb);
+    }
+    IdeSystem system = this.context.getSystem();
+    String pathName = IdeVariables.PATH.getName();
+    for (String envName : envNames) {
+      String value = system.getEnv(envName);
+      if ((value != null) && envName.equals(pathName)) {
+        // after sourcing the output PATH contains the software folders of our tools so we strip them to get the same fingerprint again
+        value = new SystemPath(this.context, value, this.context.getIdeRoot(), null).toString();
+      }
+      sb.append(envName).append('=').append(value).append('\n');
+    }
+    Path softwarePath = this.context.getSoftwarePath();
+    if ((softwarePath != null) && Files.isDirectory(softwarePath)) {
+      try (Stream<Path> children = Files.list(softwarePath)) {
+        for (Path child : children.sorted().toList()) {
+          appendFile(child, sb);
+          if (Files.isSymbolicLink(child)) {
+            sb.append("->").append(Files.readSymbolicLink(child)).append('\n');
+          }
+        }
+      }
+    }
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(sb.toString().getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static void appendFile(Path file, StringBuilder sb) {
+
+    sb.append(file).append('|');
+    try {
+      BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+      sb.append(attributes.lastModifiedTime().toMillis()).append('|').append(attributes.size());
+    } catch (IOException e) {
+      sb.append("missing");
+    }
+    sb.append('\n');
+  }
+
+}
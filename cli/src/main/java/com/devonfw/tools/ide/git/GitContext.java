@@ -146,6 +146,18 @@ public interface GitContext {
    */
   void clone(GitUrl gitUrl, Path repository);
 
+  /**
+   * Runs a git clone.
+   *
+   * @param gitUrl the {@link GitUrl} to use for the repository URL.
+   * @param repository the {@link Path} to the target folder where the git repository should be cloned. It is not the parent directory where git will by
+   *     default create a sub-folder by default on clone but the final folder that will contain the ".git" subfolder.
+   * @param interactive {@code true} to clone as usual, {@code false} to prevent git from prompting (e.g. for credentials) and capture its output so it can
+   *     run in the background. In this case the clone simply fails if it would require user interaction.
+   * @throws CliOfflineException if offline and cloning is needed.
+   */
+  void clone(GitUrl gitUrl, Path repository, boolean interactive);
+
   /**
    * Runs a git pull.
    *
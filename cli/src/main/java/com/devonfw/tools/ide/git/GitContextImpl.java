@@ -214,6 +214,12 @@ public class GitContextImpl implements GitContext {
   @Override
   public void clone(GitUrl gitUrl, Path repository) {
 
+    clone(gitUrl, repository, true);
+  }
+
+  @Override
+  public void clone(GitUrl gitUrl, Path repository, boolean interactive) {
+
     GitUrlSyntax gitUrlSyntax = IdeVariables.PREFERRED_GIT_PROTOCOL.get(getContext());
     gitUrl = gitUrlSyntax.format(gitUrl);
     if (this.context.isOfflineMode()) {
@@ -230,10 +236,11 @@ public class GitContextImpl implements GitContext {
     args.add("--config");
     args.add("core.autocrlf=false");
     args.add(".");
-    runGitCommand(repository, args);
+    ProcessMode mode = interactive ? ProcessMode.DEFAULT : ProcessMode.DEFAULT_CAPTURE;
+    runGitCommand(repository, mode, interactive, args.toArray(String[]::new));
     String branch = gitUrl.branch();
     if (branch != null) {
-      runGitCommand(repository, "switch", branch);
+      runGitCommand(repository, mode, interactive, "switch", branch);
     }
   }
 
@@ -448,7 +455,15 @@ public class GitContextImpl implements GitContext {
 
   private void runGitCommand(Path directory, String... args) {
 
-    ProcessResult result = runGitCommand(directory, ProcessMode.DEFAULT, args);
+    runGitCommand(directory, ProcessMode.DEFAULT, true, args);
+  }
+
+  private void runGitCommand(Path directory, ProcessMode mode, boolean interactive, String... args) {
+
+    ProcessResult result = runGitCommand(directory, mode, ProcessErrorHandling.LOG_WARNING, interactive, args);
+    if (mode == ProcessMode.DEFAULT_CAPTURE) {
+      result.log(IdeLogLevel.INFO, IdeLogLevel.INFO);
+    }
     if (!result.isSuccessful()) {
       String command = result.getCommand();
       this.context.requireOnline(command, false);
@@ -494,9 +509,14 @@ public class GitContextImpl implements GitContext {
 
   private ProcessResult runGitCommand(Path directory, ProcessMode mode, ProcessErrorHandling errorHandling, String... args) {
 
+    return runGitCommand(directory, mode, errorHandling, true, args);
+  }
+
+  private ProcessResult runGitCommand(Path directory, ProcessMode mode, ProcessErrorHandling errorHandling, boolean interactive, String... args) {
+
     ProcessContext processContext;
 
-    if (this.context.isBatchMode()) {
+    if (this.context.isBatchMode() || !interactive) {
       processContext = this.context.newProcess().executable(findGitRequired()).withEnvVar("GIT_TERMINAL_PROMPT", "0").withEnvVar("GCM_INTERACTIVE", "never")
           .withEnvVar("GIT_ASKPASS", "echo").withEnvVar("SSH_ASKPASS", "echo").errorHandling(errorHandling).directory(directory);
     } else {
@@ -4,9 +4,14 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,10 +21,12 @@ import com.devonfw.tools.ide.context.IdeContext;
 import com.devonfw.tools.ide.git.GitContext;
 import com.devonfw.tools.ide.git.GitUrl;
 import com.devonfw.tools.ide.io.FileAccess;
+import com.devonfw.tools.ide.log.IdeThreadLogBuffer;
 import com.devonfw.tools.ide.property.RepositoryProperty;
 import com.devonfw.tools.ide.step.Step;
 import com.devonfw.tools.ide.tool.ToolCommandlet;
 import com.devonfw.tools.ide.tool.ide.IdeToolCommandlet;
+import com.devonfw.tools.ide.variable.IdeVariables;
 
 /**
  * {@link Commandlet} to setup one or multiple GIT repositories for development.
@@ -32,6 +39,9 @@ public class RepositoryCommandlet extends Commandlet {
   /** the repository to setup. */
   public final RepositoryProperty repository;
 
+  /** The {@link Future}s of the repositories cloned in advance by {@link #cloneInParallel(List, ExecutorService)}. */
+  private Map<Path, Future<IdeThreadLogBuffer>> clones;
+
   /**
    * The constructor.
    *
@@ -43,6 +53,7 @@ public class RepositoryCommandlet extends Commandlet {
     addKeyword(getName());
     addKeyword("setup");
     this.repository = add(new RepositoryProperty("", false, REPOSITORY));
+    this.clones = Map.of();
   }
 
   @Override
@@ -79,13 +90,116 @@ public class RepositoryCommandlet extends Commandlet {
           repositoryConfigMap.put(propertiesFile, config);
         }
       }
+      List<RepositoryConfig> configs = new ArrayList<>(repositoryConfigMap.size());
       for (Path propertiesFile : propertiesFiles) {
         RepositoryConfig config = repositoryConfigMap.get(propertiesFile);
         if (config != null) {
-          importRepository(config);
+          configs.add(config);
+        }
+      }
+      importRepositories(configs);
+    }
+  }
+
+  private void importRepositories(List<RepositoryConfig> configs) {
+
+    int parallelClones = IdeVariables.PARALLEL_CLONES.get(this.context);
+    if ((parallelClones <= 1) || (configs.size() <= 1) || this.context.isOfflineMode()) {
+      for (RepositoryConfig config : configs) {
+        importRepository(config);
+      }
+      return;
+    }
+    int threads = Math.min(parallelClones, configs.size());
+    try (ExecutorService executor = Executors.newFixedThreadPool(threads, Thread.ofVirtual().name("ide-clone-", 1).factory())) {
+      this.clones = cloneInParallel(configs, executor);
+      if (!this.clones.isEmpty()) {
+        LOG.info("Cloning {} repositories with up to {} in parallel", this.clones.size(), threads);
+      }
+      // steps, builds and IDE imports are bound to this thread and therefore run in order while the remaining clones continue in the background
+      for (RepositoryConfig config : configs) {
+        importRepository(config);
+      }
+    } finally {
+      this.clones = Map.of();
+    }
+  }
+
+  private Map<Path, Future<IdeThreadLogBuffer>> cloneInParallel(List<RepositoryConfig> configs, ExecutorService executor) {
+
+    GitContext gitContext = this.context.getGitContext();
+    // initialize lazy state of the context before it is accessed by the clone threads
+    gitContext.findGitRequired();
+    this.context.getVariables();
+    this.context.getPath();
+    Map<Path, Future<IdeThreadLogBuffer>> futures = new LinkedHashMap<>();
+    for (RepositoryConfig config : configs) {
+      Path repositoryPath = findRepositoryToClone(config);
+      if ((repositoryPath != null) && !futures.containsKey(repositoryPath)) {
+        GitUrl gitUrl = config.asGitUrl();
+        futures.put(repositoryPath, executor.submit(() -> cloneInBackground(gitContext, gitUrl, repositoryPath)));
+      }
+    }
+    return futures;
+  }
+
+  /**
+   * Clones the given repository without any user interaction. Credential prompts would interleave on the shared console so git is not allowed to prompt in
+   * this case. All output is collected so it can be logged on the main thread in the configured order of the repositories.
+   *
+   * @return the {@link IdeThreadLogBuffer} with the collected output.
+   */
+  private IdeThreadLogBuffer cloneInBackground(GitContext gitContext, GitUrl gitUrl, Path repositoryPath) {
+
+    IdeThreadLogBuffer logBuffer = new IdeThreadLogBuffer();
+    boolean created = !Files.exists(repositoryPath);
+    try {
+      logBuffer.run(() -> gitContext.clone(gitUrl, repositoryPath, false));
+    } catch (RuntimeException e) {
+      logBuffer.run(() -> {
+        LOG.debug("Failed to clone repository {} in background", gitUrl, e);
+        if (created) {
+          // discard incomplete clone so it can be retried
+          this.context.getFileAccess().delete(repositoryPath);
         }
+      });
+      throw new ParallelCloneException(logBuffer, e);
+    }
+    return logBuffer;
+  }
+
+  /**
+   * @param config the {@link RepositoryConfig}.
+   * @return the {@link Path} where the repository will be cloned by {@link #doImportRepository(RepositoryConfig)} or {@code null} if it will not be cloned
+   *     (e.g. because it already exists or was set up before).
+   */
+  private Path findRepositoryToClone(RepositoryConfig config) {
+
+    if (config.isVirtualSettingsRepository()) {
+      return null;
+    }
+    List<String> workspaces;
+    try {
+      workspaces = getWorkspaces(config);
+    } catch (RuntimeException e) {
+      // invalid configuration will be reported properly by the setup step of the repository
+      LOG.debug("Cannot clone repository {} in advance", config.id(), e);
+      return null;
+    }
+    boolean forceMode = this.context.isForceMode() || this.context.isForceRepositories();
+    Path ideStatusDir = this.context.getIdeHome().resolve(IdeContext.FOLDER_DOT_IDE);
+    for (String workspaceName : workspaces) {
+      Path repositoryPath = this.context.getWorkspacePath(workspaceName).resolve(getRepositoryRelativePath(config));
+      if (Files.isDirectory(repositoryPath.resolve(GitContext.GIT_FOLDER))) {
+        // existing repository will be linked to the other workspaces
+        return null;
+      }
+      Path repositoryCreatedStatusFile = ideStatusDir.resolve("repository." + config.id() + "." + workspaceName);
+      if (forceMode || !Files.exists(repositoryCreatedStatusFile)) {
+        return repositoryPath;
       }
     }
+    return null;
   }
 
   private RepositoryConfig prepareActiveRepository(Path repositoryFile, boolean forceMode) {
@@ -122,27 +236,12 @@ public class RepositoryCommandlet extends Commandlet {
 
   private void doImportRepository(RepositoryConfig config) {
     LOG.debug("Repository configuration: {}", config);
-    String repositoryRelativePath = config.path();
-    if (repositoryRelativePath == null) {
-      repositoryRelativePath = config.id();
-    }
+    String repositoryRelativePath = getRepositoryRelativePath(config);
     Path ideStatusDir = this.context.getIdeHome().resolve(IdeContext.FOLDER_DOT_IDE);
     FileAccess fileAccess = this.context.getFileAccess();
     fileAccess.mkdirs(ideStatusDir);
 
-    List<String> workspaces = config.workspaces();
-    if ((workspaces.size() == 1) && (RepositoryConfig.WORKSPACE_NAME_ALL.equals(workspaces.getFirst()))) {
-      // if workspaces=* replace with all existing workspaces
-      workspaces = fileAccess.listChildren(this.context.getWorkspacesBasePath(), Files::isDirectory).stream().map(Path::getFileName).map(Path::toString)
-          .toList();
-    }
-    // if main is contained in workspaces, it should come first (to ensure physical cloning to main and linking to others)
-    if (!workspaces.getFirst().equals(IdeContext.WORKSPACE_MAIN) && workspaces.contains(IdeContext.WORKSPACE_MAIN)) {
-      workspaces = new ArrayList<>(workspaces); // mutable copy
-      workspaces.remove(IdeContext.WORKSPACE_MAIN);
-      workspaces.addFirst(IdeContext.WORKSPACE_MAIN);
-    }
-
+    List<String> workspaces = getWorkspaces(config);
     Path firstRepository = null;
 
     if (config.isVirtualSettingsRepository()) {
@@ -154,7 +253,9 @@ public class RepositoryCommandlet extends Commandlet {
       Path repositoryPath = workspacePath.resolve(repositoryRelativePath);
       Path repositoryCreatedStatusFile = ideStatusDir.resolve("repository." + config.id() + "." + workspaceName);
       boolean createRepository = true;
-      if (!config.isVirtualSettingsRepository() && Files.isDirectory(repositoryPath.resolve(GitContext.GIT_FOLDER))) {
+      // a repository cloned in parallel did not exist before and may already have its .git folder
+      boolean cloning = this.clones.containsKey(repositoryPath);
+      if (!config.isVirtualSettingsRepository() && !cloning && Files.isDirectory(repositoryPath.resolve(GitContext.GIT_FOLDER))) {
         if (firstRepository == null) {
           firstRepository = repositoryPath;
         }
@@ -197,6 +298,32 @@ public class RepositoryCommandlet extends Commandlet {
     }
   }
 
+  private static String getRepositoryRelativePath(RepositoryConfig config) {
+
+    String repositoryRelativePath = config.path();
+    if (repositoryRelativePath == null) {
+      repositoryRelativePath = config.id();
+    }
+    return repositoryRelativePath;
+  }
+
+  private List<String> getWorkspaces(RepositoryConfig config) {
+
+    List<String> workspaces = config.workspaces();
+    if ((workspaces.size() == 1) && (RepositoryConfig.WORKSPACE_NAME_ALL.equals(workspaces.getFirst()))) {
+      // if workspaces=* replace with all existing workspaces
+      workspaces = this.context.getFileAccess().listChildren(this.context.getWorkspacesBasePath(), Files::isDirectory).stream().map(Path::getFileName)
+          .map(Path::toString).toList();
+    }
+    // if main is contained in workspaces, it should come first (to ensure physical cloning to main and linking to others)
+    if (!workspaces.getFirst().equals(IdeContext.WORKSPACE_MAIN) && workspaces.contains(IdeContext.WORKSPACE_MAIN)) {
+      workspaces = new ArrayList<>(workspaces); // mutable copy
+      workspaces.remove(IdeContext.WORKSPACE_MAIN);
+      workspaces.addFirst(IdeContext.WORKSPACE_MAIN);
+    }
+    return workspaces;
+  }
+
   private boolean linkTargetExists(RepositoryLink link, Path linkTargetPath) {
 
     if (!Files.exists(linkTargetPath)) {
@@ -226,13 +353,40 @@ public class RepositoryCommandlet extends Commandlet {
   private boolean cloneOrPullRepository(Path repositoryPath, GitUrl gitUrl, Path repositoryCreatedStatusFile) {
 
     FileAccess fileAccess = this.context.getFileAccess();
+    Future<IdeThreadLogBuffer> clone = this.clones.get(repositoryPath);
     return this.context.newStep("Clone or pull repository").run(() -> {
-      fileAccess.mkdirs(repositoryPath);
-      this.context.getGitContext().pullOrClone(gitUrl, repositoryPath);
+      if ((clone == null) || !awaitClone(clone, repositoryPath)) {
+        fileAccess.mkdirs(repositoryPath);
+        this.context.getGitContext().pullOrClone(gitUrl, repositoryPath);
+      }
       fileAccess.touch(repositoryCreatedStatusFile);
     });
   }
 
+  /**
+   * @return {@code true} if the repository was successfully cloned in the background, {@code false} if it has to be cloned again on the main thread (e.g.
+   *     because credentials are required).
+   */
+  private static boolean awaitClone(Future<IdeThreadLogBuffer> clone, Path repositoryPath) {
+
+    try {
+      clone.get().flush();
+      return true;
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof ParallelCloneException cloneException) {
+        cloneException.logBuffer.flush();
+        LOG.info("Cloning repository to {} in the background failed - retrying interactively", repositoryPath);
+        return false;
+      } else if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("Failed to clone repository to " + repositoryPath, e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while cloning repository to " + repositoryPath, e);
+    }
+  }
+
   private boolean buildRepository(RepositoryConfig repositoryConfig, Path repositoryPath) {
     String buildCmd = repositoryConfig.buildCmd();
     if (buildCmd != null && !buildCmd.isEmpty()) {
@@ -286,4 +440,18 @@ public class RepositoryCommandlet extends Commandlet {
       });
     }
   }
+
+  /**
+   * Exception if a clone in the background failed.
+   */
+  private static class ParallelCloneException extends RuntimeException {
+
+    private final IdeThreadLogBuffer logBuffer;
+
+    private ParallelCloneException(IdeThreadLogBuffer logBuffer, RuntimeException cause) {
+
+      super(cause);
+      this.logBuffer = logBuffer;
+    }
+  }
 }
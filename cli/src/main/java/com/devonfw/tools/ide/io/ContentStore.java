@@ -0,0 +1,245 @@
+package com.devonfw.tools.ide.io;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.variable.IdeVariables;
+
+/**
+ * Content-addressed store for the files of the installed software. Each regular file of an installation is hashed and replaced by a hard link to a blob named
+ * after its hash (and permissions) so that byte-identical files (e.g. between patch versions of a JDK) occupy disk space only once. As hard links share the
+ * data with all other links, deleting an installation or a blob never breaks another installation.
+ * <p>
+ * Installed software is read-only by contract. To enforce this, every blob (and therefore every linked file) is made read-only so that a tool trying to modify
+ * a file of its own installation in place fails instead of silently changing the same file in every other installation sharing the blob. Only files that can
+ * be made read-only are linked, all other files are kept as regular copies. Tools that modify their own installation (e.g. package managers) are therefore
+ * excluded (see {@code LocalToolCommandlet#isDeduplicationSupported()}).
+ * <p>
+ * Layout inside {@link IdeContext#getSoftwareRepositoryPath() software repository}:
+ * <ul>
+ *   <li>{@code .store/blobs/«hash[0..1]»/«hash»[-«mode»]} - the blobs.</li>
+ *   <li>{@code .store/refs/«repository»/«tool»/«edition»/«version»} - the blobs referenced by the according installation (one per line).</li>
+ * </ul>
+ *
+ * @see IdeVariables#SOFTWARE_DEDUPLICATION
+ */
+public class ContentStore {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ContentStore.class);
+
+  /** The name of the folder of the {@link ContentStore} inside the {@link IdeContext#getSoftwareRepositoryPath() software repository}. */
+  public static final String FOLDER_STORE = ".store";
+
+  private static final String FOLDER_BLOBS = "blobs";
+
+  private static final String FOLDER_REFS = "refs";
+
+  private static final String HASH_ALGORITHM = "SHA-256";
+
+  private static final String LINK_SUFFIX = ".ide-link";
+
+  private static final int MASK_WRITABLE = 0_222;
+
+  private final IdeContext context;
+
+  private final Path softwareRepository;
+
+  private final Path blobs;
+
+  private final Path refs;
+
+  /**
+   * The constructor.
+   *
+   * @param context the {@link IdeContext}.
+   */
+  public ContentStore(IdeContext context) {
+
+    super();
+    this.context = context;
+    this.softwareRepository = context.getSoftwareRepositoryPath();
+    if (this.softwareRepository == null) {
+      this.blobs = null;
+      this.refs = null;
+    } else {
+      Path store = this.softwareRepository.resolve(FOLDER_STORE);
+      this.blobs = store.resolve(FOLDER_BLOBS);
+      this.refs = store.resolve(FOLDER_REFS);
+    }
+  }
+
+  /**
+   * @return {@code true} if this {@link ContentStore} is enabled via {@link IdeVariables#SOFTWARE_DEDUPLICATION}, {@code false} otherwise.
+   */
+  public boolean isEnabled() {
+
+    return (this.softwareRepository != null) && IdeVariables.SOFTWARE_DEDUPLICATION.get(this.context);
+  }
+
+  /**
+   * @param installationPath the {@link Path} to the installation of a tool.
+   * @return {@code true} if the given installation shall be {@link #deduplicate(Path) deduplicated}, {@code false} otherwise.
+   */
+  public boolean isApplicable(Path installationPath) {
+
+    return isEnabled() && installationPath.toAbsolutePath().startsWith(this.softwareRepository);
+  }
+
+  /**
+   * Replaces all regular files of the given installation with hard links to the according blobs of this store.
+   *
+   * @param installationPath the {@link Path} to the installation inside the {@link IdeContext#getSoftwareRepositoryPath() software repository}.
+   */
+  public void deduplicate(Path installationPath) {
+
+    Path installation = installationPath.toAbsolutePath();
+    Path refFile = this.refs.resolve(this.softwareRepository.relativize(installation).toString());
+    Set<String> keys = new HashSet<>();
+    int[] counts = new int[2];
+    long[] sharedBytes = new long[1];
+    try {
+      Files.walkFileTree(installation, new SimpleFileVisitor<>() {
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+
+          if (attrs.isRegularFile() && (attrs.size() > 0)) {
+            String key = getKey(file);
+            keys.add(key);
+            counts[0]++;
+            if (link(file, key)) {
+              counts[1]++;
+              sharedBytes[0] += attrs.size();
+            }
+          }
+          return FileVisitResult.CONTINUE;
+        }
+      });
+    } catch (IOException | RuntimeException e) {
+      // e.g. file system without support for hard links - the installation itself is still complete
+      LOG.warn("Failed to deduplicate files of {} - continuing without deduplication.", installation, e);
+    }
+    writeRefs(refFile, keys);
+    LOG.debug("Deduplicated {} installation: {} of {} files ({} bytes) were already in the content store.", installation, counts[1], counts[0],
+        sharedBytes[0]);
+  }
+
+  private String getKey(Path file) throws IOException {
+
+    String key = this.context.getFileAccess().checksum(file, HASH_ALGORITHM);
+    if (!this.context.getSystemInfo().isWindows()) {
+      // hard links share their permissions so files with different permissions must not share the same blob (write access is always removed)
+      key = key + "-" + Integer.toOctalString(getReadOnlyMode(file));
+    }
+    return key;
+  }
+
+  private static int getReadOnlyMode(Path file) throws IOException {
+
+    return PathPermissions.of(Files.getPosixFilePermissions(file)).toMode() & ~MASK_WRITABLE;
+  }
+
+  /**
+   * @param file the regular file to link with the blob.
+   * @param key the key of the blob.
+   * @return {@code true} if the blob already existed and the file was replaced with a hard link to it, {@code false} if the file was added as new blob.
+   */
+  private boolean link(Path file, String key) throws IOException {
+
+    Path blob = this.blobs.resolve(key.substring(0, 2)).resolve(key);
+    if (Files.exists(blob)) {
+      // a link may have been made writable again (e.g. to delete it on Windows)
+      makeReadOnly(blob);
+      if (Files.isSameFile(blob, file)) {
+        return true;
+      }
+      Path tmp = file.resolveSibling(file.getFileName() + LINK_SUFFIX);
+      Files.deleteIfExists(tmp);
+      Files.createLink(tmp, blob);
+      Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+      return true;
+    }
+    makeReadOnly(file);
+    Files.createDirectories(blob.getParent());
+    Files.createLink(blob, file);
+    return false;
+  }
+
+  private void makeReadOnly(Path file) throws IOException {
+
+    if (this.context.getSystemInfo().isWindows()) {
+      if (!this.context.getFileAccess().setWritable(file, false)) {
+        throw new IOException("Failed to make " + file + " read-only");
+      }
+    } else {
+      Files.setPosixFilePermissions(file, PathPermissions.of(getReadOnlyMode(file)).toPosix());
+    }
+  }
+
+  private void writeRefs(Path refFile, Set<String> keys) {
+
+    List<String> lines = new ArrayList<>(keys);
+    lines.sort(null);
+    try {
+      Files.createDirectories(refFile.getParent());
+      Files.write(refFile, lines);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to write references of content store to " + refFile, e);
+    }
+  }
+
+  /**
+   * Removes all references of installations that do not exist anymore and then all blobs that are not referenced by any installation. This never affects the
+   * existing installations as they still have their own hard links to the data.
+   *
+   * @return the number of deleted blobs.
+   */
+  public int collectGarbage() {
+
+    if ((this.blobs == null) || !Files.isDirectory(this.blobs)) {
+      return 0;
+    }
+    Set<String> referencedKeys = new HashSet<>();
+    try {
+      if (Files.isDirectory(this.refs)) {
+        List<Path> refFiles;
+        try (Stream<Path> stream = Files.walk(this.refs)) {
+          refFiles = stream.filter(Files::isRegularFile).toList();
+        }
+        for (Path refFile : refFiles) {
+          Path installation = this.softwareRepository.resolve(this.refs.relativize(refFile).toString());
+          if (Files.isDirectory(installation)) {
+            referencedKeys.addAll(Files.readAllLines(refFile));
+          } else {
+            LOG.debug("Removing references of deleted installation {} from content store", installation);
+            Files.delete(refFile);
+          }
+        }
+      }
+      List<Path> unreferencedBlobs;
+      try (Stream<Path> stream = Files.walk(this.blobs)) {
+        unreferencedBlobs = stream.filter(Files::isRegularFile).filter(blob -> !referencedKeys.contains(blob.getFileName().toString())).toList();
+      }
+      for (Path blob : unreferencedBlobs) {
+        Files.delete(blob);
+      }
+      return unreferencedBlobs.size();
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to collect garbage in content store " + this.blobs.getParent(), e);
+    }
+  }
+
+}
@@ -0,0 +1,100 @@
+package com.devonfw.tools.ide.io;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.devonfw.tools.ide.util.HexUtil;
+
+/**
+ * Container for the {@link MessageDigest}s computed on the fly while the bytes of a download arrive, so the downloaded file does not need to be read again
+ * for checksum verification.
+ */
+final class DownloadDigests {
+
+  private final Map<String, MessageDigest> digests;
+
+  /**
+   * The constructor.
+   *
+   * @param hashAlgorithms the hash algorithms (e.g. "SHA-256") to compute.
+   */
+  DownloadDigests(Collection<String> hashAlgorithms) {
+
+    super();
+    this.digests = new LinkedHashMap<>();
+    for (String hashAlgorithm : hashAlgorithms) {
+      try {
+        this.digests.put(hashAlgorithm, MessageDigest.getInstance(hashAlgorithm));
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException("No such hash algorithm " + hashAlgorithm, e);
+      }
+    }
+  }
+
+  /**
+   * @return {@code true} if no checksum has to be computed, {@code false} otherwise.
+   */
+  boolean isEmpty() {
+
+    return this.digests.isEmpty();
+  }
+
+  /**
+   * @param value the single byte to digest.
+   */
+  void update(byte value) {
+
+    for (MessageDigest digest : this.digests.values()) {
+      digest.update(value);
+    }
+  }
+
+  /**
+   * @param data the array with the bytes to digest.
+   * @param offset the offset in {@code data}.
+   * @param length the number of bytes to digest.
+   */
+  void update(byte[] data, int offset, int length) {
+
+    for (MessageDigest digest : this.digests.values()) {
+      digest.update(data, offset, length);
+    }
+  }
+
+  /**
+   * @param buffer the {@link ByteBuffer} with the bytes to digest from its position to its limit.
+   */
+  void update(ByteBuffer buffer) {
+
+    for (MessageDigest digest : this.digests.values()) {
+      digest.update(buffer.duplicate());
+    }
+  }
+
+  /**
+   * Resets all digests (e.g. before a download is retried).
+   */
+  void reset() {
+
+    for (MessageDigest digest : this.digests.values()) {
+      digest.reset();
+    }
+  }
+
+  /**
+   * @return the {@link Map} with the hash algorithm as key and the computed hash checksum as hex {@link String} as value.
+   */
+  Map<String, String> getChecksums() {
+
+    Map<String, String> checksums = new LinkedHashMap<>(this.digests.size());
+    for (Map.Entry<String, MessageDigest> entry : this.digests.entrySet()) {
+      checksums.put(entry.getKey(), HexUtil.toHexString(entry.getValue().digest()));
+    }
+    return checksums;
+  }
+
+}
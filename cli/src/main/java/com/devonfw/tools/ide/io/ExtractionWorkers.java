@@ -0,0 +1,117 @@
+package com.devonfw.tools.ide.io;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Pool of worker threads writing the entries of an archive to disk during extraction. With a single thread all tasks are executed directly in the calling
+ * thread, so the extraction behaves exactly as a sequential extraction. The number of pending tasks is limited to avoid holding too many buffered entries in
+ * memory. Tasks must neither log nor use the {@link com.devonfw.tools.ide.context.IdeContext} as these are bound to the calling thread.
+ */
+final class ExtractionWorkers implements AutoCloseable {
+
+  /** Minimum number of files in an archive to extract it with multiple threads. */
+  static final int MIN_FILES = 64;
+
+  private static final int PENDING_TASKS_PER_THREAD = 4;
+
+  private final ExecutorService executor;
+
+  private final Semaphore pending;
+
+  private final AtomicReference<Exception> failure;
+
+  /**
+   * The constructor.
+   *
+   * @param threads the maximum number of worker threads.
+   * @param fileCount the number of files to extract.
+   */
+  ExtractionWorkers(int threads, int fileCount) {
+
+    super();
+    this.failure = new AtomicReference<>();
+    if ((threads > 1) && (fileCount >= MIN_FILES)) {
+      this.executor = Executors.newFixedThreadPool(threads, Thread.ofPlatform().daemon().name("ide-extract-", 1).factory());
+      this.pending = new Semaphore(threads * PENDING_TASKS_PER_THREAD);
+    } else {
+      this.executor = null;
+      this.pending = null;
+    }
+  }
+
+  /**
+   * @return {@code true} if tasks are executed by multiple worker threads, {@code false} otherwise (sequential extraction).
+   */
+  boolean isParallel() {
+
+    return this.executor != null;
+  }
+
+  /**
+   * @param task the {@link ExtractionTask} to execute. May block if too many tasks are pending.
+   * @throws IOException if a previous task failed.
+   */
+  void execute(ExtractionTask task) throws IOException {
+
+    checkFailure();
+    if (this.executor == null) {
+      task.run();
+      return;
+    }
+    this.pending.acquireUninterruptibly();
+    this.executor.execute(() -> {
+      try {
+        if (this.failure.get() == null) {
+          task.run();
+        }
+      } catch (Exception e) {
+        this.failure.compareAndSet(null, e);
+      } finally {
+        this.pending.release();
+      }
+    });
+  }
+
+  private void checkFailure() throws IOException {
+
+    Exception e = this.failure.get();
+    if (e instanceof IOException ioe) {
+      throw ioe;
+    } else if (e instanceof RuntimeException re) {
+      throw re;
+    } else if (e != null) {
+      throw new IOException(e);
+    }
+  }
+
+  /**
+   * Waits until all tasks have completed.
+   *
+   * @throws IOException if any task failed.
+   */
+  @Override
+  public void close() throws IOException {
+
+    if (this.executor != null) {
+      this.executor.close();
+    }
+    checkFailure();
+  }
+
+  /**
+   * A task writing (an entry of) an archive to disk.
+   */
+  @FunctionalInterface
+  interface ExtractionTask {
+
+    /**
+     * @throws IOException on error.
+     */
+    void run() throws IOException;
+  }
+
+}
@@ -7,7 +7,9 @@ import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.PosixFilePermission;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -36,6 +38,32 @@ public interface FileAccess {
    */
   void download(String url, Path targetFile);
 
+  /**
+   * Like {@link #download(String, Path)} but additionally computes the checksums of the downloaded bytes while they arrive so the file does not need to be
+   * read again for verification.
+   *
+   * @param url the location of the binary file to download. May also be a local or remote path to copy from.
+   * @param targetFile the {@link Path} to the target file to download to. Should not already exist. Missing parent directories will be created
+   *     automatically.
+   * @param hashAlgorithms the hash algorithms (e.g. "SHA-256") to compute the checksums for.
+   * @return the {@link Map} with the hash algorithm as key and the {@link #checksum(Path, String) checksum} of the downloaded file as value.
+   */
+  Map<String, String> download(String url, Path targetFile, Collection<String> hashAlgorithms);
+
+  /**
+   * Downloads a TAR archive and extracts it in the same pass: the received bytes are written to {@code targetFile}, hashed and unpacked to {@code targetDir}
+   * while they arrive, so the archive does not need to be read again from disk.
+   *
+   * @param url the location of the TAR archive to download. May also be a local or remote path to copy from.
+   * @param targetFile the {@link Path} to the target file to download to. Should not already exist. Missing parent directories will be created
+   *     automatically.
+   * @param targetDir the {@link Path} to the (temporary) directory where to extract the archive to.
+   * @param compression the {@link TarCompression} of the archive.
+   * @param hashAlgorithms the hash algorithms (e.g. "SHA-256") to compute the checksums for.
+   * @return the {@link Map} with the hash algorithm as key and the {@link #checksum(Path, String) checksum} of the downloaded file as value.
+   */
+  Map<String, String> downloadAndExtractTar(String url, Path targetFile, Path targetDir, TarCompression compression, Collection<String> hashAlgorithms);
+
   /**
    * @param url the URL of the text to download.
    * @return the downloaded body as {@link String} (e.g. JSON or XML).
@@ -207,6 +235,17 @@ public interface FileAccess {
    */
   void extract(Path archiveFile, Path targetDir, Consumer<Path> postExtractHook, boolean extract);
 
+  /**
+   * Completes the installation of an archive that has already been extracted (e.g. via
+   * {@link #downloadAndExtractTar(String, Path, Path, TarCompression, Collection)}) the same way as {@link #extract(Path, Path, Consumer, boolean)}: a single
+   * top-level folder is omitted, the {@code postExtractHook} is called and the result is moved to {@code targetDir}.
+   *
+   * @param extractedDir the {@link Path} to the temporary directory containing the extracted archive. Will be deleted afterwards.
+   * @param targetDir the {@link Path} to the directory where to move the extracted content to.
+   * @param postExtractHook the {@link Consumer} to be called after the extraction on the final folder before it is moved to {@code targetDir}.
+   */
+  void moveExtracted(Path extractedDir, Path targetDir, Consumer<Path> postExtractHook);
+
   /**
    * Extracts a ZIP file what is the common archive format on Windows. Initially invented by PKZIP for MS-DOS and also famous from WinZIP software for Windows.
    *
@@ -1,5 +1,6 @@
 package com.devonfw.tools.ide.io;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -10,6 +11,7 @@ import java.io.Writer;
 import java.net.http.HttpClient.Version;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AccessDeniedException;
 import java.nio.file.FileSystemException;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
@@ -27,10 +29,14 @@ import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
@@ -54,6 +60,9 @@ import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream
 import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
 import org.apache.commons.compress.compressors.gzip.GzipParameters;
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.CloseShieldInputStream;
+import org.apache.commons.io.input.ObservableInputStream;
+import org.apache.commons.io.input.ObservableInputStream.Observer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -84,6 +93,9 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
       "On Windows, file operations could fail due to file locks. Please ensure the files in the moved directory are not in use. For further details, see: \n"
           + WINDOWS_FILE_LOCK_DOCUMENTATION_PAGE;
 
+  /** Maximum size of a file from a 7z archive that is buffered in memory to be written by a worker thread. */
+  private static final int SEVEN_Z_BUFFERED_FILE_SIZE = 1024 * 1024;
+
   private final IdeContext context;
 
   /**
@@ -97,31 +109,45 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
     this.context = context;
   }
 
+  @Override
+  protected HttpClientManager getHttpClientManager() {
+
+    return this.context.getHttpClientManager();
+  }
+
   @Override
   public void download(String url, Path target) {
 
+    download(url, target, List.of());
+  }
+
+  @Override
+  public Map<String, String> download(String url, Path target, Collection<String> hashAlgorithms) {
+
+    DownloadDigests digests = new DownloadDigests(hashAlgorithms);
     if (url.startsWith("http")) {
-      downloadViaHttp(url, target);
+      downloadViaHttp(url, target, digests);
     } else if (url.startsWith("ftp") || url.startsWith("sftp")) {
       throw new IllegalArgumentException("Unsupported download URL: " + url);
     } else {
       Path source = Path.of(url);
       if (isFile(source)) {
         // network drive
-        copyFileWithProgressBar(source, target);
+        copyFileWithProgressBar(source, target, digests);
       } else {
         throw new IllegalArgumentException("Download path does not point to a downloadable file: " + url);
       }
     }
+    return digests.getChecksums();
   }
 
-  private void downloadViaHttp(String url, Path target) {
+  private void downloadViaHttp(String url, Path target, DownloadDigests digests) {
 
     List<Version> httpProtocols = IdeVariables.HTTP_VERSIONS.get(this.context);
     Exception lastException = null;
     if (httpProtocols.isEmpty()) {
       try {
-        downloadWithHttpVersion(url, target, null);
+        downloadWithHttpVersion(url, target, null, digests);
         return;
       } catch (Exception e) {
         lastException = e;
@@ -129,7 +155,7 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
     } else {
       for (Version version : httpProtocols) {
         try {
-          downloadWithHttpVersion(url, target, version);
+          downloadWithHttpVersion(url, target, version, digests);
           return;
         } catch (Exception ex) {
           lastException = ex;
@@ -139,7 +165,7 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
     throw new IllegalStateException("Failed to download file from URL " + url + " to " + target, lastException);
   }
 
-  private void downloadWithHttpVersion(String url, Path target, Version httpVersion) throws Exception {
+  private void downloadWithHttpVersion(String url, Path target, Version httpVersion, DownloadDigests digests) throws Exception {
 
     if (httpVersion == null) {
       LOG.info("Trying to download {} from {}", target.getFileName(), url);
@@ -147,9 +173,13 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
       LOG.info("Trying to download {} from {} with HTTP protocol version {}", target.getFileName(), url, httpVersion);
     }
     mkdirs(target.getParent());
+    digests.reset();
     this.context.getNetworkStatus().invokeNetworkTask(() ->
     {
-      httpGet(url, httpVersion, (response) -> downloadFileWithProgressBar(url, target, response));
+      SegmentedHttpDownload segmentedDownload = new SegmentedHttpDownload(this.context, url, target, httpVersion, digests);
+      if (!segmentedDownload.download()) {
+        httpGet(url, httpVersion, (response) -> downloadFileWithProgressBar(url, target, response, digests));
+      }
       return null;
     }, url);
   }
@@ -160,8 +190,9 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
    * @param url the url to download.
    * @param target Path of the target directory.
    * @param response the {@link HttpResponse} to use.
+   * @param digests the {@link DownloadDigests} to compute while downloading.
    */
-  private void downloadFileWithProgressBar(String url, Path target, HttpResponse<InputStream> response) {
+  private void downloadFileWithProgressBar(String url, Path target, HttpResponse<InputStream> response, DownloadDigests digests) {
 
     long contentLength = response.headers().firstValueAsLong("content-length").orElse(-1);
     if (contentLength < 0) {
@@ -182,6 +213,7 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
           fileComplete = true;
         } else {
           bufferedOut.write(data, 0, count);
+          digests.update(data, 0, count);
           pb.stepBy(count);
         }
       }
@@ -190,11 +222,19 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
     }
   }
 
-  private void copyFileWithProgressBar(Path source, Path target) {
+  private void copyFileWithProgressBar(Path source, Path target, DownloadDigests digests) {
 
     long size = getFileSize(source);
     if (size < 100_000) {
       copy(source, target, FileCopyMode.COPY_FILE_TO_TARGET_OVERRIDE);
+      if (!digests.isEmpty()) {
+        try {
+          byte[] bytes = Files.readAllBytes(target);
+          digests.update(bytes, 0, bytes.length);
+        } catch (IOException e) {
+          throw new IllegalStateException("Failed to read and hash file " + target, e);
+        }
+      }
       return;
     }
     try (InputStream in = Files.newInputStream(source); OutputStream out = Files.newOutputStream(target)) {
@@ -203,6 +243,7 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
         int readBytes;
         while ((readBytes = in.read(buf)) > 0) {
           out.write(buf, 0, readBytes);
+          digests.update(buf, 0, readBytes);
           pb.stepBy(readBytes);
         }
       } catch (Exception e) {
@@ -213,6 +254,89 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
     }
   }
 
+  @Override
+  public Map<String, String> downloadAndExtractTar(String url, Path target, Path targetDir, TarCompression compression,
+      Collection<String> hashAlgorithms) {
+
+    if (!url.startsWith("http")) {
+      // nothing to overlap for a local copy
+      Map<String, String> checksums = download(url, target, hashAlgorithms);
+      extractTar(target, targetDir, compression);
+      return checksums;
+    }
+    DownloadDigests digests = new DownloadDigests(hashAlgorithms);
+    List<Version> httpProtocols = IdeVariables.HTTP_VERSIONS.get(this.context);
+    Version httpVersion = httpProtocols.isEmpty() ? null : httpProtocols.getFirst();
+    LOG.info("Trying to download and extract {} from {}", target.getFileName(), url);
+    mkdirs(target.getParent());
+    mkdirs(targetDir);
+    this.context.getNetworkStatus().invokeNetworkTask(() ->
+    {
+      httpGet(url, httpVersion, (response) -> downloadAndExtractTar(url, target, targetDir, compression, response, digests));
+      return null;
+    }, url);
+    return digests.getChecksums();
+  }
+
+  private void downloadAndExtractTar(String url, Path target, Path targetDir, TarCompression compression, HttpResponse<InputStream> response,
+      DownloadDigests digests) {
+
+    long contentLength = response.headers().firstValueAsLong("content-length").orElse(-1);
+    if (contentLength < 0) {
+      LOG.warn("Content-Length was not provided by download from {}", url);
+    }
+    try (InputStream body = response.body();
+        OutputStream out = new BufferedOutputStream(Files.newOutputStream(target), 65536);
+        IdeProgressBar pb = this.context.newProgressBarForDownload(contentLength);
+        ObservableInputStream in = new ObservableInputStream(body, new DownloadObserver(out, digests, pb))) {
+      LOG.info("Extracting TAR file {} to {} while downloading", target.getFileName(), targetDir);
+      // the decompressors also read single bytes so buffer in front of the observer that then only sees bulk reads
+      InputStream bufferedIn = new BufferedInputStream(CloseShieldInputStream.wrap(in), 65536);
+      extractArchive(bufferedIn, targetDir, is -> new TarArchiveInputStream(compression.unpack(is)), null);
+      // consume what follows the end of the archive (e.g. padding) so the downloaded file is complete
+      in.consume();
+    } catch (Exception e) {
+      throw new IllegalStateException("Failed to download and extract " + url + " to " + targetDir, e);
+    }
+  }
+
+  /**
+   * {@link Observer} of the downloaded bytes consumed by the extraction that writes them to the download file, updates the checksums and reports the
+   * progress. The bytes are expected in bulk via {@link #data(byte[], int, int)}, single bytes are only handled without allocation for completeness.
+   */
+  private static class DownloadObserver extends Observer {
+
+    private final OutputStream out;
+
+    private final DownloadDigests digests;
+
+    private final IdeProgressBar pb;
+
+    private DownloadObserver(OutputStream out, DownloadDigests digests, IdeProgressBar pb) {
+
+      super();
+      this.out = out;
+      this.digests = digests;
+      this.pb = pb;
+    }
+
+    @Override
+    public void data(int value) throws IOException {
+
+      this.out.write(value);
+      this.digests.update((byte) value);
+      this.pb.stepBy(1);
+    }
+
+    @Override
+    public void data(byte[] buffer, int offset, int length) throws IOException {
+
+      this.out.write(buffer, offset, length);
+      this.digests.update(buffer, offset, length);
+      this.pb.stepBy(length);
+    }
+  }
+
   @Override
   public String download(String url) {
 
@@ -719,6 +843,17 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
         default -> throw new IllegalStateException("Unknown archive format " + extension + ". Can not extract " + archiveFile);
       }
     }
+    moveExtracted(tmpDir, archiveFile, targetDir, postExtractHook);
+  }
+
+  @Override
+  public void moveExtracted(Path extractedDir, Path targetDir, Consumer<Path> postExtractHook) {
+
+    moveExtracted(extractedDir, extractedDir, targetDir, postExtractHook);
+  }
+
+  private void moveExtracted(Path tmpDir, Path archiveFile, Path targetDir, Consumer<Path> postExtractHook) {
+
     Path properInstallDir = getProperInstallationSubDirOf(tmpDir, archiveFile);
     postExtractHook(postExtractHook, properInstallDir);
     move(properInstallDir, targetDir);
@@ -766,8 +901,10 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
   /**
    * Extracts a ZIP archive to the given target directory using Java (commons-compress {@link ZipFile}).
    * <p>
-   * Symlinks are handled in a two-phase approach: all regular files and directories are written first, and symlinks are collected and created afterwards.
-   * Creating the links does not require resolving their targets, so chained macOS {@code .framework} links can be restored.
+   * The extraction is done in phases: first all entries are validated against path traversal and the directory tree is created in a single pass. Then the
+   * regular files are written, for archives with many entries by multiple threads (see {@link IdeVariables#EXTRACT_THREADS}) as the central directory allows
+   * random access to each entry. Afterwards the permissions are applied in a batch and finally the symlinks are created. Creating the links does not require
+   * resolving their targets, so chained macOS {@code .framework} links can be restored.
    * <p>
    * {@link ZipFile} is used instead of {@link org.apache.commons.compress.archivers.zip.ZipArchiveInputStream} because Unix file attributes (needed for symlink
    * detection and permission restoration) are stored in the ZIP central directory at the end of the file. A sequential stream only sees the local file headers,
@@ -779,12 +916,15 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
   private void extractZipWithJava(Path file, Path targetDir) {
 
     final List<PathLink> links = new ArrayList<>();
+    final Map<Path, ZipArchiveEntry> files = new LinkedHashMap<>();
+    final Set<Path> directories = new LinkedHashSet<>();
     try (ZipFile zipFile = ZipFile.builder().setPath(file).get();
         IdeProgressBar pb = this.context.newProgressbarForExtracting(getFileSize(file))) {
 
       final Path root = targetDir.toAbsolutePath().normalize();
       Enumeration<ZipArchiveEntry> entries = zipFile.getEntries();
 
+      // Phase 1: validate all entries, read symlinks and collect the directory tree.
       while (entries.hasMoreElements()) {
         ZipArchiveEntry entry = entries.nextElement();
         String entryName = entry.getName();
@@ -798,21 +938,47 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
             resolveRelativePathSecure(parent.resolve(linkTarget).normalize(), root, linkTarget);
             // preserve the raw target so chained links resolve once the bundle is fully extracted
             links.add(new PathLink(Path.of(linkTarget), entryPath, PathLinkType.SYMBOLIC_LINK));
-            mkdirs(parent);
+            directories.add(parent);
           }
+          pb.stepBy(Math.max(0L, entry.getSize()));
         } else if (entry.isDirectory()) {
-          mkdirs(entryPath);
+          directories.add(entryPath);
         } else {
-          mkdirs(entryPath.getParent());
-          try (InputStream entryStream = zipFile.getInputStream(entry)) {
-            Files.copy(entryStream, entryPath, StandardCopyOption.REPLACE_EXISTING);
-          }
-          onFileCopiedFromZip(entry, entryPath);
+          directories.add(entryPath.getParent());
+          // in case of duplicate entries the last one wins as with sequential extraction
+          files.put(entryPath, entry);
+        }
+      }
+      for (Path directory : directories) {
+        mkdirs(directory);
+      }
+
+      // Phase 2: write all regular files (ZipFile supports concurrent reading of different entries).
+      int threads = IdeVariables.EXTRACT_THREADS.get(this.context);
+      try (ExtractionWorkers workers = new ExtractionWorkers(threads, files.size())) {
+        if (workers.isParallel()) {
+          LOG.debug("Extracting {} files with {} threads", files.size(), threads);
+        }
+        for (Map.Entry<Path, ZipArchiveEntry> fileEntry : files.entrySet()) {
+          Path entryPath = fileEntry.getKey();
+          ZipArchiveEntry entry = fileEntry.getValue();
+          workers.execute(() -> {
+            try (InputStream entryStream = zipFile.getInputStream(entry)) {
+              Files.copy(entryStream, entryPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+            synchronized (pb) {
+              pb.stepBy(Math.max(0L, entry.getSize()));
+            }
+          });
         }
-        pb.stepBy(Math.max(0L, entry.getSize()));
       }
 
-      // Phase 2: create all symlinks after regular files and directories have been extracted.
+      // Phase 3: apply the permissions of all regular files.
+      for (Map.Entry<Path, ZipArchiveEntry> fileEntry : files.entrySet()) {
+        onFileCopiedFromZip(fileEntry.getValue(), fileEntry.getKey());
+      }
+
+      // Phase 4: create all symlinks after regular files and directories have been extracted.
       for (PathLink link : links) {
         link(link);
       }
@@ -919,11 +1085,25 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
   private void extractArchive(Path file, Path targetDir, Function<InputStream, ArchiveInputStream<?>> unpacker) {
 
     LOG.info("Extracting TAR file {} to {}", file, targetDir);
-
-    final List<PathLink> links = new ArrayList<>();
     try (InputStream is = Files.newInputStream(file);
-        ArchiveInputStream<?> ais = unpacker.apply(is);
         IdeProgressBar pb = this.context.newProgressbarForExtracting(getFileSize(file))) {
+      extractArchive(is, targetDir, unpacker, pb);
+    } catch (Exception e) {
+      throw new IllegalStateException("Failed to extract " + file + " to " + targetDir, e);
+    }
+  }
+
+  /**
+   * @param is the {@link InputStream} with the raw archive data. Will be closed.
+   * @param targetDir the {@link Path} to the directory to extract to.
+   * @param unpacker the {@link Function} creating the {@link ArchiveInputStream} to read the entries from {@code is}.
+   * @param pb the {@link IdeProgressBar} to step by the extracted entry sizes or {@code null} if the progress is tracked elsewhere (e.g. by the download).
+   */
+  private void extractArchive(InputStream is, Path targetDir, Function<InputStream, ArchiveInputStream<?>> unpacker, IdeProgressBar pb)
+      throws IOException {
+
+    final List<PathLink> links = new ArrayList<>();
+    try (ArchiveInputStream<?> ais = unpacker.apply(is)) {
 
       final Path root = targetDir.toAbsolutePath().normalize();
 
@@ -962,15 +1142,15 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
             setFilePermissions(entryPath, permissions, false);
           }
         }
-        pb.stepBy(Math.max(0L, entry.getSize()));
+        if (pb != null) {
+          pb.stepBy(Math.max(0L, entry.getSize()));
+        }
         entry = ais.getNextEntry();
       }
       // post process links
       for (PathLink link : links) {
         link(link);
       }
-    } catch (Exception e) {
-      throw new IllegalStateException("Failed to extract " + file + " to " + targetDir, e);
     }
   }
 
@@ -1051,35 +1231,60 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
 
     LOG.info("Extracting 7z file {} to {}", file, targetDir);
     List<PathLink> links = new ArrayList<>();
-    byte[] buffer = new byte[8192];
+    Map<Path, PathPermissions> permissions = new LinkedHashMap<>();
+    byte[] buffer = new byte[65536];
     Path root = targetDir.toAbsolutePath().normalize();
     try (SevenZFile sevenZFile = SevenZFile.builder().setPath(file).get();
       IdeProgressBar pb = this.context.newProgressbarForExtracting(getFileSize(file))) {
-      SevenZArchiveEntry entry;
-      while ((entry = sevenZFile.getNextEntry()) != null) {
+      // 7z archives are typically solid so the entries have to be decompressed sequentially, but small files are written to disk in parallel.
+      int fileCount = 0;
+      Set<Path> directories = new LinkedHashSet<>();
+      for (SevenZArchiveEntry entry : sevenZFile.getEntries()) {
         Path entryPath = resolveRelativePathSecure(entry.getName(), root);
-        int unixMode = getUnixMode(entry);
         if (entry.isDirectory()) {
-          mkdirs(entryPath);
+          directories.add(entryPath);
         } else {
-          mkdirs(entryPath.getParent());
-          if ((unixMode & 0xF000) == 0xA000) { // symbolic link (S_IFLNK)
-            String linkTarget = readSymbolicLinkTarget(sevenZFile, entry);
-            resolveRelativePathSecure(entryPath.getParent().resolve(linkTarget).normalize(), root, linkTarget);
-            links.add(new PathLink(Path.of(linkTarget), entryPath, PathLinkType.SYMBOLIC_LINK));
-          } else {
-            try (OutputStream out = Files.newOutputStream(entryPath)) {
-              int n;
-              while ((n = sevenZFile.read(buffer)) != -1) {
-                out.write(buffer, 0, n);
+          directories.add(entryPath.getParent());
+          fileCount++;
+        }
+      }
+      for (Path directory : directories) {
+        mkdirs(directory);
+      }
+      int threads = IdeVariables.EXTRACT_THREADS.get(this.context);
+      try (ExtractionWorkers workers = new ExtractionWorkers(threads, fileCount)) {
+        SevenZArchiveEntry entry;
+        while ((entry = sevenZFile.getNextEntry()) != null) {
+          Path entryPath = resolveRelativePathSecure(entry.getName(), root);
+          int unixMode = getUnixMode(entry);
+          long size = Math.max(0L, entry.getSize());
+          if (!entry.isDirectory()) {
+            if ((unixMode & 0xF000) == 0xA000) { // symbolic link (S_IFLNK)
+              String linkTarget = readSymbolicLinkTarget(sevenZFile, entry);
+              resolveRelativePathSecure(entryPath.getParent().resolve(linkTarget).normalize(), root, linkTarget);
+              links.add(new PathLink(Path.of(linkTarget), entryPath, PathLinkType.SYMBOLIC_LINK));
+            } else {
+              if (workers.isParallel() && (size <= SEVEN_Z_BUFFERED_FILE_SIZE)) {
+                byte[] data = read7zEntry(sevenZFile, (int) size);
+                workers.execute(() -> Files.write(entryPath, data));
+              } else {
+                try (OutputStream out = Files.newOutputStream(entryPath)) {
+                  int n;
+                  while ((n = sevenZFile.read(buffer)) != -1) {
+                    out.write(buffer, 0, n);
+                  }
+                }
+              }
+              if (unixMode != 0) {
+                permissions.put(entryPath, PathPermissions.of(unixMode));
               }
-            }
-            if (unixMode != 0) {
-              setFilePermissions(entryPath, PathPermissions.of(unixMode), true);
             }
           }
+          pb.stepBy(size);
         }
-        pb.stepBy(Math.max(0L, entry.getSize()));
+      }
+      for (Map.Entry<Path, PathPermissions> entry : permissions.entrySet()) {
+        setFilePermissions(entry.getKey(), entry.getValue(), true);
       }
       for (PathLink link : links) {
         link(link);
@@ -1112,13 +1317,18 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
    */
   private static String readSymbolicLinkTarget(SevenZFile sevenZFile, SevenZArchiveEntry entry) throws IOException {
 
-    byte[] target = new byte[(int) entry.getSize()];
+    return new String(read7zEntry(sevenZFile, (int) entry.getSize()), StandardCharsets.UTF_8);
+  }
+
+  private static byte[] read7zEntry(SevenZFile sevenZFile, int size) throws IOException {
+
+    byte[] data = new byte[size];
     int read = 0;
     int n;
-    while (read < target.length && (n = sevenZFile.read(target, read, target.length - read)) != -1) {
+    while (read < data.length && (n = sevenZFile.read(data, read, data.length - read)) != -1) {
       read += n;
     }
-    return new String(target, StandardCharsets.UTF_8);
+    return data;
   }
 
   @Override
@@ -1287,11 +1497,23 @@ public class FileAccessImpl extends HttpDownloader implements FileAccess {
   private void deletePath(Path path) throws IOException {
 
     LOG.trace("Deleting {} ...", path);
-    boolean isSetWritable = setWritable(path, true);
-    if (!isSetWritable) {
-      LOG.debug("Couldn't give write access to file: {}", path);
+    if (this.context.getSystemInfo().isWindows()) {
+      // Windows refuses to delete read-only files (e.g. linked by ContentStore) while on POSIX only the permissions of the parent folder matter
+      DosFileAttributeView dos = Files.getFileAttributeView(path, DosFileAttributeView.class, LinkOption.NOFOLLOW_LINKS);
+      if ((dos != null) && dos.readAttributes().isReadOnly()) {
+        dos.setReadOnly(false);
+      }
+    }
+    try {
+      // otherwise only change permissions if required as a hard link (see ContentStore) shares them with all other links
+      Files.delete(path);
+    } catch (AccessDeniedException e) {
+      boolean isSetWritable = setWritable(path, true);
+      if (!isSetWritable) {
+        LOG.debug("Couldn't give write access to file: {}", path);
+      }
+      Files.delete(path);
     }
-    Files.delete(path);
   }
 
   @Override
@@ -0,0 +1,288 @@
+package com.devonfw.tools.ide.io;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpClient.Version;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.variable.IdeVariables;
+
+/**
+ * Manager of the {@link HttpClient} shared by all HTTP communication of an {@link IdeContext}. Other than creating a new {@link HttpClient} per request, the
+ * shared client keeps connections alive and reuses them (including the TLS session) for further requests to the same host. Unless
+ * {@link IdeVariables#HTTP_VERSIONS} excludes {@link Version#HTTP_2 HTTP/2}, concurrent requests to the same host are multiplexed via a single connection. The
+ * number of concurrent requests per host is limited by {@link IdeVariables#HTTP_MAX_REQUESTS_PER_HOST}. Metrics of the requests are logged on debug level.
+ */
+public class HttpClientManager implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(HttpClientManager.class);
+
+  private final IdeContext context;
+
+  private final Map<String, HostStatistics> hosts;
+
+  private HttpClient client;
+
+  /**
+   * The constructor.
+   *
+   * @param context the {@link IdeContext}.
+   */
+  public HttpClientManager(IdeContext context) {
+
+    super();
+    this.context = context;
+    this.hosts = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * @return the shared {@link HttpClient}. Please prefer {@link #send(HttpRequest, BodyHandler)} so the request is limited and measured. Never close the
+   *     returned client.
+   */
+  public synchronized HttpClient getClient() {
+
+    if (this.client == null) {
+      Version version = getVersion();
+      LOG.debug("Creating shared HTTP client with preferred version {}", version);
+      this.client = HttpClientFactory.createBuilder().version(version).build();
+    }
+    return this.client;
+  }
+
+  private Version getVersion() {
+
+    List<Version> versions = IdeVariables.HTTP_VERSIONS.get(this.context);
+    if (versions.isEmpty() || versions.contains(Version.HTTP_2)) {
+      return Version.HTTP_2;
+    }
+    return Version.HTTP_1_1;
+  }
+
+  /**
+   * Sends the given {@link HttpRequest} via the {@link #getClient() shared client}. If the number of pending requests to the same host has reached
+   * {@link IdeVariables#HTTP_MAX_REQUESTS_PER_HOST}, this method blocks until one of them has completed. A request is pending until its body has been
+   * received. Therefore, a body received as {@link InputStream} has to be closed.
+   *
+   * @param <T> type of the response body.
+   * @param request the {@link HttpRequest} to send.
+   * @param bodyHandler the {@link BodyHandler} for the response body.
+   * @return the {@link HttpResponse}.
+   * @throws IOException on network error.
+   * @throws InterruptedException if interrupted.
+   * @see HttpClient#send(HttpRequest, BodyHandler)
+   */
+  public <T> HttpResponse<T> send(HttpRequest request, BodyHandler<T> bodyHandler) throws IOException, InterruptedException {
+
+    HostStatistics statistics = this.hosts.computeIfAbsent(getHost(request.uri()), host -> new HostStatistics(getMaxRequestsPerHost()));
+    statistics.permits.acquire();
+    Exchange exchange = new Exchange(request, statistics);
+    HttpResponse<T> response;
+    try {
+      response = getClient().send(request, info -> BodySubscribers.mapping(bodyHandler.apply(info), body -> exchange.meter(body)));
+    } catch (IOException | InterruptedException | RuntimeException e) {
+      statistics.failures.increment();
+      exchange.complete();
+      throw e;
+    }
+    long latency = statistics.onResponse(exchange.start);
+    LOG.debug("HTTP {} {} responded with status code {} via {} after {}ms", request.method(), request.uri(), response.statusCode(), response.version(),
+        latency);
+    return response;
+  }
+
+  private int getMaxRequestsPerHost() {
+
+    return Math.max(1, IdeVariables.HTTP_MAX_REQUESTS_PER_HOST.get(this.context));
+  }
+
+  private static String getHost(URI uri) {
+
+    String host = uri.getHost();
+    if (host == null) {
+      return "";
+    } else if (uri.getPort() >= 0) {
+      return host + ":" + uri.getPort();
+    }
+    return host;
+  }
+
+  /**
+   * Logs the collected metrics on debug level and closes the {@link #getClient() shared client}. A new client will be created on demand.
+   */
+  @Override
+  public synchronized void close() {
+
+    if (LOG.isDebugEnabled()) {
+      for (Map.Entry<String, HostStatistics> entry : new TreeMap<>(this.hosts).entrySet()) {
+        HostStatistics statistics = entry.getValue();
+        long requests = statistics.responses.sum();
+        LOG.debug("HTTP metrics for {}: {} requests ({} failed), {} bytes received, first response after {}ms (including connection setup and TLS handshake), "
+                + "average response after {}ms", entry.getKey(), requests, statistics.failures.sum(), statistics.bytes.sum(), statistics.firstLatency.get(),
+            (requests == 0) ? 0 : statistics.totalLatency.sum() / requests);
+      }
+    }
+    this.hosts.clear();
+    if (this.client != null) {
+      // do not wait for bodies that have not been consumed
+      this.client.shutdown();
+      this.client = null;
+    }
+  }
+
+  private static long toMillis(long nanos) {
+
+    return nanos / 1_000_000;
+  }
+
+  /**
+   * Metrics and concurrency limit of the requests to a single host.
+   */
+  private static final class HostStatistics {
+
+    private final Semaphore permits;
+
+    private final LongAdder responses;
+
+    private final LongAdder failures;
+
+    private final LongAdder bytes;
+
+    private final LongAdder totalLatency;
+
+    private final AtomicLong firstLatency;
+
+    private HostStatistics(int maxRequests) {
+
+      this.permits = new Semaphore(maxRequests);
+      this.responses = new LongAdder();
+      this.failures = new LongAdder();
+      this.bytes = new LongAdder();
+      this.totalLatency = new LongAdder();
+      this.firstLatency = new AtomicLong(-1);
+    }
+
+    private long onResponse(long start) {
+
+      long latency = toMillis(System.nanoTime() - start);
+      this.responses.increment();
+      this.totalLatency.add(latency);
+      this.firstLatency.compareAndSet(-1, latency);
+      return latency;
+    }
+  }
+
+  /**
+   * A single request that is pending until its body has been received.
+   */
+  private static final class Exchange {
+
+    private final HttpRequest request;
+
+    private final HostStatistics statistics;
+
+    private final long start;
+
+    private final AtomicBoolean completed;
+
+    private Exchange(HttpRequest request, HostStatistics statistics) {
+
+      this.request = request;
+      this.statistics = statistics;
+      this.start = System.nanoTime();
+      this.completed = new AtomicBoolean();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T meter(T body) {
+
+      if (body instanceof InputStream in) {
+        // the request is pending until the body has been read and closed
+        return (T) new MeteredInputStream(in, this);
+      } else if (body instanceof byte[] bytes) {
+        this.statistics.bytes.add(bytes.length);
+      } else if (body instanceof String string) {
+        this.statistics.bytes.add(string.length());
+      }
+      complete();
+      return body;
+    }
+
+    private void complete() {
+
+      if (this.completed.compareAndSet(false, true)) {
+        this.statistics.permits.release();
+      }
+    }
+  }
+
+  /**
+   * {@link InputStream} counting the received bytes and completing the {@link Exchange} when closed.
+   */
+  private static final class MeteredInputStream extends FilterInputStream {
+
+    private final Exchange exchange;
+
+    private long count;
+
+    private MeteredInputStream(InputStream in, Exchange exchange) {
+
+      super(in);
+      this.exchange = exchange;
+    }
+
+    @Override
+    public int read() throws IOException {
+
+      int b = super.read();
+      if (b >= 0) {
+        this.count++;
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+
+      int read = super.read(b, off, len);
+      if (read > 0) {
+        this.count += read;
+      }
+      return read;
+    }
+
+    @Override
+    public void close() throws IOException {
+
+      try {
+        super.close();
+      } finally {
+        if (!this.exchange.completed.get()) {
+          this.exchange.statistics.bytes.add(this.count);
+          LOG.debug("HTTP {} {} received {} bytes after {}ms", this.exchange.request.method(), this.exchange.request.uri(), this.count,
+              toMillis(System.nanoTime() - this.exchange.start));
+        }
+        this.exchange.complete();
+      }
+    }
+  }
+
+}
@@ -2,7 +2,6 @@ package com.devonfw.tools.ide.io;
 
 import java.io.InputStream;
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpClient.Version;
 import java.net.http.HttpRequest;
 import java.net.http.HttpRequest.BodyPublisher;
@@ -39,10 +38,10 @@ public abstract class HttpDownloader {
   /** HTTP method: {@value} */
   protected static final String HTTP_METHOD_PATCH = "PATCH";
 
-  protected static HttpClient createHttpClient() {
-
-    return HttpClientFactory.create();
-  }
+  /**
+   * @return the {@link HttpClientManager} to send the requests.
+   */
+  protected abstract HttpClientManager getHttpClientManager();
 
   /**
    * Retrieves the {@link HttpResponse} body from a given URL as {@link String}.
@@ -51,11 +50,11 @@ public abstract class HttpDownloader {
    * @return a string representing the response body.
    * @throws IllegalStateException if the response body could not be retrieved.
    */
-  protected static String httpGetAsString(String url) {
+  protected String httpGetAsString(String url) {
 
-    try (HttpClient client = createHttpClient()) {
+    try {
       HttpRequest request = createGetRequest(url);
-      HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+      HttpResponse<String> response = getHttpClientManager().send(request, HttpResponse.BodyHandlers.ofString());
       if (response.statusCode() == 200) {
         return response.body();
       }
@@ -73,15 +72,16 @@ public abstract class HttpDownloader {
    * @param bodyConsumer the {@link Consumer} to process the response body as {@link
    * @throws IllegalStateException if the response body could not be retrieved.
    */
-  protected static void httpGet(String url, Version httpVersion, Consumer<HttpResponse<InputStream>> bodyConsumer) {
+  protected void httpGet(String url, Version httpVersion, Consumer<HttpResponse<InputStream>> bodyConsumer) {
 
-    try (HttpClient client = createHttpClient()) {
+    try {
       HttpRequest request = createGetRequest(url, httpVersion);
-      HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+      HttpResponse<InputStream> response = getHttpClientManager().send(request, HttpResponse.BodyHandlers.ofInputStream());
       int statusCode = response.statusCode();
       if (statusCode == 200) {
         bodyConsumer.accept(response);
       } else {
+        response.body().close();
         throw new IllegalStateException("Download failed with status code " + statusCode);
       }
     } catch (Exception e) {
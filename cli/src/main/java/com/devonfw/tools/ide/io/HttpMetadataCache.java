@@ -0,0 +1,326 @@
+package com.devonfw.tools.ide.io;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.network.NetworkStatus;
+import com.devonfw.tools.ide.variable.IdeVariables;
+
+/**
+ * Persistent cache for metadata (e.g. version lists of npm packages or maven-metadata.xml files) retrieved via HTTP. Each response body is stored together
+ * with its {@code ETag} and {@code Last-Modified} headers. Once an entry is older than the requested maximum age, it is revalidated via a conditional request
+ * so an unchanged document is not transferred again ({@code 304 Not Modified}). In {@link NetworkStatus#isOfflineMode() offline mode} or if the network
+ * request fails, a stale entry is used instead. The total size of the cache is limited by {@link IdeVariables#HTTP_CACHE_SIZE} and the least recently used
+ * entries are evicted first.
+ * <p>
+ * Layout inside {@link IdeContext#getUserHomeIde() ~/.ide}:
+ * <ul>
+ *   <li>{@code cache/http/«hash».body} - the cached response body. Its last modification time is the time of the last access.</li>
+ *   <li>{@code cache/http/«hash».properties} - the URL, the validators and the time the body was last validated.</li>
+ * </ul>
+ */
+public class HttpMetadataCache {
+
+  private static final Logger LOG = LoggerFactory.getLogger(HttpMetadataCache.class);
+
+  /** The name of the folder of the {@link HttpMetadataCache} inside {@link IdeContext#getUserHomeIde() ~/.ide}. */
+  public static final String FOLDER_CACHE = "cache";
+
+  private static final String FOLDER_HTTP = "http";
+
+  private static final String EXTENSION_BODY = ".body";
+
+  private static final String EXTENSION_PROPERTIES = ".properties";
+
+  private static final String PROPERTY_URL = "url";
+
+  private static final String PROPERTY_ETAG = "etag";
+
+  private static final String PROPERTY_LAST_MODIFIED = "last-modified";
+
+  private static final String PROPERTY_VALIDATED = "validated";
+
+  private static final long MEGABYTE = 1024 * 1024;
+
+  private final IdeContext context;
+
+  private final Map<String, Object> locks;
+
+  /** The total size of the cached bodies or {@code -1} if not yet determined. Guarded by {@link #locks} itself. */
+  private long size;
+
+  /**
+   * The constructor.
+   *
+   * @param context the {@link IdeContext}.
+   */
+  public HttpMetadataCache(IdeContext context) {
+
+    super();
+    this.context = context;
+    this.locks = new ConcurrentHashMap<>();
+    this.size = -1;
+  }
+
+  /**
+   * @return the {@link Path} to the folder of this cache.
+   */
+  public Path getCachePath() {
+
+    return this.context.getUserHomeIde().resolve(FOLDER_CACHE).resolve(FOLDER_HTTP);
+  }
+
+  /**
+   * @param url the URL of the metadata to retrieve.
+   * @param maxAge the {@link Duration} a cached response is used without revalidation. Use {@link Duration#ZERO} to revalidate on every access.
+   * @return the {@link Path} to the cached response body. Must only be read and not be modified or deleted.
+   * @throws IllegalStateException if the metadata could neither be retrieved nor be found in the cache.
+   */
+  public Path get(String url, Duration maxAge) {
+
+    String key = getKey(url);
+    synchronized (this.locks.computeIfAbsent(key, k -> new Object())) {
+      Path cachePath = getCachePath();
+      Path bodyFile = cachePath.resolve(key + EXTENSION_BODY);
+      Path propertiesFile = cachePath.resolve(key + EXTENSION_PROPERTIES);
+      FileAccess fileAccess = this.context.getFileAccess();
+      Properties properties = null;
+      if (Files.isRegularFile(bodyFile) && Files.isRegularFile(propertiesFile)) {
+        properties = fileAccess.readProperties(propertiesFile);
+        if (!url.equals(properties.getProperty(PROPERTY_URL))) {
+          properties = null;
+        }
+      }
+      if (properties != null) {
+        Duration age = getAge(properties);
+        if (age.compareTo(maxAge) < 0) {
+          LOG.debug("Using cached metadata of {} validated {} ago", url, age);
+          return access(bodyFile);
+        } else if (this.context.getNetworkStatus().isOfflineMode()) {
+          LOG.debug("Using stale cached metadata of {} validated {} ago since offline mode is active", url, age);
+          return access(bodyFile);
+        }
+      }
+      boolean cached = (properties != null);
+      if (!cached) {
+        properties = new Properties();
+        properties.setProperty(PROPERTY_URL, url);
+      }
+      long previousSize = cached ? size(bodyFile) : 0;
+      boolean modified = false;
+      try {
+        Properties validators = properties;
+        modified = this.context.getNetworkStatus().invokeNetworkTask(() -> fetch(url, cached, validators, bodyFile), url).booleanValue();
+        properties.setProperty(PROPERTY_VALIDATED, Long.toString(System.currentTimeMillis()));
+        fileAccess.writeProperties(properties, propertiesFile, true);
+      } catch (RuntimeException e) {
+        if (!cached) {
+          throw e;
+        }
+        LOG.warn("Failed to revalidate metadata of {} - using cached metadata validated {} ago.", url, getAge(properties));
+        LOG.debug("Revalidation of {} failed", url, e);
+      }
+      Path result = access(bodyFile);
+      if (modified) {
+        evict(cachePath, bodyFile, size(bodyFile) - previousSize);
+      }
+      return result;
+    }
+  }
+
+  /**
+   * @param url the URL of the metadata to retrieve.
+   * @param maxAge the {@link Duration} a cached response is used without revalidation.
+   * @return the cached response body as {@link String}.
+   * @see #get(String, Duration)
+   */
+  public String getAsString(String url, Duration maxAge) {
+
+    Path bodyFile = get(url, maxAge);
+    try {
+      return Files.readString(bodyFile);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to read cached metadata of " + url + " from " + bodyFile, e);
+    }
+  }
+
+  private boolean fetch(String url, boolean cached, Properties properties, Path bodyFile) throws IOException, InterruptedException {
+
+    HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url)).GET();
+    if (cached) {
+      String etag = properties.getProperty(PROPERTY_ETAG);
+      if (etag != null) {
+        builder.header("If-None-Match", etag);
+      }
+      String lastModified = properties.getProperty(PROPERTY_LAST_MODIFIED);
+      if (lastModified != null) {
+        builder.header("If-Modified-Since", lastModified);
+      }
+    }
+    Files.createDirectories(bodyFile.getParent());
+    Path tmpFile = bodyFile.resolveSibling(bodyFile.getFileName() + ".tmp");
+    HttpResponse<Path> response = this.context.getHttpClientManager().send(builder.build(), HttpResponse.BodyHandlers.ofFile(tmpFile));
+    int statusCode = response.statusCode();
+    if ((statusCode == 304) && cached) {
+      Files.deleteIfExists(tmpFile);
+      LOG.debug("Cached metadata of {} is still valid", url);
+      return false;
+    } else if (statusCode != 200) {
+      Files.deleteIfExists(tmpFile);
+      throw new IllegalStateException("Unexpected response code " + statusCode + " for " + url);
+    }
+    Files.move(tmpFile, bodyFile, StandardCopyOption.REPLACE_EXISTING);
+    setHeader(properties, PROPERTY_ETAG, response, "ETag");
+    setHeader(properties, PROPERTY_LAST_MODIFIED, response, "Last-Modified");
+    return true;
+  }
+
+  private static void setHeader(Properties properties, String property, HttpResponse<?> response, String header) {
+
+    String value = response.headers().firstValue(header).orElse(null);
+    if (value == null) {
+      properties.remove(property);
+    } else {
+      properties.setProperty(property, value);
+    }
+  }
+
+  private static Duration getAge(Properties properties) {
+
+    long validated = 0;
+    try {
+      validated = Long.parseLong(properties.getProperty(PROPERTY_VALIDATED, "0"));
+    } catch (NumberFormatException e) {
+      // treat as outdated
+    }
+    return Duration.ofMillis(Math.max(0, System.currentTimeMillis() - validated));
+  }
+
+  private static Path access(Path bodyFile) {
+
+    try {
+      Files.setLastModifiedTime(bodyFile, FileTime.fromMillis(System.currentTimeMillis()));
+    } catch (IOException e) {
+      LOG.debug("Failed to update access time of {}", bodyFile, e);
+    }
+    return bodyFile;
+  }
+
+  /**
+   * Evicts the least recently used entries if the cache exceeds its maximum size. The cache folder is only listed once to determine the initial size which
+   * is then updated incrementally so a cache miss does not have to scan the entire folder unless the limit is actually exceeded.
+   *
+   * @param cachePath the {@link #getCachePath() cache folder}.
+   * @param currentBody the body that has just been written and is about to be read by the caller.
+   * @param sizeDelta the number of bytes the size of the cache changed by writing {@code currentBody}.
+   */
+  private void evict(Path cachePath, Path currentBody, long sizeDelta) {
+
+    long maxSize = Math.max(0, IdeVariables.HTTP_CACHE_SIZE.get(this.context)) * MEGABYTE;
+    synchronized (this.locks) {
+      if (this.size >= 0) {
+        this.size += sizeDelta;
+        if (this.size <= maxSize) {
+          return;
+        }
+      }
+      List<Path> bodies = listBodies(cachePath);
+      if (bodies == null) {
+        return;
+      }
+      long totalSize = 0;
+      for (Path body : bodies) {
+        totalSize += size(body);
+      }
+      this.size = evict(cachePath, currentBody, bodies, totalSize, maxSize);
+    }
+  }
+
+  private static List<Path> listBodies(Path cachePath) {
+
+    try (Stream<Path> children = Files.list(cachePath)) {
+      return new ArrayList<>(children.filter(file -> file.getFileName().toString().endsWith(EXTENSION_BODY)).toList());
+    } catch (IOException e) {
+      LOG.debug("Failed to list {}", cachePath, e);
+      return null;
+    }
+  }
+
+  private static long evict(Path cachePath, Path currentBody, List<Path> bodies, long size, long maxSize) {
+
+    if (size <= maxSize) {
+      return size;
+    }
+    bodies.sort(Comparator.comparing(HttpMetadataCache::lastAccess));
+    for (Path body : bodies) {
+      if (size <= maxSize) {
+        break;
+      } else if (body.equals(currentBody)) {
+        continue; // the caller is about to read it
+      }
+      long bodySize = size(body);
+      String filename = body.getFileName().toString();
+      String key = filename.substring(0, filename.length() - EXTENSION_BODY.length());
+      try {
+        Files.deleteIfExists(cachePath.resolve(key + EXTENSION_PROPERTIES));
+        Files.deleteIfExists(body);
+        size -= bodySize;
+        LOG.debug("Evicted {} from HTTP metadata cache", body);
+      } catch (IOException e) {
+        LOG.debug("Failed to evict {}", body, e);
+      }
+    }
+    return size;
+  }
+
+  private static long size(Path file) {
+
+    try {
+      return Files.size(file);
+    } catch (IOException e) {
+      return 0;
+    }
+  }
+
+  private static FileTime lastAccess(Path file) {
+
+    try {
+      return Files.getLastModifiedTime(file);
+    } catch (IOException e) {
+      return FileTime.fromMillis(0);
+    }
+  }
+
+  private static String getKey(String url) {
+
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(url.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+}
@@ -0,0 +1,475 @@
+package com.devonfw.tools.ide.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.net.http.HttpClient.Version;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.variable.IdeVariables;
+
+/**
+ * Download of a file via HTTP {@code Range} requests. If the server {@code Accept-Ranges} the file is split into segments that are downloaded in parallel and
+ * written via positional writes into a preallocated partial file. The progress of the segments is stored in a sidecar state file so an interrupted download
+ * can be resumed instead of starting again from zero. The partial file is only moved to the target once it is complete.
+ */
+final class SegmentedHttpDownload {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentedHttpDownload.class);
+
+  /** Suffix of the partial file while the download is in progress. */
+  static final String PARTIAL_SUFFIX = ".part";
+
+  /** Suffix of the sidecar file storing the state of the {@link #PARTIAL_SUFFIX partial} download. */
+  static final String STATE_SUFFIX = ".part.properties";
+
+  /** Files smaller than this are downloaded as single stream as the additional request is not worth it. */
+  static final long MIN_SIZE = 1024 * 1024;
+
+  private static final long MIN_SEGMENT_SIZE = 1024 * 1024;
+
+  private static final long STATE_SAVE_INTERVAL = 4 * 1024 * 1024;
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  /** {@link Pattern} for the {@code Content-Range} header of a partial response. */
+  private static final Pattern CONTENT_RANGE = Pattern.compile("bytes\\s+(\\d+)-(\\d+)/(\\d+)", Pattern.CASE_INSENSITIVE);
+
+  private static final String PROPERTY_URL = "url";
+
+  private static final String PROPERTY_LENGTH = "length";
+
+  private static final String PROPERTY_VALIDATOR = "validator";
+
+  private static final String PROPERTY_SEGMENTS = "segments";
+
+  private static final String PROPERTY_SEGMENT_PREFIX = "segment.";
+
+  private final IdeContext context;
+
+  private final String url;
+
+  private final Path target;
+
+  private final Version httpVersion;
+
+  private final Path partialFile;
+
+  private final Path stateFile;
+
+  private final DownloadDigests digests;
+
+  private long length;
+
+  /** The position up to which the {@link #digests} have been computed. Guarded by the lock on {@link #digests}. */
+  private long digestPosition;
+
+  private String validator;
+
+  private List<Segment> segments;
+
+  /**
+   * The constructor.
+   *
+   * @param context the {@link IdeContext}.
+   * @param url the URL to download.
+   * @param target the {@link Path} to the file to download to.
+   * @param httpVersion the HTTP {@link Version} to use or {@code null} for the default.
+   * @param digests the {@link DownloadDigests} to compute while downloading.
+   */
+  SegmentedHttpDownload(IdeContext context, String url, Path target, Version httpVersion, DownloadDigests digests) {
+
+    super();
+    this.context = context;
+    this.url = url;
+    this.target = target;
+    this.httpVersion = httpVersion;
+    this.digests = digests;
+    this.partialFile = target.resolveSibling(target.getFileName() + PARTIAL_SUFFIX);
+    this.stateFile = target.resolveSibling(target.getFileName() + STATE_SUFFIX);
+  }
+
+  /**
+   * @return {@code true} if the file has been downloaded, {@code false} if the server does not support range requests and the caller has to fall back to a
+   *     regular download.
+   * @throws Exception if the download failed. The partial download is kept so it can be resumed later.
+   */
+  boolean download() throws Exception {
+
+    HttpClientManager httpClientManager = this.context.getHttpClientManager();
+    if (!probe(httpClientManager)) {
+      return false;
+    }
+    initSegments();
+    try (FileChannel channel = FileChannel.open(this.partialFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        IdeProgressBar pb = this.context.newProgressBarForDownload(this.length)) {
+      if (channel.size() < this.length) {
+        // preallocate the file
+        channel.write(ByteBuffer.allocate(1), this.length - 1);
+        saveState(channel);
+      }
+      long downloaded = 0;
+      for (Segment segment : this.segments) {
+        downloaded += segment.getDownloaded();
+      }
+      if (downloaded > 0) {
+        LOG.info("Resuming download of {} at {}%", this.target.getFileName(), downloaded * 100 / this.length);
+        pb.stepBy(downloaded);
+      }
+      synchronized (this.digests) {
+        // digest the data of a resumed download
+        updateDigests(channel);
+      }
+      downloadSegments(httpClientManager, channel, pb);
+      if (!this.digests.isEmpty() && (this.digestPosition != this.length)) {
+        throw new IllegalStateException("Checksum of " + this.target + " only computed for " + this.digestPosition + " of " + this.length + " bytes.");
+      }
+    } catch (RangeNotSatisfiedException e) {
+      LOG.warn("{} for {} - falling back to single stream", e.getMessage(), this.url);
+      deletePartialDownload();
+      // other segments may already have been digested
+      this.digests.reset();
+      return false;
+    }
+    Files.delete(this.stateFile);
+    Files.move(this.partialFile, this.target, StandardCopyOption.REPLACE_EXISTING);
+    return true;
+  }
+
+  private boolean probe(HttpClientManager httpClientManager) throws Exception {
+
+    HttpRequest request = HttpDownloader.createRequest(this.url, this.httpVersion, HttpDownloader.HTTP_METHOD_HEAD, null);
+    HttpResponse<Void> response = httpClientManager.send(request, HttpResponse.BodyHandlers.discarding());
+    if (response.statusCode() != 200) {
+      LOG.debug("Probing range support of {} failed with status code {}", this.url, response.statusCode());
+      return false;
+    }
+    String acceptRanges = response.headers().firstValue("accept-ranges").orElse("").toLowerCase(Locale.ROOT);
+    this.length = response.headers().firstValueAsLong("content-length").orElse(-1);
+    if (!acceptRanges.contains("bytes") || (this.length < MIN_SIZE)) {
+      LOG.debug("Using single stream to download {} (accept-ranges={}, content-length={})", this.url, acceptRanges, this.length);
+      return false;
+    }
+    this.validator = response.headers().firstValue("etag").orElse(response.headers().firstValue("last-modified").orElse(""));
+    return true;
+  }
+
+  private void initSegments() {
+
+    if (loadState()) {
+      return;
+    }
+    deletePartialDownload();
+    int maxSegments = Math.max(1, IdeVariables.DOWNLOAD_SEGMENTS.get(this.context));
+    int segmentCount = (int) Math.max(1, Math.min(maxSegments, this.length / MIN_SEGMENT_SIZE));
+    long segmentSize = (this.length + segmentCount - 1) / segmentCount;
+    this.segments = new ArrayList<>(segmentCount);
+    long start = 0;
+    while (start < this.length) {
+      long end = Math.min(start + segmentSize, this.length) - 1;
+      this.segments.add(new Segment(start, end, start));
+      start = end + 1;
+    }
+    LOG.debug("Downloading {} with {} segment(s) of {} bytes", this.url, this.segments.size(), segmentSize);
+  }
+
+  private void downloadSegments(HttpClientManager httpClientManager, FileChannel channel, IdeProgressBar pb) throws Exception {
+
+    List<Future<?>> futures = new ArrayList<>(this.segments.size());
+    Exception error = null;
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (Segment segment : this.segments) {
+        if (!segment.isComplete()) {
+          futures.add(executor.submit(() -> {
+            downloadSegment(httpClientManager, channel, pb, segment);
+            return null;
+          }));
+        }
+      }
+      for (Future<?> future : futures) {
+        try {
+          future.get();
+        } catch (ExecutionException e) {
+          if (e.getCause() instanceof RangeNotSatisfiedException cause) {
+            // a single unexpected response makes all segments untrustworthy so this error takes precedence
+            error = cause;
+          } else if ((error == null) && (e.getCause() instanceof Exception cause)) {
+            error = cause;
+          } else if (error == null) {
+            error = e;
+          }
+        }
+      }
+    }
+    if (error instanceof RangeNotSatisfiedException) {
+      throw error;
+    } else if (error != null) {
+      saveState(channel);
+      throw error;
+    }
+  }
+
+  private void downloadSegment(HttpClientManager httpClientManager, FileChannel channel, IdeProgressBar pb, Segment segment) throws Exception {
+
+    HttpRequest request = HttpRequest.newBuilder(HttpDownloader.createGetRequest(this.url, this.httpVersion), (name, value) -> true)
+        .header("Range", "bytes=" + segment.position + "-" + segment.end).build();
+    HttpResponse<InputStream> response = httpClientManager.send(request, HttpResponse.BodyHandlers.ofInputStream());
+    try (InputStream body = response.body()) {
+      int statusCode = response.statusCode();
+      if (statusCode == 200) {
+        throw new RangeNotSatisfiedException("Server ignored range request");
+      } else if (statusCode != 206) {
+        throw new IllegalStateException("Range request for " + this.url + " failed with status code " + statusCode);
+      }
+      verifyContentRange(response, segment);
+      byte[] buffer = new byte[BUFFER_SIZE];
+      long unsaved = 0;
+      while (!segment.isComplete()) {
+        int count = body.read(buffer);
+        if (count < 0) {
+          throw new IOException("Connection closed after " + segment.getDownloaded() + " bytes of segment " + segment);
+        }
+        count = (int) Math.min(count, segment.end - segment.position + 1);
+        ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, count);
+        long position = segment.position;
+        while (byteBuffer.hasRemaining()) {
+          position += channel.write(byteBuffer, position);
+        }
+        onWritten(channel, segment, buffer, count);
+        synchronized (pb) {
+          pb.stepBy(count);
+        }
+        unsaved += count;
+        if (unsaved >= STATE_SAVE_INTERVAL) {
+          saveState(channel);
+          unsaved = 0;
+        }
+      }
+    }
+  }
+
+  /**
+   * Verifies that the {@code Content-Range} of a partial response matches exactly the requested range and the length of the file determined by the
+   * {@link #probe(HttpClientManager) probe}. Otherwise, the received bytes would be written to the wrong position or belong to a different file.
+   */
+  private void verifyContentRange(HttpResponse<?> response, Segment segment) {
+
+    String contentRange = response.headers().firstValue("content-range").orElse("");
+    Matcher matcher = CONTENT_RANGE.matcher(contentRange.trim());
+    if (!matcher.matches()) {
+      throw new RangeNotSatisfiedException("Server responded with invalid Content-Range '" + contentRange + "'");
+    }
+    try {
+      long start = Long.parseLong(matcher.group(1));
+      long end = Long.parseLong(matcher.group(2));
+      long total = Long.parseLong(matcher.group(3));
+      if ((start != segment.position) || (end != segment.end) || (total != this.length)) {
+        throw new RangeNotSatisfiedException(
+            "Server responded with Content-Range '" + contentRange + "' to request for bytes " + segment.position + "-" + segment.end + "/" + this.length);
+      }
+    } catch (NumberFormatException e) {
+      throw new RangeNotSatisfiedException("Server responded with invalid Content-Range '" + contentRange + "'");
+    }
+  }
+
+  /**
+   * Updates the {@link Segment#position} after the given bytes have been written and computes the {@link #digests} as far as the data is contiguous. If the
+   * given {@link Segment} is at the front of the digested data its bytes are digested directly from the given buffer, otherwise they will be read back from
+   * the file once all data before them has arrived.
+   */
+  private void onWritten(FileChannel channel, Segment segment, byte[] buffer, int count) throws IOException {
+
+    synchronized (this.digests) {
+      long position = segment.position;
+      segment.position = position + count;
+      if (this.digests.isEmpty()) {
+        return;
+      }
+      if (this.digestPosition == position) {
+        this.digests.update(buffer, 0, count);
+        this.digestPosition = position + count;
+      }
+      updateDigests(channel);
+    }
+  }
+
+  private void updateDigests(FileChannel channel) throws IOException {
+
+    if (this.digests.isEmpty()) {
+      return;
+    }
+    ByteBuffer buffer = null;
+    for (Segment segment : this.segments) {
+      if (this.digestPosition > segment.end) {
+        continue;
+      }
+      while (this.digestPosition < segment.position) {
+        if (buffer == null) {
+          buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        }
+        buffer.clear();
+        buffer.limit((int) Math.min(BUFFER_SIZE, segment.position - this.digestPosition));
+        int count = channel.read(buffer, this.digestPosition);
+        if (count <= 0) {
+          throw new IOException("Failed to read " + this.partialFile + " at position " + this.digestPosition);
+        }
+        buffer.flip();
+        this.digests.update(buffer);
+        this.digestPosition += count;
+      }
+      if (!segment.isComplete()) {
+        return;
+      }
+    }
+  }
+
+  private boolean loadState() {
+
+    if (!Files.exists(this.stateFile) || !Files.exists(this.partialFile)) {
+      return false;
+    }
+    Properties properties = new Properties();
+    try (Reader reader = Files.newBufferedReader(this.stateFile)) {
+      properties.load(reader);
+      if (!this.url.equals(properties.getProperty(PROPERTY_URL)) || (this.length != Long.parseLong(properties.getProperty(PROPERTY_LENGTH)))
+          || !Objects.equals(this.validator, properties.getProperty(PROPERTY_VALIDATOR)) || (Files.size(this.partialFile) != this.length)) {
+        LOG.debug("Discarding partial download of {} as the file has changed", this.url);
+        return false;
+      }
+      int segmentCount = Integer.parseInt(properties.getProperty(PROPERTY_SEGMENTS));
+      List<Segment> segmentList = new ArrayList<>(segmentCount);
+      for (int i = 0; i < segmentCount; i++) {
+        segmentList.add(Segment.of(properties.getProperty(PROPERTY_SEGMENT_PREFIX + i)));
+      }
+      this.segments = segmentList;
+      return true;
+    } catch (Exception e) {
+      LOG.debug("Discarding partial download of {} due to invalid state file {}", this.url, this.stateFile, e);
+      return false;
+    }
+  }
+
+  /**
+   * Saves the state of the partial download. The written data is forced to the storage device before the state claiming it is written and the state itself
+   * is forced to disk and atomically replaced so after a crash or power loss a resumed download never trusts data that was not persisted.
+   *
+   * @param channel the {@link FileChannel} of the {@link #partialFile}.
+   */
+  private synchronized void saveState(FileChannel channel) {
+
+    Properties properties = new Properties();
+    properties.setProperty(PROPERTY_URL, this.url);
+    properties.setProperty(PROPERTY_LENGTH, Long.toString(this.length));
+    properties.setProperty(PROPERTY_VALIDATOR, this.validator);
+    properties.setProperty(PROPERTY_SEGMENTS, Integer.toString(this.segments.size()));
+    for (int i = 0; i < this.segments.size(); i++) {
+      properties.setProperty(PROPERTY_SEGMENT_PREFIX + i, this.segments.get(i).toString());
+    }
+    Path tmpFile = this.stateFile.resolveSibling(this.stateFile.getFileName() + ".tmp");
+    try {
+      channel.force(false);
+      StringWriter writer = new StringWriter();
+      properties.store(writer, null);
+      try (FileChannel stateChannel = FileChannel.open(tmpFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+          StandardOpenOption.TRUNCATE_EXISTING)) {
+        ByteBuffer buffer = ByteBuffer.wrap(writer.toString().getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+          stateChannel.write(buffer);
+        }
+        stateChannel.force(true);
+      }
+      Files.move(tmpFile, this.stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      LOG.debug("Failed to save state of partial download to {}", this.stateFile, e);
+    }
+  }
+
+  private void deletePartialDownload() {
+
+    try {
+      Files.deleteIfExists(this.stateFile.resolveSibling(this.stateFile.getFileName() + ".tmp"));
+      Files.deleteIfExists(this.stateFile);
+      Files.deleteIfExists(this.partialFile);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to delete partial download " + this.partialFile, e);
+    }
+  }
+
+  /**
+   * Exception thrown if the server did not respond to a range request with exactly the requested range, e.g. with the entire file or a {@code Content-Range}
+   * that does not match.
+   */
+  private static final class RangeNotSatisfiedException extends IllegalStateException {
+
+    private RangeNotSatisfiedException(String message) {
+
+      super(message);
+    }
+  }
+
+  /**
+   * A segment of the download as byte range.
+   */
+  private static final class Segment {
+
+    private final long start;
+
+    private final long end;
+
+    private volatile long position;
+
+    private Segment(long start, long end, long position) {
+
+      this.start = start;
+      this.end = end;
+      this.position = position;
+    }
+
+    private long getDownloaded() {
+
+      return this.position - this.start;
+    }
+
+    private boolean isComplete() {
+
+      return this.position > this.end;
+    }
+
+    @Override
+    public String toString() {
+
+      return this.start + "," + this.end + "," + this.position;
+    }
+
+    private static Segment of(String value) {
+
+      String[] values = value.split(",");
+      return new Segment(Long.parseLong(values[0]), Long.parseLong(values[1]), Long.parseLong(values[2]));
+    }
+  }
+
+}
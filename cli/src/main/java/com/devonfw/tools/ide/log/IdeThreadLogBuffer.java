@@ -0,0 +1,118 @@
+package com.devonfw.tools.ide.log;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Buffer for the log events of a worker thread. While a task is {@link #call(Callable) called} with this buffer, everything it logs on the current thread is
+ * collected instead of being written to the console. The collected log events can later be {@link #flush() flushed} on the main thread so the output of
+ * tasks running in parallel does not interleave and appears in a deterministic order.
+ *
+ * @see IdeLogListenerBuffer
+ */
+public class IdeThreadLogBuffer {
+
+  private static final Logger LOG = LoggerFactory.getLogger(IdeThreadLogBuffer.class);
+
+  private static final ThreadLocal<IdeThreadLogBuffer> CURRENT = new ThreadLocal<>();
+
+  private final List<IdeLogEntry> buffer;
+
+  /**
+   * The constructor.
+   */
+  public IdeThreadLogBuffer() {
+
+    super();
+    this.buffer = new ArrayList<>();
+  }
+
+  /**
+   * @param task the {@link Runnable} to run while collecting its log events in this buffer.
+   */
+  public void run(Runnable task) {
+
+    call(() -> {
+      task.run();
+      return null;
+    });
+  }
+
+  /**
+   * @param <T> type of the result.
+   * @param task the {@link Callable} to call while collecting its log events in this buffer.
+   * @return the result of the given {@link Callable}.
+   */
+  public <T> T call(Callable<T> task) {
+
+    IdeThreadLogBuffer previous = CURRENT.get();
+    CURRENT.set(this);
+    try {
+      return task.call();
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    } finally {
+      if (previous == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(previous);
+      }
+    }
+  }
+
+  /**
+   * @return {@code true} if the current thread collects its log events in an {@link IdeThreadLogBuffer} (e.g. because it is a worker running in parallel to
+   *     the main thread) and should therefore also not render any progress to the console, {@code false} otherwise.
+   */
+  public static boolean isActive() {
+
+    return CURRENT.get() != null;
+  }
+
+  /**
+   * Writes all collected log events on the current thread and clears this buffer.
+   */
+  public void flush() {
+
+    List<IdeLogEntry> entries;
+    synchronized (this.buffer) {
+      entries = new ArrayList<>(this.buffer);
+      this.buffer.clear();
+    }
+    for (IdeLogEntry entry : entries) {
+      if (entry.rawMessage() == null) {
+        entry.level().log(LOG, entry.error(), entry.message());
+      } else {
+        entry.level().log(LOG, entry.error(), entry.rawMessage(), entry.args());
+      }
+    }
+  }
+
+  /**
+   * @param level the {@link IdeLogLevel}.
+   * @param message the composed message.
+   * @param rawMessage the raw message template.
+   * @param args the optional message arguments.
+   * @param error the optional error.
+   * @return {@code true} if the log event was collected by the {@link IdeThreadLogBuffer} bound to the current thread, {@code false} otherwise (no buffer
+   *     bound so the event has to be logged regularly).
+   */
+  static boolean collect(IdeLogLevel level, String message, String rawMessage, Object[] args, Throwable error) {
+
+    IdeThreadLogBuffer threadBuffer = CURRENT.get();
+    if (threadBuffer == null) {
+      return false;
+    }
+    synchronized (threadBuffer.buffer) {
+      threadBuffer.buffer.add(new IdeLogEntry(level, message, rawMessage, args, error));
+    }
+    return true;
+  }
+
+}
@@ -133,6 +133,9 @@ public class Slf4jLoggerAdapter extends AbstractLogger implements LoggingEventAw
       argFormatter = startContext.getArgFormatter();
     }
     String composedMessage = compose(argFormatter, message, args);
+    if (IdeThreadLogBuffer.collect(ideLevel, composedMessage, message, args, error)) {
+      return;
+    }
     boolean accept = listener.onLog(ideLevel, composedMessage, message, args, error);
     if (accept) {
       java.util.logging.Level julLevel = ideLevel.getJulLevel();
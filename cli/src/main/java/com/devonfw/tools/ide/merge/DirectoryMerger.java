@@ -3,11 +3,17 @@ package com.devonfw.tools.ide.merge;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
 import org.jline.utils.Log;
@@ -16,6 +22,7 @@ import org.slf4j.LoggerFactory;
 
 import com.devonfw.tools.ide.context.IdeContext;
 import com.devonfw.tools.ide.environment.EnvironmentVariables;
+import com.devonfw.tools.ide.log.IdeThreadLogBuffer;
 import com.devonfw.tools.ide.merge.xml.XmlMerger;
 import com.devonfw.tools.ide.util.FilenameUtil;
 
@@ -80,6 +87,118 @@ public class DirectoryMerger extends AbstractWorkspaceMerger {
     return errors;
   }
 
+  /**
+   * Merges the setup and update templates of all given template folders into the workspace. Other than {@link #merge(Path, Path, EnvironmentVariables, Path)}
+   * this method records a fingerprint of each merged workspace file in the given {@code fingerprintFile} and skips files whose templates, referenced
+   * variables and current content did not change since their last merge. The remaining files are merged in parallel with one worker per type of
+   * {@link FileMerger}.
+   *
+   * @param templateFolders the {@link Path}s to the template folders each containing {@link IdeContext#FOLDER_SETUP setup} and/or
+   *     {@link IdeContext#FOLDER_UPDATE update} templates in the order they have to be merged.
+   * @param variables the {@link EnvironmentVariables} to {@link EnvironmentVariables#resolve(String, Object) resolve variables}.
+   * @param workspace the workspace {@link Path} to create or update.
+   * @param fingerprintFile the {@link Path} to the file where the fingerprints of the last merge are persisted.
+   * @return the number of errors that occurred. Should be {@code 0} for success.
+   */
+  public int merge(List<Path> templateFolders, EnvironmentVariables variables, Path workspace, Path fingerprintFile) {
+
+    Map<Path, List<Path>> workspaceFile2templatesMap = new LinkedHashMap<>();
+    for (Path templateFolder : templateFolders) {
+      Path setup = templateFolder.resolve(IdeContext.FOLDER_SETUP);
+      Path update = templateFolder.resolve(IdeContext.FOLDER_UPDATE);
+      if (Files.isDirectory(setup) || Files.isDirectory(update)) {
+        LOG.debug("Merging workspace templates from {}...", templateFolder);
+        collectTemplates(setup, update, workspace, workspaceFile2templatesMap);
+      } else {
+        LOG.trace("Skipping empty or non-existing workspace template folder {}.", templateFolder);
+      }
+    }
+    WorkspaceMergeFingerprints fingerprints = new WorkspaceMergeFingerprints(this.context, fingerprintFile);
+    Map<FileMerger, List<Path>> merger2filesMap = new LinkedHashMap<>();
+    Map<Path, String> workspaceFile2fingerprintMap = new HashMap<>();
+    for (Map.Entry<Path, List<Path>> entry : workspaceFile2templatesMap.entrySet()) {
+      Path workspaceFile = entry.getKey();
+      FileMerger merger = getMerger(workspaceFile);
+      String fingerprint = fingerprints.computeTemplateFingerprint(entry.getValue(), variables, merger.legacySupport);
+      if (fingerprints.isUnchanged(getKey(workspace, workspaceFile), fingerprint, workspaceFile)) {
+        LOG.trace("Skipping unchanged workspace file {}", workspaceFile);
+      } else {
+        workspaceFile2fingerprintMap.put(workspaceFile, fingerprint);
+        merger2filesMap.computeIfAbsent(merger, m -> new ArrayList<>()).add(workspaceFile);
+      }
+    }
+    LOG.debug("Merging {} of {} workspace files ({} unchanged)", workspaceFile2fingerprintMap.size(), workspaceFile2templatesMap.size(),
+        workspaceFile2templatesMap.size() - workspaceFile2fingerprintMap.size());
+    int errors = 0;
+    if (merger2filesMap.size() <= 1) {
+      for (Map.Entry<FileMerger, List<Path>> entry : merger2filesMap.entrySet()) {
+        errors += mergeFiles(entry.getKey(), entry.getValue(), workspaceFile2templatesMap, workspaceFile2fingerprintMap, variables, workspace, fingerprints);
+      }
+    } else {
+      // XmlMerger shares a DocumentBuilder so each type of merger gets its own worker
+      // workers collect their log events that are then written on this thread to avoid interleaved output
+      List<Future<Integer>> futures = new ArrayList<>();
+      List<IdeThreadLogBuffer> logBuffers = new ArrayList<>();
+      try (ExecutorService executor = Executors.newFixedThreadPool(merger2filesMap.size(), Thread.ofVirtual().name("ide-merge-", 1).factory())) {
+        for (Map.Entry<FileMerger, List<Path>> entry : merger2filesMap.entrySet()) {
+          IdeThreadLogBuffer logBuffer = new IdeThreadLogBuffer();
+          logBuffers.add(logBuffer);
+          futures.add(executor.submit(() -> logBuffer.call(() -> mergeFiles(entry.getKey(), entry.getValue(), workspaceFile2templatesMap,
+              workspaceFile2fingerprintMap, variables, workspace, fingerprints))));
+        }
+      }
+      for (IdeThreadLogBuffer logBuffer : logBuffers) {
+        logBuffer.flush();
+      }
+      for (Future<Integer> future : futures) {
+        errors += future.resultNow();
+      }
+    }
+    fingerprints.save();
+    return errors;
+  }
+
+  private int mergeFiles(FileMerger merger, List<Path> workspaceFiles, Map<Path, List<Path>> workspaceFile2templatesMap,
+      Map<Path, String> workspaceFile2fingerprintMap, EnvironmentVariables variables, Path workspace, WorkspaceMergeFingerprints fingerprints) {
+
+    int errors = 0;
+    for (Path workspaceFile : workspaceFiles) {
+      int fileErrors = 0;
+      List<Path> templates = workspaceFile2templatesMap.get(workspaceFile);
+      for (int i = 0; i < templates.size(); i += 2) {
+        fileErrors += merger.merge(templates.get(i), templates.get(i + 1), variables, workspaceFile);
+      }
+      String fingerprint = null;
+      if (fileErrors == 0) {
+        fingerprint = workspaceFile2fingerprintMap.get(workspaceFile);
+      }
+      fingerprints.update(getKey(workspace, workspaceFile), fingerprint, workspaceFile);
+      errors += fileErrors;
+    }
+    return errors;
+  }
+
+  private void collectTemplates(Path setup, Path update, Path workspace, Map<Path, List<Path>> workspaceFile2templatesMap) {
+
+    Set<String> children = null;
+    children = addChildren(setup, children);
+    children = addChildren(update, children);
+    if (children == null) {
+      List<Path> templates = workspaceFile2templatesMap.computeIfAbsent(workspace, f -> new ArrayList<>());
+      templates.add(setup);
+      templates.add(update);
+    } else {
+      for (String filename : children) {
+        collectTemplates(setup.resolve(filename), update.resolve(filename), workspace.resolve(filename), workspaceFile2templatesMap);
+      }
+    }
+  }
+
+  private static String getKey(Path workspace, Path workspaceFile) {
+
+    return workspace.relativize(workspaceFile).toString().replace('\\', '/');
+  }
+
   private FileMerger getMerger(Path file) {
 
     String filename = file.getFileName().toString();
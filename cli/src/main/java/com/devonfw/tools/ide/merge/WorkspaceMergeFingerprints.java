@@ -0,0 +1,183 @@
+package com.devonfw.tools.ide.merge;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.environment.EnvironmentVariables;
+import com.devonfw.tools.ide.variable.VariableSyntax;
+import com.devonfw.tools.ide.version.IdeVersion;
+
+/**
+ * Persisted fingerprints of the last merge of each workspace file. A fingerprint covers the content of all setup and update templates merged into the file,
+ * the values of the variables they reference and the content of the workspace file after the merge. If all of them are unchanged, merging again would
+ * produce the same result and can be skipped.
+ */
+final class WorkspaceMergeFingerprints {
+
+  private static final Logger LOG = LoggerFactory.getLogger(WorkspaceMergeFingerprints.class);
+
+  private static final String MISSING = "missing";
+
+  private final IdeContext context;
+
+  private final Path file;
+
+  private final Map<String, String> fingerprints;
+
+  private volatile boolean modified;
+
+  /**
+   * The constructor.
+   *
+   * @param context the {@link IdeContext}.
+   * @param file the {@link Path} to the properties file where the fingerprints are persisted.
+   */
+  WorkspaceMergeFingerprints(IdeContext context, Path file) {
+
+    super();
+    this.context = context;
+    this.file = file;
+    this.fingerprints = new ConcurrentHashMap<>();
+    if (Files.isRegularFile(file)) {
+      Properties properties = context.getFileAccess().readProperties(file);
+      for (String key : properties.stringPropertyNames()) {
+        this.fingerprints.put(key, properties.getProperty(key));
+      }
+    }
+  }
+
+  /**
+   * @param key the key of the workspace file (its path relative to the workspace).
+   * @param templateFingerprint the {@link #computeTemplateFingerprint(List, EnvironmentVariables, boolean) fingerprint of the templates}.
+   * @param workspaceFile the {@link Path} to the workspace file.
+   * @return {@code true} if the workspace file is unchanged since its last merge with the same templates, {@code false} otherwise.
+   */
+  boolean isUnchanged(String key, String templateFingerprint, Path workspaceFile) {
+
+    String fingerprint = this.fingerprints.get(key);
+    if (fingerprint == null) {
+      return false;
+    }
+    return fingerprint.equals(templateFingerprint + "|" + hash(workspaceFile));
+  }
+
+  /**
+   * @param key the key of the workspace file (its path relative to the workspace).
+   * @param templateFingerprint the {@link #computeTemplateFingerprint(List, EnvironmentVariables, boolean) fingerprint of the templates} or {@code null} to
+   *     remove the fingerprint (e.g. if the merge failed).
+   * @param workspaceFile the {@link Path} to the merged workspace file.
+   */
+  void update(String key, String templateFingerprint, Path workspaceFile) {
+
+    if (templateFingerprint == null) {
+      if (this.fingerprints.remove(key) != null) {
+        this.modified = true;
+      }
+    } else {
+      this.fingerprints.put(key, templateFingerprint + "|" + hash(workspaceFile));
+      this.modified = true;
+    }
+  }
+
+  /**
+   * Persists the fingerprints if they have been modified.
+   */
+  void save() {
+
+    if (!this.modified) {
+      return;
+    }
+    Properties properties = new Properties();
+    properties.putAll(this.fingerprints);
+    this.context.getFileAccess().writeProperties(properties, this.file, true);
+    this.modified = false;
+  }
+
+  /**
+   * @param templates the setup and update template {@link Path}s in the order they are merged into the workspace file.
+   * @param variables the {@link EnvironmentVariables} to resolve variables.
+   * @param legacySupport - {@code true} if {@link VariableSyntax#CURLY} is also resolved, {@code false} otherwise.
+   * @return the fingerprint of the given templates with their referenced variables.
+   */
+  String computeTemplateFingerprint(List<Path> templates, EnvironmentVariables variables, boolean legacySupport) {
+
+    StringBuilder sb = new StringBuilder();
+    sb.append(IdeVersion.getVersionString()).append('|').append(legacySupport).append('\n');
+    Set<String> variableNames = new TreeSet<>();
+    for (Path template : templates) {
+      sb.append(template).append('=');
+      if (Files.isRegularFile(template)) {
+        try {
+          byte[] content = Files.readAllBytes(template);
+          sb.append(hash(content));
+          String text = new String(content, StandardCharsets.UTF_8);
+          collectVariables(text, VariableSyntax.SQUARE, variableNames);
+          if (legacySupport) {
+            collectVariables(text, VariableSyntax.CURLY, variableNames);
+          }
+        } catch (IOException e) {
+          throw new IllegalStateException("Failed to read template " + template, e);
+        }
+      } else {
+        sb.append(MISSING);
+      }
+      sb.append('\n');
+    }
+    for (String variableName : variableNames) {
+      sb.append(variableName).append('=').append(variables.get(variableName)).append('\n');
+    }
+    return hash(sb.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static void collectVariables(String text, VariableSyntax syntax, Set<String> variableNames) {
+
+    Matcher matcher = syntax.getPattern().matcher(text);
+    while (matcher.find()) {
+      variableNames.add(syntax.getVariable(matcher));
+    }
+  }
+
+  private static String hash(Path file) {
+
+    if (!Files.isRegularFile(file)) {
+      return MISSING;
+    }
+    try {
+      return hash(Files.readAllBytes(file));
+    } catch (IOException e) {
+      LOG.debug("Failed to compute hash of {}", file, e);
+      return MISSING;
+    }
+  }
+
+  private static String hash(byte[] data) {
+
+    return HexFormat.of().formatHex(newDigest().digest(data));
+  }
+
+  private static MessageDigest newDigest() {
+
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+}
@@ -1,8 +1,11 @@
 package com.devonfw.tools.ide.network;
 
 import java.io.IOException;
-import java.net.URL;
-import java.net.URLConnection;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.util.Locale;
 import java.util.concurrent.Callable;
 
@@ -10,9 +13,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.devonfw.tools.ide.cache.CachedValue;
+import com.devonfw.tools.ide.cache.StatusCache;
 import com.devonfw.tools.ide.cli.CliOfflineException;
 import com.devonfw.tools.ide.context.AbstractIdeContext;
+import com.devonfw.tools.ide.io.HttpClientFactory;
 import com.devonfw.tools.ide.log.IdeLogLevel;
+import com.devonfw.tools.ide.profile.IdeProfiler;
+import com.devonfw.tools.ide.profile.IdeProfilerSpan;
 
 /**
  * Implementation of {@link NetworkStatus}.
@@ -31,6 +38,23 @@ public class NetworkStatusImpl implements NetworkStatus {
 
   private static final String ERROR_TEXT_PKIX = "pkix path building failed";
 
+  /**
+   * The timeout to establish the connection of the online check. Kept short so we quickly detect that we are offline. Only used by the dedicated client of the
+   * online check so slow proxies or mirrors do not break regular downloads via the shared client.
+   */
+  private static final Duration ONLINE_CHECK_CONNECT_TIMEOUT = Duration.ofSeconds(1);
+
+  /** The overall timeout of the online check. */
+  private static final Duration ONLINE_CHECK_TIMEOUT = Duration.ofSeconds(3);
+
+  /** The key of the successful online check in the {@link StatusCache}. */
+  private static final String STATUS_ONLINE = "online";
+
+  /** The {@link Duration} a successful online check is reused from the {@link StatusCache} by subsequent processes. */
+  private static final Duration ONLINE_STATUS_MAX_AGE = Duration.ofMinutes(5);
+
+  private final StatusCache statusCache;
+
   /**
    * @param ideContext the {@link AbstractIdeContext}.
    */
@@ -50,6 +74,7 @@ public class NetworkStatusImpl implements NetworkStatus {
     }
     this.onlineCheckUrl = onlineCheckUrl;
     this.onlineCheck = new CachedValue<>(this::doOnlineCheck, retention);
+    this.statusCache = new StatusCache(context);
   }
 
   @Override
@@ -71,14 +96,21 @@ public class NetworkStatusImpl implements NetworkStatus {
   }
 
   private Throwable doOnlineCheck() {
+    // only success is cached so errors are always reported with their actual cause
+    if (this.onlineCheckUrl.equals(this.statusCache.get(STATUS_ONLINE, ONLINE_STATUS_MAX_AGE))) {
+      return null;
+    }
     configureNetworkProxy();
-    try {
-      int timeout = 1000;
-      //open a connection to URL and try to retrieve data
-      //getContent fails if there is no connection
-      URLConnection connection = new URL(this.onlineCheckUrl).openConnection();
-      connection.setConnectTimeout(timeout);
-      connection.getContent();
+    try (IdeProfilerSpan span = IdeProfiler.start("network", "online check").arg("url", this.onlineCheckUrl)) {
+      HttpRequest request = HttpRequest.newBuilder(URI.create(this.onlineCheckUrl)).timeout(ONLINE_CHECK_TIMEOUT).GET().build();
+      try (HttpClient client = HttpClientFactory.createBuilder().connectTimeout(ONLINE_CHECK_CONNECT_TIMEOUT).build()) {
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        int statusCode = response.statusCode();
+        if (statusCode >= 400) {
+          throw new IOException("Online check failed with status code " + statusCode);
+        }
+      }
+      this.statusCache.set(STATUS_ONLINE, this.onlineCheckUrl);
       return null;
     } catch (Exception e) {
       if (LOG.isDebugEnabled()) {
@@ -134,6 +166,7 @@ public class NetworkStatusImpl implements NetworkStatus {
     } catch (Exception e) {
       if (e instanceof IOException ioException) {
         this.onlineCheck.set(ioException);
+        this.statusCache.remove(STATUS_ONLINE);
       }
       // the underlying SSLHandshakeException is often wrapped (e.g. as an IllegalStateException by the downloader), hence we scan the entire cause chain and
       // must not rely on the exception being an IOException.
@@ -27,6 +27,8 @@ import com.devonfw.tools.ide.environment.VariableLine;
 import com.devonfw.tools.ide.log.IdeLogLevel;
 import com.devonfw.tools.ide.os.SystemInfoImpl;
 import com.devonfw.tools.ide.os.WindowsPathSyntax;
+import com.devonfw.tools.ide.profile.IdeProfiler;
+import com.devonfw.tools.ide.profile.IdeProfilerSpan;
 import com.devonfw.tools.ide.util.FilenameUtil;
 import com.devonfw.tools.ide.variable.IdeVariables;
 
@@ -200,7 +202,8 @@ public class ProcessContextImpl implements ProcessContext {
       LOG.debug(message);
     }
 
-    try {
+    // only record the number of arguments since they may contain secrets (e.g. tokens or passwords) that must not end up in the trace file
+    try (IdeProfilerSpan span = IdeProfiler.start("process", this.executable.getFileName().toString()).arg("argCount", this.arguments.size())) {
       applyRedirects(processMode);
       if (processMode.isBackground()) {
         modifyArgumentsOnBackgroundProcess(processMode);
@@ -236,6 +239,7 @@ public class ProcessContextImpl implements ProcessContext {
         } else {
           exitCode = process.waitFor();
         }
+        span.arg("exitCode", exitCode);
 
         List<OutputMessage> finalOutput = new ArrayList<>(output);
         boolean success = this.exitCodeAcceptor.test(exitCode);
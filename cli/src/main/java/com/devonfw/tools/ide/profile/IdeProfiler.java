@@ -0,0 +1,226 @@
+package com.devonfw.tools.ide.profile;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Lightweight profiler recording {@link IdeProfilerSpan spans} with nanosecond precision for the phases of an IDEasy call (startup, logging configuration,
+ * online check, git updates, {@link com.devonfw.tools.ide.step.Step steps} and process executions). It is disabled by default so {@link #start(String,
+ * String)} is a no-op. It gets enabled via the {@code --profile} option or the environment variable {@link #VARIABLE_IDE_PROFILE IDE_PROFILE} and the
+ * recorded spans are written as <a href="https://docs.google.com/document/d/1CvAClvFfyA5R-PhYUmn5OOQtYMH4h6I0nSsKchNAySU">Chrome trace</a> that can be
+ * opened in {@code chrome://tracing} or <a href="https://ui.perfetto.dev">Perfetto</a>.
+ */
+public final class IdeProfiler {
+
+  /**
+   * Name of the environment variable to enable the {@link IdeProfiler}. The value {@code true} writes the trace next to the logfiles, any other value is used
+   * as path of the trace file.
+   */
+  public static final String VARIABLE_IDE_PROFILE = "IDE_PROFILE";
+
+  /** The file extension of the trace files. */
+  public static final String EXTENSION = ".trace.json";
+
+  private static volatile IdeProfiler instance;
+
+  private final Path file;
+
+  private final long originNanos;
+
+  private final Instant origin;
+
+  private final long originMicros;
+
+  private final Queue<IdeProfilerSpan> spans;
+
+  private IdeProfiler(Path file) {
+
+    super();
+    this.file = file;
+    this.originNanos = System.nanoTime();
+    this.origin = Instant.now();
+    this.originMicros = ChronoUnit.MICROS.between(Instant.EPOCH, this.origin);
+    this.spans = new ConcurrentLinkedQueue<>();
+  }
+
+  /**
+   * @return the {@link Path} where to write the trace or {@code null} to write it next to the logfiles.
+   */
+  public Path getFile() {
+
+    return this.file;
+  }
+
+  void add(IdeProfilerSpan span) {
+
+    this.spans.add(span);
+  }
+
+  /**
+   * @param traceFile the {@link Path} where to write the recorded {@link IdeProfilerSpan spans} as Chrome trace.
+   * @param title the title for the trace (e.g. the command-line).
+   */
+  public void write(Path traceFile, String title) {
+
+    try {
+      Files.createDirectories(traceFile.toAbsolutePath().getParent());
+      try (Writer writer = Files.newBufferedWriter(traceFile); JsonGenerator json = new JsonFactory().createGenerator(writer)) {
+        long pid = ProcessHandle.current().pid();
+        json.writeStartObject();
+        json.writeStringField("displayTimeUnit", "ns");
+        json.writeArrayFieldStart("traceEvents");
+        writeMetadata(json, pid, 0, "process_name", title);
+        writeJvmStartup(json, pid);
+        Set<Long> threadIds = new HashSet<>();
+        for (IdeProfilerSpan span : List.copyOf(this.spans)) {
+          long tid = span.thread.threadId();
+          if (threadIds.add(tid)) {
+            writeMetadata(json, pid, tid, "thread_name", span.thread.getName());
+          }
+          writeSpan(json, pid, tid, span.category, span.name, toMicros(span.start), (span.end - span.start) / 1000.0, span.args);
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to write trace file " + traceFile, e);
+    }
+  }
+
+  private void writeJvmStartup(JsonGenerator json, long pid) throws IOException {
+
+    Instant jvmStart = ProcessHandle.current().info().startInstant().orElse(null);
+    if ((jvmStart != null) && jvmStart.isBefore(this.origin)) {
+      long jvmStartMicros = ChronoUnit.MICROS.between(Instant.EPOCH, jvmStart);
+      writeSpan(json, pid, 0, "startup", "JVM startup", jvmStartMicros, this.originMicros - jvmStartMicros, null);
+    }
+  }
+
+  private double toMicros(long nanos) {
+
+    // absolute timestamps so the JVM startup before the profiler was enabled can be shown as well
+    return this.originMicros + (nanos - this.originNanos) / 1000.0;
+  }
+
+  private static void writeMetadata(JsonGenerator json, long pid, long tid, String name, String value) throws IOException {
+
+    json.writeStartObject();
+    json.writeStringField("name", name);
+    json.writeStringField("ph", "M");
+    json.writeNumberField("pid", pid);
+    json.writeNumberField("tid", tid);
+    json.writeObjectFieldStart("args");
+    json.writeStringField("name", value);
+    json.writeEndObject();
+    json.writeEndObject();
+  }
+
+  private static void writeSpan(JsonGenerator json, long pid, long tid, String category, String name, double ts, double dur, Map<String, String> args)
+      throws IOException {
+
+    json.writeStartObject();
+    json.writeStringField("name", name);
+    json.writeStringField("cat", category);
+    json.writeStringField("ph", "X");
+    json.writeNumberField("ts", ts);
+    json.writeNumberField("dur", dur);
+    json.writeNumberField("pid", pid);
+    json.writeNumberField("tid", tid);
+    if (args != null) {
+      json.writeObjectFieldStart("args");
+      for (Map.Entry<String, String> entry : args.entrySet()) {
+        json.writeStringField(entry.getKey(), entry.getValue());
+      }
+      json.writeEndObject();
+    }
+    json.writeEndObject();
+  }
+
+  /**
+   * @return {@code true} if the {@link IdeProfiler} is enabled and records {@link IdeProfilerSpan spans}, {@code false} otherwise.
+   */
+  public static boolean isEnabled() {
+
+    return instance != null;
+  }
+
+  /**
+   * @return the enabled {@link IdeProfiler} or {@code null} if {@link #isEnabled() disabled}.
+   */
+  public static IdeProfiler get() {
+
+    return instance;
+  }
+
+  /**
+   * Enables the {@link IdeProfiler} if not already enabled.
+   *
+   * @param file the {@link #getFile() file} where to write the trace. May be {@code null}.
+   */
+  public static synchronized void enable(Path file) {
+
+    if (instance == null) {
+      instance = new IdeProfiler(file);
+    }
+  }
+
+  /**
+   * Enables the {@link IdeProfiler} if the environment variable {@link #VARIABLE_IDE_PROFILE IDE_PROFILE} is set.
+   *
+   * @return {@code true} if enabled, {@code false} otherwise.
+   */
+  public static boolean enableFromEnvironment() {
+
+    String value = System.getenv(VARIABLE_IDE_PROFILE);
+    if ((value == null) || value.isBlank() || "false".equals(value)) {
+      return false;
+    }
+    Path file = null;
+    if (!"true".equals(value)) {
+      file = Path.of(value);
+    }
+    enable(file);
+    return true;
+  }
+
+  /**
+   * Disables the {@link IdeProfiler} so no further {@link IdeProfilerSpan spans} are recorded.
+   *
+   * @return the previously enabled {@link IdeProfiler} or {@code null} if it was not enabled.
+   */
+  public static synchronized IdeProfiler disable() {
+
+    IdeProfiler profiler = instance;
+    instance = null;
+    return profiler;
+  }
+
+  /**
+   * @param category the category of the span (e.g. "startup", "step", "process" or "git").
+   * @param name the name of the span.
+   * @return the new {@link IdeProfilerSpan} that has to be {@link IdeProfilerSpan#close() closed}. Will do nothing if the profiler is
+   *     {@link #isEnabled() disabled}.
+   */
+  public static IdeProfilerSpan start(String category, String name) {
+
+    IdeProfiler profiler = instance;
+    if (profiler == null) {
+      return IdeProfilerSpan.NONE;
+    }
+    return new IdeProfilerSpan(profiler, category, name, System.nanoTime());
+  }
+
+}
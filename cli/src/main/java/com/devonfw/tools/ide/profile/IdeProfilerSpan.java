@@ -0,0 +1,82 @@
+package com.devonfw.tools.ide.profile;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A span of time measured by the {@link IdeProfiler}. It starts when created and ends when {@link #close() closed} so it is typically used in a
+ * try-with-resources block:
+ * <pre>
+ * try (IdeProfilerSpan span = IdeProfiler.start("git", "pull")) {
+ *   ...
+ * }
+ * </pre>
+ */
+public class IdeProfilerSpan implements AutoCloseable {
+
+  /** {@link IdeProfilerSpan} that does nothing used if the {@link IdeProfiler} is not {@link IdeProfiler#isEnabled() enabled}. */
+  static final IdeProfilerSpan NONE = new IdeProfilerSpan(null, null, null, 0) {
+
+    @Override
+    public IdeProfilerSpan arg(String key, Object value) {
+
+      return this;
+    }
+
+    @Override
+    public void close() {
+
+    }
+  };
+
+  private final IdeProfiler profiler;
+
+  final String category;
+
+  final String name;
+
+  final long start;
+
+  final Thread thread;
+
+  long end;
+
+  Map<String, String> args;
+
+  IdeProfilerSpan(IdeProfiler profiler, String category, String name, long start) {
+
+    super();
+    this.profiler = profiler;
+    this.category = category;
+    this.name = name;
+    this.start = start;
+    this.thread = Thread.currentThread();
+  }
+
+  /**
+   * @param key the name of the argument.
+   * @param value the value of the argument. Will be converted to {@link String}.
+   * @return this {@link IdeProfilerSpan} for fluent API calls.
+   */
+  public IdeProfilerSpan arg(String key, Object value) {
+
+    if (this.args == null) {
+      this.args = new LinkedHashMap<>();
+    }
+    this.args.put(key, String.valueOf(value));
+    return this;
+  }
+
+  /**
+   * Ends this {@link IdeProfilerSpan}. Has no effect if already closed.
+   */
+  @Override
+  public void close() {
+
+    if (this.end == 0) {
+      this.end = System.nanoTime();
+      this.profiler.add(this);
+    }
+  }
+
+}
@@ -1,6 +1,8 @@
 package com.devonfw.tools.ide.property;
 
 import com.devonfw.tools.ide.commandlet.Commandlet;
+import com.devonfw.tools.ide.commandlet.CommandletDescriptor;
+import com.devonfw.tools.ide.commandlet.CommandletManager;
 import com.devonfw.tools.ide.completion.CompletionCandidateCollector;
 import com.devonfw.tools.ide.context.IdeContext;
 import com.devonfw.tools.ide.validation.PropertyValidator;
@@ -50,10 +52,11 @@ public class CommandletProperty extends Property<Commandlet> {
   @Override
   protected void completeValue(String arg, IdeContext context, Commandlet commandlet, CompletionCandidateCollector collector) {
 
-    for (Commandlet cmd : context.getCommandletManager().getCommandlets()) {
-      String cmdName = cmd.getName();
+    CommandletManager commandletManager = context.getCommandletManager();
+    for (CommandletDescriptor descriptor : commandletManager.getCommandletDescriptors()) {
+      String cmdName = descriptor.name();
       if (cmdName.startsWith(arg)) {
-        collector.add(cmdName, null, null, cmd);
+        collector.add(cmdName, null, null, commandletManager.getCommandlet(cmdName));
       }
     }
   }
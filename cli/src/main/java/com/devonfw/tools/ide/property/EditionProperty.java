@@ -1,6 +1,12 @@
 package com.devonfw.tools.ide.property;
 
+import java.util.List;
+
+import com.devonfw.tools.ide.commandlet.Commandlet;
+import com.devonfw.tools.ide.completion.CompletionCandidateCollector;
+import com.devonfw.tools.ide.completion.CompletionIndex;
 import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.tool.ToolCommandlet;
 import com.devonfw.tools.ide.validation.PropertyValidator;
 
 public class EditionProperty extends Property<String> {
@@ -41,4 +47,24 @@ public class EditionProperty extends Property<String> {
 
     return valueAsString;
   }
+
+  @Override
+  protected void completeValue(String arg, IdeContext context, Commandlet commandlet, CompletionCandidateCollector collector) {
+
+    ToolCommandlet tool = commandlet.getToolForCompletion();
+    if (tool == null) {
+      return;
+    }
+    List<String> editions = null;
+    if (tool.getToolRepository() == context.getDefaultToolRepository()) {
+      CompletionIndex completionIndex = CompletionIndex.of(context);
+      if (completionIndex != null) {
+        editions = completionIndex.getEditions(tool.getName());
+      }
+    }
+    if (editions == null) {
+      editions = tool.getToolRepository().getSortedEditions(tool.getName());
+    }
+    collector.addAllMatches(arg, editions.toArray(String[]::new), this, commandlet);
+  }
 }
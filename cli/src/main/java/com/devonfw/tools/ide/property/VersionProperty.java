@@ -7,6 +7,7 @@ import java.util.stream.IntStream;
 import com.devonfw.tools.ide.commandlet.Commandlet;
 import com.devonfw.tools.ide.completion.CompletionCandidate;
 import com.devonfw.tools.ide.completion.CompletionCandidateCollector;
+import com.devonfw.tools.ide.completion.CompletionIndex;
 import com.devonfw.tools.ide.context.IdeContext;
 import com.devonfw.tools.ide.tool.ToolCommandlet;
 import com.devonfw.tools.ide.tool.repository.ToolRepository;
@@ -81,9 +82,18 @@ public class VersionProperty extends Property<VersionIdentifier> {
         }
       }
       ToolRepository toolRepository = tool.getToolRepository();
-      List<VersionIdentifier> versions = toolRepository.getSortedVersions(tool.getName(), tool.getConfiguredEdition(), tool);
-      int size = versions.size();
-      String[] sortedCandidates = IntStream.rangeClosed(1, size).mapToObj(i -> versions.get(size - i).toString()).toArray(String[]::new);
+      String[] sortedCandidates = null;
+      if (toolRepository == context.getDefaultToolRepository()) {
+        CompletionIndex completionIndex = CompletionIndex.of(context);
+        if (completionIndex != null) {
+          sortedCandidates = completionIndex.getVersions(tool.getName(), tool.getConfiguredEdition(), text);
+        }
+      }
+      if (sortedCandidates == null) {
+        List<VersionIdentifier> versions = toolRepository.getSortedVersions(tool.getName(), tool.getConfiguredEdition(), tool);
+        int size = versions.size();
+        sortedCandidates = IntStream.rangeClosed(1, size).mapToObj(i -> versions.get(size - i).toString()).toArray(String[]::new);
+      }
       collector.addAllMatches(text, sortedCandidates, this, commandlet);
       List<CompletionCandidate> candidates = collector.getCandidates();
       Collections.reverse(candidates);
@@ -12,6 +12,8 @@ import org.slf4j.event.Level;
 import com.devonfw.tools.ide.context.AbstractIdeContext;
 import com.devonfw.tools.ide.context.IdeContext;
 import com.devonfw.tools.ide.log.IdeLogLevel;
+import com.devonfw.tools.ide.profile.IdeProfiler;
+import com.devonfw.tools.ide.profile.IdeProfilerSpan;
 
 /**
  * Regular implementation of {@link Step}.
@@ -34,6 +36,8 @@ public final class StepImpl implements Step {
 
   private final boolean silent;
 
+  private final IdeProfilerSpan span;
+
   private Boolean success;
 
   private String errorMessage;
@@ -59,6 +63,7 @@ public final class StepImpl implements Step {
     this.silent = silent;
     this.children = new ArrayList<>();
     this.start = System.currentTimeMillis();
+    this.span = IdeProfiler.start("step", name);
     if (parent != null) {
       parent.children.add(this);
     }
@@ -146,6 +151,7 @@ public final class StepImpl implements Step {
         return;
       }
     }
+    this.span.close();
     long delay = System.currentTimeMillis() - this.start;
     if (delay == 0) {
       delay = 1;
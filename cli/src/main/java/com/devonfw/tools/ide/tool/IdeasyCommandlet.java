@@ -5,18 +5,22 @@ import java.io.Reader;
 import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.devonfw.tools.ide.cache.StatusCache;
 import com.devonfw.tools.ide.cli.CliException;
 import com.devonfw.tools.ide.commandlet.UpgradeMode;
 import com.devonfw.tools.ide.common.SimpleSystemPath;
@@ -74,6 +78,9 @@ public class IdeasyCommandlet extends MvnBasedLocalToolCommandlet {
       "setup.bat", false
   );
 
+  /** The {@link Duration} the {@link #getLatestVersionCached() latest version} is reused from the {@link StatusCache}. */
+  private static final Duration LATEST_VERSION_MAX_AGE = Duration.ofHours(1);
+
   private final UpgradeMode mode;
 
   /** Pattern for IDEasy SNAPSHOT versions built locally. */
@@ -139,6 +146,11 @@ public class IdeasyCommandlet extends MvnBasedLocalToolCommandlet {
   @Override
   public VersionIdentifier getConfiguredVersion() {
 
+    return getUpgradeMode().getVersion();
+  }
+
+  private UpgradeMode getUpgradeMode() {
+
     UpgradeMode upgradeMode = this.mode;
     if (upgradeMode == null) {
       if (IdeVersion.isSnapshot()) {
@@ -151,7 +163,7 @@ public class IdeasyCommandlet extends MvnBasedLocalToolCommandlet {
         }
       }
     }
-    return upgradeMode.getVersion();
+    return upgradeMode;
   }
 
   @Override
@@ -188,22 +200,65 @@ public class IdeasyCommandlet extends MvnBasedLocalToolCommandlet {
     return getToolRepository().resolveVersion(this.tool, getConfiguredEdition(), configuredVersion, this);
   }
 
+  /**
+   * @return the {@link #getLatestVersion() latest version} of IDEasy from the {@link StatusCache} if determined recently, otherwise the
+   *     {@link #getLatestVersion() latest version} that is then cached.
+   */
+  public VersionIdentifier getLatestVersionCached() {
+
+    if (IdeVersion.isUndefined()) {
+      return getLatestVersion();
+    }
+    StatusCache statusCache = new StatusCache(this.context);
+    String key = TOOL_NAME + "-latest-" + getUpgradeMode().name().toLowerCase(Locale.ROOT);
+    String cachedVersion = statusCache.get(key, LATEST_VERSION_MAX_AGE);
+    if (cachedVersion != null) {
+      return VersionIdentifier.of(cachedVersion);
+    }
+    VersionIdentifier latestVersion = getLatestVersion();
+    statusCache.set(key, latestVersion.toString());
+    return latestVersion;
+  }
+
   /**
    * Checks if an update is available and logs according information.
    *
    * @return {@code true} if an update is available, {@code false} otherwise.
    */
   public boolean checkIfUpdateIsAvailable() {
+
+    return checkIfUpdateIsAvailable(this::getLatestVersion);
+  }
+
+  /**
+   * Checks if an update is available and logs according information.
+   *
+   * @param latestVersionSupplier the {@link Supplier} of the {@link #getLatestVersion() latest version} that is only invoked if online.
+   * @return {@code true} if an update is available, {@code false} otherwise.
+   */
+  public boolean checkIfUpdateIsAvailable(Supplier<VersionIdentifier> latestVersionSupplier) {
+
+    return checkIfUpdateIsAvailable(this.context.isOffline(), latestVersionSupplier);
+  }
+
+  /**
+   * Checks if an update is available and logs according information.
+   *
+   * @param offline the already determined {@link IdeContext#isOffline() offline} status so the online check is not triggered again.
+   * @param latestVersionSupplier the {@link Supplier} of the {@link #getLatestVersion() latest version} that is only invoked if online.
+   * @return {@code true} if an update is available, {@code false} otherwise.
+   */
+  public boolean checkIfUpdateIsAvailable(boolean offline, Supplier<VersionIdentifier> latestVersionSupplier) {
     VersionIdentifier installedVersion = getInstalledVersion();
     IdeLogLevel.SUCCESS.log(LOG, "Your version of IDEasy is {}.", installedVersion);
     if (IdeVersion.isSnapshot()) {
       LOG.warn("You are using a SNAPSHOT version of IDEasy. For stability consider switching to a stable release via 'ide upgrade --mode=stable'");
     }
-    if (this.context.isOffline()) {
+    if (offline) {
       LOG.warn("Skipping check for newer version of IDEasy because you are offline.");
       return false;
     }
-    VersionIdentifier latestVersion = getLatestVersion();
+    VersionIdentifier latestVersion = latestVersionSupplier.get();
     if (IdeVersion.isSnapshot()) {
       if (isSameSnapshotVersion(installedVersion.toString(), latestVersion.toString())) {
         IdeLogLevel.SUCCESS.log(LOG, "Your are using the latest snapshot version of IDEasy and no update is available.");
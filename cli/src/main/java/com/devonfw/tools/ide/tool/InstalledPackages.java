@@ -0,0 +1,289 @@
+package com.devonfw.tools.ide.tool;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.devonfw.tools.ide.json.JsonMapping;
+import com.devonfw.tools.ide.version.VersionIdentifier;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Reads the versions of the packages installed by a package manager (npm, pip, uv) directly from their metadata on disk. This avoids to spawn a package
+ * manager process per tool just to find out its installed version. All packages are read in a single pass on first access and cached until
+ * {@link #invalidate() invalidated} or until the installation itself has been replaced (e.g. by a reinstallation or upgrade of node or python).
+ */
+public final class InstalledPackages {
+
+  private static final Logger LOG = LoggerFactory.getLogger(InstalledPackages.class);
+
+  private static final ObjectMapper MAPPER = JsonMapping.create();
+
+  private static final String DIST_INFO = ".dist-info";
+
+  private static final String METADATA_NAME = "Name:";
+
+  private static final String METADATA_VERSION = "Version:";
+
+  private final Path path;
+
+  private final Scanner scanner;
+
+  private Map<String, VersionIdentifier> packages;
+
+  private String installationStamp;
+
+  private InstalledPackages(Path path, Scanner scanner) {
+
+    super();
+    this.path = path;
+    this.scanner = scanner;
+  }
+
+  /**
+   * @param packageName the name of the package (e.g. "@angular/cli" or "pip").
+   * @return the installed {@link VersionIdentifier version} of the given package or {@code null} if it could not be found on disk.
+   */
+  public synchronized VersionIdentifier getVersion(String packageName) {
+
+    String stamp = computeInstallationStamp();
+    if ((this.packages == null) || !Objects.equals(this.installationStamp, stamp)) {
+      this.installationStamp = stamp;
+      this.packages = new HashMap<>();
+      if (Files.isDirectory(this.path)) {
+        try {
+          this.scanner.scan(this.path, this.packages);
+        } catch (Exception e) {
+          LOG.debug("Failed to read installed packages from {}", this.path, e);
+        }
+      }
+      LOG.trace("Found {} installed packages in {}", this.packages.size(), this.path);
+    }
+    return this.packages.get(this.scanner.normalize(packageName));
+  }
+
+  /**
+   * @return a stamp of the installation that changes if it gets replaced (e.g. a link switched to another version or a new folder created in place of a
+   *     backup) or {@code null} if it does not exist.
+   */
+  private String computeInstallationStamp() {
+
+    try {
+      BasicFileAttributes attributes = Files.readAttributes(this.path, BasicFileAttributes.class);
+      return this.path.toRealPath() + "|" + attributes.fileKey() + "|" + attributes.creationTime() + "|" + attributes.lastModifiedTime();
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Invalidates the cached packages so they are read again on the next {@link #getVersion(String) access}. Has to be called after a package has been
+   * installed or uninstalled.
+   */
+  public synchronized void invalidate() {
+
+    this.packages = null;
+  }
+
+  /**
+   * @param nodePath the {@link Path} to the node installation.
+   * @return the {@link InstalledPackages} for the global npm packages ({@code lib/node_modules/*}{@code /package.json} or on Windows
+   *     {@code node_modules/*}{@code /package.json}).
+   */
+  public static InstalledPackages ofNode(Path nodePath) {
+
+    return new InstalledPackages(nodePath, new NodeScanner());
+  }
+
+  /**
+   * @param pythonPath the {@link Path} to the python installation (virtual environment).
+   * @return the {@link InstalledPackages} for the pip packages ({@code lib/python*}{@code /site-packages/*.dist-info/METADATA} or on Windows
+   *     {@code Lib/site-packages/*.dist-info/METADATA}).
+   */
+  public static InstalledPackages ofPython(Path pythonPath) {
+
+    return new InstalledPackages(pythonPath, new PythonScanner());
+  }
+
+  /**
+   * @param uvToolsPath the {@link Path} to the {@code UV_TOOL_DIR} containing a virtual environment per tool.
+   * @return the {@link InstalledPackages} for the tools installed via {@code uv tool install}. Only the package named like its tool environment is considered
+   *     so dependencies of a tool are not mistaken as installed tools.
+   */
+  public static InstalledPackages ofUvTools(Path uvToolsPath) {
+
+    return new InstalledPackages(uvToolsPath, new UvToolsScanner());
+  }
+
+  private interface Scanner {
+
+    void scan(Path path, Map<String, VersionIdentifier> packages) throws IOException;
+
+    default String normalize(String packageName) {
+
+      return packageName;
+    }
+  }
+
+  private static final class NodeScanner implements Scanner {
+
+    @Override
+    public void scan(Path path, Map<String, VersionIdentifier> packages) throws IOException {
+
+      scanNodeModules(path.resolve("lib").resolve("node_modules"), packages);
+      scanNodeModules(path.resolve("node_modules"), packages);
+    }
+
+    private static void scanNodeModules(Path nodeModules, Map<String, VersionIdentifier> packages) throws IOException {
+
+      forEachChild(nodeModules, child -> {
+        if (child.getFileName().toString().startsWith("@")) {
+          // scoped packages such as @angular/cli
+          forEachChild(child, scopedChild -> readPackageJson(scopedChild, packages));
+        } else {
+          readPackageJson(child, packages);
+        }
+      });
+    }
+
+    private static void readPackageJson(Path packagePath, Map<String, VersionIdentifier> packages) {
+
+      Path packageJson = packagePath.resolve("package.json");
+      if (Files.isRegularFile(packageJson)) {
+        JsonNode json;
+        try {
+          json = MAPPER.readTree(packageJson.toFile());
+        } catch (IOException e) {
+          // a single broken package must not hide all other installed packages
+          LOG.debug("Failed to read {}", packageJson, e);
+          return;
+        }
+        JsonNode name = json.get("name");
+        JsonNode version = json.get("version");
+        if ((name != null) && (version != null)) {
+          packages.putIfAbsent(name.asText(), VersionIdentifier.of(version.asText()));
+        }
+      }
+    }
+  }
+
+  private static class PythonScanner implements Scanner {
+
+    @Override
+    public void scan(Path path, Map<String, VersionIdentifier> packages) throws IOException {
+
+      for (Path sitePackages : findSitePackages(path)) {
+        forEachChild(sitePackages, child -> {
+          if (child.getFileName().toString().endsWith(DIST_INFO)) {
+            readMetadata(child.resolve("METADATA"), packages);
+          }
+        });
+      }
+    }
+
+    /**
+     * @param name the package name.
+     * @return the normalized package name according to PEP 503 (e.g. "Foo_Bar" becomes "foo-bar").
+     */
+    @Override
+    public String normalize(String name) {
+
+      return name.toLowerCase(Locale.ROOT).replaceAll("[-_.]+", "-");
+    }
+
+    static List<Path> findSitePackages(Path venvPath) throws IOException {
+
+      Path windowsSitePackages = venvPath.resolve("Lib").resolve("site-packages");
+      if (Files.isDirectory(windowsSitePackages)) {
+        return List.of(windowsSitePackages);
+      }
+      Path lib = venvPath.resolve("lib");
+      if (!Files.isDirectory(lib)) {
+        return List.of();
+      }
+      try (Stream<Path> children = Files.list(lib)) {
+        return children.filter(child -> child.getFileName().toString().startsWith("python")).map(child -> child.resolve("site-packages"))
+            .filter(Files::isDirectory).toList();
+      }
+    }
+
+    void readMetadata(Path metadata, Map<String, VersionIdentifier> packages) {
+
+      if (!Files.isRegularFile(metadata)) {
+        return;
+      }
+      String name = null;
+      String version = null;
+      try (BufferedReader reader = Files.newBufferedReader(metadata, StandardCharsets.UTF_8)) {
+        String line = reader.readLine();
+        // the header ends with the first empty line followed by the description
+        while ((line != null) && !line.isEmpty() && ((name == null) || (version == null))) {
+          if (line.startsWith(METADATA_NAME)) {
+            name = line.substring(METADATA_NAME.length()).trim();
+          } else if (line.startsWith(METADATA_VERSION)) {
+            version = line.substring(METADATA_VERSION.length()).trim();
+          }
+          line = reader.readLine();
+        }
+      } catch (IOException e) {
+        // a single broken package must not hide all other installed packages
+        LOG.debug("Failed to read {}", metadata, e);
+        return;
+      }
+      if ((name != null) && (version != null)) {
+        packages.putIfAbsent(normalize(name), VersionIdentifier.of(version));
+      }
+    }
+  }
+
+  private static final class UvToolsScanner extends PythonScanner {
+
+    @Override
+    public void scan(Path path, Map<String, VersionIdentifier> packages) throws IOException {
+
+      forEachChild(path, toolEnv -> {
+        String tool = normalize(toolEnv.getFileName().toString());
+        Map<String, VersionIdentifier> toolPackages = new HashMap<>();
+        super.scan(toolEnv, toolPackages);
+        VersionIdentifier version = toolPackages.get(tool);
+        if (version != null) {
+          packages.put(tool, version);
+        }
+      });
+    }
+  }
+
+  private static void forEachChild(Path folder, PathConsumer consumer) throws IOException {
+
+    if (!Files.isDirectory(folder)) {
+      return;
+    }
+    List<Path> children;
+    try (Stream<Path> childStream = Files.list(folder)) {
+      children = childStream.filter(Files::isDirectory).toList();
+    }
+    for (Path child : children) {
+      consumer.accept(child);
+    }
+  }
+
+  @FunctionalInterface
+  private interface PathConsumer {
+
+    void accept(Path path) throws IOException;
+  }
+
+}
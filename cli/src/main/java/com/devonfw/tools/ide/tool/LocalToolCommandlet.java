@@ -13,12 +13,14 @@ import com.devonfw.tools.ide.cli.CliException;
 import com.devonfw.tools.ide.cli.CliOfflineException;
 import com.devonfw.tools.ide.common.Tag;
 import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.io.ContentStore;
 import com.devonfw.tools.ide.io.FileAccess;
 import com.devonfw.tools.ide.log.IdeLogLevel;
 import com.devonfw.tools.ide.process.ProcessContext;
 import com.devonfw.tools.ide.step.Step;
 import com.devonfw.tools.ide.tool.repository.ToolRepository;
 import com.devonfw.tools.ide.url.model.file.json.ToolDependency;
+import com.devonfw.tools.ide.variable.IdeVariables;
 import com.devonfw.tools.ide.version.GenericVersionRange;
 import com.devonfw.tools.ide.version.VersionIdentifier;
 import com.devonfw.tools.ide.version.VersionRange;
@@ -158,6 +160,16 @@ public abstract class LocalToolCommandlet extends ToolCommandlet {
     return false;
   }
 
+  /**
+   * @return {@code true} if the installation of this tool may be deduplicated via the {@link ContentStore} (if enabled), {@code false} otherwise. Has to be
+   *     overridden to return {@code false} for tools that modify files of their own installation (e.g. package managers installing packages or upgrading
+   *     themselves) as the linked files are read-only and shared with other installations.
+   */
+  protected boolean isDeduplicationSupported() {
+
+    return true;
+  }
+
   /**
    * Performs the installation of the {@link #getName() tool} together with the environment context  managed by this
    * {@link com.devonfw.tools.ide.commandlet.Commandlet}.
@@ -251,7 +263,12 @@ public abstract class LocalToolCommandlet extends ToolCommandlet {
     FileAccess fileAccess = this.context.getFileAccess();
     ToolEditionAndVersion requested = request.getRequested();
     VersionIdentifier resolvedVersion = requested.getResolvedVersion();
-    Path downloadedToolFile = downloadTool(requested.getEdition().edition(), resolvedVersion);
+    String edition = requested.getEdition().edition();
+    Path extractedToolDir = downloadAndExtractTool(edition, resolvedVersion);
+    Path downloadedToolFile = null;
+    if (extractedToolDir == null) {
+      downloadedToolFile = downloadTool(edition, resolvedVersion);
+    }
 
     if (Files.isDirectory(installationPath)) {
       if (this.tool.equals(IdeasyCommandlet.TOOL_NAME)) {
@@ -262,7 +279,17 @@ public abstract class LocalToolCommandlet extends ToolCommandlet {
     }
     fileAccess.mkdirs(installationPath.getParent());
 
-    installDownloadedToolPayload(request, installationPath, downloadedToolFile);
+    if (extractedToolDir == null) {
+      installDownloadedToolPayload(request, installationPath, downloadedToolFile);
+    } else {
+      fileAccess.moveExtracted(extractedToolDir, installationPath, this::postExtract);
+    }
+    if (isDeduplicationSupported()) {
+      ContentStore contentStore = new ContentStore(this.context);
+      if (contentStore.isApplicable(installationPath)) {
+        contentStore.deduplicate(installationPath);
+      }
+    }
 
     this.context.writeVersionFile(resolvedVersion, installationPath);
     // fix macOS Gatekeeper blocking - must run after version file is written but before any executables are launched
@@ -295,6 +322,48 @@ public abstract class LocalToolCommandlet extends ToolCommandlet {
     return getToolRepository().download(this.tool, edition, resolvedVersion, this);
   }
 
+  /**
+   * Downloads and extracts the tool in a single pass if {@link IdeVariables#STREAMING_INSTALL streaming install} is enabled and supported for the requested
+   * download (see {@link ToolRepository#downloadAndExtract(String, String, VersionIdentifier, ToolCommandlet)}).
+   *
+   * @param edition the {@link #getConfiguredEdition() tool edition} to download.
+   * @param resolvedVersion the resolved {@link VersionIdentifier version} to download.
+   * @return the {@link Path} to the temporary directory with the extracted tool or {@code null} if the tool has to be
+   *     {@link #downloadTool(String, VersionIdentifier) downloaded} and {@link #installDownloadedToolPayload(ToolInstallRequest, Path, Path) installed} as
+   *     usual.
+   */
+  protected Path downloadAndExtractTool(String edition, VersionIdentifier resolvedVersion) {
+
+    if (!isExtract() || !IdeVariables.STREAMING_INSTALL.get(this.context)) {
+      return null;
+    }
+    return getToolRepository().downloadAndExtract(this.tool, edition, resolvedVersion, this);
+  }
+
+  /**
+   * Prepares the {@link #downloadTool(String, VersionIdentifier) download} of this tool so that it can be performed ahead of the actual installation (e.g. in
+   * parallel to the downloads of other tools).
+   *
+   * @param request the {@link ToolInstallRequest} that has already been {@link #completeRequest(ToolInstallRequest) completed}.
+   * @return the {@link Runnable} performing the download or {@code null} if nothing has to be downloaded in advance (e.g. because the tool is already
+   *     installed or does not support this).
+   * @see ToolRepository#prepareDownload(String, String, VersionIdentifier, ToolCommandlet)
+   */
+  protected Runnable prepareDownload(ToolInstallRequest request) {
+
+    if (request.isAlreadyInstalled()) {
+      return null;
+    }
+    ToolEditionAndVersion requested = request.getRequested();
+    String edition = requested.getEdition().edition();
+    VersionIdentifier resolvedVersion = requested.getResolvedVersion();
+    Path installationPath = getInstallationPath(edition, resolvedVersion);
+    if (Files.exists(installationPath.resolve(IdeContext.FILE_SOFTWARE_VERSION))) {
+      return null;
+    }
+    return getToolRepository().prepareDownload(this.tool, edition, resolvedVersion, this);
+  }
+
   /**
    * Install this tool as dependency of another tool.
    *
@@ -158,6 +158,13 @@ public abstract class PackageManagerBasedLocalToolCommandlet<P extends ToolComma
 
   private VersionIdentifier determineInstalledVersion() {
 
+    InstalledPackages installedPackages = getInstalledPackages();
+    if (installedPackages != null) {
+      VersionIdentifier version = installedPackages.getVersion(getPackageName());
+      if (version != null) {
+        return version;
+      }
+    }
     try {
       return computeInstalledVersion();
     } catch (Exception e) {
@@ -166,6 +173,24 @@ public abstract class PackageManagerBasedLocalToolCommandlet<P extends ToolComma
     }
   }
 
+  /**
+   * @return the {@link InstalledPackages} to read the {@link #getInstalledVersion() installed version} directly from disk or {@code null} if not supported.
+   *     Only if the package is not found there, the version is {@link #computeInstalledVersion() computed} via the package manager as fallback.
+   */
+  protected InstalledPackages getInstalledPackages() {
+
+    return null;
+  }
+
+  private void invalidateInstalledVersion() {
+
+    InstalledPackages installedPackages = getInstalledPackages();
+    if (installedPackages != null) {
+      installedPackages.invalidate();
+    }
+    this.installedVersion.invalidate();
+  }
+
   /**
    * @return the computed value of the {@link #getInstalledVersion() installed version}.
    * @implNote Implementations of this method should NOT trigger any tool installation or download. If you need to call
@@ -191,13 +216,20 @@ public abstract class PackageManagerBasedLocalToolCommandlet<P extends ToolComma
     return getInstalledVersion();
   }
 
+  @Override
+  protected final Runnable prepareDownload(ToolInstallRequest request) {
+
+    // the package manager takes care of the download
+    return null;
+  }
+
   @Override
   protected final void performToolInstallation(ToolInstallRequest request, Path installationPath) {
 
     PackageManagerRequest packageManagerRequest = new PackageManagerRequest(PackageManagerRequest.TYPE_INSTALL, getPackageName())
         .setProcessContext(request.getProcessContext()).setVersion(request.getRequested().getResolvedVersion());
     runPackageManager(packageManagerRequest, isSkipInstallation()).failOnError();
-    this.installedVersion.invalidate();
+    invalidateInstalledVersion();
   }
 
   /**
@@ -220,7 +252,7 @@ public abstract class PackageManagerBasedLocalToolCommandlet<P extends ToolComma
     if (canBeUninstalled()) {
       PackageManagerRequest request = new PackageManagerRequest(PackageManagerRequest.TYPE_UNINSTALL, getPackageName());
       runPackageManager(request).failOnError();
-      this.installedVersion.invalidate();
+      invalidateInstalledVersion();
     } else {
       LOG.info("IDEasy does not support uninstalling the tool {} since this will break your installation.\n"
           + "If you really want to uninstall it, please uninstall its parent tool via:\n"
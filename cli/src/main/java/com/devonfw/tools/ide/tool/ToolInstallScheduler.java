@@ -0,0 +1,236 @@
+package com.devonfw.tools.ide.tool;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.devonfw.tools.ide.cli.CliAbortException;
+import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.log.IdeThreadLogBuffer;
+import com.devonfw.tools.ide.url.model.file.json.ToolDependency;
+import com.devonfw.tools.ide.variable.IdeVariables;
+import com.devonfw.tools.ide.version.VersionIdentifier;
+
+/**
+ * Scheduler to install or update a set of {@link ToolCommandlet tools} as done by {@code ide update} or {@code ide create}. It determines an installation
+ * order that respects the {@link ToolDependency dependencies} between the given tools and downloads the required software packages in parallel (see
+ * {@link IdeVariables#PARALLEL_DOWNLOADS}) before the tools get installed one after the other. Extraction, linking and updating the
+ * {@link IdeContext#getPath() PATH} is therefore still performed sequentially in a deterministic order.
+ */
+public class ToolInstallScheduler {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ToolInstallScheduler.class);
+
+  private final IdeContext context;
+
+  private final List<ToolCommandlet> tools;
+
+  private final Map<ToolCommandlet, Runnable> downloads;
+
+  private final Map<ToolCommandlet, ToolInstallRequest> requests;
+
+  private final Map<ToolCommandlet, CliAbortException> aborts;
+
+  private List<ToolCommandlet> installationOrder;
+
+  /**
+   * The constructor.
+   *
+   * @param context the {@link IdeContext}.
+   * @param tools the {@link Collection} of {@link ToolCommandlet tools} to install or update.
+   */
+  public ToolInstallScheduler(IdeContext context, Collection<? extends ToolCommandlet> tools) {
+
+    super();
+    this.context = context;
+    // tools are planned per commandlet so e.g. a custom tool with the same name as a regular tool is not lost
+    this.tools = tools.stream().distinct()
+        .sorted(Comparator.comparing(ToolCommandlet::getName).thenComparing(tool -> tool.getClass().getName()))
+        .collect(Collectors.toCollection(ArrayList::new));
+    this.downloads = new LinkedHashMap<>();
+    this.requests = new HashMap<>();
+    this.aborts = new HashMap<>();
+  }
+
+  /**
+   * @return the {@link List} of {@link ToolCommandlet tools} in the order they will be installed. Tools are sorted by their {@link ToolCommandlet#getName()
+   *     name} except that a tool is always installed after the given tools it depends on.
+   */
+  public List<ToolCommandlet> getInstallationOrder() {
+
+    if (this.installationOrder == null) {
+      this.installationOrder = plan();
+    }
+    return this.installationOrder;
+  }
+
+  private List<ToolCommandlet> plan() {
+
+    Map<ToolCommandlet, Set<ToolCommandlet>> dependencies = new HashMap<>();
+    for (ToolCommandlet tool : this.tools) {
+      Set<ToolCommandlet> toolDependencies = new HashSet<>();
+      if (tool instanceof LocalToolCommandlet localTool) {
+        ToolInstallRequest request = new ToolInstallRequest(false);
+        try {
+          localTool.completeRequest(request);
+          // the request is reused by the installation so it is completed only once
+          this.requests.put(tool, request);
+          planDownloadAndDependencies(localTool, request, toolDependencies);
+        } catch (CliAbortException e) {
+          // same as if installed sequentially: the user aborted this tool so its step fails while the other tools are still installed
+          this.aborts.put(tool, e);
+        } catch (RuntimeException e) {
+          // any error will be reported properly by the installation step of the tool
+          LOG.debug("Failed to plan installation of {}", tool.getName(), e);
+        }
+      }
+      dependencies.put(tool, toolDependencies);
+    }
+    return sortTopologically(dependencies);
+  }
+
+  private void planDownloadAndDependencies(LocalToolCommandlet tool, ToolInstallRequest request, Set<ToolCommandlet> toolDependencies) {
+
+    try {
+      ToolEditionAndVersion requested = request.getRequested();
+      Runnable download = tool.prepareDownload(request);
+      if (download != null) {
+        // the CVE check may ask the user for a different version and has to be done before anything gets downloaded
+        VersionIdentifier version = requested.getResolvedVersion();
+        tool.cveCheck(request);
+        if (!version.equals(requested.getResolvedVersion())) {
+          download = tool.prepareDownload(request);
+        }
+        if (download != null) {
+          this.downloads.put(tool, download);
+        }
+      }
+      Collection<ToolDependency> toolDependencyList = tool.getToolRepository()
+          .findDependencies(tool.getName(), requested.getEdition().edition(), requested.getResolvedVersion());
+      for (ToolDependency dependency : toolDependencyList) {
+        for (ToolCommandlet dependencyTool : this.tools) {
+          if ((dependencyTool != tool) && dependencyTool.getName().equals(dependency.tool())) {
+            toolDependencies.add(dependencyTool);
+          }
+        }
+      }
+    } catch (CliAbortException e) {
+      throw e;
+    } catch (RuntimeException e) {
+      // any error will be reported properly by the installation step of the tool
+      LOG.debug("Failed to plan installation of {}", tool.getName(), e);
+    }
+  }
+
+  private List<ToolCommandlet> sortTopologically(Map<ToolCommandlet, Set<ToolCommandlet>> dependencies) {
+
+    Map<ToolCommandlet, Integer> inDegree = new HashMap<>();
+    Map<ToolCommandlet, List<ToolCommandlet>> dependents = new HashMap<>();
+    for (Map.Entry<ToolCommandlet, Set<ToolCommandlet>> entry : dependencies.entrySet()) {
+      ToolCommandlet tool = entry.getKey();
+      inDegree.put(tool, entry.getValue().size());
+      for (ToolCommandlet dependency : entry.getValue()) {
+        dependents.computeIfAbsent(dependency, d -> new ArrayList<>()).add(tool);
+      }
+    }
+    PriorityQueue<ToolCommandlet> ready = new PriorityQueue<>(Comparator.comparingInt(this.tools::indexOf));
+    for (Map.Entry<ToolCommandlet, Integer> entry : inDegree.entrySet()) {
+      if (entry.getValue() == 0) {
+        ready.add(entry.getKey());
+      }
+    }
+    List<ToolCommandlet> result = new ArrayList<>(this.tools.size());
+    while (!ready.isEmpty()) {
+      ToolCommandlet tool = ready.poll();
+      result.add(tool);
+      for (ToolCommandlet dependent : dependents.getOrDefault(tool, List.of())) {
+        int degree = inDegree.merge(dependent, -1, Integer::sum);
+        if (degree == 0) {
+          ready.add(dependent);
+        }
+      }
+    }
+    if (result.size() < this.tools.size()) {
+      // cyclic dependencies - install remaining tools in order of their names as before
+      for (ToolCommandlet tool : this.tools) {
+        if (!result.contains(tool)) {
+          LOG.debug("Cyclic dependency detected for tool {}", tool.getName());
+          result.add(tool);
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Downloads the software packages of all tools that need to be installed or updated in parallel and then installs the tools in the
+   * {@link #getInstallationOrder() installation order} each in its own {@link com.devonfw.tools.ide.step.Step}.
+   */
+  public void install() {
+
+    List<ToolCommandlet> order = getInstallationOrder();
+    download();
+    for (ToolCommandlet tool : order) {
+      CliAbortException abort = this.aborts.remove(tool);
+      ToolInstallRequest request = this.requests.remove(tool);
+      if (request == null) {
+        request = new ToolInstallRequest(false);
+      }
+      ToolInstallRequest installRequest = request;
+      this.context.newStep("Install " + tool.getName()).run(() -> {
+        if (abort != null) {
+          throw abort;
+        }
+        tool.install(installRequest);
+      });
+    }
+  }
+
+  private void download() {
+
+    int parallelDownloads = IdeVariables.PARALLEL_DOWNLOADS.get(this.context);
+    int downloadCount = this.downloads.size();
+    if ((parallelDownloads <= 1) || (downloadCount <= 1)) {
+      // nothing to gain - downloads will happen sequentially during installation
+      return;
+    }
+    LOG.info("Downloading {} tools in parallel: {}", downloadCount, this.downloads.keySet().stream().map(ToolCommandlet::getName).toList());
+    int threads = Math.min(parallelDownloads, downloadCount);
+    List<IdeThreadLogBuffer> logBuffers = new ArrayList<>(downloadCount);
+    try (ExecutorService executor = Executors.newFixedThreadPool(threads, Thread.ofVirtual().name("ide-download-", 1).factory())) {
+      for (Map.Entry<ToolCommandlet, Runnable> entry : this.downloads.entrySet()) {
+        String tool = entry.getKey().getName();
+        Runnable download = entry.getValue();
+        // the console is owned by the main thread so the output of the download is collected and logged after all downloads completed
+        IdeThreadLogBuffer logBuffer = new IdeThreadLogBuffer();
+        logBuffers.add(logBuffer);
+        executor.execute(() -> logBuffer.run(() -> {
+          try {
+            download.run();
+          } catch (Exception e) {
+            // the installation of the tool will retry the download and report the error properly
+            LOG.debug("Download of {} in advance failed", tool, e);
+          }
+        }));
+      }
+    }
+    for (IdeThreadLogBuffer logBuffer : logBuffers) {
+      logBuffer.flush();
+    }
+    this.downloads.clear();
+  }
+
+}
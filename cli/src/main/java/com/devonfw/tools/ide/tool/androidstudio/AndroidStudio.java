@@ -1,6 +1,8 @@
 package com.devonfw.tools.ide.tool.androidstudio;
 
 import java.nio.file.Files;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 import com.devonfw.tools.ide.common.Tag;
@@ -69,4 +71,11 @@ public class AndroidStudio extends IdeaBasedIdeToolCommandlet {
     IdeaPluginDownloader ideaPluginDownloader = new IdeaPluginDownloader(this.context, this);
     return ideaPluginDownloader.installPlugin(plugin, step, pc);
   }
+
+  @Override
+  protected Collection<ToolPluginDescriptor> installPluginBatch(List<ToolPluginDescriptor> plugins, Step step, ProcessContext pc) {
+
+    IdeaPluginDownloader ideaPluginDownloader = new IdeaPluginDownloader(this.context, this);
+    return ideaPluginDownloader.installPlugins(plugins);
+  }
 }
@@ -4,6 +4,9 @@ import java.io.RandomAccessFile;
 import java.nio.channels.FileLock;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -94,20 +97,56 @@ public class Eclipse extends IdeToolCommandlet {
 
     ProcessResult result = runTool(pc, ProcessMode.DEFAULT_CAPTURE, List.of("-application", "org.eclipse.equinox.p2.director",
         "-repository", plugin.url(), "-installIU", plugin.id()));
-    if (result.isSuccessful()) {
-      for (String line : result.getOut()) {
-        if (line.contains("Overall install request is satisfiable")) {
-          IdeLogLevel.SUCCESS.log(LOG, "Successfully installed plugin: {}", plugin.name());
-          step.success();
-          return true;
-        }
-      }
+    if (result.isSuccessful() && isInstallRequestSatisfiable(result)) {
+      IdeLogLevel.SUCCESS.log(LOG, "Successfully installed plugin: {}", plugin.name());
+      step.success();
+      return true;
     }
     result.log(IdeLogLevel.DEBUG, IdeLogLevel.ERROR);
     step.error("Failed to install plugin {} ({}): exit code was {}", plugin.name(), plugin.id(), result.getExitCode());
     return false;
   }
 
+  @Override
+  protected boolean isPluginBatchInstallationSupported() {
+
+    return true;
+  }
+
+  @Override
+  protected Collection<ToolPluginDescriptor> installPluginBatch(List<ToolPluginDescriptor> plugins, Step step, ProcessContext pc) {
+
+    Set<String> repositories = new LinkedHashSet<>();
+    List<String> installableUnits = new ArrayList<>(plugins.size());
+    for (ToolPluginDescriptor plugin : plugins) {
+      if (plugin.url() != null) {
+        repositories.add(plugin.url());
+      }
+      installableUnits.add(plugin.id());
+    }
+    ProcessResult result = runTool(pc, ProcessMode.DEFAULT_CAPTURE, List.of("-application", "org.eclipse.equinox.p2.director",
+        "-repository", String.join(",", repositories), "-installIU", String.join(",", installableUnits)));
+    if (result.isSuccessful() && isInstallRequestSatisfiable(result)) {
+      for (ToolPluginDescriptor plugin : plugins) {
+        IdeLogLevel.SUCCESS.log(LOG, "Successfully installed plugin: {}", plugin.name());
+      }
+      return plugins;
+    }
+    result.log(IdeLogLevel.DEBUG, IdeLogLevel.DEBUG);
+    LOG.warn("Failed to install {} plugins at once (exit code {}), falling back to individual installation.", plugins.size(), result.getExitCode());
+    return List.of();
+  }
+
+  private static boolean isInstallRequestSatisfiable(ProcessResult result) {
+
+    for (String line : result.getOut()) {
+      if (line.contains("Overall install request is satisfiable")) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   @Override
   public void configureWorkspace() {
 
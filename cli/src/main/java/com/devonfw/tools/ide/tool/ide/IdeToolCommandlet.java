@@ -2,6 +2,7 @@ package com.devonfw.tools.ide.tool.ide;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -42,6 +43,9 @@ public abstract class IdeToolCommandlet extends PluginBasedCommandlet {
 
   private static final Logger LOG = LoggerFactory.getLogger(IdeToolCommandlet.class);
 
+  /** Name of the file in the {@link #getIdeMetadataPath() IDE metadata folder} with the fingerprints of the last workspace merge. */
+  protected static final String FILE_WORKSPACE_MERGE_FINGERPRINTS = "workspace-merge.properties";
+
   private final Map<String, Set<Path>> extraSdkMap;
 
   /**
@@ -122,10 +126,12 @@ public abstract class IdeToolCommandlet extends PluginBasedCommandlet {
 
   private void doMergeWorkspaceStep(Step step, Path workspaceFolder) {
 
-    int errors = 0;
-    errors = mergeWorkspace(this.context.getUserHomeIde(), workspaceFolder, errors);
-    errors = mergeWorkspace(this.context.getSettingsPath(), workspaceFolder, errors);
-    errors = mergeWorkspace(this.context.getConfPath(), workspaceFolder, errors);
+    List<Path> templateFolders = new ArrayList<>();
+    addTemplateFolders(this.context.getUserHomeIde(), templateFolders);
+    addTemplateFolders(this.context.getSettingsPath(), templateFolders);
+    addTemplateFolders(this.context.getConfPath(), templateFolders);
+    Path fingerprintFile = getIdeMetadataPath().resolve(FILE_WORKSPACE_MERGE_FINGERPRINTS);
+    int errors = this.context.getWorkspaceMerger().merge(templateFolders, this.context.getVariables(), workspaceFolder, fingerprintFile);
 
     synchronizeExtraToolInstallations();
 
@@ -140,24 +146,10 @@ public abstract class IdeToolCommandlet extends PluginBasedCommandlet {
     }
   }
 
-  private int mergeWorkspace(Path configFolder, Path workspaceFolder, int errors) {
-
-    int result = errors;
-    result = mergeWorkspaceSingle(configFolder.resolve(IdeContext.FOLDER_WORKSPACE), workspaceFolder, result);
-    result = mergeWorkspaceSingle(configFolder.resolve(this.tool).resolve(IdeContext.FOLDER_WORKSPACE), workspaceFolder, result);
-    return result;
-  }
+  private void addTemplateFolders(Path configFolder, List<Path> templateFolders) {
 
-  private int mergeWorkspaceSingle(Path templatesFolder, Path workspaceFolder, int errors) {
-
-    Path setupFolder = templatesFolder.resolve(IdeContext.FOLDER_SETUP);
-    Path updateFolder = templatesFolder.resolve(IdeContext.FOLDER_UPDATE);
-    if (!Files.isDirectory(setupFolder) && !Files.isDirectory(updateFolder)) {
-      LOG.trace("Skipping empty or non-existing workspace template folder {}.", templatesFolder);
-      return errors;
-    }
-    LOG.debug("Merging workspace templates from {}...", templatesFolder);
-    return errors + this.context.getWorkspaceMerger().merge(setupFolder, updateFolder, this.context.getVariables(), workspaceFolder);
+    templateFolders.add(configFolder.resolve(IdeContext.FOLDER_WORKSPACE));
+    templateFolders.add(configFolder.resolve(this.tool).resolve(IdeContext.FOLDER_WORKSPACE));
   }
 
   /**
@@ -2,9 +2,12 @@ package com.devonfw.tools.ide.tool.ide;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 
 import org.slf4j.Logger;
@@ -66,6 +69,45 @@ public class IdeaBasedIdeToolCommandlet extends IdeToolCommandlet {
     }
   }
 
+  @Override
+  protected boolean isPluginBatchInstallationSupported() {
+
+    return true;
+  }
+
+  @Override
+  protected Collection<ToolPluginDescriptor> installPluginBatch(List<ToolPluginDescriptor> plugins, Step step, ProcessContext pc) {
+
+    // the installPlugins command accepts multiple plugin IDs but only for the same custom repo url
+    Map<String, List<ToolPluginDescriptor>> pluginsByUrl = new LinkedHashMap<>();
+    for (ToolPluginDescriptor plugin : plugins) {
+      pluginsByUrl.computeIfAbsent(plugin.url(), url -> new ArrayList<>()).add(plugin);
+    }
+    List<ToolPluginDescriptor> installedPlugins = new ArrayList<>(plugins.size());
+    for (Map.Entry<String, List<ToolPluginDescriptor>> entry : pluginsByUrl.entrySet()) {
+      List<ToolPluginDescriptor> group = entry.getValue();
+      List<String> args = new ArrayList<>();
+      args.add("installPlugins");
+      for (ToolPluginDescriptor plugin : group) {
+        args.add(plugin.id().replace("+", " "));
+      }
+      String url = entry.getKey();
+      if (url != null) {
+        args.add(url);
+      }
+      ProcessResult result = runTool(pc, ProcessMode.DEFAULT, args);
+      if (result.isSuccessful()) {
+        for (ToolPluginDescriptor plugin : group) {
+          IdeLogLevel.SUCCESS.log(LOG, "Successfully installed plugin: {}", plugin.name());
+        }
+        installedPlugins.addAll(group);
+      } else {
+        LOG.warn("Failed to install {} plugins at once (exit code {}), falling back to individual installation.", group.size(), result.getExitCode());
+      }
+    }
+    return installedPlugins;
+  }
+
   /**
    * Returns the IDE product prefix used in various files inside the {@code bin} directory, e.g. {@code "idea"} for {@code idea64.exe} or {@code "studio"} for
    * {@code studio64.vmoptions}.
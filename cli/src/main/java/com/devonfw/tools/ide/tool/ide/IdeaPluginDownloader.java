@@ -4,25 +4,33 @@ import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URLEncoder;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.devonfw.tools.ide.context.IdeContext;
 import com.devonfw.tools.ide.io.FileAccess;
-import com.devonfw.tools.ide.io.HttpClientFactory;
+import com.devonfw.tools.ide.log.IdeLogLevel;
+import com.devonfw.tools.ide.log.IdeThreadLogBuffer;
 import com.devonfw.tools.ide.os.MacOsHelper;
 import com.devonfw.tools.ide.process.ProcessContext;
 import com.devonfw.tools.ide.step.Step;
 import com.devonfw.tools.ide.tool.plugin.ToolPluginDescriptor;
+import com.devonfw.tools.ide.variable.IdeVariables;
 
 /**
  * Used for a direct download and installation of idea plugins
@@ -53,12 +61,62 @@ public class IdeaPluginDownloader {
    * @return boolean {@code true} if successful installed, {@code false} if not.
    */
   public boolean installPlugin(ToolPluginDescriptor plugin, Step step, ProcessContext pc) {
-    String downloadUrl = getDownloadUrl(plugin);
 
-    String pluginId = plugin.id();
+    try {
+      installPlugin(plugin);
+      step.success();
+      return true;
+    } catch (IOException e) {
+      step.error(e);
+      throw new IllegalStateException("Failed to process installation of plugin: " + plugin.id(), e);
+    }
+  }
 
-    Path tmpDir = null;
+  /**
+   * Downloads and installs the given plugins concurrently. The output of each plugin installation is buffered and logged in the order of the given plugins
+   * after all installations have completed.
+   *
+   * @param plugins the {@link List} of {@link ToolPluginDescriptor plugins} to install.
+   * @return the {@link List} with the {@link ToolPluginDescriptor plugins} that have been installed successfully.
+   */
+  public List<ToolPluginDescriptor> installPlugins(List<ToolPluginDescriptor> plugins) {
+
+    List<ToolPluginDescriptor> installedPlugins = new CopyOnWriteArrayList<>();
+    Map<ToolPluginDescriptor, IdeThreadLogBuffer> logBuffers = new LinkedHashMap<>();
+    int threads = Math.max(1, Math.min(plugins.size(), IdeVariables.PARALLEL_DOWNLOADS.get(this.context)));
+    try (ExecutorService executor = Executors.newFixedThreadPool(threads, Thread.ofVirtual().name("ide-plugin-", 1).factory())) {
+      for (ToolPluginDescriptor plugin : plugins) {
+        IdeThreadLogBuffer logBuffer = new IdeThreadLogBuffer();
+        logBuffers.put(plugin, logBuffer);
+        executor.submit(() -> logBuffer.run(() -> {
+          try {
+            installPlugin(plugin);
+            IdeLogLevel.SUCCESS.log(LOG, "Successfully installed plugin: {}", plugin.name());
+            installedPlugins.add(plugin);
+          } catch (Exception e) {
+            LOG.warn("Failed to install plugin {}", plugin.name(), e);
+          }
+        }));
+      }
+    } finally {
+      for (IdeThreadLogBuffer logBuffer : logBuffers.values()) {
+        logBuffer.flush();
+      }
+    }
+    List<ToolPluginDescriptor> result = new ArrayList<>(installedPlugins.size());
+    for (ToolPluginDescriptor plugin : plugins) {
+      if (installedPlugins.contains(plugin)) {
+        result.add(plugin);
+      }
+    }
+    return result;
+  }
+
+  private void installPlugin(ToolPluginDescriptor plugin) throws IOException {
 
+    String downloadUrl = getDownloadUrl(plugin);
+    String pluginId = plugin.id();
+    Path tmpDir = null;
     try {
       Path installationPath = this.commandlet.getPluginsInstallationPath();
       ensureInstallationPathExists(installationPath);
@@ -68,12 +126,6 @@ public class IdeaPluginDownloader {
 
       Path downloadedFile = downloadPlugin(fileAccess, downloadUrl, tmpDir, pluginId);
       extractDownloadedPlugin(fileAccess, downloadedFile, pluginId);
-
-      step.success();
-      return true;
-    } catch (IOException e) {
-      step.error(e);
-      throw new IllegalStateException("Failed to process installation of plugin: " + pluginId, e);
     } finally {
       if (tmpDir != null) {
         context.getFileAccess().delete(tmpDir);
@@ -145,12 +197,12 @@ public class IdeaPluginDownloader {
 
     URI uri = null;
     HttpRequest request;
-    try (HttpClient client = HttpClientFactory.create()) {
+    try {
       uri = URI.create(urlString);
       request = HttpRequest.newBuilder().uri(uri)
           .method("HEAD", HttpRequest.BodyPublishers.noBody()).timeout(Duration.ofSeconds(5)).build();
 
-      HttpResponse<?> res = client.send(request, HttpResponse.BodyHandlers.ofString());
+      HttpResponse<?> res = this.context.getHttpClientManager().send(request, HttpResponse.BodyHandlers.ofString());
 
       int responseCode = res.statusCode();
       if (responseCode != HttpURLConnection.HTTP_OK) {
@@ -36,6 +36,15 @@ public class Msvc extends LocalToolCommandlet {
     return createExistingToolInstallation(request);
   }
 
+  @Override
+  protected Runnable prepareDownload(ToolInstallRequest request) {
+
+    if (this.context.getSystemInfo().isWindows()) {
+      return super.prepareDownload(request);
+    }
+    return null;
+  }
+
   @Override
   protected void installDownloadedToolPayload(ToolInstallRequest request, Path installationPath, Path installer) {
 
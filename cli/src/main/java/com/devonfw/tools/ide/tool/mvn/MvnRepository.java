@@ -1,7 +1,7 @@
 package com.devonfw.tools.ide.tool.mvn;
 
 import java.io.InputStream;
-import java.net.URL;
+import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
@@ -54,6 +54,9 @@ public class MvnRepository extends ArtifactToolRepository<MvnArtifact, MvnArtifa
 
   private static final Duration METADATA_CACHE_DURATION_SNAPSHOT = Duration.ofMinutes(5);
 
+  /** The metadata of IDEasy itself is revalidated on every access (cheap conditional request) so new releases are detected immediately. */
+  private static final Duration METADATA_CACHE_DURATION_IDEASY = Duration.ZERO;
+
   private final Path localMavenRepository;
 
   private final DocumentBuilder documentBuilder;
@@ -203,7 +206,7 @@ public class MvnRepository extends ArtifactToolRepository<MvnArtifact, MvnArtifa
     versionString = resolvedVersion.toString();
     if (versionString.endsWith("-SNAPSHOT")) {
       artifact = artifact.withVersion(versionString);
-      return resolveSnapshotVersion(getMavenUrl(artifact), versionString);
+      return resolveSnapshotVersion(artifact, versionString);
     }
     return resolvedVersion;
   }
@@ -211,9 +214,9 @@ public class MvnRepository extends ArtifactToolRepository<MvnArtifact, MvnArtifa
   @Override
   protected List<VersionIdentifier> fetchVersions(MvnArtifact artifact) {
 
-    String metadataUrl = getMavenUrl(artifact.withMavenMetadata());
-
-    Document metadata = fetchXmlMetadata(metadataUrl);
+    MvnArtifact metadataArtifact = artifact.withMavenMetadata();
+    String metadataUrl = getMavenUrl(metadataArtifact);
+    Document metadata = fetchXmlMetadata(metadataUrl, getMetadataCacheDuration(metadataArtifact));
     return fetchVersions(metadata, metadataUrl);
   }
 
@@ -229,8 +232,9 @@ public class MvnRepository extends ArtifactToolRepository<MvnArtifact, MvnArtifa
     return versionList;
   }
 
-  private VersionIdentifier resolveSnapshotVersion(String metadataUrl, String baseVersion) {
-    Document metadata = fetchXmlMetadata(metadataUrl);
+  private VersionIdentifier resolveSnapshotVersion(MvnArtifact metadataArtifact, String baseVersion) {
+    String metadataUrl = getMavenUrl(metadataArtifact);
+    Document metadata = fetchXmlMetadata(metadataUrl, getMetadataCacheDuration(metadataArtifact));
     return resolveSnapshotVersion(metadata, baseVersion, metadataUrl);
   }
 
@@ -252,6 +256,20 @@ public class MvnRepository extends ArtifactToolRepository<MvnArtifact, MvnArtifa
     return super.download(metadata);
   }
 
+  @Override
+  public Runnable prepareDownload(String tool, String edition, VersionIdentifier version, ToolCommandlet toolCommandlet) {
+
+    // artifacts are downloaded into the local maven repository and not into the download-cache
+    return null;
+  }
+
+  @Override
+  public Path downloadAndExtract(String tool, String edition, VersionIdentifier version, ToolCommandlet toolCommandlet) {
+
+    // artifacts are downloaded into the local maven repository and not into the download-cache
+    return null;
+  }
+
   /**
    * @param metadata the {@link MvnArtifactMetadata}.
    * @return the {@link Path} to the downloaded artifact.
@@ -276,15 +294,30 @@ public class MvnRepository extends ArtifactToolRepository<MvnArtifact, MvnArtifa
     throw new IllegalStateException("Failed to resolve snapshot version - element " + tag + " not found in " + source);
   }
 
-  private Document fetchXmlMetadata(String url) {
+  private static Duration getMetadataCacheDuration(MvnArtifact metadataArtifact) {
+
+    if (IdeasyCommandlet.ARTIFACT.getGroupId().equals(metadataArtifact.getGroupId())
+        && IdeasyCommandlet.ARTIFACT.getArtifactId().equals(metadataArtifact.getArtifactId())) {
+      return METADATA_CACHE_DURATION_IDEASY;
+    } else if (metadataArtifact.getVersion().endsWith("-SNAPSHOT")) {
+      return METADATA_CACHE_DURATION_SNAPSHOT;
+    }
+    return METADATA_CACHE_DURATION_RELEASE;
+  }
+
+  private Document fetchXmlMetadata(String url, Duration cacheDuration) {
 
     try {
-      return this.context.getNetworkStatus().invokeNetworkTask(() -> {
-        URL xmlUrl = new URL(url);
-        try (InputStream is = xmlUrl.openStream()) {
-          return documentBuilder.parse(is);
-        }
-      }, url);
+      if (!url.startsWith("http://") && !url.startsWith("https://")) {
+        // e.g. a file URL of a local repository that can not be retrieved via HTTP and does not need caching
+        return this.context.getNetworkStatus().invokeNetworkTask(() -> {
+          try (InputStream in = URI.create(url).toURL().openStream()) {
+            return this.documentBuilder.parse(in);
+          }
+        }, url);
+      }
+      Path xmlFile = this.context.getHttpMetadataCache().get(url, cacheDuration);
+      return this.documentBuilder.parse(xmlFile.toFile());
     } catch (Exception e) {
       throw new CliException("Failed to determine the latest version from " + url, e);
     }
@@ -1,5 +1,6 @@
 package com.devonfw.tools.ide.tool.node;
 
+import java.nio.file.Path;
 import java.util.Set;
 
 import org.slf4j.Logger;
@@ -10,6 +11,7 @@ import com.devonfw.tools.ide.context.IdeContext;
 import com.devonfw.tools.ide.log.IdeLogLevel;
 import com.devonfw.tools.ide.nls.NlsBundle;
 import com.devonfw.tools.ide.process.ProcessResult;
+import com.devonfw.tools.ide.tool.InstalledPackages;
 import com.devonfw.tools.ide.tool.LocalToolCommandlet;
 import com.devonfw.tools.ide.tool.PackageManagerRequest;
 import com.devonfw.tools.ide.tool.ToolCommandlet;
@@ -23,6 +25,8 @@ public class Node extends LocalToolCommandlet {
 
   private static final Logger LOG = LoggerFactory.getLogger(Node.class);
 
+  private InstalledPackages installedPackages;
+
   /**
    * The constructor.
    *
@@ -33,6 +37,21 @@ public class Node extends LocalToolCommandlet {
     super(context, "node", Set.of(Tag.JAVA_SCRIPT, Tag.RUNTIME));
   }
 
+  /**
+   * @return the {@link InstalledPackages} of the global npm packages installed in this node installation or {@code null} if not in a project.
+   */
+  public InstalledPackages getInstalledPackages() {
+
+    if (this.installedPackages == null) {
+      Path toolPath = getToolPath();
+      if (toolPath == null) {
+        return null;
+      }
+      this.installedPackages = InstalledPackages.ofNode(toolPath);
+    }
+    return this.installedPackages;
+  }
+
   @Override
   protected void postInstallOnNewInstallation(ToolInstallRequest request) {
 
@@ -61,4 +80,11 @@ public class Node extends LocalToolCommandlet {
 
     return true;
   }
+
+  @Override
+  protected boolean isDeduplicationSupported() {
+
+    // npm installs global packages into this installation (npm_config_prefix) and can upgrade itself
+    return false;
+  }
 }
@@ -13,6 +13,7 @@ import com.devonfw.tools.ide.process.ProcessContext;
 import com.devonfw.tools.ide.process.ProcessErrorHandling;
 import com.devonfw.tools.ide.process.ProcessMode;
 import com.devonfw.tools.ide.process.ProcessResult;
+import com.devonfw.tools.ide.tool.InstalledPackages;
 import com.devonfw.tools.ide.tool.LocalToolCommandlet;
 import com.devonfw.tools.ide.tool.PackageManagerRequest;
 import com.devonfw.tools.ide.tool.node.NodeBasedCommandlet;
@@ -50,6 +51,12 @@ public abstract class NpmBasedCommandlet extends NodeBasedCommandlet<Npm> {
     return this.context.getNpmRepository();
   }
 
+  @Override
+  protected InstalledPackages getInstalledPackages() {
+
+    return getParentTool().getInstalledPackages();
+  }
+
   @Override
   protected VersionIdentifier computeInstalledVersion() {
     return runPackageManagerGetInstalledVersion(getPackageName());
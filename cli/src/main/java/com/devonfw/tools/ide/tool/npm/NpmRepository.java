@@ -1,5 +1,8 @@
 package com.devonfw.tools.ide.tool.npm;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -11,7 +14,6 @@ import com.devonfw.tools.ide.tool.node.NodeBasedCommandlet;
 import com.devonfw.tools.ide.tool.repository.AbstractToolRepository;
 import com.devonfw.tools.ide.tool.repository.ArtifactToolRepository;
 import com.devonfw.tools.ide.version.VersionIdentifier;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
@@ -61,16 +63,17 @@ public class NpmRepository extends ArtifactToolRepository<NpmArtifact, NpmArtifa
   protected List<VersionIdentifier> fetchVersions(NpmArtifact artifact) {
 
     String url = getRegistryUrl() + artifact.getName();
-    String json = this.context.getFileAccess().download(url);
+    // revalidated on every access but only transferred again if changed
+    Path json = this.context.getHttpMetadataCache().get(url, Duration.ZERO);
     try {
-      NpmJs npmJs = MAPPER.readValue(json, NpmJs.class);
+      NpmJs npmJs = MAPPER.readValue(json.toFile(), NpmJs.class);
       Set<String> versionSet = npmJs.versions().getVersionMap().keySet();
       List<VersionIdentifier> versions = new ArrayList<>(versionSet.size());
       for (String version : versionSet) {
         versions.add(VersionIdentifier.of(version));
       }
       return versions;
-    } catch (JsonProcessingException e) {
+    } catch (IOException e) {
       throw new RuntimeException("Failed to process JSON from " + url, e);
     }
   }
@@ -13,6 +13,7 @@ import com.devonfw.tools.ide.log.IdeLogLevel;
 import com.devonfw.tools.ide.process.ProcessErrorHandling;
 import com.devonfw.tools.ide.process.ProcessMode;
 import com.devonfw.tools.ide.process.ProcessResult;
+import com.devonfw.tools.ide.tool.InstalledPackages;
 import com.devonfw.tools.ide.tool.PackageManagerBasedLocalToolCommandlet;
 import com.devonfw.tools.ide.tool.PackageManagerRequest;
 import com.devonfw.tools.ide.tool.ToolCommandlet;
@@ -91,6 +92,12 @@ public abstract class PipBasedCommandlet extends PackageManagerBasedLocalToolCom
     super.completeRequestArgs(request);
   }
 
+  @Override
+  protected InstalledPackages getInstalledPackages() {
+
+    return getParentTool().getInstalledPackages();
+  }
+
   @Override
   protected VersionIdentifier computeInstalledVersion() {
 
@@ -4,6 +4,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
@@ -176,8 +177,7 @@ public abstract class PluginBasedCommandlet extends LocalToolCommandlet {
         }
       }
     }
-    int currentPluginIndex = 1;
-    int totalPlugins = pluginsToInstall.size();
+    List<ToolPluginDescriptor> pendingPlugins = new ArrayList<>(pluginsToInstall.size());
     for (ToolPluginDescriptor plugin : pluginsToInstall) {
       Path pluginMarkerFile = retrievePluginMarkerFilePath(plugin);
       boolean pluginMarkerFileExists = (pluginMarkerFile != null) && Files.exists(pluginMarkerFile);
@@ -185,11 +185,28 @@ public abstract class PluginBasedCommandlet extends LocalToolCommandlet {
         LOG.debug("Markerfile for IDE {} and plugin '{}' already exists.", getName(), plugin.name());
       }
       if (this.context.isForcePlugins() || !pluginMarkerFileExists) {
+        pendingPlugins.add(plugin);
+      } else {
+        LOG.debug("Skipping installation of plugin '{}' due to existing marker file: {}", plugin.name(), pluginMarkerFile);
+      }
+    }
+    if ((pendingPlugins.size() > 1) && isPluginBatchInstallationSupported()) {
+      Step step = this.context.newStep("Install " + pendingPlugins.size() + " plugins");
+      Set<ToolPluginDescriptor> installedPlugins = new HashSet<>();
+      step.run(() -> doInstallPluginBatchStep(pendingPlugins, installedPlugins, step, pc));
+      pendingPlugins.removeAll(installedPlugins);
+      if (!pendingPlugins.isEmpty()) {
+        LOG.info("Installing {} remaining plugin(s) one by one.", pendingPlugins.size());
+      }
+      pluginsToInstall = pendingPlugins;
+    }
+    int currentPluginIndex = 1;
+    int totalPlugins = pluginsToInstall.size();
+    for (ToolPluginDescriptor plugin : pluginsToInstall) {
+      if (pendingPlugins.contains(plugin)) {
         String progressMarker = " (" + currentPluginIndex + "/" + totalPlugins + ")";
         Step step = this.context.newStep("Install plugin " + plugin.name() + progressMarker);
         step.run(() -> doInstallPluginStep(plugin, step, pc));
-      } else {
-        LOG.debug("Skipping installation of plugin '{}' due to existing marker file: {}", plugin.name(), pluginMarkerFile);
       }
       currentPluginIndex++;
     }
@@ -229,6 +246,23 @@ public abstract class PluginBasedCommandlet extends LocalToolCommandlet {
     return extraPlugins;
   }
 
+  private void doInstallPluginBatchStep(List<ToolPluginDescriptor> plugins, Set<ToolPluginDescriptor> installedPlugins, Step step, ProcessContext pc) {
+
+    for (ToolPluginDescriptor plugin : installPluginBatch(plugins, step, pc)) {
+      createPluginMarkerFile(plugin);
+      installedPlugins.add(plugin);
+    }
+    if (step.getSuccess() != null) {
+      return; // already ended by installPluginBatch
+    }
+    int failedPlugins = plugins.size() - installedPlugins.size();
+    if (failedPlugins == 0) {
+      step.success();
+    } else {
+      step.error("Failed to install {} of {} plugins at once.", failedPlugins, plugins.size());
+    }
+  }
+
   private void doInstallPluginStep(ToolPluginDescriptor plugin, Step step, ProcessContext pc) {
     boolean result = installPlugin(plugin, step, pc);
     if (result) {
@@ -296,6 +330,30 @@ public abstract class PluginBasedCommandlet extends LocalToolCommandlet {
    */
   public abstract boolean installPlugin(ToolPluginDescriptor plugin, Step step, ProcessContext pc);
 
+  /**
+   * @return {@code true} if this tool can {@link #installPluginBatch(List, Step, ProcessContext) install multiple plugins at once}, {@code false} otherwise
+   *     (default).
+   */
+  protected boolean isPluginBatchInstallationSupported() {
+
+    return false;
+  }
+
+  /**
+   * Installs multiple plugins at once (e.g. with a single process invocation) what is much faster than {@link #installPlugin(ToolPluginDescriptor, Step,
+   * ProcessContext) installing them one by one}. Only called if {@link #isPluginBatchInstallationSupported() supported}. Plugins that are not returned as
+   * installed will be installed one by one afterwards.
+   *
+   * @param plugins the {@link List} of {@link ToolPluginDescriptor plugins} to install.
+   * @param step the {@link Step} for the batch installation.
+   * @param pc the {@link ProcessContext} to use.
+   * @return the {@link Collection} with the {@link ToolPluginDescriptor plugins} that have been installed successfully.
+   */
+  protected Collection<ToolPluginDescriptor> installPluginBatch(List<ToolPluginDescriptor> plugins, Step step, ProcessContext pc) {
+
+    return List.of();
+  }
+
   /**
    * @param plugin the {@link ToolPluginDescriptor} to install.
    * @param step the {@link Step} for the plugin installation.
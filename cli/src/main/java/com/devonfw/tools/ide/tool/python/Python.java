@@ -13,6 +13,7 @@ import com.devonfw.tools.ide.common.Tag;
 import com.devonfw.tools.ide.context.IdeContext;
 import com.devonfw.tools.ide.io.FileAccess;
 import com.devonfw.tools.ide.process.EnvironmentContext;
+import com.devonfw.tools.ide.tool.InstalledPackages;
 import com.devonfw.tools.ide.tool.LocalToolCommandlet;
 import com.devonfw.tools.ide.tool.ToolCommandlet;
 import com.devonfw.tools.ide.tool.ToolInstallRequest;
@@ -30,6 +31,8 @@ public class Python extends LocalToolCommandlet {
 
   private final VersionIdentifier PYTHON_MIN_VERSION = VersionIdentifier.of("3.8.2");
 
+  private InstalledPackages installedPackages;
+
   /**
    * The constructor.
    *
@@ -40,6 +43,21 @@ public class Python extends LocalToolCommandlet {
     super(context, "python", Set.of(Tag.PYTHON));
   }
 
+  /**
+   * @return the {@link InstalledPackages} of the pip packages installed in this python environment or {@code null} if not in a project.
+   */
+  public InstalledPackages getInstalledPackages() {
+
+    if (this.installedPackages == null) {
+      Path toolPath = getToolPath();
+      if (toolPath == null) {
+        return null;
+      }
+      this.installedPackages = InstalledPackages.ofPython(toolPath);
+    }
+    return this.installedPackages;
+  }
+
   @Override
   protected void performToolInstallation(ToolInstallRequest request, Path installationPath) {
 
@@ -62,6 +80,13 @@ public class Python extends LocalToolCommandlet {
     LOG.debug("Installed {} in version {} at {}", this.tool, resolvedVersion, installationPath);
   }
 
+  @Override
+  protected Runnable prepareDownload(ToolInstallRequest request) {
+
+    // python is installed via uv and not from a download
+    return null;
+  }
+
   @Override
   public void setEnvironment(EnvironmentContext environmentContext, ToolInstallation toolInstallation, boolean additionalInstallation) {
 
@@ -76,6 +101,13 @@ public class Python extends LocalToolCommandlet {
     return true;
   }
 
+  @Override
+  protected boolean isDeduplicationSupported() {
+
+    // pip and uv install packages into this virtual environment
+    return false;
+  }
+
   @Override
   protected boolean isIgnoreMissingSoftwareVersionFile() {
 
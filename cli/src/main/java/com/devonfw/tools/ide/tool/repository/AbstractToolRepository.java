@@ -1,12 +1,18 @@
 package com.devonfw.tools.ide.tool.repository;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,6 +21,8 @@ import org.slf4j.event.Level;
 import com.devonfw.tools.ide.cli.CliException;
 import com.devonfw.tools.ide.cli.CliOfflineException;
 import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.io.FileAccess;
+import com.devonfw.tools.ide.io.TarCompression;
 import com.devonfw.tools.ide.log.IdeLogLevel;
 import com.devonfw.tools.ide.os.OperatingSystem;
 import com.devonfw.tools.ide.os.SystemArchitecture;
@@ -43,6 +51,8 @@ public abstract class AbstractToolRepository implements ToolRepository {
   /** The owning {@link IdeContext}. */
   protected final IdeContext context;
 
+  private final Set<Path> prefetchedDownloads;
+
   /**
    * The constructor.
    *
@@ -52,6 +62,7 @@ public abstract class AbstractToolRepository implements ToolRepository {
 
     super();
     this.context = context;
+    this.prefetchedDownloads = ConcurrentHashMap.newKeySet();
   }
 
   /**
@@ -89,17 +100,18 @@ public abstract class AbstractToolRepository implements ToolRepository {
    * @return the {@link Path} to the downloaded file.
    */
   protected Path doDownload(UrlDownloadFileMetadata metadata) {
-    String downloadFilename = createDownloadFilename(metadata.getTool(), metadata.getEdition(), metadata.getVersion(), metadata.getOs(),
-        metadata.getArch(), metadata.getUrls().iterator().next());
-    Path downloadCache = this.context.getDownloadPath().resolve(getId());
-    this.context.getFileAccess().mkdirs(downloadCache);
-    Path target = downloadCache.resolve(downloadFilename);
 
+    Path target = getDownloadTarget(metadata);
+    if (Files.exists(target) && !verifyCachedDownload(target, metadata.getChecksums())) {
+      LOG.warn("Cached download {} has a wrong checksum and has been deleted.", target);
+    }
     if (Files.exists(target)) {
       // File is already cached
       if (this.context.getNetworkStatus().isOffline()) {
         LOG.debug("Using cached download of {} in version {} from {} (offline mode)",
             metadata.getTool(), metadata.getVersion(), target);
+      } else if (this.prefetchedDownloads.contains(target)) {
+        LOG.debug("Using download of {} in version {} from {} that was fetched in advance", metadata.getTool(), metadata.getVersion(), target);
       } else {
         IdeLogLevel.INTERACTION.log(LOG, "Artifact already exists at {}\nTo force update please delete the file and run again.", target);
       }
@@ -112,6 +124,89 @@ public abstract class AbstractToolRepository implements ToolRepository {
     return target;
   }
 
+  /**
+   * @param metadata the {@link UrlDownloadFileMetadata}.
+   * @return the {@link Path} to the file in the download-cache.
+   */
+  private Path getDownloadTarget(UrlDownloadFileMetadata metadata) {
+
+    String downloadFilename = createDownloadFilename(metadata.getTool(), metadata.getEdition(), metadata.getVersion(), metadata.getOs(),
+        metadata.getArch(), metadata.getUrls().iterator().next());
+    Path downloadCache = this.context.getDownloadPath().resolve(getId());
+    this.context.getFileAccess().mkdirs(downloadCache);
+    return downloadCache.resolve(downloadFilename);
+  }
+
+  @Override
+  public Runnable prepareDownload(String tool, String edition, VersionIdentifier version, ToolCommandlet toolCommandlet) {
+
+    if (VersionIdentifier.LATEST.equals(version) || this.context.getNetworkStatus().isOffline()) {
+      // latest downloads are never put into the download-cache and could therefore not be reused
+      return null;
+    }
+    return prepareDownload(getMetadata(tool, edition, version, toolCommandlet));
+  }
+
+  /**
+   * @param metadata the resolved {@link UrlDownloadFileMetadata}.
+   * @return the {@link Runnable} performing the download or {@code null} if the software is already in the download-cache.
+   * @see #prepareDownload(String, String, VersionIdentifier, ToolCommandlet)
+   */
+  protected Runnable prepareDownload(UrlDownloadFileMetadata metadata) {
+
+    if (metadata.getUrls().isEmpty()) {
+      return null;
+    }
+    Path target = getDownloadTarget(metadata);
+    if (Files.exists(target)) {
+      return null;
+    }
+    return () -> {
+      Path downloaded = download(metadata, target);
+      this.prefetchedDownloads.add(downloaded);
+    };
+  }
+
+  @Override
+  public Path downloadAndExtract(String tool, String edition, VersionIdentifier version, ToolCommandlet toolCommandlet) {
+
+    if (VersionIdentifier.LATEST.equals(version) || this.context.getNetworkStatus().isOffline()) {
+      return null;
+    }
+    UrlDownloadFileMetadata metadata = getMetadata(tool, edition, version, toolCommandlet);
+    if (metadata.getUrls().isEmpty()) {
+      return null;
+    }
+    Path target = getDownloadTarget(metadata);
+    TarCompression compression = TarCompression.of(target.getFileName().toString());
+    if ((compression == null) || Files.exists(target)) {
+      // a cached download is extracted from the download-cache as usual
+      return null;
+    }
+    FileAccess fileAccess = this.context.getFileAccess();
+    String downloadFilename = target.getFileName().toString();
+    List<UrlGenericChecksum> checksums = getChecksums(metadata.getChecksums());
+    return download(metadata, target, url -> {
+      Path tmpDownloadFile = createTempDownload(downloadFilename);
+      Path extractDir = fileAccess.createTempDir("extract-" + downloadFilename);
+      try {
+        Map<String, String> actualChecksums = fileAccess.downloadAndExtractTar(url, tmpDownloadFile, extractDir, compression,
+            getHashAlgorithms(checksums));
+        verifyChecksums(tmpDownloadFile, checksums, version, actualChecksums);
+      } catch (RuntimeException e) {
+        // discard everything so that nothing unverified gets installed
+        fileAccess.delete(tmpDownloadFile);
+        fileAccess.delete(extractDir);
+        throw e;
+      }
+      fileAccess.move(tmpDownloadFile, target);
+      for (UrlGenericChecksum checksum : checksums) {
+        writeVerifiedMarker(target, checksum);
+      }
+      return extractDir;
+    });
+  }
+
   /**
    * @param metadata the {@link UrlDownloadFileMetadata} for the download.
    * @param target the expected {@link Path} to download to.
@@ -119,19 +214,37 @@ public abstract class AbstractToolRepository implements ToolRepository {
    */
   private Path download(UrlDownloadFileMetadata metadata, Path target) {
 
-    VersionIdentifier resolvedVersion = metadata.getVersion();
+    UrlChecksums checksums = metadata.getChecksums();
+    return download(metadata, target, url -> {
+      Path result = download(url, target, metadata.getVersion(), checksums);
+      if (result.equals(target)) {
+        for (UrlGenericChecksum checksum : getChecksums(checksums)) {
+          writeVerifiedMarker(target, checksum);
+        }
+      }
+      return result;
+    });
+  }
+
+  /**
+   * @param metadata the {@link UrlDownloadFileMetadata} for the download.
+   * @param target the expected {@link Path} to download to.
+   * @param downloader the {@link Function} performing the download from the given URL.
+   * @return the result of the first successful {@code downloader} invocation.
+   */
+  private Path download(UrlDownloadFileMetadata metadata, Path target, Function<String, Path> downloader) {
+
     List<String> urlList = new ArrayList<>(metadata.getUrls());
     int size = urlList.size();
     int max = size - 1;
     if (size > 1) {
       Collections.shuffle(urlList);
     }
-    UrlChecksums checksums = metadata.getChecksums();
     Exception error = null;
     for (int i = 0; i < size; i++) {
       String url = urlList.get(i);
       try {
-        return download(url, target, resolvedVersion, checksums);
+        return downloader.apply(url);
       } catch (Exception e) {
         error = e;
       }
@@ -205,8 +318,10 @@ public abstract class AbstractToolRepository implements ToolRepository {
     Path tmpDownloadFile = createTempDownload(downloadFilename);
     Path result;
     try {
-      this.context.getFileAccess().download(url, tmpDownloadFile);
-      verifyChecksums(tmpDownloadFile, expectedChecksums, resolvedVersion);
+      List<UrlGenericChecksum> checksums = getChecksums(expectedChecksums);
+      // checksums are computed while downloading and verified before the file is moved into the download cache
+      Map<String, String> actualChecksums = this.context.getFileAccess().download(url, tmpDownloadFile, getHashAlgorithms(checksums));
+      verifyChecksums(tmpDownloadFile, checksums, resolvedVersion, actualChecksums);
       if (isLatestVersion(resolvedVersion)) {
         // Some software vendors violate best-practices and provide the latest version only under a fixed URL.
         // Therefore, if a newer version of that file gets released, the same URL suddenly leads to a different
@@ -250,17 +365,37 @@ public abstract class AbstractToolRepository implements ToolRepository {
     return tmpDownloadFile;
   }
 
-  private void verifyChecksums(Path file, UrlChecksums expectedChecksums, Object version) {
+  private static List<UrlGenericChecksum> getChecksums(UrlChecksums expectedChecksums) {
+
+    List<UrlGenericChecksum> checksums = new ArrayList<>();
+    if (expectedChecksums != null) {
+      for (UrlGenericChecksum checksum : expectedChecksums) {
+        checksums.add(checksum);
+      }
+    }
+    return checksums;
+  }
+
+  private static Set<String> getHashAlgorithms(List<UrlGenericChecksum> checksums) {
 
-    if (expectedChecksums == null) {
-      return;
+    Set<String> hashAlgorithms = new LinkedHashSet<>();
+    for (UrlGenericChecksum checksum : checksums) {
+      hashAlgorithms.add(checksum.getHashAlgorithm());
     }
-    boolean checksumVerified = false;
+    return hashAlgorithms;
+  }
+
+  private void verifyChecksums(Path file, List<UrlGenericChecksum> expectedChecksums, Object version, Map<String, String> actualChecksums) {
+
     for (UrlGenericChecksum expectedChecksum : expectedChecksums) {
-      verifyChecksum(file, expectedChecksum);
-      checksumVerified = true;
+      String actualChecksum = actualChecksums.get(expectedChecksum.getHashAlgorithm());
+      if (actualChecksum == null) {
+        verifyChecksum(file, expectedChecksum);
+      } else {
+        verifyChecksum(file, expectedChecksum, actualChecksum);
+      }
     }
-    if (!checksumVerified) {
+    if (expectedChecksums.isEmpty()) {
       Level level = Level.WARN;
       if (isLatestVersion(version)) {
         level = Level.DEBUG;
@@ -277,8 +412,20 @@ public abstract class AbstractToolRepository implements ToolRepository {
    */
   protected void verifyChecksum(Path file, UrlGenericChecksum expectedChecksum) {
 
+    String actualChecksum = this.context.getFileAccess().checksum(file, expectedChecksum.getHashAlgorithm());
+    verifyChecksum(file, expectedChecksum, actualChecksum);
+  }
+
+  /**
+   * Verifies the given checksum that has already been computed (e.g. while downloading).
+   *
+   * @param file the downloaded software package to verify.
+   * @param expectedChecksum the expected checksum.
+   * @param actualChecksum the actual checksum of the given {@code file}.
+   */
+  private void verifyChecksum(Path file, UrlGenericChecksum expectedChecksum, String actualChecksum) {
+
     String hashAlgorithm = expectedChecksum.getHashAlgorithm();
-    String actualChecksum = this.context.getFileAccess().checksum(file, hashAlgorithm);
     if (expectedChecksum.getChecksum().equals(actualChecksum)) {
       IdeLogLevel.SUCCESS.log(LOG, "{} checksum {} is correct.", hashAlgorithm, actualChecksum);
     } else {
@@ -316,16 +463,69 @@ public abstract class AbstractToolRepository implements ToolRepository {
 
   @Override
   public ToolSecurity findSecurity(String tool, String edition) {
-    UrlEdition urlEdition = this.context.getUrls().getEdition(tool, edition);
-    ToolSecurity security = urlEdition.getSecurityFile().getSecurity();
-    if (security == ToolSecurity.getEmpty()) {
-      UrlTool urlTool = urlEdition.getParent();
-      security = urlTool.getSecurityFile().getSecurity();
-    }
+    ToolSecurity security = this.context.getUrls().findSecurity(tool, edition);
     if (security != ToolSecurity.getEmpty()) {
       LOG.trace("Found CVE information in {}", security);
     }
     return security;
   }
 
+  /**
+   * Verifies a file from the download cache. As computing the checksum of large files is expensive, a marker file is written next to the cached file after
+   * successful verification so the checksum is only computed once.
+   *
+   * @param file the {@link Path} to the file in the download cache.
+   * @param expectedChecksums the {@link UrlChecksums} to verify.
+   * @return {@code true} if the file is valid, {@code false} if it had a wrong checksum and has been deleted.
+   */
+  private boolean verifyCachedDownload(Path file, UrlChecksums expectedChecksums) {
+
+    for (UrlGenericChecksum expectedChecksum : getChecksums(expectedChecksums)) {
+      Path marker = getVerifiedMarker(file, expectedChecksum.getHashAlgorithm());
+      if (isVerified(file, marker, expectedChecksum)) {
+        LOG.trace("Checksum of cached download {} has already been verified.", file);
+        continue;
+      }
+      String actualChecksum = this.context.getFileAccess().checksum(file, expectedChecksum.getHashAlgorithm());
+      if (expectedChecksum.getChecksum().equals(actualChecksum)) {
+        LOG.debug("Verified {} checksum {} of cached download {}", expectedChecksum.getHashAlgorithm(), actualChecksum, file);
+        writeVerifiedMarker(file, expectedChecksum);
+      } else {
+        this.context.getFileAccess().delete(file);
+        this.context.getFileAccess().delete(marker);
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean isVerified(Path file, Path marker, UrlGenericChecksum expectedChecksum) {
+
+    try {
+      if (Files.exists(marker) && !Files.getLastModifiedTime(marker).toInstant().isBefore(Files.getLastModifiedTime(file).toInstant())) {
+        return expectedChecksum.getChecksum().equals(Files.readString(marker).trim());
+      }
+    } catch (IOException e) {
+      LOG.debug("Failed to read checksum marker {}", marker, e);
+    }
+    return false;
+  }
+
+  private void writeVerifiedMarker(Path file, UrlGenericChecksum checksum) {
+
+    Path marker = getVerifiedMarker(file, checksum.getHashAlgorithm());
+    try {
+      Files.writeString(marker, checksum.getChecksum());
+    } catch (IOException e) {
+      // the marker is only an optimization, without it the checksum will be verified again next time
+      LOG.debug("Failed to write checksum marker {}", marker, e);
+    }
+  }
+
+  private static Path getVerifiedMarker(Path file, String hashAlgorithm) {
+
+    String algorithm = hashAlgorithm.replace("-", "").toLowerCase(Locale.ROOT);
+    return file.resolveSibling(file.getFileName() + "." + algorithm + "-verified");
+  }
+
 }
@@ -55,6 +55,42 @@ public interface ToolRepository extends AbstractUrlMetadata {
    */
   Path download(String tool, String edition, VersionIdentifier version, ToolCommandlet toolCommandlet);
 
+  /**
+   * Prepares the {@link #download(String, String, VersionIdentifier, ToolCommandlet) download} of the requested software so that it can be performed ahead of
+   * the actual installation (e.g. in parallel to the downloads of other tools). All metadata is resolved by this method in the calling thread while the
+   * returned {@link Runnable} only transfers the file into the download-cache and is safe to be run in a background thread. A subsequent
+   * {@link #download(String, String, VersionIdentifier, ToolCommandlet) download} will then find the software in the download-cache.
+   *
+   * @param tool the name of the tool.
+   * @param edition the edition of the tool.
+   * @param version the {@link #resolveVersion(String, String, GenericVersionRange, ToolCommandlet) resolved} {@link VersionIdentifier}.
+   * @param toolCommandlet the {@link ToolCommandlet}.
+   * @return the {@link Runnable} performing the download or {@code null} if the software is already in the download-cache or this {@link ToolRepository}
+   *     does not support downloading in advance.
+   */
+  default Runnable prepareDownload(String tool, String edition, VersionIdentifier version, ToolCommandlet toolCommandlet) {
+
+    return null;
+  }
+
+  /**
+   * Downloads the requested software and extracts it in the same pass (see
+   * {@link com.devonfw.tools.ide.io.FileAccess#downloadAndExtractTar(String, Path, Path, com.devonfw.tools.ide.io.TarCompression, java.util.Collection)}).
+   * The downloaded file is still put into the download-cache. If the checksum verification fails, the download and the extracted files are discarded.
+   *
+   * @param tool the name of the tool.
+   * @param edition the edition of the tool.
+   * @param version the {@link #resolveVersion(String, String, GenericVersionRange, ToolCommandlet) resolved} {@link VersionIdentifier}.
+   * @param toolCommandlet the {@link ToolCommandlet}.
+   * @return the {@link Path} to the temporary directory with the extracted software package or {@code null} if this is not supported for the requested
+   *     software (e.g. not a TAR archive or already in the download-cache) so it has to be {@link #download(String, String, VersionIdentifier, ToolCommandlet)
+   *     downloaded} and extracted as usual.
+   */
+  default Path downloadAndExtract(String tool, String edition, VersionIdentifier version, ToolCommandlet toolCommandlet) {
+
+    return null;
+  }
+
   /**
    * @param tool the name of the tool.
    * @param edition the edition of the tool.
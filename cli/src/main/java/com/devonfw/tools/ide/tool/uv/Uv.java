@@ -12,6 +12,7 @@ import com.devonfw.tools.ide.process.EnvironmentContext;
 import com.devonfw.tools.ide.process.ProcessContext;
 import com.devonfw.tools.ide.process.ProcessMode;
 import com.devonfw.tools.ide.process.ProcessResult;
+import com.devonfw.tools.ide.tool.InstalledPackages;
 import com.devonfw.tools.ide.tool.LocalToolCommandlet;
 import com.devonfw.tools.ide.tool.ToolCommandlet;
 import com.devonfw.tools.ide.tool.ToolInstallation;
@@ -25,6 +26,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  */
 public class Uv extends LocalToolCommandlet {
 
+  private InstalledPackages installedPackages;
 
   /**
    * The constructor.
@@ -36,6 +38,21 @@ public class Uv extends LocalToolCommandlet {
     super(context, "uv", Set.of(Tag.PYTHON));
   }
 
+  /**
+   * @return the {@link InstalledPackages} of the tools installed via {@code uv tool install} (see {@code UV_TOOL_DIR}) or {@code null} if not in a project.
+   */
+  public InstalledPackages getInstalledPackages() {
+
+    if (this.installedPackages == null) {
+      Path softwarePath = this.context.getSoftwarePath();
+      if (softwarePath == null) {
+        return null;
+      }
+      this.installedPackages = InstalledPackages.ofUvTools(softwarePath.resolve("python").resolve("tools"));
+    }
+    return this.installedPackages;
+  }
+
   /**
    * Installs a specified version of {@code Python} in the given directory using the {@code uv} environment manager.
    *
@@ -92,4 +109,11 @@ public class Uv extends LocalToolCommandlet {
     environmentContext.withEnvVar("UV_TOOL_BIN_DIR", pythonPath.resolve("bin").toString());
     environmentContext.withPathEntry(pythonPath.resolve("bin"));
   }
+
+  @Override
+  protected boolean isDeduplicationSupported() {
+
+    // uv self update replaces the binary of this installation
+    return false;
+  }
 }
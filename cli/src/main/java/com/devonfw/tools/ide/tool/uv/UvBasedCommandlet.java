@@ -13,6 +13,7 @@ import com.devonfw.tools.ide.process.ProcessContext;
 import com.devonfw.tools.ide.process.ProcessErrorHandling;
 import com.devonfw.tools.ide.process.ProcessMode;
 import com.devonfw.tools.ide.process.ProcessResult;
+import com.devonfw.tools.ide.tool.InstalledPackages;
 import com.devonfw.tools.ide.tool.PackageManagerBasedLocalToolCommandlet;
 import com.devonfw.tools.ide.tool.PackageManagerRequest;
 import com.devonfw.tools.ide.tool.repository.ToolRepository;
@@ -69,6 +70,12 @@ public abstract class UvBasedCommandlet extends PackageManagerBasedLocalToolComm
     super.completeRequestArgs(request);
   }
 
+  @Override
+  protected InstalledPackages getInstalledPackages() {
+
+    return getParentTool().getInstalledPackages();
+  }
+
   @Override
   protected VersionIdentifier computeInstalledVersion() {
 
@@ -2,6 +2,7 @@ package com.devonfw.tools.ide.tool.vscode;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -55,24 +56,14 @@ public class Vscode extends IdeToolCommandlet {
     List<String> extensionsCommands = new ArrayList<>();
     extensionsCommands.add("--force");
     extensionsCommands.add("--install-extension");
-    String extensionInstallTarget = plugin.id();
-    // If a version number was specified, add it to the extension identifier with the format "extensionId@version"
-    boolean versionSpecified = (plugin.version() != null) && !plugin.version().isBlank();
-    if (versionSpecified) {
-      extensionInstallTarget = extensionInstallTarget + "@" + plugin.version();
-    }
-    extensionsCommands.add(extensionInstallTarget);
+    extensionsCommands.add(getExtensionInstallTarget(plugin));
     ProcessResult result = runTool(pc, ProcessMode.DEFAULT_CAPTURE, extensionsCommands);
     if (result.isSuccessful()) {
-      if (versionSpecified) {
-        IdeLogLevel.SUCCESS.log(LOG, "Successfully installed plugin: {} with version: {}", plugin.name(), plugin.version());
-      } else {
-        IdeLogLevel.SUCCESS.log(LOG, "Successfully installed plugin: {}", plugin.name());
-      }
+      logPluginInstalled(plugin);
       step.success();
       return true;
     }
-    if (versionSpecified) {
+    if (isVersionSpecified(plugin)) {
       IdeLogLevel.ERROR.log(LOG, "Failed to install plugin: {} with version: {}", plugin.name(), plugin.version());
     } else {
       IdeLogLevel.ERROR.log(LOG, "Failed to install plugin: {}", plugin.name());
@@ -80,6 +71,55 @@ public class Vscode extends IdeToolCommandlet {
     return false;
   }
 
+  @Override
+  protected boolean isPluginBatchInstallationSupported() {
+
+    return true;
+  }
+
+  @Override
+  protected Collection<ToolPluginDescriptor> installPluginBatch(List<ToolPluginDescriptor> plugins, Step step, ProcessContext pc) {
+
+    List<String> extensionsCommands = new ArrayList<>();
+    extensionsCommands.add("--force");
+    for (ToolPluginDescriptor plugin : plugins) {
+      extensionsCommands.add("--install-extension");
+      extensionsCommands.add(getExtensionInstallTarget(plugin));
+    }
+    ProcessResult result = runTool(pc, ProcessMode.DEFAULT_CAPTURE, extensionsCommands);
+    if (!result.isSuccessful()) {
+      LOG.warn("Failed to install {} plugins at once (exit code {}), falling back to individual installation.", plugins.size(), result.getExitCode());
+      return List.of();
+    }
+    for (ToolPluginDescriptor plugin : plugins) {
+      logPluginInstalled(plugin);
+    }
+    return plugins;
+  }
+
+  private static boolean isVersionSpecified(ToolPluginDescriptor plugin) {
+
+    return (plugin.version() != null) && !plugin.version().isBlank();
+  }
+
+  private static String getExtensionInstallTarget(ToolPluginDescriptor plugin) {
+
+    // If a version number was specified, add it to the extension identifier with the format "extensionId@version"
+    if (isVersionSpecified(plugin)) {
+      return plugin.id() + "@" + plugin.version();
+    }
+    return plugin.id();
+  }
+
+  private static void logPluginInstalled(ToolPluginDescriptor plugin) {
+
+    if (isVersionSpecified(plugin)) {
+      IdeLogLevel.SUCCESS.log(LOG, "Successfully installed plugin: {} with version: {}", plugin.name(), plugin.version());
+    } else {
+      IdeLogLevel.SUCCESS.log(LOG, "Successfully installed plugin: {}", plugin.name());
+    }
+  }
+
   @Override
   protected void configureToolArgs(ProcessContext pc, ProcessMode processMode, List<String> args) {
 
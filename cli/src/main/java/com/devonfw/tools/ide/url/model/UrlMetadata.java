@@ -16,6 +16,7 @@ import com.devonfw.tools.ide.cli.CliException;
 import com.devonfw.tools.ide.context.IdeContext;
 import com.devonfw.tools.ide.os.SystemInfo;
 import com.devonfw.tools.ide.tool.ToolCommandlet;
+import com.devonfw.tools.ide.url.model.file.json.ToolSecurity;
 import com.devonfw.tools.ide.url.model.folder.UrlEdition;
 import com.devonfw.tools.ide.url.model.folder.UrlRepository;
 import com.devonfw.tools.ide.url.model.folder.UrlTool;
@@ -36,6 +37,14 @@ public class UrlMetadata implements AbstractUrlMetadata {
 
   private final Map<String, List<VersionIdentifier>> toolEdition2VersionMap;
 
+  private boolean indexEnabled;
+
+  private UrlMetadataIndex index;
+
+  private boolean securityIndexEnabled;
+
+  private UrlSecurityIndex securityIndex;
+
   /**
    * The constructor.
    *
@@ -44,6 +53,8 @@ public class UrlMetadata implements AbstractUrlMetadata {
   public UrlMetadata(IdeContext context) {
 
     this(context, createRepository(context));
+    this.indexEnabled = true;
+    this.securityIndexEnabled = true;
   }
 
   /**
@@ -68,6 +79,48 @@ public class UrlMetadata implements AbstractUrlMetadata {
     return new UrlRepository(urlsPath);
   }
 
+  /**
+   * @return the {@link UrlMetadataIndex} of the {@link UrlRepository} or {@code null} if not available. In that case the folder tree is used.
+   */
+  private UrlMetadataIndex getIndex() {
+
+    if (this.indexEnabled) {
+      this.indexEnabled = false;
+      this.index = UrlMetadataIndex.of(this.repository);
+    }
+    return this.index;
+  }
+
+  private synchronized UrlSecurityIndex getSecurityIndex() {
+
+    if (this.securityIndexEnabled) {
+      this.securityIndexEnabled = false;
+      this.securityIndex = UrlSecurityIndex.of(this.repository);
+    }
+    return this.securityIndex;
+  }
+
+  /**
+   * @param tool the name of the {@link UrlTool}.
+   * @param edition the name of the {@link UrlEdition}.
+   * @return the {@link ToolSecurity} of the given {@link UrlEdition} or if not present of the given {@link UrlTool}. Will be {@link ToolSecurity#getEmpty()
+   *     empty} if no security information is available.
+   */
+  public ToolSecurity findSecurity(String tool, String edition) {
+
+    UrlSecurityIndex urlSecurityIndex = getSecurityIndex();
+    if (urlSecurityIndex != null) {
+      return urlSecurityIndex.findSecurity(tool, edition);
+    }
+    UrlEdition urlEdition = getEdition(tool, edition);
+    ToolSecurity security = urlEdition.getSecurityFile().getSecurity();
+    if (security == ToolSecurity.getEmpty()) {
+      UrlTool urlTool = urlEdition.getParent();
+      security = urlTool.getSecurityFile().getSecurity();
+    }
+    return security;
+  }
+
   /**
    * @param tool the name of the {@link UrlTool}.
    * @param edition the name of the {@link UrlEdition}.
@@ -82,6 +135,13 @@ public class UrlMetadata implements AbstractUrlMetadata {
   @Override
   public List<String> getSortedEditions(String tool) {
 
+    UrlMetadataIndex urlMetadataIndex = getIndex();
+    if (urlMetadataIndex != null) {
+      List<String> editions = urlMetadataIndex.getSortedEditions(tool);
+      if (editions != null) {
+        return editions;
+      }
+    }
     List<String> list = new ArrayList<>();
     UrlTool urlTool = this.repository.getChild(tool);
     if (urlTool == null) {
@@ -104,6 +164,11 @@ public class UrlMetadata implements AbstractUrlMetadata {
 
   private List<VersionIdentifier> computeSortedVersions(String tool, String edition) {
 
+    SystemInfo systemInfo = this.context.getSystemInfo();
+    UrlMetadataIndex urlMetadataIndex = getIndex();
+    if (urlMetadataIndex != null) {
+      return urlMetadataIndex.getSortedVersions(tool, edition, systemInfo.getOs(), systemInfo.getArchitecture());
+    }
     List<VersionIdentifier> list = new ArrayList<>();
     UrlEdition urlEdition = getEdition(tool, edition);
     urlEdition.load(false);
@@ -0,0 +1,286 @@
+package com.devonfw.tools.ide.url.model;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.devonfw.tools.ide.git.GitContext;
+import com.devonfw.tools.ide.os.OperatingSystem;
+import com.devonfw.tools.ide.os.SystemArchitecture;
+import com.devonfw.tools.ide.url.model.folder.UrlEdition;
+import com.devonfw.tools.ide.url.model.folder.UrlRepository;
+import com.devonfw.tools.ide.url.model.folder.UrlTool;
+import com.devonfw.tools.ide.url.model.folder.UrlVersion;
+import com.devonfw.tools.ide.version.VersionIdentifier;
+
+/**
+ * Binary index of the {@link UrlRepository ide-urls repository} to {@link #getSortedVersions(String, String, OperatingSystem, SystemArchitecture) resolve
+ * versions} without listing the folder tree and parsing every {@link UrlVersion}. For each tool and edition it contains the versions sorted in descending
+ * order together with bits telling for which {@link OperatingSystem} and {@link SystemArchitecture} a download is available. The index is created from the
+ * folder tree and stored next to it. Later it is memory-mapped and only the editions that are actually requested get decoded. It is rebuilt whenever the
+ * commit of the ide-urls repository changes.
+ */
+public final class UrlMetadataIndex {
+
+  private static final Logger LOG = LoggerFactory.getLogger(UrlMetadataIndex.class);
+
+  /** The {@link Path#getFileName() filename} of the index file stored next to the {@link UrlRepository}. */
+  public static final String FILENAME = "urls.idx";
+
+  private static final int MAGIC = 0x49445558;
+
+  private static final int FORMAT_VERSION = 1;
+
+  /** Bit for the generic {@code urls} file available for any {@link OperatingSystem}. */
+  private static final int BIT_ANY = 1;
+
+  private static final int ARCH_COUNT = SystemArchitecture.values().length;
+
+  private final MappedByteBuffer data;
+
+  private final int dataStart;
+
+  private final Map<String, Map<String, Integer>> tools;
+
+  private UrlMetadataIndex(MappedByteBuffer data, int dataStart, Map<String, Map<String, Integer>> tools) {
+
+    super();
+    this.data = data;
+    this.dataStart = dataStart;
+    this.tools = tools;
+  }
+
+  /**
+   * @param tool the name of the {@link UrlTool}.
+   * @return the sorted {@link List} of the names of the {@link UrlEdition}s or {@code null} if the tool does not exist.
+   */
+  public List<String> getSortedEditions(String tool) {
+
+    Map<String, Integer> editions = this.tools.get(tool);
+    if (editions == null) {
+      return null;
+    }
+    return List.copyOf(editions.keySet());
+  }
+
+  /**
+   * @param tool the name of the {@link UrlTool}.
+   * @param edition the name of the {@link UrlEdition}.
+   * @param os the {@link OperatingSystem} that requires a download.
+   * @param arch the {@link SystemArchitecture} that requires a download.
+   * @return the {@link List} of {@link VersionIdentifier}s sorted in descending order that have a download for the given {@link OperatingSystem} and
+   *     {@link SystemArchitecture}. Will be empty if the edition does not exist.
+   */
+  public List<VersionIdentifier> getSortedVersions(String tool, String edition, OperatingSystem os, SystemArchitecture arch) {
+
+    Map<String, Integer> editions = this.tools.get(tool);
+    Integer offset = (editions == null) ? null : editions.get(edition);
+    if (offset == null) {
+      return List.of();
+    }
+    // same fallbacks as UrlVersion.getMatchingUrls: the x64 download is also used for MacOS on arm64 (rosetta emulation)
+    int mask = BIT_ANY | getBit(os, arch) | getBit(os, SystemArchitecture.X64);
+    ByteBuffer buffer = this.data.duplicate();
+    buffer.position(this.dataStart + offset);
+    int count = buffer.getInt();
+    List<VersionIdentifier> versions = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      String version = readString(buffer);
+      int bits = buffer.getInt();
+      if ((bits & mask) != 0) {
+        versions.add(VersionIdentifier.of(version));
+      }
+    }
+    return Collections.unmodifiableList(versions);
+  }
+
+  private static int getBit(OperatingSystem os, SystemArchitecture arch) {
+
+    return 1 << (1 + os.ordinal() * ARCH_COUNT + arch.ordinal());
+  }
+
+  private static int getBits(UrlVersion urlVersion) {
+
+    // list the version folder once instead of probing for every OS and architecture
+    urlVersion.load(false);
+    int bits = 0;
+    if (urlVersion.getUrls() != null) {
+      bits = BIT_ANY;
+    }
+    for (OperatingSystem os : OperatingSystem.values()) {
+      for (SystemArchitecture arch : SystemArchitecture.values()) {
+        if (urlVersion.getUrls(os, arch) != null) {
+          bits |= getBit(os, arch);
+        }
+      }
+    }
+    return bits;
+  }
+
+  /**
+   * @param repository the {@link UrlRepository}.
+   * @return the {@link UrlMetadataIndex} for the current commit of the given {@link UrlRepository} or {@code null} if the repository is not a git
+   *     repository or the index could not be read or created.
+   */
+  public static UrlMetadataIndex of(UrlRepository repository) {
+
+    Path repositoryPath = repository.getPath();
+    String commitId = getCommitId(repositoryPath);
+    if (commitId == null) {
+      return null;
+    }
+    Path indexFile = repositoryPath.resolveSibling(FILENAME);
+    try {
+      if (!commitId.equals(readCommitId(indexFile))) {
+        LOG.debug("Creating index of {} for commit {}", repositoryPath, commitId);
+        write(repository, commitId, indexFile);
+      }
+      return read(indexFile);
+    } catch (IOException | RuntimeException e) {
+      LOG.debug("Failed to use index {} - falling back to folder tree of {}", indexFile, repositoryPath, e);
+      return null;
+    }
+  }
+
+  private static String readCommitId(Path indexFile) throws IOException {
+
+    if (!Files.isRegularFile(indexFile)) {
+      return null;
+    }
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+      if ((in.readInt() != MAGIC) || (in.readInt() != FORMAT_VERSION)) {
+        return null;
+      }
+      return in.readUTF();
+    }
+  }
+
+  private static UrlMetadataIndex read(Path indexFile) throws IOException {
+
+    MappedByteBuffer data;
+    try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+      data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    ByteBuffer buffer = data.duplicate();
+    buffer.getInt(); // magic
+    buffer.getInt(); // format version
+    readString(buffer); // commit ID
+    int headerLength = buffer.getInt();
+    int dataStart = buffer.position() + headerLength;
+    int toolCount = buffer.getInt();
+    Map<String, Map<String, Integer>> tools = new HashMap<>(toolCount * 2);
+    for (int i = 0; i < toolCount; i++) {
+      String tool = readString(buffer);
+      int editionCount = buffer.getInt();
+      Map<String, Integer> editions = new TreeMap<>();
+      for (int j = 0; j < editionCount; j++) {
+        String edition = readString(buffer);
+        editions.put(edition, buffer.getInt());
+      }
+      tools.put(tool, editions);
+    }
+    return new UrlMetadataIndex(data, dataStart, tools);
+  }
+
+  private static String readString(ByteBuffer buffer) {
+
+    // same format as DataOutput.writeUTF that is sufficient for the ASCII names of tools, editions and versions
+    int length = Short.toUnsignedInt(buffer.getShort());
+    byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static void write(UrlRepository repository, String commitId, Path indexFile) throws IOException {
+
+    ByteArrayOutputStream headerBytes = new ByteArrayOutputStream();
+    ByteArrayOutputStream dataBytes = new ByteArrayOutputStream();
+    DataOutputStream header = new DataOutputStream(headerBytes);
+    DataOutputStream data = new DataOutputStream(dataBytes);
+    List<UrlTool> tools = new ArrayList<>(repository.getChildren());
+    header.writeInt(tools.size());
+    for (UrlTool tool : tools) {
+      header.writeUTF(tool.getName());
+      List<UrlEdition> editions = new ArrayList<>(tool.getChildren());
+      header.writeInt(editions.size());
+      for (UrlEdition edition : editions) {
+        header.writeUTF(edition.getName());
+        header.writeInt(data.size());
+        List<UrlVersion> versions = new ArrayList<>(edition.getChildren());
+        versions.sort(Comparator.comparing(UrlVersion::getVersionIdentifier).reversed());
+        data.writeInt(versions.size());
+        for (UrlVersion version : versions) {
+          data.writeUTF(version.getName());
+          data.writeInt(getBits(version));
+        }
+      }
+    }
+    Path tmpFile = indexFile.resolveSibling(FILENAME + ".tmp");
+    try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(tmpFile))) {
+      out.writeInt(MAGIC);
+      out.writeInt(FORMAT_VERSION);
+      out.writeUTF(commitId);
+      out.writeInt(headerBytes.size());
+      headerBytes.writeTo(out);
+      dataBytes.writeTo(out);
+    }
+    Files.move(tmpFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  /**
+   * Determines the current commit ID from the files in the ".git" folder without running a git process.
+   *
+   * @param repository the {@link Path} to the git repository.
+   * @return the current commit ID or {@code null} if not a git repository or the commit ID could not be determined.
+   */
+  public static String getCommitId(Path repository) {
+
+    Path gitFolder = repository.resolve(GitContext.GIT_FOLDER);
+    Path headFile = gitFolder.resolve(GitContext.FILE_HEAD);
+    if (!Files.isRegularFile(headFile)) {
+      return null;
+    }
+    try {
+      String head = Files.readString(headFile).trim();
+      if (!head.startsWith("ref:")) {
+        return head; // detached HEAD
+      }
+      String ref = head.substring(4).trim();
+      Path refFile = gitFolder.resolve(ref);
+      if (Files.isRegularFile(refFile)) {
+        return Files.readString(refFile).trim();
+      }
+      Path packedRefs = gitFolder.resolve("packed-refs");
+      if (Files.isRegularFile(packedRefs)) {
+        try (Stream<String> lines = Files.lines(packedRefs)) {
+          return lines.filter(line -> line.endsWith(" " + ref)).map(line -> line.substring(0, line.indexOf(' '))).findFirst().orElse(null);
+        }
+      }
+    } catch (IOException e) {
+      LOG.debug("Failed to determine commit ID of {}", repository, e);
+    }
+    return null;
+  }
+
+}
@@ -0,0 +1,255 @@
+package com.devonfw.tools.ide.url.model;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.devonfw.tools.ide.git.GitContext;
+import com.devonfw.tools.ide.url.model.file.UrlSecurityFile;
+import com.devonfw.tools.ide.url.model.file.json.Cve;
+import com.devonfw.tools.ide.url.model.file.json.ToolSecurity;
+import com.devonfw.tools.ide.url.model.folder.UrlRepository;
+import com.devonfw.tools.ide.version.BoundaryType;
+import com.devonfw.tools.ide.version.VersionIdentifier;
+import com.devonfw.tools.ide.version.VersionRange;
+
+/**
+ * Binary index of all {@link UrlSecurityFile security.json} files of the {@link UrlRepository ide-urls repository}. The JSON files are parsed once per commit
+ * and stored next to the repository so later runs do not have to parse any JSON. The index is memory-mapped and the {@link ToolSecurity} of a tool is only
+ * decoded when requested and then shared for the rest of the run.
+ */
+public final class UrlSecurityIndex {
+
+  private static final Logger LOG = LoggerFactory.getLogger(UrlSecurityIndex.class);
+
+  /** The {@link Path#getFileName() filename} of the index file stored next to the {@link UrlRepository}. */
+  public static final String FILENAME = "security.idx";
+
+  private static final int MAGIC = 0x49445358;
+
+  private static final int FORMAT_VERSION = 1;
+
+  private final MappedByteBuffer data;
+
+  private final int dataStart;
+
+  private final Map<String, Integer> offsets;
+
+  private final Map<String, ToolSecurity> securityMap;
+
+  private UrlSecurityIndex(MappedByteBuffer data, int dataStart, Map<String, Integer> offsets) {
+
+    super();
+    this.data = data;
+    this.dataStart = dataStart;
+    this.offsets = offsets;
+    this.securityMap = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * @param tool the name of the tool.
+   * @param edition the name of the edition.
+   * @return the {@link ToolSecurity} of the given edition or if it has no {@link UrlSecurityFile} the one of the given tool. Will be
+   *     {@link ToolSecurity#getEmpty() empty} if none of them exists.
+   */
+  public ToolSecurity findSecurity(String tool, String edition) {
+
+    ToolSecurity security = getSecurity(tool + "/" + edition);
+    if (security == ToolSecurity.getEmpty()) {
+      security = getSecurity(tool);
+    }
+    return security;
+  }
+
+  private ToolSecurity getSecurity(String key) {
+
+    Integer offset = this.offsets.get(key);
+    if (offset == null) {
+      return ToolSecurity.getEmpty();
+    }
+    return this.securityMap.computeIfAbsent(key, k -> decode(offset));
+  }
+
+  private ToolSecurity decode(int offset) {
+
+    ByteBuffer buffer = this.data.duplicate();
+    buffer.position(this.dataStart + offset);
+    int cveCount = buffer.getInt();
+    List<Cve> issues = new ArrayList<>(cveCount);
+    for (int i = 0; i < cveCount; i++) {
+      String id = readString(buffer);
+      double severity = buffer.getDouble();
+      int rangeCount = buffer.getInt();
+      List<VersionRange> versions = new ArrayList<>(rangeCount);
+      for (int j = 0; j < rangeCount; j++) {
+        VersionIdentifier min = readVersion(buffer);
+        VersionIdentifier max = readVersion(buffer);
+        byte boundaries = buffer.get();
+        versions.add(VersionRange.of(min, max, BoundaryType.of((boundaries & 1) != 0, (boundaries & 2) != 0)));
+      }
+      issues.add(new Cve(id, severity, versions));
+    }
+    return new ToolSecurity(issues);
+  }
+
+  private static VersionIdentifier readVersion(ByteBuffer buffer) {
+
+    String version = readString(buffer);
+    if (version.isEmpty()) {
+      return null;
+    }
+    return VersionIdentifier.of(version);
+  }
+
+  private static String readString(ByteBuffer buffer) {
+
+    // same format as DataOutput.writeUTF that is sufficient for CVE IDs and versions
+    int length = Short.toUnsignedInt(buffer.getShort());
+    byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * @param repository the {@link UrlRepository}.
+   * @return the {@link UrlSecurityIndex} for the current commit of the given {@link UrlRepository} or {@code null} if the repository is not a git
+   *     repository or the index could not be read or created.
+   */
+  public static UrlSecurityIndex of(UrlRepository repository) {
+
+    Path repositoryPath = repository.getPath();
+    String commitId = UrlMetadataIndex.getCommitId(repositoryPath);
+    if (commitId == null) {
+      return null;
+    }
+    Path indexFile = repositoryPath.resolveSibling(FILENAME);
+    try {
+      if (!commitId.equals(readCommitId(indexFile))) {
+        LOG.debug("Creating security index of {} for commit {}", repositoryPath, commitId);
+        write(repositoryPath, commitId, indexFile);
+      }
+      return read(indexFile);
+    } catch (IOException | RuntimeException e) {
+      LOG.debug("Failed to use security index {} - falling back to security files of {}", indexFile, repositoryPath, e);
+      return null;
+    }
+  }
+
+  private static String readCommitId(Path indexFile) throws IOException {
+
+    if (!Files.isRegularFile(indexFile)) {
+      return null;
+    }
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+      if ((in.readInt() != MAGIC) || (in.readInt() != FORMAT_VERSION)) {
+        return null;
+      }
+      return in.readUTF();
+    }
+  }
+
+  private static UrlSecurityIndex read(Path indexFile) throws IOException {
+
+    MappedByteBuffer data;
+    try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+      data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    ByteBuffer buffer = data.duplicate();
+    buffer.getInt(); // magic
+    buffer.getInt(); // format version
+    readString(buffer); // commit ID
+    int headerLength = buffer.getInt();
+    int dataStart = buffer.position() + headerLength;
+    int count = buffer.getInt();
+    Map<String, Integer> offsets = new HashMap<>(count * 2);
+    for (int i = 0; i < count; i++) {
+      String key = readString(buffer);
+      offsets.put(key, buffer.getInt());
+    }
+    return new UrlSecurityIndex(data, dataStart, offsets);
+  }
+
+  private static void write(Path repositoryPath, String commitId, Path indexFile) throws IOException {
+
+    ByteArrayOutputStream headerBytes = new ByteArrayOutputStream();
+    ByteArrayOutputStream dataBytes = new ByteArrayOutputStream();
+    DataOutputStream header = new DataOutputStream(headerBytes);
+    DataOutputStream data = new DataOutputStream(dataBytes);
+    Map<String, ToolSecurity> securityMap = new HashMap<>();
+    for (Path toolPath : listFolders(repositoryPath)) {
+      String tool = toolPath.getFileName().toString();
+      collectSecurity(toolPath, tool, securityMap);
+      for (Path editionPath : listFolders(toolPath)) {
+        collectSecurity(editionPath, tool + "/" + editionPath.getFileName(), securityMap);
+      }
+    }
+    header.writeInt(securityMap.size());
+    for (Map.Entry<String, ToolSecurity> entry : securityMap.entrySet()) {
+      header.writeUTF(entry.getKey());
+      header.writeInt(data.size());
+      List<Cve> issues = new ArrayList<>(entry.getValue().getIssues());
+      data.writeInt(issues.size());
+      for (Cve cve : issues) {
+        data.writeUTF(cve.id());
+        data.writeDouble(cve.severity());
+        data.writeInt(cve.versions().size());
+        for (VersionRange range : cve.versions()) {
+          writeVersion(range.getMin(), data);
+          writeVersion(range.getMax(), data);
+          BoundaryType boundaryType = range.getBoundaryType();
+          data.writeByte((boundaryType.isLeftExclusive() ? 1 : 0) | (boundaryType.isRightExclusive() ? 2 : 0));
+        }
+      }
+    }
+    Path tmpFile = indexFile.resolveSibling(FILENAME + ".tmp");
+    try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(tmpFile))) {
+      out.writeInt(MAGIC);
+      out.writeInt(FORMAT_VERSION);
+      out.writeUTF(commitId);
+      out.writeInt(headerBytes.size());
+      headerBytes.writeTo(out);
+      dataBytes.writeTo(out);
+    }
+    Files.move(tmpFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  private static void writeVersion(VersionIdentifier version, DataOutputStream data) throws IOException {
+
+    data.writeUTF((version == null) ? "" : version.toString());
+  }
+
+  private static void collectSecurity(Path folder, String key, Map<String, ToolSecurity> securityMap) {
+
+    Path securityFile = folder.resolve(UrlSecurityFile.SECURITY_JSON);
+    if (Files.exists(securityFile)) {
+      securityMap.put(key, ToolSecurity.of(securityFile));
+    }
+  }
+
+  private static List<Path> listFolders(Path folder) throws IOException {
+
+    try (Stream<Path> children = Files.list(folder)) {
+      return children.filter(Files::isDirectory).filter(child -> !child.getFileName().toString().equals(GitContext.GIT_FOLDER)).toList();
+    }
+  }
+
+}
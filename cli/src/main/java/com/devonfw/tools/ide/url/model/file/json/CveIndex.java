@@ -0,0 +1,101 @@
+package com.devonfw.tools.ide.url.model.file.json;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+import com.devonfw.tools.ide.version.VersionIdentifier;
+import com.devonfw.tools.ide.version.VersionRange;
+
+/**
+ * Interval index of the {@link VersionRange}s of {@link Cve}s. All boundaries of the ranges are sorted and split the versions into elementary segments
+ * (a boundary itself or the open interval between two boundaries). For each segment the ranges that may contain a version of that segment are precomputed so
+ * a lookup only needs a binary search to find the segment and a {@link VersionRange#contains(VersionIdentifier) check} of its few candidates.
+ */
+final class CveIndex {
+
+  private final Entry[] entries;
+
+  private final VersionIdentifier[] boundaries;
+
+  /** Candidates of segment {@code 2*i+1} are those of boundary {@code i}, even segments are the open intervals before, between and after the boundaries. */
+  private final int[][] segments;
+
+  /**
+   * The constructor.
+   *
+   * @param issues the {@link Cve}s to index.
+   */
+  CveIndex(Collection<Cve> issues) {
+
+    super();
+    List<Entry> entryList = new ArrayList<>();
+    TreeSet<VersionIdentifier> boundarySet = new TreeSet<>();
+    for (Cve cve : issues) {
+      for (VersionRange range : cve.versions()) {
+        entryList.add(new Entry(cve, range));
+        if (range.getMin() != null) {
+          boundarySet.add(range.getMin());
+        }
+        if (range.getMax() != null) {
+          boundarySet.add(range.getMax());
+        }
+      }
+    }
+    this.entries = entryList.toArray(Entry[]::new);
+    this.boundaries = boundarySet.toArray(VersionIdentifier[]::new);
+    int boundaryCount = this.boundaries.length;
+    this.segments = new int[2 * boundaryCount + 1][];
+    for (int segment = 0; segment < this.segments.length; segment++) {
+      // lowest and highest boundary that any version of this segment may be compared with
+      VersionIdentifier low = (segment == 0) ? null : this.boundaries[(segment - 1) / 2];
+      VersionIdentifier high = (segment == this.segments.length - 1) ? null : this.boundaries[segment / 2];
+      int[] candidates = new int[this.entries.length];
+      int count = 0;
+      for (int i = 0; i < this.entries.length; i++) {
+        VersionRange range = this.entries[i].range();
+        boolean minMatches = (range.getMin() == null) || ((low != null) && (range.getMin().compareTo(low) <= 0));
+        boolean maxMatches = (range.getMax() == null) || ((high != null) && (range.getMax().compareTo(high) >= 0));
+        if (minMatches && maxMatches) {
+          candidates[count++] = i;
+        }
+      }
+      this.segments[segment] = Arrays.copyOf(candidates, count);
+    }
+  }
+
+  /**
+   * @param version the {@link VersionIdentifier} to find. Must not be a {@link VersionIdentifier#isPattern() pattern}.
+   * @return the {@link List} of {@link Entry entries} with a {@link VersionRange} {@link VersionRange#contains(VersionIdentifier) containing} the given
+   *     version in the order of the original {@link Cve}s and their ranges.
+   */
+  List<Entry> find(VersionIdentifier version) {
+
+    int index = Arrays.binarySearch(this.boundaries, version);
+    int segment;
+    if (index >= 0) {
+      segment = 2 * index + 1;
+    } else {
+      segment = 2 * (-index - 1);
+    }
+    List<Entry> result = new ArrayList<>();
+    for (int candidate : this.segments[segment]) {
+      Entry entry = this.entries[candidate];
+      if (entry.range().contains(version)) {
+        result.add(entry);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @param cve the {@link Cve}.
+   * @param range the {@link VersionRange} of the {@link Cve}.
+   */
+  record Entry(Cve cve, VersionRange range) {
+
+  }
+
+}
@@ -41,6 +41,8 @@ public class ToolSecurity implements JsonObject {
 
   private final Collection<Cve> issues;
 
+  private volatile CveIndex index;
+
   /**
    * The constructor.
    */
@@ -77,6 +79,7 @@ public class ToolSecurity implements JsonObject {
   public void setIssues(List<Cve> issues) {
 
     this.cveMap.clear();
+    this.index = null;
     for (Cve issue : issues) {
       addIssue(issue);
     }
@@ -98,6 +101,7 @@ public class ToolSecurity implements JsonObject {
       }
     }
     this.cveMap.put(id, newIssue);
+    this.index = null;
     return true;
   }
 
@@ -106,6 +110,7 @@ public class ToolSecurity implements JsonObject {
    */
   public void clearIssues() {
     this.cveMap.clear();
+    this.index = null;
   }
 
   /**
@@ -117,20 +122,41 @@ public class ToolSecurity implements JsonObject {
    */
   public ToolVulnerabilities findCves(VersionIdentifier version, Predicate<Cve> predicate) {
     List<Cve> cvesOfVersion = new ArrayList<>();
-    for (Cve cve : this.issues) {
-      for (VersionRange range : cve.versions()) {
-        if (range.contains(version)) {
-          if (predicate.test(cve)) {
-            cvesOfVersion.add(cve);
-          } else {
-            LOG.info("Ignoring CVE {} with severity {}", cve.id(), cve.severity());
+    if (version.isPattern()) {
+      for (Cve cve : this.issues) {
+        for (VersionRange range : cve.versions()) {
+          if (range.contains(version)) {
+            addCve(cve, predicate, cvesOfVersion);
           }
         }
       }
+    } else {
+      for (CveIndex.Entry entry : getIndex().find(version)) {
+        addCve(entry.cve(), predicate, cvesOfVersion);
+      }
     }
     return ToolVulnerabilities.of(cvesOfVersion);
   }
 
+  private static void addCve(Cve cve, Predicate<Cve> predicate, List<Cve> cves) {
+
+    if (predicate.test(cve)) {
+      cves.add(cve);
+    } else {
+      LOG.info("Ignoring CVE {} with severity {}", cve.id(), cve.severity());
+    }
+  }
+
+  private CveIndex getIndex() {
+
+    CveIndex cveIndex = this.index;
+    if (cveIndex == null) {
+      cveIndex = new CveIndex(this.issues);
+      this.index = cveIndex;
+    }
+    return cveIndex;
+  }
+
   /**
    * Finds all {@link Cve}s for the given {@link VersionIdentifier} and {@code minSeverity}.
    *
@@ -3,6 +3,7 @@ package com.devonfw.tools.ide.url.model.folder;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -54,14 +55,39 @@ public abstract class AbstractUrlFolder<C extends UrlArtifactWithParent<?>> exte
     return this.childMap.size();
   }
 
+  /**
+   * {@inheritDoc} If this folder is not yet {@link #load(boolean) loaded}, only the requested child is looked up in the file-system. This avoids to list and
+   * materialize all siblings so e.g. the CLI only touches the version folder and files of the tool it actually installs.
+   */
   @Override
   public C getChild(String name) {
 
-    load(false);
     if ("*".equals(name)) {
-      return this.childMap.get("latest");
+      name = "latest";
+    }
+    C child = this.childMap.get(name);
+    if ((child == null) && !this.loaded) {
+      child = findChild(name);
+    }
+    return child;
+  }
+
+  private C findChild(String name) {
+
+    if (name.isEmpty() || name.startsWith(".") || (name.indexOf('/') >= 0) || (name.indexOf('\\') >= 0)) {
+      return null;
+    }
+    Path childPath = getPath().resolve(name);
+    BasicFileAttributes attributes;
+    try {
+      attributes = Files.readAttributes(childPath, BasicFileAttributes.class);
+    } catch (IOException e) {
+      return null; // does not exist
+    }
+    if (!isAllowedChild(name, attributes.isDirectory())) {
+      return null;
     }
-    return this.childMap.get(name);
+    return getOrCreateChild(name);
   }
 
   @Override
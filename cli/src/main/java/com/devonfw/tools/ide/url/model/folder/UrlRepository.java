@@ -19,7 +19,8 @@ public class UrlRepository extends AbstractUrlFolder<UrlTool> {
 
   /**
    * @param path the {@link #getPath() path} of the {@link UrlRepository} to load.
-   * @return the {@link UrlRepository} with all its children loaded from the given {@link Path}.
+   * @return the {@link UrlRepository} with all its children loaded from the given {@link Path}. This traverses the entire tree and reads all files as needed
+   *     by the url-updater. To only load what is actually requested, use the {@link #UrlRepository(Path) constructor} instead.
    */
   public static UrlRepository load(Path path) {
 
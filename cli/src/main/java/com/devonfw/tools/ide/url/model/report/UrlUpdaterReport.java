@@ -4,7 +4,7 @@ import java.util.Objects;
 
 /**
  * An instance of this class represent the result of updating a tool with specific url updater. It counts the number of successful and failed versions and
- * verifications.
+ * verifications. The counters may be incremented concurrently.
  */
 public class UrlUpdaterReport {
 
@@ -76,7 +76,7 @@ public class UrlUpdaterReport {
     return addVersionSuccess;
   }
 
-  public void incrementAddVersionSuccess() {
+  public synchronized void incrementAddVersionSuccess() {
 
     this.addVersionSuccess++;
   }
@@ -86,7 +86,7 @@ public class UrlUpdaterReport {
     return addVersionFailure;
   }
 
-  public void incrementAddVersionFailure() {
+  public synchronized void incrementAddVersionFailure() {
 
     this.addVersionFailure++;
   }
@@ -96,7 +96,7 @@ public class UrlUpdaterReport {
     return verificationSuccess;
   }
 
-  public void incrementVerificationSuccess() {
+  public synchronized void incrementVerificationSuccess() {
 
     this.verificationSuccess++;
   }
@@ -106,7 +106,7 @@ public class UrlUpdaterReport {
     return verificationFailure;
   }
 
-  public void incrementVerificationFailure() {
+  public synchronized void incrementVerificationFailure() {
 
     this.verificationFailure++;
   }
@@ -114,6 +114,54 @@ public interface IdeVariables {
   VariableDefinitionBoolean IDE_WRITE_LOGFILE = new VariableDefinitionBoolean("IDE_WRITE_LOGFILE", null,
       c -> Boolean.TRUE);
 
+  /**
+   * {@link VariableDefinition} for the maximum number of tool downloads performed in parallel during {@code ide update} or {@code ide create}. A value of
+   * {@code 1} (or less) disables parallel downloads.
+   */
+  VariableDefinitionInteger PARALLEL_DOWNLOADS = new VariableDefinitionInteger("PARALLEL_DOWNLOADS", null, c -> 4);
+
+  /**
+   * {@link VariableDefinition} for the maximum number of git repositories cloned in parallel when all repositories are set up (e.g. by {@code ide create}).
+   * A value of {@code 1} (or less) disables parallel cloning.
+   */
+  VariableDefinitionInteger PARALLEL_CLONES = new VariableDefinitionInteger("PARALLEL_CLONES", null, c -> 4);
+
+  /**
+   * {@link VariableDefinition} for the maximum number of segments (HTTP range requests) a single large download is split into. Partial downloads are resumed
+   * if the server supports range requests.
+   */
+  VariableDefinitionInteger DOWNLOAD_SEGMENTS = new VariableDefinitionInteger("DOWNLOAD_SEGMENTS", null, c -> 4);
+
+  /**
+   * {@link VariableDefinition} for the maximum number of concurrent HTTP requests to the same host via the
+   * {@link com.devonfw.tools.ide.io.HttpClientManager shared HTTP client}.
+   */
+  VariableDefinitionInteger HTTP_MAX_REQUESTS_PER_HOST = new VariableDefinitionInteger("HTTP_MAX_REQUESTS_PER_HOST", null, c -> 8);
+
+  /**
+   * {@link VariableDefinition} for the maximum size in megabytes of the {@link com.devonfw.tools.ide.io.HttpMetadataCache cache for metadata} retrieved via
+   * HTTP (e.g. from npm registry or maven repository).
+   */
+  VariableDefinitionInteger HTTP_CACHE_SIZE = new VariableDefinitionInteger("HTTP_CACHE_SIZE", null, c -> 256);
+
+  /**
+   * {@link VariableDefinition} for the maximum number of threads used to write the files of a ZIP or 7z archive during extraction. A value of {@code 1} (or
+   * less) disables parallel extraction.
+   */
+  VariableDefinitionInteger EXTRACT_THREADS = new VariableDefinitionInteger("EXTRACT_THREADS", null, c -> 4);
+
+  /**
+   * {@link VariableDefinition} to enable the streaming install where TAR archives (e.g. {@code *.tar.gz}) of tools are extracted while they are downloaded
+   * instead of reading the downloaded file again afterwards.
+   */
+  VariableDefinitionBoolean STREAMING_INSTALL = new VariableDefinitionBoolean("STREAMING_INSTALL", null, c -> Boolean.FALSE);
+
+  /**
+   * {@link VariableDefinition} to enable the {@link com.devonfw.tools.ide.io.ContentStore content store} that hard-links identical files of the installed
+   * software in the {@link com.devonfw.tools.ide.context.IdeContext#getSoftwareRepositoryPath() software repository}.
+   */
+  VariableDefinitionBoolean SOFTWARE_DEDUPLICATION = new VariableDefinitionBoolean("SOFTWARE_DEDUPLICATION", null, c -> Boolean.FALSE);
+
   /** {@link VariableDefinition} for {@link com.devonfw.tools.ide.context.IdeContext#getProjectName() DEVON_IDE_CUSTOM_TOOLS}. */
   VariableDefinitionString DEVON_IDE_CUSTOM_TOOLS = new VariableDefinitionString("DEVON_IDE_CUSTOM_TOOLS");
 
@@ -0,0 +1,76 @@
+package com.devonfw.tools.ide.variable;
+
+import java.util.function.Function;
+
+import com.devonfw.tools.ide.context.IdeContext;
+
+/**
+ * Implementation of {@link VariableDefinition} for a variable with the {@link #getValueType() value type} {@link Integer}.
+ */
+public class VariableDefinitionInteger extends AbstractVariableDefinition<Integer> {
+
+  /**
+   * The constructor.
+   *
+   * @param name the {@link #getName() variable name}.
+   */
+  public VariableDefinitionInteger(String name) {
+    super(name);
+  }
+
+  /**
+   * The constructor.
+   *
+   * @param name the {@link #getName() variable name}.
+   * @param legacyName the {@link #getLegacyName() legacy name}.
+   */
+  public VariableDefinitionInteger(String name, String legacyName) {
+    super(name, legacyName);
+  }
+
+  /**
+   * The constructor.
+   *
+   * @param name the {@link #getName() variable name}.
+   * @param legacyName the {@link #getLegacyName() legacy name}.
+   * @param defaultValueFactory the factory {@link Function} for the {@link #getDefaultValue(IdeContext) default value}.
+   */
+  public VariableDefinitionInteger(String name, String legacyName, Function<IdeContext, Integer> defaultValueFactory) {
+    super(name, legacyName, defaultValueFactory);
+  }
+
+  /**
+   * The constructor.
+   *
+   * @param name the {@link #getName() variable name}.
+   * @param legacyName the {@link #getLegacyName() legacy name}.
+   * @param defaultValueFactory the factory {@link Function} for the {@link #getDefaultValue(IdeContext) default value}.
+   * @param forceDefaultValue the {@link #isForceDefaultValue() forceDefaultValue} flag.
+   */
+  public VariableDefinitionInteger(String name, String legacyName, Function<IdeContext, Integer> defaultValueFactory, boolean forceDefaultValue) {
+    super(name, legacyName, defaultValueFactory, forceDefaultValue);
+  }
+
+  /**
+   * The constructor.
+   *
+   * @param name the {@link #getName() variable name}.
+   * @param legacyName the {@link #getLegacyName() legacy name}.
+   * @param defaultValueFactory the factory {@link Function} for the {@link #getDefaultValue(IdeContext) default value}.
+   * @param forceDefaultValue the {@link #isForceDefaultValue() forceDefaultValue} flag.
+   * @param export the {@link #isExport() export} flag.
+   */
+  public VariableDefinitionInteger(String name, String legacyName, Function<IdeContext, Integer> defaultValueFactory, boolean forceDefaultValue, boolean export) {
+    super(name, legacyName, defaultValueFactory, forceDefaultValue, export);
+  }
+
+  @Override
+  public Class<Integer> getValueType() {
+    return Integer.class;
+  }
+
+  @Override
+  public Integer fromString(String value, IdeContext context) {
+    return Integer.valueOf(value);
+  }
+}
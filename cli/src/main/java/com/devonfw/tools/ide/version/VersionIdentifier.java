@@ -2,7 +2,10 @@ package com.devonfw.tools.ide.version;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -21,6 +24,19 @@ public final class VersionIdentifier implements VersionObject<VersionIdentifier>
 
   private static final Logger LOG = LoggerFactory.getLogger(VersionIdentifier.class);
 
+  /** The maximum number of {@link VersionIdentifier}s to {@link #of(String) intern} before the cache is cleared. */
+  private static final int CACHE_MAX_SIZE = 16384;
+
+  /** Cache to intern the {@link VersionIdentifier}s {@link #of(String) parsed} from the same {@link String}. */
+  private static final Map<String, VersionIdentifier> CACHE = new ConcurrentHashMap<>();
+
+  /** The {@link VersionSegment#getPackedKey() packed key} of the {@link VersionSegment#ofEmpty() empty segment} following the last segment. */
+  private static final long EMPTY_KEY = VersionSegment.ofEmpty().getPackedKey();
+
+  private static final long SEPARATOR_NONE = 0;
+
+  private static final long SEPARATOR_UNDERSCORE = 3;
+
   /** {@link VersionIdentifier} "*" that will resolve to the latest stable version. */
   public static final VersionIdentifier LATEST = new VersionIdentifier(VersionSegment.of("*"));
 
@@ -35,6 +51,9 @@ public final class VersionIdentifier implements VersionObject<VersionIdentifier>
 
   private final boolean snapshot;
 
+  /** The {@link VersionSegment#getPackedKey() packed keys} of all segments or {@code null} if not all segments are packable. */
+  private final long[] packedKey;
+
   private VersionIdentifier(VersionSegment start) {
 
     super();
@@ -71,6 +90,27 @@ public final class VersionIdentifier implements VersionObject<VersionIdentifier>
     this.snapshot = hasSnapshot;
     this.developmentPhase = dev;
     this.valid = isValid && hasPositiveNumber;
+    this.packedKey = packKey(start);
+  }
+
+  private static long[] packKey(VersionSegment start) {
+
+    int count = 0;
+    VersionSegment segment = start;
+    while (segment != null) {
+      count++;
+      segment = segment.getNextOrNull();
+    }
+    long[] key = new long[count];
+    segment = start;
+    for (int i = 0; i < count; i++) {
+      key[i] = segment.getPackedKey();
+      if (key[i] == VersionSegment.NOT_PACKABLE) {
+        return null;
+      }
+      segment = segment.getNextOrNull();
+    }
+    return key;
   }
 
   /**
@@ -86,7 +126,16 @@ public final class VersionIdentifier implements VersionObject<VersionIdentifier>
     if (version == null) {
       version = LATEST;
     }
+    if (version instanceof VersionIdentifier requested && !requested.isPattern()) {
+      int index = binarySearch(requested, versions);
+      if (index >= 0) {
+        VersionIdentifier vi = versions.get(index);
+        LOG.debug("Resolved version {} to version {}", version, vi);
+        return vi;
+      }
+    }
     if (!version.isPattern()) {
+      // fallback if the versions are not strictly sorted
       for (VersionIdentifier vi : versions) {
         if (vi.equals(version)) {
           LOG.debug("Resolved version {} to version {}", version, vi);
@@ -107,6 +156,43 @@ public final class VersionIdentifier implements VersionObject<VersionIdentifier>
             + " version(s) available but none matched!\nDid you mean one of: " + closestStr + "?");
   }
 
+  /**
+   * @param version the {@link VersionIdentifier} to find.
+   * @param versions the {@link List} of {@link VersionIdentifier}s sorted in descending order.
+   * @return the index of the {@link VersionIdentifier} {@link #equals(Object) equal} to the given {@code version} or {@code -1} if not found.
+   */
+  private static int binarySearch(VersionIdentifier version, List<VersionIdentifier> versions) {
+
+    if (!(versions instanceof RandomAccess)) {
+      return -1;
+    }
+    int low = 0;
+    int high = versions.size() - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      VersionComparisonResult result = versions.get(mid).compareVersion(version);
+      if (result.isGreater()) {
+        low = mid + 1;
+      } else if (result.isLess()) {
+        high = mid - 1;
+      } else {
+        // versions like "1.01" and "1.1" are equal in order but not equal
+        for (int i = mid; (i >= 0) && versions.get(i).compareVersion(version).isEqual(); i--) {
+          if (versions.get(i).equals(version)) {
+            return i;
+          }
+        }
+        for (int i = mid + 1; (i < versions.size()) && versions.get(i).compareVersion(version).isEqual(); i++) {
+          if (versions.get(i).equals(version)) {
+            return i;
+          }
+        }
+        return -1;
+      }
+    }
+    return -1;
+  }
+
   /**
    * Finds the closest versions to the requested version pattern by matching the major version segment.
    *
@@ -204,7 +290,57 @@ public final class VersionIdentifier implements VersionObject<VersionIdentifier>
 
     if (other == null) {
       return VersionComparisonResult.GREATER_UNSAFE;
+    } else if ((this.packedKey != null) && (other.packedKey != null)) {
+      return comparePackedKeys(this.packedKey, other.packedKey);
     }
+    return compareSegments(other);
+  }
+
+  /**
+   * Compares the {@link VersionSegment#getPackedKey() packed keys} with the same result as {@link #compareSegments(VersionIdentifier)} but without walking
+   * the linked {@link VersionSegment}s.
+   */
+  private static VersionComparisonResult comparePackedKeys(long[] keys, long[] otherKeys) {
+
+    int length = Math.max(keys.length, otherKeys.length);
+    for (int i = 0; i < length; i++) {
+      long key = (i < keys.length) ? keys[i] : EMPTY_KEY;
+      long otherKey = (i < otherKeys.length) ? otherKeys[i] : EMPTY_KEY;
+      if (key == otherKey) {
+        continue;
+      }
+      long letters = key >>> 34;
+      long otherLetters = otherKey >>> 34;
+      VersionComparisonResult result;
+      if (letters != otherLetters) {
+        result = (letters < otherLetters) ? VersionComparisonResult.LESS : VersionComparisonResult.GREATER;
+      } else {
+        long separator = (key >>> 32) & 3;
+        long otherSeparator = (otherKey >>> 32) & 3;
+        long number = key & 0xFFFFFFFFL;
+        long otherNumber = otherKey & 0xFFFFFFFFL;
+        if ((separator != otherSeparator) && (otherSeparator == SEPARATOR_UNDERSCORE)) {
+          result = (separator == SEPARATOR_NONE) ? VersionComparisonResult.LESS : VersionComparisonResult.GREATER;
+        } else if ((separator != otherSeparator) && (separator == SEPARATOR_UNDERSCORE)) {
+          result = (otherSeparator == SEPARATOR_NONE) ? VersionComparisonResult.GREATER : VersionComparisonResult.LESS;
+        } else if (number != otherNumber) {
+          result = (number < otherNumber) ? VersionComparisonResult.LESS : VersionComparisonResult.GREATER;
+        } else {
+          // only the separators differ (e.g. "1.0" and "1-0") what is considered as equal
+          continue;
+        }
+      }
+      return result;
+    }
+    return VersionComparisonResult.EQUAL;
+  }
+
+  /**
+   * @param other the {@link VersionIdentifier} to compare with.
+   * @return the {@link VersionComparisonResult} by comparing the {@link VersionSegment}s one by one.
+   */
+  VersionComparisonResult compareSegments(VersionIdentifier other) {
+
     VersionSegment thisSegment = this.start;
     VersionSegment otherSegment = other.start;
     VersionComparisonResult result = null;
@@ -373,7 +509,8 @@ public final class VersionIdentifier implements VersionObject<VersionIdentifier>
 
   /**
    * @param version the {@link #toString() string representation} of the {@link VersionIdentifier} to parse.
-   * @return the parsed {@link VersionIdentifier}.
+   * @return the parsed {@link VersionIdentifier}. As {@link VersionIdentifier}s are immutable, the same instance is returned when the same {@link String}
+   *     is parsed again.
    */
   @JsonCreator
   public static VersionIdentifier of(String version) {
@@ -386,11 +523,22 @@ public final class VersionIdentifier implements VersionObject<VersionIdentifier>
       return VersionIdentifier.LATEST;
     }
     assert !version.contains(" ") && !version.contains("\n") && !version.contains("\t") : version;
-    VersionSegment startSegment = VersionSegment.of(version);
-    if (startSegment == null) {
-      return null;
+    VersionIdentifier result = CACHE.get(version);
+    if (result == null) {
+      VersionSegment startSegment = VersionSegment.of(version);
+      if (startSegment == null) {
+        return null;
+      }
+      result = new VersionIdentifier(startSegment);
+      if (CACHE.size() >= CACHE_MAX_SIZE) {
+        CACHE.clear();
+      }
+      VersionIdentifier existing = CACHE.putIfAbsent(version, result);
+      if (existing != null) {
+        result = existing;
+      }
     }
-    return new VersionIdentifier(startSegment);
+    return result;
   }
 
   /**
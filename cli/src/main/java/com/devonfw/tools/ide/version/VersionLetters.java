@@ -260,7 +260,10 @@ public final class VersionLetters implements AbstractVersionPhase, VersionObject
   }
 
 
-  private int getPhaseRank() {
+  /**
+   * @return the rank of the {@link #getPhase() phase} considering the {@link #isSnapshot() snapshot} flag. A greater rank indicates a greater version.
+   */
+  int getPhaseRank() {
 
     int rank = this.phase.ordinal() * 2;
 
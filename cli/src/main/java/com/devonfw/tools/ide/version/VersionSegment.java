@@ -13,6 +13,9 @@ public class VersionSegment implements VersionObject<VersionSegment> {
   /** Pattern to match a {@link VersionPhase#isStable() stable} version that matches the prefix. Value is: {@value} */
   public static final String PATTERN_MATCH_ANY_STABLE_VERSION = "*";
 
+  /** The {@link #getPackedKey() packed key} of a {@link VersionSegment} that can not be packed. */
+  static final long NOT_PACKABLE = -1;
+
   private static final VersionSegment EMPTY = new VersionSegment("", "", "", "");
 
   private final String separator;
@@ -286,6 +289,37 @@ public class VersionSegment implements VersionObject<VersionSegment> {
     }
   }
 
+  /**
+   * Packs this {@link VersionSegment} into a single {@code long} so that {@link VersionIdentifier}s can be compared without walking the linked segments. From
+   * the most to the least significant bits it contains the {@link VersionLetters#getPhaseRank() rank} of the {@link #getLetters() letters}, the inverted
+   * {@link VersionLetters#isPrePhase() pre-phase} flag, the code of the {@link #getSeparator() separator}, and the {@link #getNumber() number} plus one. Hence
+   * for two packable segments the order of their letters and numbers is the numeric order of their keys as long as their separators are not compared.
+   *
+   * @return the packed key or {@link #NOT_PACKABLE} if this is a {@link #isPattern() pattern}, has {@link VersionPhase#UNDEFINED undefined} letters, or an
+   *     unusual {@link #getSeparator() separator} that requires the full {@link #compareVersion(VersionSegment) comparison}.
+   */
+  long getPackedKey() {
+
+    if (isPattern() || (this.letters.getPhase() == VersionPhase.UNDEFINED)) {
+      return NOT_PACKABLE;
+    }
+    long separatorCode = switch (this.separator) {
+      case "" -> 0;
+      case "." -> 1;
+      case "-" -> 2;
+      case "_" -> 3;
+      default -> NOT_PACKABLE;
+    };
+    if (separatorCode == NOT_PACKABLE) {
+      return NOT_PACKABLE;
+    }
+    long lettersCode = this.letters.getPhaseRank() * 2L;
+    if (!this.letters.isPrePhase()) {
+      lettersCode++;
+    }
+    return (lettersCode << 34) | (separatorCode << 32) | (this.number + 1L);
+  }
+
   /**
    * Matches a {@link VersionSegment} with a potential {@link #getPattern() pattern} against another {@link VersionSegment}. This operation may not always be
    * symmetric.
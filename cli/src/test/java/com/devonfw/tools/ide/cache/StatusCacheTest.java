@@ -0,0 +1,56 @@
+package com.devonfw.tools.ide.cache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.devonfw.tools.ide.context.AbstractIdeContextTest;
+import com.devonfw.tools.ide.context.IdeTestContext;
+
+/**
+ * Test of {@link StatusCache}.
+ */
+class StatusCacheTest extends AbstractIdeContextTest {
+
+  /** Test that a cached status is returned until it exceeds the maximum age or is removed. */
+  @Test
+  void testGetSetRemove() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    StatusCache cache = new StatusCache(context);
+    // act
+    cache.set("ideasy-latest-stable", "2026.10.001");
+    // assert
+    assertThat(cache.get("ideasy-latest-stable", Duration.ofHours(1))).isEqualTo("2026.10.001");
+    assertThat(cache.get("online", Duration.ofHours(1))).isNull();
+    Path file = cache.getCachePath().resolve("ideasy-latest-stable");
+    Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() - Duration.ofHours(2).toMillis()));
+    assertThat(cache.get("ideasy-latest-stable", Duration.ofHours(1))).isNull();
+    assertThat(cache.get("ideasy-latest-stable", Duration.ofHours(3))).isEqualTo("2026.10.001");
+    cache.remove("ideasy-latest-stable");
+    assertThat(file).doesNotExist();
+    assertThat(cache.get("ideasy-latest-stable", Duration.ofHours(3))).isNull();
+  }
+
+  /** Test that nothing is cached if ~/.ide does not exist. */
+  @Test
+  void testNoUserHomeIde() {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    context.setUserHome(context.getIdeHome().resolve("non-existing-home"));
+    StatusCache cache = new StatusCache(context);
+    // act
+    cache.set("online", "https://www.github.com");
+    // assert
+    assertThat(cache.getCachePath()).isNull();
+    assertThat(cache.get("online", Duration.ofHours(1))).isNull();
+    assertThat(context.getIdeHome().resolve("non-existing-home")).doesNotExist();
+  }
+
+}
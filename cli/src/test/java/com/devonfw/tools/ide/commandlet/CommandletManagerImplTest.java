@@ -0,0 +1,75 @@
+package com.devonfw.tools.ide.commandlet;
+
+import java.util.List;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import com.devonfw.tools.ide.context.AbstractIdeContextTest;
+import com.devonfw.tools.ide.context.IdeTestContext;
+import com.devonfw.tools.ide.tool.LocalToolCommandlet;
+import com.devonfw.tools.ide.tool.java.Java;
+
+/**
+ * Test of {@link CommandletManagerImpl}.
+ */
+class CommandletManagerImplTest extends AbstractIdeContextTest {
+
+  /**
+   * Test that the static {@link CommandletManagerImpl#DESCRIPTORS registry} is in sync with the {@link Commandlet}s it creates.
+   */
+  @Test
+  void testDescriptorsMatchCommandlets() {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    CommandletManagerImpl commandletManager = new CommandletManagerImpl(context);
+    // act
+    List<CommandletDescriptor> descriptors = List.copyOf(commandletManager.getCommandletDescriptors());
+    // assert
+    assertThat(descriptors).isEqualTo(CommandletManagerImpl.DESCRIPTORS);
+    SoftAssertions soft = new SoftAssertions();
+    for (CommandletDescriptor descriptor : descriptors) {
+      Commandlet commandlet = commandletManager.getCommandlet(descriptor.name());
+      CommandletDescriptor actual = CommandletDescriptor.of(commandlet);
+      soft.assertThat(actual.name()).as("name of %s", descriptor.type()).isEqualTo(descriptor.name());
+      soft.assertThat(actual.type()).as("type of %s", descriptor.name()).isEqualTo(descriptor.type());
+      soft.assertThat(actual.keywords()).as("keywords of %s", descriptor.name()).isEqualTo(descriptor.keywords());
+    }
+    soft.assertAll();
+  }
+
+  /**
+   * Test that a {@link Commandlet} is created only once and the same instance is returned for all lookups.
+   */
+  @Test
+  void testCommandletIsCreatedOnce() {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    CommandletManagerImpl commandletManager = new CommandletManagerImpl(context);
+    // act
+    Java java = commandletManager.getCommandlet(Java.class);
+    // assert
+    assertThat(commandletManager.getCommandlet("java")).isSameAs(java);
+    assertThat(commandletManager.getCommandletByFirstKeyword("java")).isSameAs(java);
+    assertThat(commandletManager.getCommandletByFirstKeyword("--version")).isSameAs(commandletManager.getCommandlet(VersionCommandlet.class));
+    assertThat(commandletManager.getCommandlets()).contains(java);
+  }
+
+  /**
+   * Test of {@link CommandletManagerImpl#getInstalledLocalToolCommandlets()}.
+   */
+  @Test
+  void testInstalledLocalToolCommandlets() {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    CommandletManagerImpl commandletManager = new CommandletManagerImpl(context);
+    // act
+    List<LocalToolCommandlet> tools = commandletManager.getInstalledLocalToolCommandlets();
+    // assert
+    assertThat(tools).extracting(Commandlet::getName).contains("java", "mvn", "node", "npm").doesNotContain("python", "intellij", "gradle");
+  }
+
+}
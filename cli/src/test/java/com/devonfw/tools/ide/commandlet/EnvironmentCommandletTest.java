@@ -1,12 +1,16 @@
 package com.devonfw.tools.ide.commandlet;
 
+import java.io.File;
 import java.nio.file.FileSystems;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 
 import org.junit.jupiter.api.Test;
 
 import com.devonfw.tools.ide.context.AbstractIdeContextTest;
 import com.devonfw.tools.ide.context.IdeTestContext;
+import com.devonfw.tools.ide.environment.EnvironmentSnapshot;
 import com.devonfw.tools.ide.log.IdeLogEntry;
 import com.devonfw.tools.ide.log.IdeLogLevel;
 import com.devonfw.tools.ide.os.SystemInfoMock;
@@ -146,6 +150,37 @@ class EnvironmentCommandletTest extends AbstractIdeContextTest {
     );
   }
 
+  /**
+   * Test of {@link EnvironmentCommandlet} reusing its {@link EnvironmentSnapshot} on a second run even though the {@code PATH} now contains the tool entries
+   * added by the first run.
+   */
+  @Test
+  void testRunReusesSnapshot() throws Exception {
+
+    // arrange
+    String path = "project/workspaces/foo-test";
+    IdeTestContext context = newContext(ENVIRONMENT_COMMANDLET, path, true, null, IdeLogLevel.INFO);
+    context.setSystemInfo(SystemInfoMock.LINUX_X64);
+    context.setEnvironmentSnapshotEnabled(true);
+    EnvironmentCommandlet env = context.getCommandletManager().getCommandlet(EnvironmentCommandlet.class);
+    Path snapshotFile = EnvironmentSnapshot.of(context, "sh").getSnapshotFile();
+    env.run();
+    assertThat(snapshotFile).exists();
+    FileTime savedTime = FileTime.fromMillis(0);
+    Files.setLastModifiedTime(snapshotFile, savedTime);
+    String toolPath = context.getSoftwarePath().resolve("mvn").resolve("bin").toString();
+    context.getSystem().setEnv("PATH", toolPath + File.pathSeparator + context.getSystem().getEnv("PATH"));
+    context.getTestStartContext().getEntries().clear();
+
+    // act
+    env.run();
+
+    // assert
+    assertThat(context).log().hasEntries(IdeLogEntry.ofProcessable("BAR=\"bar-some-${UNDEFINED}\""), //
+        IdeLogEntry.ofProcessable("WORKSPACE=\"foo-test\""));
+    assertThat(Files.getLastModifiedTime(snapshotFile)).isEqualTo(savedTime);
+  }
+
   private String normalize(Path path) {
 
     return path.toString().replace('\\', '/');
@@ -10,8 +10,11 @@ import com.devonfw.tools.ide.context.AbstractIdeContextTest;
 import com.devonfw.tools.ide.context.IdeContext;
 import com.devonfw.tools.ide.context.IdeTestContext;
 import com.devonfw.tools.ide.git.GitContextImplMock;
+import com.devonfw.tools.ide.git.GitContextMock;
 import com.devonfw.tools.ide.git.repository.RepositoryCommandlet;
 import com.devonfw.tools.ide.io.FileAccess;
+import com.devonfw.tools.ide.log.IdeLogEntry;
+import com.devonfw.tools.ide.log.IdeLogLevel;
 
 /**
  * Test of {@link RepositoryCommandlet}.
@@ -156,6 +159,64 @@ class RepositoryCommandletTest extends AbstractIdeContextTest {
     assertThat(context).logAtSuccess().hasMessage("Successfully ended step 'Setup of repository test'.");
   }
 
+  @Test
+  void testSetupMultipleRepositoriesClonedInParallel() {
+
+    // arrange
+    IdeTestContext context = newContext(IdeContext.FOLDER_REPOSITORY);
+    List<String> repositories = List.of("repo1", "repo2", "repo3");
+    for (String repository : repositories) {
+      Properties properties = createDefaultProperties();
+      properties.setProperty("path", repository);
+      properties.setProperty("active", "true");
+      saveProperties(context, properties, repository + ".properties");
+    }
+    RepositoryCommandlet rc = context.getCommandletManager().getCommandlet(RepositoryCommandlet.class);
+
+    // act
+    rc.run();
+
+    // assert
+    for (String repository : repositories) {
+      assertThat(context.getIdeHome().resolve(IdeContext.FOLDER_WORKSPACES).resolve(TEST_WORKSPACE).resolve(repository)).isDirectory();
+    }
+    assertThat(context).logAtInfo().hasMessage("Cloning 3 repositories with up to 3 in parallel");
+    assertThat(context).log().hasNoMessageContaining("already exists");
+    for (String repository : repositories) {
+      assertThat(context).logAtSuccess().hasMessage("Successfully ended step 'Setup of repository " + repository + "'.");
+    }
+  }
+
+  @Test
+  void testSetupRepositoriesInParallelRetriesCloneRequiringInteraction() {
+
+    // arrange
+    IdeTestContext context = newContext(IdeContext.FOLDER_REPOSITORY);
+    String privateUrl = "https://github.com/devonfw/private-repo.git";
+    List<String> repositories = List.of("repo1", "repo2", "repo3");
+    for (String repository : repositories) {
+      Properties properties = createDefaultProperties();
+      properties.setProperty("path", repository);
+      properties.setProperty("active", "true");
+      if (repository.equals("repo2")) {
+        properties.setProperty("git_url", privateUrl);
+      }
+      saveProperties(context, properties, repository + ".properties");
+    }
+    ((GitContextMock) context.getGitContext()).requireInteraction(privateUrl);
+    RepositoryCommandlet rc = context.getCommandletManager().getCommandlet(RepositoryCommandlet.class);
+
+    // act
+    rc.run();
+
+    // assert
+    for (String repository : repositories) {
+      assertThat(context.getIdeHome().resolve(IdeContext.FOLDER_WORKSPACES).resolve(TEST_WORKSPACE).resolve(repository).resolve(".git")).isDirectory();
+    }
+    assertThat(context).log().hasEntries(new IdeLogEntry(IdeLogLevel.INFO, "in the background failed - retrying interactively", true),
+        new IdeLogEntry(IdeLogLevel.SUCCESS, "Successfully ended step 'Setup of repository repo2'."));
+  }
+
   @Test
   void testSetupRepositoryWithMultipleWorkspaces() {
 
@@ -76,6 +76,30 @@ class StatusCommandletTest extends AbstractIdeContextTest {
         IdeLogEntry.ofInteraction("Please check potential proxy settings, ensure you are properly connected to the internet and retry this operation."));
   }
 
+  /**
+   * Tests that the output of {@link StatusCommandlet} is logged in the order of its steps even though the probes run in parallel.
+   */
+  @Test
+  void testStatusLogsProbesInOrder() {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    Exception error = context.getNetworkStatus().simulateNetworkError();
+    StatusCommandlet status = context.getCommandletManager().getCommandlet(StatusCommandlet.class);
+
+    // act
+    status.run();
+
+    // assert
+    assertThat(context).log().hasEntries(new IdeLogEntry(IdeLogLevel.SUCCESS, "IDE_HOME is set to ", true),
+        IdeLogEntry.ofSuccess("Your version of IDEasy is SNAPSHOT."),
+        IdeLogEntry.ofWarning("Skipping check for newer version of IDEasy because you are offline."),
+        new IdeLogEntry(IdeLogLevel.INFO, "Your operating system is ", true),
+        new IdeLogEntry(IdeLogLevel.ERROR, "You are offline because of the following error:", null, null, error, false),
+        IdeLogEntry.ofError("No git executable was found on your system!"),
+        IdeLogEntry.ofSuccess("Your settings are up-to-date."));
+  }
+
   /**
    * Tests the output if {@link StatusCommandlet} is run with TLS issue.
    */
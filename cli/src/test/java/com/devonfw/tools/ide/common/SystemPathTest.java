@@ -1,8 +1,10 @@
 package com.devonfw.tools.ide.common;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
@@ -191,6 +193,49 @@ class SystemPathTest extends AbstractIdeContextTest {
     assertThat(resolved).isNotEqualTo(mytoolInToolDir.resolve("mytool"));
   }
 
+  @Test
+  void testFindBinaryCachesNegativeResultUntilDirectoryIsModified() throws IOException {
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    Path binDir = context.getIdeHome().resolve("cached-bin");
+    Files.createDirectories(binDir);
+    FileTime modified = FileTime.fromMillis(System.currentTimeMillis() - 60_000);
+    Files.setLastModifiedTime(binDir, modified);
+    SystemPath systemPath = new SystemPath(context, "", null, null, File.pathSeparatorChar, List.of(binDir));
+    Path faketool = Path.of("faketool");
+    assertThat(systemPath.findBinary(faketool)).isSameAs(faketool);
+
+    // act
+    Files.writeString(binDir.resolve("faketool"), "#!/bin/bash");
+    Files.setLastModifiedTime(binDir, modified);
+    Path cached = systemPath.findBinary(faketool);
+    Files.setLastModifiedTime(binDir, FileTime.fromMillis(modified.toMillis() + 10_000));
+    Path resolved = systemPath.findBinary(faketool);
+
+    // assert
+    assertThat(cached).isSameAs(faketool);
+    assertThat(resolved).isEqualTo(binDir.resolve("faketool"));
+  }
+
+  @Test
+  void testFindBinaryResolvesAgainAfterSetPath() throws IOException {
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    Path toolDir = context.getIdeHome().resolve("mytool-bin");
+    Files.createDirectories(toolDir);
+    Files.writeString(toolDir.resolve("mytool"), "#!/bin/bash");
+    SystemPath systemPath = new SystemPath(context, "", null, null, ';', List.of());
+    Path mytool = Path.of("mytool");
+    assertThat(systemPath.hasBinaryOnPath("mytool")).isFalse();
+
+    // act
+    systemPath.setPath("mytool", toolDir);
+    Path resolved = systemPath.findBinary(mytool);
+
+    // assert
+    assertThat(resolved).isEqualTo(toolDir.resolve("mytool"));
+  }
+
   @Test
   void testConstructorNormalizesPathEntryWithControlCharactersAndKeepsIt() {
     // arrange
@@ -0,0 +1,81 @@
+package com.devonfw.tools.ide.completion;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.devonfw.tools.ide.context.AbstractIdeContextTest;
+import com.devonfw.tools.ide.context.AbstractIdeTestContext;
+import com.devonfw.tools.ide.context.IdeTestContext;
+import com.devonfw.tools.ide.os.SystemInfoImpl;
+import com.devonfw.tools.ide.version.VersionIdentifier;
+
+/**
+ * Test of {@link CompletionIndex}.
+ */
+class CompletionIndexTest extends AbstractIdeContextTest {
+
+  private static final Path URLS_PATH = Path.of("src/test/resources/urls");
+
+  private static IdeTestContext newContext(Path tempDir, String commitId) throws IOException {
+
+    IdeTestContext context = new IdeTestContext();
+    context.getFileAccess().copy(URLS_PATH, tempDir);
+    Path urlsPath = tempDir.resolve("urls");
+    Path refs = urlsPath.resolve(".git/refs/heads");
+    Files.createDirectories(refs);
+    Files.writeString(urlsPath.resolve(".git/HEAD"), "ref: refs/heads/main\n");
+    Files.writeString(refs.resolve("main"), commitId + "\n");
+    context.setUrlsPath(urlsPath);
+    ((AbstractIdeTestContext) context).setSystemInfo(new SystemInfoImpl("Linux", "6.1", "amd64"));
+    return context;
+  }
+
+  /** Test that editions and versions found via the index match those from the ide-urls repository. */
+  @Test
+  void testVersionsAndEditionsMatchUrls(@TempDir Path tempDir) throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(tempDir, "0123456789abcdef0123456789abcdef01234567");
+
+    // act
+    CompletionIndex.update(context);
+    CompletionIndex index = CompletionIndex.of(context);
+
+    // assert
+    assertThat(tempDir.resolve(CompletionIndex.FILENAME)).exists();
+    assertThat(index).isNotNull();
+    assertThat(index.getEditions("java")).isEqualTo(context.getUrls().getSortedEditions("java"));
+    assertThat(index.getEditions("undefined")).isNull();
+    assertThat(index.getVersions("java", "undefined", "")).isNull();
+    List<String> expected = new ArrayList<>();
+    for (VersionIdentifier version : context.getUrls().getSortedVersions("java", "java", null).reversed()) {
+      expected.add(version.toString());
+    }
+    assertThat(index.getVersions("java", "java", "")).containsExactlyElementsOf(expected);
+    assertThat(index.getVersions("java", "java", "17")).containsExactlyElementsOf(expected.stream().filter(v -> v.startsWith("17")).toList())
+        .isNotEmpty();
+    assertThat(index.getVersions("java", "java", "0")).isEmpty();
+  }
+
+  /** Test that the index is not used once the commit of the ide-urls repository has changed. */
+  @Test
+  void testOutdatedIndexIsIgnored(@TempDir Path tempDir) throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(tempDir, "0123456789abcdef0123456789abcdef01234567");
+    CompletionIndex.update(context);
+
+    // act
+    Files.writeString(tempDir.resolve("urls/.git/refs/heads/main"), "89abcdef0123456789abcdef0123456789abcdef\n");
+
+    // assert
+    assertThat(CompletionIndex.of(context)).isNull();
+  }
+
+}
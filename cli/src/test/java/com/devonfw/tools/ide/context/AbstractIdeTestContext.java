@@ -61,6 +61,8 @@ public class AbstractIdeTestContext extends AbstractIdeContext {
 
   private NetworkStatusMock networkStatus;
 
+  private boolean environmentSnapshotEnabled;
+
   /**
    * The constructor.
    *
@@ -135,6 +137,22 @@ public class AbstractIdeTestContext extends AbstractIdeContext {
     return true;
   }
 
+  @Override
+  public boolean isEnvironmentSnapshotEnabled() {
+
+    return this.environmentSnapshotEnabled;
+  }
+
+  /**
+   * @param environmentSnapshotEnabled {@code true} to let {@code ide env} reuse and store its snapshot like outside of tests (only use with a test project
+   *     copied for mutation), {@code false} otherwise (default).
+   */
+  public void setEnvironmentSnapshotEnabled(boolean environmentSnapshotEnabled) {
+
+    requireMutable();
+    this.environmentSnapshotEnabled = environmentSnapshotEnabled;
+  }
+
   /**
    * @return {@code true} if mutable, {@code false} otherwise.
    * @see IdeTestContextMock
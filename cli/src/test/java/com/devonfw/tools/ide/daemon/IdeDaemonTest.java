@@ -0,0 +1,177 @@
+package com.devonfw.tools.ide.daemon;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.devonfw.tools.ide.context.AbstractIdeContextTest;
+import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.context.IdeTestContext;
+
+/**
+ * Test of {@link IdeDaemon} and {@link IdeDaemonClient}.
+ */
+class IdeDaemonTest extends AbstractIdeContextTest {
+
+  /** Test that only the non-interactive commandlets of the shell integration are served by the daemon. */
+  @Test
+  void testIsEligible() {
+
+    assertThat(IdeDaemonClient.isEligible("env")).isTrue();
+    assertThat(IdeDaemonClient.isEligible("-q", "env", "--bash")).isTrue();
+    assertThat(IdeDaemonClient.isEligible("complete", "in")).isTrue();
+    assertThat(IdeDaemonClient.isEligible("-d", "env")).isFalse();
+    assertThat(IdeDaemonClient.isEligible("install", "java")).isFalse();
+    assertThat(IdeDaemonClient.isEligible()).isFalse();
+  }
+
+  /** Test that the daemon serves a request with the working directory and environment of the client and terminates when idle. */
+  @Test
+  void testServeEnvAndTerminateWhenIdle(@TempDir Path tempDir) throws Exception {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    Path socketFile = tempDir.resolve("ide.sock");
+    IdeDaemon daemon = new IdeDaemon(socketFile, Duration.ofSeconds(2));
+    Thread thread = start(daemon);
+    assertThat(daemon.awaitReady(Duration.ofSeconds(10))).isTrue();
+    Path userHome = tempDir.resolve("home");
+    Files.createDirectories(userHome.resolve(IdeContext.FOLDER_DOT_IDE));
+    Files.writeString(userHome.resolve(IdeContext.FOLDER_DOT_IDE).resolve(IdeContext.FILE_LICENSE_AGREEMENT), "accepted");
+    Map<String, String> env = Map.of("IDE_ROOT", context.getIdeRoot().toString(), "PATH", System.getenv().getOrDefault("PATH", ""));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    // act
+    Integer exitCode = IdeDaemonClient.run(socketFile, context.getWorkspacePath(), userHome, env, out, err, "env");
+    thread.join(10000);
+
+    // assert
+    assertThat(exitCode).isEqualTo(0);
+    assertThat(out.toString(StandardCharsets.UTF_8)).contains("IDE_HOME=");
+    assertThat(thread.isAlive()).isFalse();
+    assertThat(socketFile).doesNotExist();
+    assertThat(IdeDaemonClient.run(socketFile, context.getWorkspacePath(), userHome, env, out, err, "env")).isNull();
+  }
+
+  /** Test that a change of a watched file while a request is served is not lost and the next request reflects it. */
+  @Test
+  void testChangeDuringRequestInvalidatesContext(@TempDir Path tempDir) throws Exception {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    Path settingsProperties = context.getSettingsPath().resolve("ide.properties");
+    Path socketFile = tempDir.resolve("ide.sock");
+    AtomicBoolean changed = new AtomicBoolean();
+    IdeDaemon daemon = new IdeDaemon(socketFile, Duration.ofSeconds(5)) {
+      @Override
+      int serve(Request request, DataOutputStream out) {
+
+        int exitCode = super.serve(request, out);
+        if (!changed.getAndSet(true)) {
+          // e.g. a git pull in settings while the first request is still running
+          try {
+            Files.writeString(settingsProperties, "\nDAEMON_CHANGE=changed\n", StandardOpenOption.APPEND);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        }
+        return exitCode;
+      }
+    };
+    Thread thread = start(daemon);
+    assertThat(daemon.awaitReady(Duration.ofSeconds(10))).isTrue();
+    Path userHome = tempDir.resolve("home");
+    Files.createDirectories(userHome.resolve(IdeContext.FOLDER_DOT_IDE));
+    Files.writeString(userHome.resolve(IdeContext.FOLDER_DOT_IDE).resolve(IdeContext.FILE_LICENSE_AGREEMENT), "accepted");
+    Map<String, String> env = Map.of("IDE_ROOT", context.getIdeRoot().toString(), "PATH", System.getenv().getOrDefault("PATH", ""));
+    ByteArrayOutputStream err = new ByteArrayOutputStream();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    assertThat(IdeDaemonClient.run(socketFile, context.getWorkspacePath(), userHome, env, out, err, "env")).isEqualTo(0);
+    assertThat(out.toString(StandardCharsets.UTF_8)).doesNotContain("DAEMON_CHANGE");
+
+    // act
+    // the watch service reports the change asynchronously, but a stale context would never pick it up
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(3);
+    do {
+      out.reset();
+      assertThat(IdeDaemonClient.run(socketFile, context.getWorkspacePath(), userHome, env, out, err, "env")).isEqualTo(0);
+    } while (!out.toString(StandardCharsets.UTF_8).contains("DAEMON_CHANGE") && (System.nanoTime() < deadline));
+    thread.join(10000);
+
+    // assert
+    assertThat(out.toString(StandardCharsets.UTF_8)).contains("DAEMON_CHANGE=\"changed\"");
+    assertThat(thread.isAlive()).isFalse();
+  }
+
+  /** Test that a {@link IdeDaemon.Request} with values exceeding the 64KB limit of {@link DataOutputStream#writeUTF(String)} is transferred. */
+  @Test
+  void testRequestWithLargeValue() throws IOException {
+
+    // arrange
+    String path = "/opt/bin:".repeat(10000);
+    IdeDaemon.Request request = new IdeDaemon.Request(Path.of("/project"), Path.of("/home"), new String[] { "env" }, Map.of("PATH", path));
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    // act
+    request.write(new DataOutputStream(bytes));
+    IdeDaemon.Request result = IdeDaemon.Request.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+    // assert
+    assertThat(result.cwd()).isEqualTo(request.cwd());
+    assertThat(result.args()).containsExactly("env");
+    assertThat(result.env()).containsEntry("PATH", path);
+  }
+
+  /** Test that a second daemon started concurrently exits immediately and leaves the socket of the running daemon intact. */
+  @Test
+  void testSecondDaemonDoesNotTakeOverSocket(@TempDir Path tempDir) throws Exception {
+
+    // arrange
+    Path socketFile = tempDir.resolve("ide.sock");
+    IdeDaemon daemon = new IdeDaemon(socketFile, Duration.ofSeconds(2));
+    Thread thread = start(daemon);
+    assertThat(daemon.awaitReady(Duration.ofSeconds(10))).isTrue();
+    IdeDaemon secondDaemon = new IdeDaemon(socketFile, Duration.ofSeconds(2));
+
+    // act
+    boolean listened = secondDaemon.run();
+
+    // assert
+    assertThat(listened).isFalse();
+    assertThat(secondDaemon.awaitReady(Duration.ZERO)).isTrue();
+    assertThat(socketFile).exists();
+    assertThat(thread.isAlive()).isTrue();
+    thread.join(10000);
+    assertThat(thread.isAlive()).isFalse();
+    assertThat(socketFile).doesNotExist();
+  }
+
+  private static Thread start(IdeDaemon daemon) {
+
+    Thread thread = new Thread(() -> {
+      try {
+        daemon.run();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+    thread.start();
+    return thread;
+  }
+
+}
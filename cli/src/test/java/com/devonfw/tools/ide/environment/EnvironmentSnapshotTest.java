@@ -0,0 +1,57 @@
+package com.devonfw.tools.ide.environment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.devonfw.tools.ide.context.AbstractIdeContextTest;
+import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.context.IdeTestContext;
+
+/**
+ * Test of {@link EnvironmentSnapshot}.
+ */
+class EnvironmentSnapshotTest extends AbstractIdeContextTest {
+
+  private static final List<String> LINES = List.of("export FOO=\"foo\"", "complete -C 'tool' tool");
+
+  /** Test that a saved snapshot is loaded until a contributing properties file changes. */
+  @Test
+  void testInvalidatedByPropertiesFile() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    EnvironmentSnapshot snapshot = EnvironmentSnapshot.of(context, "bash");
+    snapshot.save(context.getVariables(), List.of("FOO"), LINES);
+
+    // act & assert
+    assertThat(snapshot.getSnapshotFile()).startsWith(context.getIdeHome().resolve(IdeContext.FOLDER_DOT_IDE));
+    assertThat(snapshot.load()).isEqualTo(LINES);
+    assertThat(EnvironmentSnapshot.of(context, "sh").load()).isNull();
+    Files.writeString(context.getConfPath().resolve("ide.properties"), "\nBAR=bar\n", StandardOpenOption.APPEND);
+    assertThat(snapshot.load()).isNull();
+  }
+
+  /** Test that a saved snapshot is invalidated if a printed system environment variable or the software folder changes. */
+  @Test
+  void testInvalidatedBySystemEnvironmentAndSoftware() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    EnvironmentSnapshot snapshot = EnvironmentSnapshot.of(context, "bash");
+    snapshot.save(context.getVariables(), List.of("FOO"), LINES);
+
+    // act & assert
+    context.getSystem().setEnv("FOO", "changed");
+    assertThat(snapshot.load()).isNull();
+    snapshot.save(context.getVariables(), List.of("FOO"), LINES);
+    assertThat(snapshot.load()).isEqualTo(LINES);
+    Files.createDirectories(context.getSoftwarePath().resolve("newtool"));
+    assertThat(snapshot.load()).isNull();
+  }
+
+}
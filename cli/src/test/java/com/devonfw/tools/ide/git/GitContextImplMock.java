@@ -64,6 +64,12 @@ public class GitContextImplMock extends GitContextImpl {
     }
   }
 
+  @Override
+  public void clone(GitUrl gitUrl, Path repository, boolean interactive) {
+
+    clone(gitUrl, repository);
+  }
+
   @Override
   public String determineRemote(Path repository) {
 
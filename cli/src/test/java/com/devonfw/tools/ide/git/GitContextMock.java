@@ -4,10 +4,13 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 
+import com.devonfw.tools.ide.cli.CliException;
 import com.devonfw.tools.ide.context.IdeContext;
 import com.devonfw.tools.ide.io.FileAccess;
 import com.devonfw.tools.ide.io.FileCopyMode;
@@ -27,6 +30,8 @@ public class GitContextMock extends GitContextImpl {
 
   private final Map<Path, List<GitCommit>> pending = new HashMap<>();
 
+  private final Set<String> urlsRequiringInteraction = new HashSet<>();
+
   /**
    * @param context the {@link IdeContext context}.
    */
@@ -80,6 +85,26 @@ public class GitContextMock extends GitContextImpl {
     fileAccess.writeIniFile(config, gitFolder.resolve("config"));
   }
 
+  /**
+   * Simulates that cloning the repository with the given URL requires user interaction (e.g. to enter credentials) so a non-interactive clone fails.
+   *
+   * @param url the {@link GitUrl#url() URL} of the repository.
+   */
+  public void requireInteraction(String url) {
+
+    this.urlsRequiringInteraction.add(url);
+  }
+
+  @Override
+  public void clone(GitUrl gitUrl, Path repository, boolean interactive) {
+
+    if (!interactive && this.urlsRequiringInteraction.contains(gitUrl.url())) {
+      this.context.getFileAccess().mkdirs(repository);
+      throw new CliException("Authentication required for " + gitUrl.url());
+    }
+    clone(gitUrl, repository);
+  }
+
   /**
    * Applies pending commits for the given repository.
    *
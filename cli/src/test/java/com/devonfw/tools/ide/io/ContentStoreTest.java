@@ -0,0 +1,92 @@
+package com.devonfw.tools.ide.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+
+import org.junit.jupiter.api.Test;
+
+import com.devonfw.tools.ide.context.AbstractIdeContextTest;
+import com.devonfw.tools.ide.context.IdeTestContext;
+import com.devonfw.tools.ide.variable.IdeVariables;
+
+/**
+ * Test of {@link ContentStore}.
+ */
+class ContentStoreTest extends AbstractIdeContextTest {
+
+  /** Test that identical files of two installations are hard-linked and unreferenced blobs are removed by garbage collection. */
+  @Test
+  void testDeduplicateAndCollectGarbage() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    context.getSystem().setEnv(IdeVariables.SOFTWARE_DEDUPLICATION.getName(), "true");
+    Path tool = context.getSoftwareRepositoryPath().resolve("default/tool/tool");
+    Path v1 = createInstallation(tool.resolve("1.0"), "1.0");
+    Path v2 = createInstallation(tool.resolve("1.1"), "1.1");
+    ContentStore contentStore = new ContentStore(context);
+
+    // act
+    contentStore.deduplicate(v1);
+    contentStore.deduplicate(v2);
+
+    // assert
+    assertThat(contentStore.isApplicable(v1)).isTrue();
+    assertThat(contentStore.isApplicable(context.getIdeHome())).isFalse();
+    assertThat(Files.isSameFile(v1.resolve("lib/shared.jar"), v2.resolve("lib/shared.jar"))).isTrue();
+    assertThat(Files.isSameFile(v1.resolve("version.txt"), v2.resolve("version.txt"))).isFalse();
+    assertThat(v2.resolve("lib/shared.jar")).hasContent("shared content");
+    assertReadOnly(context, v2.resolve("lib/shared.jar"));
+    Path refs = context.getSoftwareRepositoryPath().resolve(ContentStore.FOLDER_STORE).resolve("refs/default/tool/tool");
+    assertThat(refs.resolve("1.0")).exists();
+    assertThat(refs.resolve("1.1")).exists();
+
+    // act
+    context.getFileAccess().delete(v1);
+    int deleted = contentStore.collectGarbage();
+
+    // assert
+    assertThat(deleted).isEqualTo(1);
+    assertThat(refs.resolve("1.0")).doesNotExist();
+    assertThat(v2.resolve("lib/shared.jar")).hasContent("shared content");
+    assertThat(v2.resolve("version.txt")).hasContent("1.1");
+    assertReadOnly(context, v2.resolve("lib/shared.jar"));
+  }
+
+  /** Test that nothing is deduplicated by default. */
+  @Test
+  void testNotApplicableByDefault() {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    Path installation = context.getSoftwareRepositoryPath().resolve("default/tool/tool/1.0");
+
+    // act
+    ContentStore contentStore = new ContentStore(context);
+
+    // assert
+    assertThat(contentStore.isApplicable(installation)).isFalse();
+    assertThat(contentStore.collectGarbage()).isZero();
+  }
+
+  private static void assertReadOnly(IdeTestContext context, Path file) throws IOException {
+
+    if (context.getSystemInfo().isWindows()) {
+      assertThat(Files.isWritable(file)).isFalse();
+    } else {
+      assertThat(Files.getPosixFilePermissions(file)).doesNotContain(PosixFilePermission.OWNER_WRITE, PosixFilePermission.GROUP_WRITE,
+          PosixFilePermission.OTHERS_WRITE);
+    }
+  }
+
+  private static Path createInstallation(Path installation, String version) throws IOException {
+
+    Files.createDirectories(installation.resolve("lib"));
+    Files.writeString(installation.resolve("lib/shared.jar"), "shared content");
+    Files.writeString(installation.resolve("version.txt"), version);
+    return installation;
+  }
+
+}
@@ -3,6 +3,7 @@ package com.devonfw.tools.ide.io;
 import static com.devonfw.tools.ide.io.FileAccessImpl.generatePermissionString;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.NoSuchFileException;
@@ -13,9 +14,14 @@ import java.nio.file.attribute.PosixFilePermissions;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
+import org.apache.commons.compress.archivers.sevenz.SevenZArchiveEntry;
+import org.apache.commons.compress.archivers.sevenz.SevenZOutputFile;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
 import org.assertj.core.api.AbstractPathAssert;
 import org.junit.jupiter.api.Test;
@@ -28,12 +34,15 @@ import org.junit.jupiter.api.io.TempDir;
 import com.devonfw.tools.ide.context.AbstractIdeContextTest;
 import com.devonfw.tools.ide.context.IdeTestContext;
 import com.devonfw.tools.ide.os.SystemInfoMock;
+import com.devonfw.tools.ide.variable.IdeVariables;
 
 /**
  * Test of {@link FileAccessImpl}.
  */
 class FileAccessImplTest extends AbstractIdeContextTest {
 
+  private static final int MANY_FILES_COUNT = 2 * ExtractionWorkers.MIN_FILES;
+
   /**
    * Test of {@link FileAccessImpl#symlink(Path, Path, boolean)} with "relative = false". Passing absolute paths as source.
    */
@@ -918,6 +927,186 @@ class FileAccessImplTest extends AbstractIdeContextTest {
     assertPosixFilePermissions(tempDir.resolve("nonExecutableFile.txt"), "rw-rw-r--");
   }
 
+  /**
+   * Test of {@link FileAccessImpl#extractZip(Path, Path)} with a ZIP containing enough files to be extracted by multiple threads.
+   */
+  @Test
+  void testUnzipManyFilesInParallel(@TempDir Path tempDir) throws IOException {
+
+    // arrange
+    WindowsSymlinkTestHelper.assumeSymlinksSupported();
+    IdeTestContext context = new IdeTestContext();
+    Path zip = tempDir.resolve("many.zip");
+    createZipWithManyFiles(zip, null);
+    Path targetDir = tempDir.resolve("target");
+
+    // act
+    context.getFileAccess().extractZip(zip, targetDir);
+
+    // assert
+    assertExtractedManyFiles(context, targetDir);
+  }
+
+  /**
+   * Test of {@link FileAccessImpl#extractZip(Path, Path)} with a ZIP that has many files and an entry leaving the target directory. No file may be written.
+   */
+  @Test
+  void testUnzipManyFilesInParallelPreventsPathTraversal(@TempDir Path tempDir) throws IOException {
+
+    // arrange
+    IdeTestContext context = new IdeTestContext();
+    Path zip = tempDir.resolve("many.zip");
+    createZipWithManyFiles(zip, "../evil.txt");
+    Path targetDir = tempDir.resolve("target");
+
+    // act & assert
+    assertThatThrownBy(() -> context.getFileAccess().extractZip(zip, targetDir)).isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("Preventing path traversal attack from ../evil.txt");
+    assertThat(tempDir.resolve("evil.txt")).doesNotExist();
+    assertThat(targetDir.resolve("dir0")).doesNotExist();
+  }
+
+  /**
+   * Test of {@link FileAccessImpl#extract7z(Path, Path)} with a 7z archive containing enough files to be written by multiple threads.
+   */
+  @Test
+  void test7zExtractionManyFilesInParallel(@TempDir Path tempDir) throws IOException {
+
+    // arrange
+    WindowsSymlinkTestHelper.assumeSymlinksSupported();
+    IdeTestContext context = new IdeTestContext();
+    Path archive = tempDir.resolve("many.7z");
+    create7zWithManyFiles(archive);
+    Path targetDir = tempDir.resolve("target");
+
+    // act
+    context.getFileAccess().extract7z(archive, targetDir);
+
+    // assert
+    assertExtractedManyFiles(context, targetDir);
+  }
+
+  /**
+   * Test that {@link FileAccessImpl#extractZip(Path, Path)} and {@link FileAccessImpl#extract7z(Path, Path)} produce identical results with parallel and
+   * sequential ({@link IdeVariables#EXTRACT_THREADS} set to {@code 1}) extraction.
+   */
+  @Test
+  void testParallelExtractionMatchesSequentialExtraction(@TempDir Path tempDir) throws IOException {
+
+    // arrange
+    WindowsSymlinkTestHelper.assumeSymlinksSupported();
+    IdeTestContext context = new IdeTestContext();
+    FileAccess fileAccess = context.getFileAccess();
+    Path zip = tempDir.resolve("many.zip");
+    createZipWithManyFiles(zip, null);
+    Path sevenZ = tempDir.resolve("many.7z");
+    create7zWithManyFiles(sevenZ);
+
+    // act
+    context.getSystem().setEnv(IdeVariables.EXTRACT_THREADS.getName(), "1");
+    fileAccess.extractZip(zip, tempDir.resolve("zip-sequential"));
+    fileAccess.extract7z(sevenZ, tempDir.resolve("7z-sequential"));
+    context.getSystem().setEnv(IdeVariables.EXTRACT_THREADS.getName(), "4");
+    fileAccess.extractZip(zip, tempDir.resolve("zip-parallel"));
+    fileAccess.extract7z(sevenZ, tempDir.resolve("7z-parallel"));
+
+    // assert
+    assertSameTree(context, tempDir.resolve("zip-sequential"), tempDir.resolve("zip-parallel"));
+    assertSameTree(context, tempDir.resolve("7z-sequential"), tempDir.resolve("7z-parallel"));
+    assertSameTree(context, tempDir.resolve("zip-sequential"), tempDir.resolve("7z-parallel"));
+  }
+
+  private void assertSameTree(IdeTestContext context, Path expected, Path actual) throws IOException {
+
+    List<Path> expectedFiles;
+    try (Stream<Path> files = Files.walk(expected)) {
+      expectedFiles = files.map(expected::relativize).sorted().toList();
+    }
+    List<Path> actualFiles;
+    try (Stream<Path> files = Files.walk(actual)) {
+      actualFiles = files.map(actual::relativize).sorted().toList();
+    }
+    assertThat(actualFiles).isEqualTo(expectedFiles);
+    for (Path relative : expectedFiles) {
+      Path expectedFile = expected.resolve(relative);
+      Path actualFile = actual.resolve(relative);
+      assertThat(Files.isSymbolicLink(actualFile)).as("symbolic link %s", relative).isEqualTo(Files.isSymbolicLink(expectedFile));
+      if (Files.isRegularFile(expectedFile, LinkOption.NOFOLLOW_LINKS)) {
+        assertThat(actualFile).hasSameBinaryContentAs(expectedFile);
+        if (!context.getSystemInfo().isWindows()) {
+          assertThat(Files.getPosixFilePermissions(actualFile)).as("permissions of %s", relative).isEqualTo(Files.getPosixFilePermissions(expectedFile));
+        }
+      }
+    }
+  }
+
+  private static void create7zWithManyFiles(Path archive) throws IOException {
+
+    try (SevenZOutputFile out = new SevenZOutputFile(archive.toFile())) {
+      for (int i = 0; i < MANY_FILES_COUNT; i++) {
+        SevenZArchiveEntry entry = new SevenZArchiveEntry();
+        entry.setName(getManyFilesName(i));
+        entry.setHasWindowsAttributes(true);
+        entry.setWindowsAttributes(0x8000 | ((i == 0 ? 0100755 : 0100644) << 16));
+        out.putArchiveEntry(entry);
+        out.write(getManyFilesContent(i).getBytes(StandardCharsets.UTF_8));
+        out.closeArchiveEntry();
+      }
+      SevenZArchiveEntry link = new SevenZArchiveEntry();
+      link.setName("link");
+      link.setHasWindowsAttributes(true);
+      link.setWindowsAttributes(0x8000 | (0120777 << 16));
+      out.putArchiveEntry(link);
+      out.write(getManyFilesName(0).getBytes(StandardCharsets.UTF_8));
+      out.closeArchiveEntry();
+    }
+  }
+
+  private static String getManyFilesName(int i) {
+
+    return "dir" + (i % 8) + "/sub" + (i % 3) + "/file" + i + ".txt";
+  }
+
+  private static String getManyFilesContent(int i) {
+
+    return "content of file " + i + "\n".repeat(i);
+  }
+
+  private static void createZipWithManyFiles(Path zip, String evilEntry) throws IOException {
+
+    try (ZipArchiveOutputStream out = new ZipArchiveOutputStream(zip)) {
+      for (int i = 0; i < MANY_FILES_COUNT; i++) {
+        ZipArchiveEntry entry = new ZipArchiveEntry(getManyFilesName(i));
+        entry.setUnixMode(i == 0 ? 0100755 : 0100644);
+        out.putArchiveEntry(entry);
+        out.write(getManyFilesContent(i).getBytes(StandardCharsets.UTF_8));
+        out.closeArchiveEntry();
+      }
+      ZipArchiveEntry link = new ZipArchiveEntry("link");
+      link.setUnixMode(0120777);
+      out.putArchiveEntry(link);
+      out.write(getManyFilesName(0).getBytes(StandardCharsets.UTF_8));
+      out.closeArchiveEntry();
+      if (evilEntry != null) {
+        out.putArchiveEntry(new ZipArchiveEntry(evilEntry));
+        out.write("evil".getBytes(StandardCharsets.UTF_8));
+        out.closeArchiveEntry();
+      }
+    }
+  }
+
+  private void assertExtractedManyFiles(IdeTestContext context, Path targetDir) {
+
+    for (int i = 0; i < MANY_FILES_COUNT; i++) {
+      assertThat(targetDir.resolve(getManyFilesName(i))).hasContent(getManyFilesContent(i));
+    }
+    assertThat(context.getFileAccess().toRealPath(targetDir.resolve("link"))).isEqualTo(realPath(targetDir.resolve(getManyFilesName(0))));
+    if (!context.getSystemInfo().isWindows()) {
+      assertPosixFilePermissions(targetDir.resolve(getManyFilesName(0)), "rwxr-xr-x");
+      assertPosixFilePermissions(targetDir.resolve(getManyFilesName(1)), "rw-r--r--");
+    }
+  }
+
   @Test
   void test7zExtractionWithSymbolicLink(@TempDir Path tempDir) {
 
@@ -0,0 +1,136 @@
+package com.devonfw.tools.ide.io;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.devonfw.tools.ide.context.AbstractIdeContextTest;
+import com.devonfw.tools.ide.context.IdeTestContext;
+import com.devonfw.tools.ide.variable.IdeVariables;
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+
+/**
+ * Test of {@link HttpClientManager}.
+ */
+@WireMockTest
+class HttpClientManagerTest extends AbstractIdeContextTest {
+
+  private static final byte[] CONTENT = "Hello World".getBytes(StandardCharsets.UTF_8);
+
+  @BeforeEach
+  void stubHello() {
+
+    stubFor(get(urlEqualTo("/hello")).willReturn(aResponse().withStatus(200).withBody(CONTENT)));
+  }
+
+  private static HttpRequest createRequest(WireMockRuntimeInfo wmRuntimeInfo) {
+
+    return HttpRequest.newBuilder(URI.create(wmRuntimeInfo.getHttpBaseUrl() + "/hello")).GET().build();
+  }
+
+  /** Test that subsequent requests reuse the shared client and that the metrics are logged. */
+  @Test
+  void testSendReusesClient(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    HttpClientManager httpClientManager = context.getHttpClientManager();
+
+    // act
+    HttpResponse<String> response1 = httpClientManager.send(createRequest(wmRuntimeInfo), HttpResponse.BodyHandlers.ofString());
+    HttpClient client = httpClientManager.getClient();
+    HttpResponse<String> response2 = httpClientManager.send(createRequest(wmRuntimeInfo), HttpResponse.BodyHandlers.ofString());
+    HttpClient client2 = httpClientManager.getClient();
+    httpClientManager.close();
+
+    // assert
+    assertThat(response1.body()).isEqualTo("Hello World");
+    assertThat(response2.body()).isEqualTo("Hello World");
+    assertThat(client2).isSameAs(client);
+    verify(2, getRequestedFor(urlEqualTo("/hello")));
+    assertThat(context).logAtDebug()
+        .hasMessageContaining("HTTP metrics for localhost:" + wmRuntimeInfo.getHttpPort() + ": 2 requests (0 failed), 22 bytes received");
+  }
+
+  /**
+   * Test that a download that takes longer than the short connect timeout of the online check still succeeds, as the shared client does not use that timeout.
+   */
+  @Test
+  void testSendToSlowServerSucceeds(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+
+    // arrange
+    // longer than the 1s connect timeout of the online check
+    stubFor(get(urlEqualTo("/slow")).willReturn(aResponse().withStatus(200).withBody(CONTENT).withFixedDelay(1500)));
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    HttpClientManager httpClientManager = context.getHttpClientManager();
+    HttpRequest request = HttpRequest.newBuilder(URI.create(wmRuntimeInfo.getHttpBaseUrl() + "/slow")).GET().build();
+
+    // act
+    HttpResponse<byte[]> response = httpClientManager.send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+    // assert
+    assertThat(response.body()).isEqualTo(CONTENT);
+    assertThat(httpClientManager.getClient().connectTimeout()).isEmpty();
+  }
+
+  /** Test that the number of concurrent requests to the same host is limited until the body has been consumed. */
+  @Test
+  void testSendLimitsRequestsPerHost(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    context.getSystem().setEnv(IdeVariables.HTTP_MAX_REQUESTS_PER_HOST.getName(), "1");
+    HttpClientManager httpClientManager = context.getHttpClientManager();
+    HttpResponse<InputStream> response1 = httpClientManager.send(createRequest(wmRuntimeInfo), HttpResponse.BodyHandlers.ofInputStream());
+
+    // act
+    CompletableFuture<HttpResponse<String>> response2 = new CompletableFuture<>();
+    Thread sender = Thread.ofPlatform().start(() -> {
+      try {
+        response2.complete(httpClientManager.send(createRequest(wmRuntimeInfo), HttpResponse.BodyHandlers.ofString()));
+      } catch (Exception e) {
+        response2.completeExceptionally(e);
+      }
+    });
+    awaitWaiting(sender);
+
+    // assert
+    assertThat(response2).isNotDone();
+    verify(1, getRequestedFor(urlEqualTo("/hello")));
+    try (InputStream body = response1.body()) {
+      assertThat(body.readAllBytes()).isEqualTo(CONTENT);
+    }
+    assertThat(response2.get(10, TimeUnit.SECONDS).body()).isEqualTo("Hello World");
+    verify(2, getRequestedFor(urlEqualTo("/hello")));
+  }
+
+  /**
+   * @param thread the {@link Thread} that is expected to block waiting for a permit.
+   */
+  private static void awaitWaiting(Thread thread) {
+
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (thread.getState() != Thread.State.WAITING) {
+      assertThat(thread.isAlive()).as("sender blocked").isTrue();
+      assertThat(System.nanoTime()).as("sender blocked in time").isLessThan(deadline);
+      Thread.onSpinWait();
+    }
+  }
+
+}
@@ -0,0 +1,119 @@
+package com.devonfw.tools.ide.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.devonfw.tools.ide.context.AbstractIdeContextTest;
+import com.devonfw.tools.ide.context.IdeTestContext;
+import com.devonfw.tools.ide.variable.IdeVariables;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Test of {@link HttpMetadataCache}.
+ */
+class HttpMetadataCacheTest extends AbstractIdeContextTest {
+
+  private static final String ETAG = "\"v1\"";
+
+  private static final byte[] CONTENT = "{\"versions\":[\"1.0\"]}".getBytes(StandardCharsets.UTF_8);
+
+  private final List<String> ifNoneMatchHeaders = new CopyOnWriteArrayList<>();
+
+  private HttpServer server;
+
+  @BeforeEach
+  void startServer() throws IOException {
+
+    this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    this.server.createContext("/", this::handle);
+    this.server.start();
+  }
+
+  @AfterEach
+  void stopServer() {
+
+    this.server.stop(0);
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+
+    String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+    this.ifNoneMatchHeaders.add(String.valueOf(ifNoneMatch));
+    exchange.getResponseHeaders().add("ETag", ETAG);
+    if (ETAG.equals(ifNoneMatch)) {
+      exchange.sendResponseHeaders(304, -1);
+      exchange.close();
+      return;
+    }
+    exchange.sendResponseHeaders(200, CONTENT.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(CONTENT);
+    }
+  }
+
+  private String url(String path) {
+
+    return "http://localhost:" + this.server.getAddress().getPort() + path;
+  }
+
+  /** Test that a cached response is revalidated via its ETag, used without request while fresh and used when stale in offline mode. */
+  @Test
+  void testGetRevalidatesWithEtag() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    HttpMetadataCache cache = context.getHttpMetadataCache();
+    String url = url("/package");
+
+    // act
+    Path body1 = cache.get(url, Duration.ZERO);
+    Path body2 = cache.get(url, Duration.ZERO);
+    Path body3 = cache.get(url, Duration.ofHours(1));
+    context.getStartContext().setOfflineMode(true);
+    Path body4 = cache.get(url, Duration.ZERO);
+
+    // assert
+    assertThat(this.ifNoneMatchHeaders).containsExactly("null", ETAG);
+    assertThat(body1).startsWith(cache.getCachePath());
+    for (Path body : List.of(body1, body2, body3, body4)) {
+      assertThat(body).isEqualTo(body1).hasBinaryContent(CONTENT);
+    }
+    assertThat(context).logAtDebug().hasMessageContaining("Cached metadata of " + url + " is still valid");
+    assertThat(context).logAtDebug().hasMessageContaining("Using stale cached metadata of " + url);
+  }
+
+  /** Test that the least recently used entries are evicted if the cache exceeds its maximum size. */
+  @Test
+  void testEvictLeastRecentlyUsed() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    HttpMetadataCache cache = context.getHttpMetadataCache();
+    Path body1 = cache.get(url("/a"), Duration.ZERO);
+    context.getSystem().setEnv(IdeVariables.HTTP_CACHE_SIZE.getName(), "0");
+
+    // act
+    Path body2 = cache.get(url("/b"), Duration.ZERO);
+
+    // assert
+    assertThat(body1).doesNotExist();
+    assertThat(body2).hasBinaryContent(CONTENT);
+    try (Stream<Path> children = Files.list(cache.getCachePath())) {
+      assertThat(children).hasSize(2);
+    }
+  }
+
+}
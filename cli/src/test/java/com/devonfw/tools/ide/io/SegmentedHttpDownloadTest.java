@@ -0,0 +1,201 @@
+package com.devonfw.tools.ide.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.devonfw.tools.ide.context.AbstractIdeContextTest;
+import com.devonfw.tools.ide.context.IdeTestContext;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Test of {@link SegmentedHttpDownload} via {@link FileAccess#download(String, Path)}.
+ */
+class SegmentedHttpDownloadTest extends AbstractIdeContextTest {
+
+  private static final int CONTENT_SIZE = 3 * 1024 * 1024 + 12345;
+
+  private static final int ABORT_AFTER = 256 * 1024;
+
+  private final byte[] content = new byte[CONTENT_SIZE];
+
+  private final List<String> ranges = Collections.synchronizedList(new ArrayList<>());
+
+  private HttpServer server;
+
+  private boolean acceptRanges;
+
+  private boolean abortFirstSegment;
+
+  private boolean wrongContentRange;
+
+  @BeforeEach
+  void startServer() throws IOException {
+
+    new Random(42).nextBytes(this.content);
+    this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    this.server.createContext("/file.zip", this::handle);
+    this.server.start();
+  }
+
+  @AfterEach
+  void stopServer() {
+
+    this.server.stop(0);
+  }
+
+  private String getUrl() {
+
+    return "http://localhost:" + this.server.getAddress().getPort() + "/file.zip";
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+
+    Headers headers = exchange.getResponseHeaders();
+    if (this.acceptRanges) {
+      headers.set("Accept-Ranges", "bytes");
+    }
+    headers.set("ETag", "\"42\"");
+    if (exchange.getRequestMethod().equals("HEAD")) {
+      headers.set("Content-Length", Integer.toString(CONTENT_SIZE));
+      exchange.sendResponseHeaders(200, -1);
+      exchange.close();
+      return;
+    }
+    String range = exchange.getRequestHeaders().getFirst("Range");
+    this.ranges.add(range == null ? "" : range);
+    int start = 0;
+    int end = CONTENT_SIZE - 1;
+    if (this.acceptRanges && (range != null)) {
+      String[] bounds = range.substring("bytes=".length()).split("-");
+      start = Integer.parseInt(bounds[0]);
+      end = Integer.parseInt(bounds[1]);
+      int total = this.wrongContentRange ? CONTENT_SIZE + 1 : CONTENT_SIZE;
+      headers.set("Content-Range", "bytes " + start + "-" + end + "/" + total);
+      exchange.sendResponseHeaders(206, end - start + 1);
+    } else {
+      exchange.sendResponseHeaders(200, CONTENT_SIZE);
+    }
+    OutputStream out = exchange.getResponseBody();
+    if (this.abortFirstSegment && (start == 0)) {
+      this.abortFirstSegment = false;
+      out.write(this.content, 0, ABORT_AFTER);
+      out.flush();
+      // closing with insufficient bytes written drops the connection
+      exchange.close();
+      return;
+    }
+    out.write(this.content, start, end - start + 1);
+    exchange.close();
+  }
+
+  /** Test of a download split into parallel range requests. */
+  @Test
+  void testDownloadWithRanges(@TempDir Path tempDir) {
+
+    // arrange
+    IdeTestContext context = newContext(tempDir);
+    Path target = tempDir.resolve("file.zip");
+    this.acceptRanges = true;
+
+    // act
+    Map<String, String> checksums = context.getFileAccess().download(getUrl(), target, List.of("SHA-256"));
+
+    // assert
+    assertThat(target).hasBinaryContent(this.content);
+    assertThat(checksums).containsExactly(entry("SHA-256", context.getFileAccess().checksum(target, "SHA-256")));
+    assertThat(this.ranges).hasSize(3).allMatch(range -> range.startsWith("bytes="));
+    assertThat(tempDir.resolve("file.zip" + SegmentedHttpDownload.PARTIAL_SUFFIX)).doesNotExist();
+    assertThat(tempDir.resolve("file.zip" + SegmentedHttpDownload.STATE_SUFFIX)).doesNotExist();
+    IdeProgressBarTestImpl progressBar = context.getProgressBarMap().get(IdeProgressBar.TITLE_DOWNLOADING);
+    assertThat(progressBar.getMaxSize()).isEqualTo(CONTENT_SIZE);
+    assertThat(progressBar.getEventList().stream().mapToLong(IdeProgressBarTestImpl.ProgressEvent::getStepSize).sum()).isEqualTo(CONTENT_SIZE);
+  }
+
+  /** Test that an interrupted download is resumed from the partial file. */
+  @Test
+  void testDownloadResumesAfterConnectionLoss(@TempDir Path tempDir) {
+
+    // arrange
+    IdeTestContext context = newContext(tempDir);
+    Path target = tempDir.resolve("file.zip");
+    this.acceptRanges = true;
+    this.abortFirstSegment = true;
+
+    // act
+    assertThatThrownBy(() -> context.getFileAccess().download(getUrl(), target)).isInstanceOf(IllegalStateException.class);
+
+    // assert
+    assertThat(target).doesNotExist();
+    assertThat(tempDir.resolve("file.zip" + SegmentedHttpDownload.PARTIAL_SUFFIX)).exists();
+    assertThat(tempDir.resolve("file.zip" + SegmentedHttpDownload.STATE_SUFFIX)).exists();
+
+    // act
+    this.ranges.clear();
+    Map<String, String> checksums = context.getFileAccess().download(getUrl(), target, List.of("SHA-256"));
+
+    // assert
+    assertThat(target).hasBinaryContent(this.content);
+    assertThat(checksums).containsExactly(entry("SHA-256", context.getFileAccess().checksum(target, "SHA-256")));
+    assertThat(this.ranges).hasSize(1);
+    long resumedAt = Long.parseLong(this.ranges.getFirst().substring("bytes=".length()).split("-")[0]);
+    assertThat(resumedAt).isPositive().isLessThanOrEqualTo(ABORT_AFTER);
+    assertThat(context).logAtInfo().hasMessageContaining("Resuming download of file.zip");
+    assertThat(tempDir.resolve("file.zip" + SegmentedHttpDownload.STATE_SUFFIX)).doesNotExist();
+  }
+
+  /** Test the fallback to a single stream if the {@code Content-Range} of a partial response does not match the requested range. */
+  @Test
+  void testDownloadWithWrongContentRange(@TempDir Path tempDir) {
+
+    // arrange
+    IdeTestContext context = newContext(tempDir);
+    Path target = tempDir.resolve("file.zip");
+    this.acceptRanges = true;
+    this.wrongContentRange = true;
+
+    // act
+    Map<String, String> checksums = context.getFileAccess().download(getUrl(), target, List.of("SHA-256"));
+
+    // assert
+    assertThat(target).hasBinaryContent(this.content);
+    assertThat(checksums).containsExactly(entry("SHA-256", context.getFileAccess().checksum(target, "SHA-256")));
+    assertThat(this.ranges).contains("");
+    assertThat(context).logAtWarning().hasMessageContaining("Server responded with Content-Range");
+    assertThat(tempDir.resolve("file.zip" + SegmentedHttpDownload.PARTIAL_SUFFIX)).doesNotExist();
+    assertThat(tempDir.resolve("file.zip" + SegmentedHttpDownload.STATE_SUFFIX)).doesNotExist();
+  }
+
+  /** Test the fallback to a single stream if the server does not support range requests. */
+  @Test
+  void testDownloadWithoutRanges(@TempDir Path tempDir) {
+
+    // arrange
+    IdeTestContext context = newContext(tempDir);
+    Path target = tempDir.resolve("file.zip");
+    this.acceptRanges = false;
+
+    // act
+    Map<String, String> checksums = context.getFileAccess().download(getUrl(), target, List.of("SHA-256"));
+
+    // assert
+    assertThat(target).hasBinaryContent(this.content);
+    assertThat(checksums).containsExactly(entry("SHA-256", context.getFileAccess().checksum(target, "SHA-256")));
+    assertThat(this.ranges).containsExactly("");
+    assertThat(tempDir.resolve("file.zip" + SegmentedHttpDownload.PARTIAL_SUFFIX)).doesNotExist();
+  }
+
+}
@@ -0,0 +1,127 @@
+package com.devonfw.tools.ide.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.devonfw.tools.ide.context.AbstractIdeContextTest;
+import com.devonfw.tools.ide.context.IdeTestContext;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Test of {@link FileAccess#downloadAndExtractTar(String, Path, Path, TarCompression, java.util.Collection)}.
+ */
+class TarStreamingDownloadTest extends AbstractIdeContextTest {
+
+  private static final int FILE_COUNT = 20;
+
+  private byte[] content;
+
+  private HttpServer server;
+
+  @BeforeEach
+  void startServer() throws IOException {
+
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (TarArchiveOutputStream tarOut = new TarArchiveOutputStream(new GzipCompressorOutputStream(baos))) {
+      TarArchiveEntry dirEntry = new TarArchiveEntry("tool-1.0/bin/");
+      tarOut.putArchiveEntry(dirEntry);
+      tarOut.closeArchiveEntry();
+      for (int i = 0; i < FILE_COUNT; i++) {
+        byte[] data = getContent(i).getBytes(StandardCharsets.UTF_8);
+        TarArchiveEntry entry = new TarArchiveEntry("tool-1.0/lib/file" + i + ".txt");
+        entry.setSize(data.length);
+        tarOut.putArchiveEntry(entry);
+        tarOut.write(data);
+        tarOut.closeArchiveEntry();
+      }
+      TarArchiveEntry link = new TarArchiveEntry("tool-1.0/bin/link", TarArchiveEntry.LF_SYMLINK);
+      link.setLinkName("../lib/file0.txt");
+      tarOut.putArchiveEntry(link);
+      tarOut.closeArchiveEntry();
+    }
+    this.content = baos.toByteArray();
+    this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    this.server.createContext("/tool.tgz", this::handle);
+    this.server.start();
+  }
+
+  @AfterEach
+  void stopServer() {
+
+    this.server.stop(0);
+  }
+
+  private static String getContent(int i) {
+
+    // random content that does not compress too well so the archive is large enough for a progress bar
+    Random random = new Random(i);
+    StringBuilder sb = new StringBuilder("content " + i);
+    for (int j = 0; j < i * 20; j++) {
+      sb.append(Long.toHexString(random.nextLong()));
+    }
+    return sb.toString();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+
+    exchange.sendResponseHeaders(200, this.content.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(this.content);
+    }
+  }
+
+  /** Test that the archive is extracted while it is downloaded and the downloaded file and checksum are complete. */
+  @Test
+  void testDownloadAndExtractTar(@TempDir Path tempDir) {
+
+    // arrange
+    WindowsSymlinkTestHelper.assumeSymlinksSupported();
+    IdeTestContext context = newContext(tempDir);
+    FileAccess fileAccess = context.getFileAccess();
+    String url = "http://localhost:" + this.server.getAddress().getPort() + "/tool.tgz";
+    Path target = tempDir.resolve("downloads/tool.tgz");
+    Path targetDir = tempDir.resolve("extracted");
+
+    // act
+    Map<String, String> checksums = fileAccess.downloadAndExtractTar(url, target, targetDir, TarCompression.GZ, List.of("SHA-256"));
+
+    // assert
+    assertThat(target).hasBinaryContent(this.content);
+    assertThat(checksums).containsExactly(entry("SHA-256", fileAccess.checksum(target, "SHA-256")));
+    for (int i = 0; i < FILE_COUNT; i++) {
+      assertThat(targetDir.resolve("tool-1.0/lib/file" + i + ".txt")).hasContent(getContent(i));
+    }
+    assertThat(targetDir.resolve("tool-1.0/bin/link")).hasContent(getContent(0));
+    IdeProgressBarTestImpl progressBar = context.getProgressBarMap().get(IdeProgressBar.TITLE_DOWNLOADING);
+    assertThat(progressBar.getMaxSize()).isEqualTo(this.content.length);
+    // the observer gets the bytes in bulk and not byte by byte
+    assertThat(progressBar.getEventList()).hasSizeLessThan(100);
+    assertThat(progressBar.getEventList().stream().mapToLong(IdeProgressBarTestImpl.ProgressEvent::getStepSize).sum()).isEqualTo(this.content.length);
+    assertThat(context).logAtInfo().hasMessageContaining("Extracting TAR file tool.tgz to " + targetDir + " while downloading");
+
+    // act
+    Path installDir = tempDir.resolve("tool");
+    fileAccess.moveExtracted(targetDir, installDir, null);
+
+    // assert
+    assertThat(installDir.resolve("lib/file1.txt")).hasContent(getContent(1));
+    assertThat(targetDir).doesNotExist();
+  }
+
+}
@@ -2,6 +2,8 @@ package com.devonfw.tools.ide.merge;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.Properties;
 
@@ -10,6 +12,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import com.devonfw.tools.ide.context.AbstractIdeContextTest;
 import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.context.IdeTestContext;
 import com.devonfw.tools.ide.io.FileAccess;
 
 /**
@@ -124,6 +127,38 @@ class DirectoryMergerTest extends AbstractIdeContextTest {
     assertThat(namePath).hasContent("project - main\ntest");
   }
 
+  /**
+   * Test of {@link DirectoryMerger#merge(List, com.devonfw.tools.ide.environment.EnvironmentVariables, Path, Path)} that skips workspace files whose
+   * templates and content did not change since the last merge.
+   *
+   * @param tempDir the temporary folder for workspace and fingerprints.
+   */
+  @Test
+  void testIncrementalMergeSkipsUnchangedFiles(@TempDir Path tempDir) throws Exception {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    DirectoryMerger merger = context.getWorkspaceMerger();
+    List<Path> templateFolders = List.of(Path.of("src/test/resources/templates"));
+    Path workspaceDir = tempDir.resolve("workspace");
+    Path fingerprintFile = tempDir.resolve("fingerprints.properties");
+
+    // act
+    int errors1 = merger.merge(templateFolders, context.getVariables(), workspaceDir, fingerprintFile);
+    int errors2 = merger.merge(templateFolders, context.getVariables(), workspaceDir, fingerprintFile);
+    Path mainPrefsFile = workspaceDir.resolve("main.prefs");
+    Files.writeString(mainPrefsFile, "java.version=1.99\n", StandardOpenOption.APPEND);
+    int errors3 = merger.merge(templateFolders, context.getVariables(), workspaceDir, fingerprintFile);
+
+    // assert
+    assertThat(errors1 + errors2 + errors3).isZero();
+    assertThat(fingerprintFile).exists();
+    assertThat(context).logAtDebug().hasMessage("Merging 7 of 7 workspace files (0 unchanged)");
+    assertThat(context).logAtDebug().hasMessage("Merging 0 of 7 workspace files (7 unchanged)");
+    assertThat(context).logAtDebug().hasMessage("Merging 1 of 7 workspace files (6 unchanged)");
+    assertThat(context.getFileAccess().readProperties(mainPrefsFile)).contains(JAVA_VERSION);
+  }
+
   private static class Prop implements Entry<String, String> {
 
     private final String key;
@@ -0,0 +1,105 @@
+package com.devonfw.tools.ide.profile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.devonfw.tools.ide.cli.Ideasy;
+import com.devonfw.tools.ide.context.AbstractIdeContextTest;
+import com.devonfw.tools.ide.context.IdeTestContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Test of {@link IdeProfiler}.
+ */
+class IdeProfilerTest extends AbstractIdeContextTest {
+
+  @AfterEach
+  void disableProfiler() {
+
+    IdeProfiler.disable();
+  }
+
+  /** Test that nothing is recorded if the {@link IdeProfiler} is not enabled. */
+  @Test
+  void testDisabled() {
+
+    // act
+    IdeProfilerSpan span = IdeProfiler.start("test", "disabled").arg("key", "value");
+    span.close();
+
+    // assert
+    assertThat(IdeProfiler.isEnabled()).isFalse();
+    assertThat(span).isSameAs(IdeProfilerSpan.NONE);
+  }
+
+  /** Test that the recorded spans are written as Chrome trace. */
+  @Test
+  void testWriteChromeTrace(@TempDir Path tempDir) throws IOException {
+
+    // arrange
+    Path traceFile = tempDir.resolve("trace.json");
+    IdeProfiler.enable(traceFile);
+
+    // act
+    try (IdeProfilerSpan outer = IdeProfiler.start("test", "outer")) {
+      try (IdeProfilerSpan inner = IdeProfiler.start("test", "inner")) {
+        inner.arg("exitCode", 0);
+      }
+    }
+    IdeProfiler profiler = IdeProfiler.disable();
+    profiler.write(traceFile, "ide test");
+
+    // assert
+    assertThat(IdeProfiler.isEnabled()).isFalse();
+    JsonNode trace = new ObjectMapper().readTree(traceFile.toFile());
+    JsonNode outer = findEvent(trace, "outer");
+    JsonNode inner = findEvent(trace, "inner");
+    assertThat(outer.get("ph").asText()).isEqualTo("X");
+    assertThat(outer.get("cat").asText()).isEqualTo("test");
+    assertThat(inner.get("args").get("exitCode").asText()).isEqualTo("0");
+    assertThat(inner.get("ts").asDouble()).isGreaterThanOrEqualTo(outer.get("ts").asDouble());
+    assertThat(inner.get("dur").asDouble()).isLessThanOrEqualTo(outer.get("dur").asDouble());
+    assertThat(findEvent(trace, "process_name").get("args").get("name").asText()).isEqualTo("ide test");
+  }
+
+  /** Test that a profiled call of IDEasy writes the trace including its steps. */
+  @Test
+  void testProfiledCall(@TempDir Path tempDir) throws IOException {
+
+    // arrange
+    Path traceFile = tempDir.resolve("trace.json");
+    IdeProfiler.enable(traceFile);
+    IdeTestContext context = newContext(PROJECT_BASIC);
+
+    // act
+    int exitCode = new Ideasy(context).run("--profile", "--version");
+
+    // assert
+    assertThat(exitCode).isEqualTo(0);
+    assertThat(IdeProfiler.isEnabled()).isFalse();
+    assertThat(context).logAtInteraction().hasMessage("Profile of this call written to " + traceFile);
+    JsonNode trace = new ObjectMapper().readTree(traceFile.toFile());
+    assertThat(findEvent(trace, "ide").get("cat").asText()).isEqualTo("step");
+  }
+
+  private static JsonNode findEvent(JsonNode trace, String name) {
+
+    List<String> names = new ArrayList<>();
+    for (JsonNode event : trace.get("traceEvents")) {
+      String eventName = event.get("name").asText();
+      if (eventName.equals(name)) {
+        return event;
+      }
+      names.add(eventName);
+    }
+    throw new AssertionError("Event " + name + " not found in " + names);
+  }
+
+}
@@ -0,0 +1,140 @@
+package com.devonfw.tools.ide.tool;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.devonfw.tools.ide.version.VersionIdentifier;
+
+/**
+ * Test of {@link InstalledPackages}.
+ */
+class InstalledPackagesTest extends Assertions {
+
+  private static void writePackageJson(Path nodeModules, String name, String version) throws IOException {
+
+    Path packagePath = nodeModules.resolve(name);
+    Files.createDirectories(packagePath);
+    Files.writeString(packagePath.resolve("package.json"), "{\"name\":\"" + name + "\",\"version\":\"" + version + "\",\"bin\":{}}");
+  }
+
+  private static void writeMetadata(Path sitePackages, String name, String version) throws IOException {
+
+    Path distInfo = sitePackages.resolve(name.replace('-', '_') + "-" + version + ".dist-info");
+    Files.createDirectories(distInfo);
+    Files.writeString(distInfo.resolve("METADATA"), "Metadata-Version: 2.1\nName: " + name + "\nVersion: " + version + "\n\nVersion: 0.0.0\n");
+  }
+
+  /** Test of {@link InstalledPackages#ofNode(Path)} with Linux and Windows layout and scoped packages. */
+  @Test
+  void testNode(@TempDir Path nodePath) throws IOException {
+
+    // arrange
+    writePackageJson(nodePath.resolve("lib/node_modules"), "npm", "10.9.2");
+    writePackageJson(nodePath.resolve("lib/node_modules"), "@angular/cli", "19.1.0");
+    writePackageJson(nodePath.resolve("node_modules"), "yarn", "1.22.22");
+    // act
+    InstalledPackages packages = InstalledPackages.ofNode(nodePath);
+    // assert
+    assertThat(packages.getVersion("npm")).isEqualTo(VersionIdentifier.of("10.9.2"));
+    assertThat(packages.getVersion("@angular/cli")).isEqualTo(VersionIdentifier.of("19.1.0"));
+    assertThat(packages.getVersion("yarn")).isEqualTo(VersionIdentifier.of("1.22.22"));
+    assertThat(packages.getVersion("cdk")).isNull();
+  }
+
+  /** Test that {@link InstalledPackages} are cached until {@link InstalledPackages#invalidate() invalidated}. */
+  @Test
+  void testInvalidate(@TempDir Path nodePath) throws IOException {
+
+    // arrange
+    Path nodeModules = nodePath.resolve("lib/node_modules");
+    writePackageJson(nodeModules, "npm", "10.9.2");
+    InstalledPackages packages = InstalledPackages.ofNode(nodePath);
+    assertThat(packages.getVersion("npm")).isEqualTo(VersionIdentifier.of("10.9.2"));
+    // act
+    writePackageJson(nodeModules, "npm", "11.0.0");
+    VersionIdentifier cached = packages.getVersion("npm");
+    packages.invalidate();
+    // assert
+    assertThat(cached).isEqualTo(VersionIdentifier.of("10.9.2"));
+    assertThat(packages.getVersion("npm")).isEqualTo(VersionIdentifier.of("11.0.0"));
+  }
+
+  /** Test that {@link InstalledPackages} are read again without {@link InstalledPackages#invalidate() invalidation} if the installation was replaced. */
+  @Test
+  void testReplacedInstallation(@TempDir Path tempDir) throws IOException {
+
+    // arrange
+    Path pythonPath = tempDir.resolve("python");
+    writeMetadata(pythonPath.resolve("lib/python3.12/site-packages"), "pip", "24.0");
+    InstalledPackages packages = InstalledPackages.ofPython(pythonPath);
+    assertThat(packages.getVersion("pip")).isEqualTo(VersionIdentifier.of("24.0"));
+    // act
+    Files.move(pythonPath, tempDir.resolve("python.bak"));
+    writeMetadata(pythonPath.resolve("lib/python3.13/site-packages"), "pip", "25.0.1");
+    // assert
+    assertThat(packages.getVersion("pip")).isEqualTo(VersionIdentifier.of("25.0.1"));
+  }
+
+  /** Test of {@link InstalledPackages#ofPython(Path)} with normalized package names. */
+  @Test
+  void testPython(@TempDir Path pythonPath) throws IOException {
+
+    // arrange
+    Path sitePackages = pythonPath.resolve("lib/python3.12/site-packages");
+    writeMetadata(sitePackages, "pip", "25.0.1");
+    writeMetadata(sitePackages, "Spyder-Kernels", "3.0.2");
+    // act
+    InstalledPackages packages = InstalledPackages.ofPython(pythonPath);
+    // assert
+    assertThat(packages.getVersion("pip")).isEqualTo(VersionIdentifier.of("25.0.1"));
+    assertThat(packages.getVersion("spyder_kernels")).isEqualTo(VersionIdentifier.of("3.0.2"));
+    assertThat(packages.getVersion("spyder")).isNull();
+  }
+
+  /** Test that malformed package metadata is skipped without hiding the other installed packages. */
+  @Test
+  void testMalformedPackagesAreSkipped(@TempDir Path path) throws IOException {
+
+    // arrange
+    Path nodeModules = path.resolve("lib/node_modules");
+    writePackageJson(nodeModules, "npm", "10.9.2");
+    Path brokenPackage = nodeModules.resolve("broken");
+    Files.createDirectories(brokenPackage);
+    Files.writeString(brokenPackage.resolve("package.json"), "{\"name\":");
+    Path sitePackages = path.resolve("lib/python3.12/site-packages");
+    writeMetadata(sitePackages, "pip", "25.0.1");
+    Path brokenDistInfo = sitePackages.resolve("broken-1.0.dist-info");
+    Files.createDirectories(brokenDistInfo);
+    Files.write(brokenDistInfo.resolve("METADATA"), new byte[] { 'N', 'a', 'm', 'e', ':', ' ', (byte) 0xFF });
+    // act
+    InstalledPackages nodePackages = InstalledPackages.ofNode(path);
+    InstalledPackages pythonPackages = InstalledPackages.ofPython(path);
+    // assert
+    assertThat(nodePackages.getVersion("npm")).isEqualTo(VersionIdentifier.of("10.9.2"));
+    assertThat(nodePackages.getVersion("broken")).isNull();
+    assertThat(pythonPackages.getVersion("pip")).isEqualTo(VersionIdentifier.of("25.0.1"));
+    assertThat(pythonPackages.getVersion("broken")).isNull();
+  }
+
+  /** Test of {@link InstalledPackages#ofUvTools(Path)} ignoring dependencies of a tool. */
+  @Test
+  void testUvTools(@TempDir Path toolsPath) throws IOException {
+
+    // arrange
+    Path sitePackages = toolsPath.resolve("ruff/lib/python3.13/site-packages");
+    writeMetadata(sitePackages, "ruff", "0.9.4");
+    writeMetadata(sitePackages, "rust-just", "1.39.0");
+    writeMetadata(toolsPath.resolve("rust-just/Lib/site-packages"), "rust-just", "1.40.0");
+    // act
+    InstalledPackages packages = InstalledPackages.ofUvTools(toolsPath);
+    // assert
+    assertThat(packages.getVersion("ruff")).isEqualTo(VersionIdentifier.of("0.9.4"));
+    assertThat(packages.getVersion("rust-just")).isEqualTo(VersionIdentifier.of("1.40.0"));
+  }
+
+}
@@ -0,0 +1,108 @@
+package com.devonfw.tools.ide.tool;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.devonfw.tools.ide.context.AbstractIdeContextTest;
+import com.devonfw.tools.ide.context.IdeTestContext;
+import com.devonfw.tools.ide.os.SystemInfoMock;
+import com.devonfw.tools.ide.tool.custom.CustomToolCommandlet;
+import com.devonfw.tools.ide.tool.custom.CustomToolMetadata;
+import com.devonfw.tools.ide.tool.intellij.Intellij;
+import com.devonfw.tools.ide.tool.java.Java;
+import com.devonfw.tools.ide.tool.mvn.Mvn;
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+
+/**
+ * Test of {@link ToolInstallScheduler}.
+ */
+@WireMockTest
+class ToolInstallSchedulerTest extends AbstractIdeContextTest {
+
+  /** Test that {@link ToolInstallScheduler#getInstallationOrder()} installs dependencies before the tools depending on them. */
+  @Test
+  void testInstallationOrderRespectsDependencies() {
+
+    // arrange
+    IdeTestContext context = newContext("dependencies");
+    context.setSystemInfo(SystemInfoMock.WINDOWS_X64);
+    Intellij intellij = context.getCommandletManager().getCommandlet(Intellij.class);
+    Java java = context.getCommandletManager().getCommandlet(Java.class);
+    ToolInstallScheduler scheduler = new ToolInstallScheduler(context, List.of(intellij, java));
+
+    // act
+    List<ToolCommandlet> order = scheduler.getInstallationOrder();
+
+    // assert
+    assertThat(order).containsExactly(java, intellij);
+  }
+
+  /** Test that {@link ToolInstallScheduler#getInstallationOrder()} keeps a custom tool that has the same name as a regular tool. */
+  @Test
+  void testInstallationOrderKeepsCustomToolWithSameName() {
+
+    // arrange
+    IdeTestContext context = newContext("update");
+    Mvn mvn = context.getCommandletManager().getCommandlet(Mvn.class);
+    Java java = context.getCommandletManager().getCommandlet(Java.class);
+    CustomToolCommandlet customMvn = new CustomToolCommandlet(context,
+        new CustomToolMetadata("mvn", "1.0", null, null, "https://example.com/mvn.tgz", null, "https://example.com"));
+    ToolInstallScheduler scheduler = new ToolInstallScheduler(context, List.of(mvn, customMvn, java));
+
+    // act
+    List<ToolCommandlet> order = scheduler.getInstallationOrder();
+
+    // assert
+    assertThat(order).hasSize(3).startsWith(java).contains(mvn, customMvn);
+  }
+
+  /** Test that {@link ToolInstallScheduler#install()} installs all given tools each in its own step. */
+  @Test
+  void testInstall() {
+
+    // arrange
+    IdeTestContext context = newContext("update");
+    Mvn mvn = context.getCommandletManager().getCommandlet(Mvn.class);
+    Java java = context.getCommandletManager().getCommandlet(Java.class);
+    ToolInstallScheduler scheduler = new ToolInstallScheduler(context, List.of(mvn, java, mvn));
+
+    // act
+    scheduler.install();
+
+    // assert
+    assertThat(scheduler.getInstallationOrder()).containsExactly(java, mvn);
+    assertThat(context).log().hasNoMessageContaining(" ended with failure");
+    assertThat(context).logAtSuccess().hasMessageContaining("Successfully ended step 'Install java'.");
+    assertThat(context).logAtSuccess().hasMessageContaining("Successfully ended step 'Install mvn'.");
+    assertThat(context.getSoftwarePath().resolve("java")).exists();
+    assertThat(context.getSoftwarePath().resolve("mvn")).exists();
+  }
+
+  /** Test that {@link ToolInstallScheduler#install()} downloads the tools in parallel and logs the output of the downloads on the main thread. */
+  @Test
+  void testInstallWithParallelDownloads(WireMockRuntimeInfo wmRuntimeInfo) {
+
+    // arrange
+    IdeTestContext context = newContext("mvn", wmRuntimeInfo);
+    Mvn mvn = context.getCommandletManager().getCommandlet(Mvn.class);
+    Java java = context.getCommandletManager().getCommandlet(Java.class);
+    ToolInstallScheduler scheduler = new ToolInstallScheduler(context, List.of(mvn, java));
+
+    // act
+    scheduler.install();
+
+    // assert
+    assertThat(scheduler.getInstallationOrder()).containsExactly(java, mvn);
+    assertThat(context).logAtInfo().hasMessage("Downloading 2 tools in parallel: [java, mvn]");
+    assertThat(context).logAtDebug().hasMessageContaining("that was fetched in advance");
+    assertThat(context).log().hasNoMessageContaining(" ended with failure");
+    assertThat(context).log().hasNoMessageContaining("Download of ");
+    assertThat(context.getSoftwarePath().resolve("java/.ide.software.version")).hasContent("17.0.10_7");
+    assertThat(context.getSoftwarePath().resolve("mvn/.ide.software.version")).hasContent("3.9.7");
+    assertThat(context.getDownloadPath().resolve("default")).isDirectoryContaining(path -> path.getFileName().toString().startsWith("java-"))
+        .isDirectoryContaining(path -> path.getFileName().toString().startsWith("mvn-"));
+  }
+
+}
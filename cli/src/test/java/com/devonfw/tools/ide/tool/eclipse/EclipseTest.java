@@ -3,6 +3,10 @@ package com.devonfw.tools.ide.tool.eclipse;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -11,11 +15,18 @@ import org.junit.jupiter.params.provider.ValueSource;
 import com.devonfw.tools.ide.context.AbstractIdeContextTest;
 import com.devonfw.tools.ide.context.IdeContext;
 import com.devonfw.tools.ide.context.IdeTestContext;
+import com.devonfw.tools.ide.context.ProcessContextTestImpl;
 import com.devonfw.tools.ide.log.IdeLogEntry;
 import com.devonfw.tools.ide.log.IdeLogLevel;
 import com.devonfw.tools.ide.os.SystemInfo;
 import com.devonfw.tools.ide.os.SystemInfoMock;
+import com.devonfw.tools.ide.process.OutputMessage;
+import com.devonfw.tools.ide.process.ProcessContext;
+import com.devonfw.tools.ide.process.ProcessMode;
+import com.devonfw.tools.ide.process.ProcessResult;
+import com.devonfw.tools.ide.process.ProcessResultImpl;
 import com.devonfw.tools.ide.tool.intellij.Intellij;
+import com.devonfw.tools.ide.tool.plugin.ToolPluginDescriptor;
 
 /**
  * Test of {@link Eclipse}.
@@ -91,4 +102,78 @@ public class EclipseTest extends AbstractIdeContextTest {
             + " -DrepositoryImportWorkingSet=");
   }
 
+  /** Test that multiple plugins are installed with a single invocation of the p2 director and a marker file per plugin. */
+  @Test
+  void testInstallMultiplePluginsInBatch() {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_ECLIPSE, "eclipseproject");
+    CapturingEclipse eclipse = new CapturingEclipse(context, 0);
+    ToolPluginDescriptor firstPlugin = new ToolPluginDescriptor("first.feature.group", "first", "https://first.org/updates", null, true, Set.of(), Set.of());
+    ToolPluginDescriptor secondPlugin = new ToolPluginDescriptor("second.feature.group", "second", "https://second.org/updates", null, true, Set.of(),
+        Set.of());
+
+    // act
+    eclipse.installPluginsForTest(List.of(firstPlugin, secondPlugin), new ProcessContextTestImpl(context));
+
+    // assert
+    assertThat(eclipse.invocations).containsExactly(List.of("-application", "org.eclipse.equinox.p2.director", "-repository",
+        "https://first.org/updates,https://second.org/updates", "-installIU", "first.feature.group,second.feature.group"));
+    assertThat(context).logAtSuccess().hasMessage("Successfully ended step 'Install 2 plugins'.");
+    assertThat(eclipse.retrievePluginMarkerFilePath(firstPlugin)).exists();
+    assertThat(eclipse.retrievePluginMarkerFilePath(secondPlugin)).exists();
+  }
+
+  /** Test that the batch step is reported as failed and all plugins are installed one by one if the batch installation fails. */
+  @Test
+  void testInstallPluginBatchFallsBackToIndividualInstallation() {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_ECLIPSE, "eclipseproject");
+    CapturingEclipse eclipse = new CapturingEclipse(context, 1);
+    ToolPluginDescriptor firstPlugin = new ToolPluginDescriptor("first.feature.group", "first", "https://first.org/updates", null, true, Set.of(), Set.of());
+    ToolPluginDescriptor secondPlugin = new ToolPluginDescriptor("second.feature.group", "second", "https://second.org/updates", null, true, Set.of(),
+        Set.of());
+
+    // act
+    eclipse.installPluginsForTest(List.of(firstPlugin, secondPlugin), new ProcessContextTestImpl(context));
+
+    // assert
+    assertThat(eclipse.invocations).hasSize(3);
+    assertThat(context).logAtError().hasMessage("Failed to install 2 of 2 plugins at once.");
+    assertThat(context).log().hasNoMessage("Successfully ended step 'Install 2 plugins'.");
+    assertThat(context).logAtSuccess().hasMessage("Successfully ended step 'Install plugin first (1/2)'.");
+    assertThat(context).logAtSuccess().hasMessage("Successfully ended step 'Install plugin second (2/2)'.");
+    assertThat(eclipse.retrievePluginMarkerFilePath(firstPlugin)).exists();
+    assertThat(eclipse.retrievePluginMarkerFilePath(secondPlugin)).exists();
+  }
+
+  private static class CapturingEclipse extends Eclipse {
+
+    private final List<List<String>> invocations;
+
+    private final int batchExitCode;
+
+    private CapturingEclipse(IdeTestContext context, int batchExitCode) {
+
+      super(context);
+      this.invocations = new ArrayList<>();
+      this.batchExitCode = batchExitCode;
+    }
+
+    @Override
+    public ProcessResult runTool(ProcessContext pc, ProcessMode processMode, List<String> args) {
+
+      this.invocations.add(List.copyOf(args));
+      boolean batch = args.getLast().contains(",");
+      int exitCode = batch ? this.batchExitCode : 0;
+      return new ProcessResultImpl("eclipse", "eclipse", exitCode, List.of(new OutputMessage(false, "Overall install request is satisfiable")));
+    }
+
+    /** Exposes the protected {@link com.devonfw.tools.ide.tool.plugin.PluginBasedCommandlet#installPlugins(Collection, ProcessContext)} for testing. */
+    public void installPluginsForTest(Collection<ToolPluginDescriptor> plugins, ProcessContext pc) {
+      installPlugins(plugins, pc);
+    }
+  }
+
 }
@@ -2,6 +2,11 @@ package com.devonfw.tools.ide.tool.intellij;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -10,13 +15,19 @@ import org.junit.jupiter.params.provider.ValueSource;
 import com.devonfw.tools.ide.context.AbstractIdeContextTest;
 import com.devonfw.tools.ide.context.IdeContext;
 import com.devonfw.tools.ide.context.IdeTestContext;
+import com.devonfw.tools.ide.context.ProcessContextTestImpl;
 import com.devonfw.tools.ide.git.repository.RepositoryCommandlet;
 import com.devonfw.tools.ide.log.IdeLogEntry;
 import com.devonfw.tools.ide.log.IdeLogLevel;
 import com.devonfw.tools.ide.os.SystemInfo;
 import com.devonfw.tools.ide.os.SystemInfoMock;
+import com.devonfw.tools.ide.process.ProcessContext;
+import com.devonfw.tools.ide.process.ProcessMode;
+import com.devonfw.tools.ide.process.ProcessResult;
+import com.devonfw.tools.ide.process.ProcessResultImpl;
 import com.devonfw.tools.ide.tool.ToolEdition;
 import com.devonfw.tools.ide.tool.ToolEditionAndVersion;
+import com.devonfw.tools.ide.tool.plugin.ToolPluginDescriptor;
 import com.devonfw.tools.ide.version.VersionIdentifier;
 import com.github.tomakehurst.wiremock.junit5.WireMockTest;
 
@@ -413,6 +424,53 @@ class IntellijTest extends AbstractIdeContextTest {
     assertThat(jdkTableContent).contains("software/extra/java/client");
   }
 
+  /** Test that plugins are installed with a single invocation of IntelliJ per plugin repository and a marker file per plugin. */
+  @Test
+  void testInstallMultiplePluginsInBatch() {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_INTELLIJ);
+    CapturingIntellij commandlet = new CapturingIntellij(context);
+    ToolPluginDescriptor firstPlugin = new ToolPluginDescriptor("first", "First", null, null, true, Set.of(), Set.of());
+    ToolPluginDescriptor secondPlugin = new ToolPluginDescriptor("second", "Second", null, null, true, Set.of(), Set.of());
+    ToolPluginDescriptor customPlugin = new ToolPluginDescriptor("custom", "Custom", "http://customRepo", null, true, Set.of(), Set.of());
+
+    // act
+    commandlet.installPluginsForTest(List.of(firstPlugin, secondPlugin, customPlugin), new ProcessContextTestImpl(context));
+
+    // assert
+    assertThat(commandlet.invocations).containsExactly(List.of("installPlugins", "first", "second"),
+        List.of("installPlugins", "custom", "http://customRepo"));
+    assertThat(context).logAtSuccess().hasMessage("Successfully ended step 'Install 3 plugins'.");
+    assertThat(commandlet.retrievePluginMarkerFilePath(firstPlugin)).exists();
+    assertThat(commandlet.retrievePluginMarkerFilePath(secondPlugin)).exists();
+    assertThat(commandlet.retrievePluginMarkerFilePath(customPlugin)).exists();
+  }
+
+  /** Test that the batch step is reported as failed and only the plugins of the failed batch are installed one by one afterwards. */
+  @Test
+  void testInstallPluginBatchFallsBackToIndividualInstallation() {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_INTELLIJ);
+    CapturingIntellij commandlet = new CapturingIntellij(context);
+    commandlet.failOnce.add("http://customRepo");
+    ToolPluginDescriptor firstPlugin = new ToolPluginDescriptor("first", "First", null, null, true, Set.of(), Set.of());
+    ToolPluginDescriptor customPlugin = new ToolPluginDescriptor("custom", "Custom", "http://customRepo", null, true, Set.of(), Set.of());
+
+    // act
+    commandlet.installPluginsForTest(List.of(firstPlugin, customPlugin), new ProcessContextTestImpl(context));
+
+    // assert
+    assertThat(commandlet.invocations).containsExactly(List.of("installPlugins", "first"), List.of("installPlugins", "custom", "http://customRepo"),
+        List.of("installPlugins", "custom", "http://customRepo"));
+    assertThat(context).logAtError().hasMessage("Failed to install 1 of 2 plugins at once.");
+    assertThat(context).logAtInfo().hasMessage("Installing 1 remaining plugin(s) one by one.");
+    assertThat(context).logAtSuccess().hasMessage("Successfully ended step 'Install plugin Custom (1/1)'.");
+    assertThat(commandlet.retrievePluginMarkerFilePath(firstPlugin)).exists();
+    assertThat(commandlet.retrievePluginMarkerFilePath(customPlugin)).exists();
+  }
+
   private void checkInstallation(IdeTestContext context) {
 
     Intellij commandlet = context.getCommandletManager().getCommandlet(Intellij.class);
@@ -423,4 +481,32 @@ class IntellijTest extends AbstractIdeContextTest {
     assertThat(context).logAtDebug().hasMessage("Omitting installation of inactive plugin InactivePlugin (inactivePlugin).");
     assertThat(context).logAtSuccess().hasMessage("Successfully ended step 'Install plugin ActivePlugin (1/1)'.");
   }
+
+  private static class CapturingIntellij extends Intellij {
+
+    private final List<List<String>> invocations;
+
+    /** The plugin repository URLs where the next installation shall fail. */
+    private final Set<String> failOnce;
+
+    private CapturingIntellij(IdeTestContext context) {
+
+      super(context);
+      this.invocations = new ArrayList<>();
+      this.failOnce = new HashSet<>();
+    }
+
+    @Override
+    public ProcessResult runTool(ProcessContext pc, ProcessMode processMode, List<String> args) {
+
+      this.invocations.add(List.copyOf(args));
+      int exitCode = this.failOnce.remove(args.getLast()) ? 1 : 0;
+      return new ProcessResultImpl("idea", "idea", exitCode, List.of());
+    }
+
+    /** Exposes the protected {@link com.devonfw.tools.ide.tool.plugin.PluginBasedCommandlet#installPlugins(Collection, ProcessContext)} for testing. */
+    public void installPluginsForTest(Collection<ToolPluginDescriptor> plugins, ProcessContext pc) {
+      installPlugins(plugins, pc);
+    }
+  }
 }
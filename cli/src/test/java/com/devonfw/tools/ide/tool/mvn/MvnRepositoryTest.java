@@ -2,6 +2,8 @@ package com.devonfw.tools.ide.tool.mvn;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
@@ -9,6 +11,7 @@ import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.w3c.dom.Document;
 
 import com.devonfw.tools.ide.context.AbstractIdeContextTest;
@@ -250,6 +253,28 @@ class MvnRepositoryTest extends AbstractIdeContextTest {
         "2024.07.003-alpha", "2024.07.002-alpha", "2024.06.001-alpha", "2024.05.001-alpha", "2024.04.001-alpha", "2024.03.001-alpha");
   }
 
+  /** Test of {@link MvnRepository#fetchVersions(MvnArtifact)} with a local repository that is not accessed via HTTP. */
+  @Test
+  void testFetchVersionsFromFileUrl(@TempDir Path tempDir) throws Exception {
+
+    // arrange
+    IdeTestContext context = new IdeTestContext();
+    Path metadataFile = tempDir.resolve(MvnArtifact.MAVEN_METADATA_XML);
+    Files.writeString(metadataFile, XML_RELEASE_METADATA);
+    MvnRepository mvnRepository = new MvnRepository(context) {
+      @Override
+      protected String getMavenUrl(MvnArtifact artifact) {
+        return metadataFile.toUri().toString();
+      }
+    };
+
+    // act
+    List<VersionIdentifier> versions = mvnRepository.fetchVersions(new MvnArtifact(MvnArtifact.GROUP_ID_IDEASY, MvnArtifact.ARTIFACT_ID_IDEASY_CLI, "*"));
+
+    // assert
+    assertThat(versions).hasSize(16).contains(VersionIdentifier.of("2025.01.003-beta"));
+  }
+
   private static Document parseXml(String xml) {
 
     InputStream inputStream = new ByteArrayInputStream(xml.getBytes());
@@ -1,12 +1,16 @@
 package com.devonfw.tools.ide.tool.pip;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import com.devonfw.tools.ide.context.AbstractIdeContextTest;
 import com.devonfw.tools.ide.context.IdeTestContext;
+import com.devonfw.tools.ide.io.ContentStore;
 import com.devonfw.tools.ide.os.SystemInfoMock;
+import com.devonfw.tools.ide.variable.IdeVariables;
 import com.devonfw.tools.ide.version.VersionIdentifier;
 import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
 import com.github.tomakehurst.wiremock.junit5.WireMockTest;
@@ -39,6 +43,33 @@ class PipTest extends AbstractIdeContextTest {
     checkInstallation(context);
   }
 
+  /**
+   * Tests that the {@link Pip} commandlet can be installed into python with {@link IdeVariables#SOFTWARE_DEDUPLICATION} enabled since python and uv that
+   * write into their own installation are not linked to the read-only {@link ContentStore}.
+   *
+   * @param wireMockRuntimeInfo wireMock server on a random port
+   */
+  @Test
+  void testPipInstallWithDeduplication(WireMockRuntimeInfo wireMockRuntimeInfo) {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_PIP, wireMockRuntimeInfo);
+    context.setSystemInfo(SystemInfoMock.LINUX_X64);
+    context.getSystem().setEnv(IdeVariables.SOFTWARE_DEDUPLICATION.getName(), "true");
+    Pip commandlet = new Pip(context);
+
+    // act
+    commandlet.install();
+
+    // assert
+    checkInstallation(context);
+    Path pythonBin = context.getSoftwarePath().resolve("python").resolve("bin");
+    assertThat(pythonBin.resolve("pip")).exists();
+    assertThat(Files.isWritable(pythonBin.resolve("pip"))).isTrue();
+    assertThat(Files.isWritable(context.getSoftwarePath().resolve("uv").resolve("uv"))).isTrue();
+    assertThat(context.getSoftwareRepositoryPath().resolve(ContentStore.FOLDER_STORE)).doesNotExist();
+  }
+
   /**
    * Tests that the {@link Pip} commandlet run works correctly.
    *
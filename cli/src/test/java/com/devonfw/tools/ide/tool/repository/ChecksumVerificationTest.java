@@ -4,16 +4,30 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import com.devonfw.tools.ide.cli.CliException;
 import com.devonfw.tools.ide.context.AbstractIdeContextTest;
+import com.devonfw.tools.ide.context.IdeContext;
 import com.devonfw.tools.ide.context.IdeTestContext;
+import com.devonfw.tools.ide.os.OperatingSystem;
+import com.devonfw.tools.ide.os.SystemArchitecture;
+import com.devonfw.tools.ide.tool.ToolCommandlet;
+import com.devonfw.tools.ide.url.model.file.UrlChecksums;
+import com.devonfw.tools.ide.url.model.file.UrlDownloadFileMetadata;
 import com.devonfw.tools.ide.url.model.file.UrlGenericChecksum;
+import com.devonfw.tools.ide.version.VersionIdentifier;
 
 /**
  * Test of checksum verification in {@link AbstractToolRepository}.
@@ -71,6 +85,201 @@ public class ChecksumVerificationTest extends AbstractIdeContextTest {
     assertThat(e).hasMessageContaining("Expected " + wrongChecksum);
   }
 
+  /**
+   * Test that {@link AbstractToolRepository#download(UrlDownloadFileMetadata)} verifies the checksum computed while downloading and marks the file in the
+   * download cache as verified.
+   *
+   * @throws IOException if an I/O error occurs.
+   */
+  @Test
+  public void testDownloadWritesVerifiedMarker() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    context.getNetworkStatus().simulateOnline();
+    AbstractToolRepository repo = new DefaultToolRepository(context);
+    Path source = this.tempDir.resolve("dummy.zip");
+    Files.writeString(source, "Hello World");
+    String checksum = context.getFileAccess().checksum(source, "SHA-256");
+    TestUrlDownloadFileMetadata metadata = new TestUrlDownloadFileMetadata(source, new TestUrlGenericChecksum(checksum, "SHA-256"));
+
+    // act
+    Path download = repo.download(metadata);
+
+    // assert
+    assertThat(download).hasContent("Hello World");
+    assertThat(download.resolveSibling(download.getFileName() + ".sha256-verified")).hasContent(checksum);
+    assertThat(context).logAtSuccess().hasMessage("SHA-256 checksum " + checksum + " is correct.");
+  }
+
+  /**
+   * Test that {@link AbstractToolRepository#download(UrlDownloadFileMetadata)} detects a corrupted file in the download cache and downloads it again.
+   *
+   * @throws IOException if an I/O error occurs.
+   */
+  @Test
+  public void testDownloadReplacesCorruptedCachedFile() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    context.getNetworkStatus().simulateOnline();
+    AbstractToolRepository repo = new DefaultToolRepository(context);
+    Path source = this.tempDir.resolve("dummy.zip");
+    Files.writeString(source, "Hello World");
+    String checksum = context.getFileAccess().checksum(source, "SHA-256");
+    TestUrlDownloadFileMetadata metadata = new TestUrlDownloadFileMetadata(source, new TestUrlGenericChecksum(checksum, "SHA-256"));
+    Path download = repo.download(metadata);
+    Files.writeString(download, "corrupted");
+    Files.setLastModifiedTime(download, FileTime.fromMillis(System.currentTimeMillis() + 10000));
+
+    // act
+    download = repo.download(metadata);
+
+    // assert
+    assertThat(download).hasContent("Hello World");
+    assertThat(context).logAtWarning().hasMessage("Cached download " + download + " has a wrong checksum and has been deleted.");
+  }
+
+  /**
+   * Test that {@link AbstractToolRepository#downloadAndExtract(String, String, VersionIdentifier, ToolCommandlet)} extracts the verified download and puts it
+   * into the download cache.
+   *
+   * @throws IOException if an I/O error occurs.
+   */
+  @Test
+  public void testDownloadAndExtract() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    context.getNetworkStatus().simulateOnline();
+    Path source = createTar(this.tempDir.resolve("dummy.tar"));
+    String checksum = context.getFileAccess().checksum(source, "SHA-256");
+    AbstractToolRepository repo = new TestToolRepository(context, new TestUrlDownloadFileMetadata(source, new TestUrlGenericChecksum(checksum, "SHA-256")));
+
+    // act
+    Path extracted = repo.downloadAndExtract("dummy", "dummy", VersionIdentifier.of("1.0"), null);
+
+    // assert
+    assertThat(extracted.resolve("dummy-1.0/bin/dummy")).hasContent("Hello World");
+    Path download = context.getDownloadPath().resolve(repo.getId()).resolve("dummy-1.0.tar");
+    assertThat(download).hasSameBinaryContentAs(source);
+    assertThat(download.resolveSibling(download.getFileName() + ".sha256-verified")).hasContent(checksum);
+    assertThat(repo.downloadAndExtract("dummy", "dummy", VersionIdentifier.of("1.0"), null)).as("cached download is extracted as usual").isNull();
+  }
+
+  /**
+   * Test that {@link AbstractToolRepository#downloadAndExtract(String, String, VersionIdentifier, ToolCommandlet)} discards the download and the extracted
+   * files if the checksum is wrong.
+   *
+   * @throws IOException if an I/O error occurs.
+   */
+  @Test
+  public void testDownloadAndExtractWithWrongChecksum() throws IOException {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_BASIC);
+    context.getNetworkStatus().simulateOnline();
+    Path source = createTar(this.tempDir.resolve("dummy.tar"));
+    String wrongChecksum = "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855"; // SHA-256 of empty string
+    AbstractToolRepository repo = new TestToolRepository(context, new TestUrlDownloadFileMetadata(source, new TestUrlGenericChecksum(wrongChecksum, "SHA-256")));
+
+    // act & assert
+    IllegalStateException e = assertThrows(IllegalStateException.class, () -> {
+      repo.downloadAndExtract("dummy", "dummy", VersionIdentifier.of("1.0"), null);
+    });
+    assertThat(e.getCause()).isInstanceOf(CliException.class).hasMessageContaining("has the wrong SHA-256 checksum");
+    assertThat(context.getDownloadPath().resolve(repo.getId()).resolve("dummy-1.0.tar")).doesNotExist();
+    assertThat(context.getTempDownloadPath()).isEmptyDirectory();
+    try (Stream<Path> children = Files.list(context.getTempPath())) {
+      assertThat(children).noneMatch(child -> child.getFileName().toString().startsWith("extract-"));
+    }
+  }
+
+  private static Path createTar(Path tar) throws IOException {
+
+    byte[] data = "Hello World".getBytes(StandardCharsets.UTF_8);
+    try (TarArchiveOutputStream tarOut = new TarArchiveOutputStream(Files.newOutputStream(tar))) {
+      TarArchiveEntry entry = new TarArchiveEntry("dummy-1.0/bin/dummy");
+      entry.setSize(data.length);
+      tarOut.putArchiveEntry(entry);
+      tarOut.write(data);
+      tarOut.closeArchiveEntry();
+    }
+    return tar;
+  }
+
+  private static class TestToolRepository extends DefaultToolRepository {
+
+    private final UrlDownloadFileMetadata metadata;
+
+    private TestToolRepository(IdeContext context, UrlDownloadFileMetadata metadata) {
+
+      super(context);
+      this.metadata = metadata;
+    }
+
+    @Override
+    protected UrlDownloadFileMetadata getMetadata(String tool, String edition, VersionIdentifier version, ToolCommandlet toolCommandlet) {
+
+      return this.metadata;
+    }
+  }
+
+  private static class TestUrlDownloadFileMetadata implements UrlDownloadFileMetadata {
+
+    private final Path source;
+
+    private final UrlGenericChecksum checksum;
+
+    public TestUrlDownloadFileMetadata(Path source, UrlGenericChecksum checksum) {
+
+      this.source = source;
+      this.checksum = checksum;
+    }
+
+    @Override
+    public String getTool() {
+
+      return "dummy";
+    }
+
+    @Override
+    public String getEdition() {
+
+      return "dummy";
+    }
+
+    @Override
+    public VersionIdentifier getVersion() {
+
+      return VersionIdentifier.of("1.0");
+    }
+
+    @Override
+    public Set<String> getUrls() {
+
+      return Set.of(this.source.toString());
+    }
+
+    @Override
+    public OperatingSystem getOs() {
+
+      return null;
+    }
+
+    @Override
+    public SystemArchitecture getArch() {
+
+      return null;
+    }
+
+    @Override
+    public UrlChecksums getChecksums() {
+
+      return () -> List.of(this.checksum).iterator();
+    }
+  }
+
   private static class TestUrlGenericChecksum implements UrlGenericChecksum {
 
     private final String checksum;
@@ -61,9 +61,37 @@ public class ToolRepositoryMock extends DefaultToolRepository {
 
   }
 
+  @Override
+  public Runnable prepareDownload(String tool, String edition, VersionIdentifier version, ToolCommandlet toolCommandlet) {
+
+    if (this.wmRuntimeInfo == null) {
+      // mock downloads are resolved from the local repository folder so there is nothing to download in advance
+      return null;
+    }
+    Path archiveFolder = getArchiveFolder(tool, edition, version);
+    if (findContentArchive(archiveFolder, tool, edition) != null) {
+      return null;
+    }
+    // WireMock stubs are bound to the test thread and therefore registered here while the returned download may run in any thread
+    return prepareDownload(stubDownload(archiveFolder, tool, edition, version, toolCommandlet));
+  }
+
   @Override
   public Path download(String tool, String edition, VersionIdentifier version, ToolCommandlet toolCommandlet) {
 
+    Path archiveFolder = getArchiveFolder(tool, edition, version);
+    Path contentArchive = findContentArchive(archiveFolder, tool, edition);
+    if (contentArchive != null) {
+      return contentArchive;
+    }
+    if (this.wmRuntimeInfo != null) {
+      return super.download(stubDownload(archiveFolder, tool, edition, version, toolCommandlet));
+    }
+    return archiveFolder;
+  }
+
+  private Path getArchiveFolder(String tool, String edition, VersionIdentifier version) {
+
     Path editionFolder = this.repositoryFolder.resolve(tool).resolve(edition);
     String versionString = version.toString();
     Path versionFolder = editionFolder.resolve(versionString);
@@ -79,6 +107,11 @@ public class ToolRepositoryMock extends DefaultToolRepository {
     if (!Files.isDirectory(archiveFolder)) {
       archiveFolder = versionFolder;
     }
+    return archiveFolder;
+  }
+
+  private static Path findContentArchive(Path archiveFolder, String tool, String edition) {
+
     Path contentArchive = null;
     try (Stream<Path> children = Files.list(archiveFolder)) {
       Iterator<Path> iterator = children.iterator();
@@ -100,31 +133,34 @@ public class ToolRepositoryMock extends DefaultToolRepository {
     } catch (IOException e) {
       throw new IllegalStateException("Failed to list children of folder " + archiveFolder);
     }
-    if (contentArchive != null) {
-      return contentArchive;
+    return contentArchive;
+  }
+
+  /**
+   * Registers a WireMock stub serving the given folder as archive.
+   *
+   * @return the {@link UrlDownloadFileMetadata} with the resolved URL of the stub.
+   */
+  private UrlDownloadFileMetadata stubDownload(Path archiveFolder, String tool, String edition, VersionIdentifier version,
+      ToolCommandlet toolCommandlet) {
+
+    UrlDownloadFileMetadata metadata = getMetadata(tool, edition, version, toolCommandlet);
+    String url = metadata.getUrls().iterator().next();
+    if (!url.startsWith(VARIABLE_TESTBASEURL)) {
+      throw new IllegalStateException("Invalid URL: " + url);
     }
-    if (this.wmRuntimeInfo != null) {
-      UrlDownloadFileMetadata metadata = getMetadata(tool, edition, version, toolCommandlet);
-      String url = metadata.getUrls().iterator().next();
-      if (url.startsWith(VARIABLE_TESTBASEURL)) {
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream(1024)) {
-          this.context.getFileAccess().compress(archiveFolder, baos, url);
-          byte[] body = baos.toByteArray();
-          String path = url.substring(VARIABLE_TESTBASEURL.length());
-          stubFor(get(urlMatching(path)).willReturn(
-              aResponse().withStatus(200).withBody(body)));
-          String resolvedUrl = url.replace(VARIABLE_TESTBASEURL, this.wmRuntimeInfo.getHttpBaseUrl());
-          UrlDownloadFile urlDownloadFile = (UrlDownloadFile) metadata;
-          metadata = new UrlDownloadFile(urlDownloadFile.getParent(), urlDownloadFile.getName(), Set.of(resolvedUrl));
-          return super.download(metadata);
-        } catch (IOException e) {
-          throw new IllegalStateException("Failed to create mock archive for " + url, e);
-        }
-      } else {
-        throw new IllegalStateException("Invalid URL: " + url);
-      }
+    try (ByteArrayOutputStream baos = new ByteArrayOutputStream(1024)) {
+      this.context.getFileAccess().compress(archiveFolder, baos, url);
+      byte[] body = baos.toByteArray();
+      String path = url.substring(VARIABLE_TESTBASEURL.length());
+      stubFor(get(urlMatching(path)).willReturn(
+          aResponse().withStatus(200).withBody(body)));
+      String resolvedUrl = url.replace(VARIABLE_TESTBASEURL, this.wmRuntimeInfo.getHttpBaseUrl());
+      UrlDownloadFile urlDownloadFile = (UrlDownloadFile) metadata;
+      return new UrlDownloadFile(urlDownloadFile.getParent(), urlDownloadFile.getName(), Set.of(resolvedUrl));
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to create mock archive for " + url, e);
     }
-    return archiveFolder;
   }
 
 }
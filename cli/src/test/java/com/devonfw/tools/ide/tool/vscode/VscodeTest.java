@@ -214,6 +214,27 @@ class VscodeTest extends AbstractIdeContextTest {
     assertThat(vscodeCommandlet.lastArgs).contains("--install-extension", "publisher.excluded@1.0.0");
   }
 
+  /** Test that multiple plugins are installed with a single invocation of VSCode and a marker file per plugin. */
+  @Test
+  void testInstallMultiplePluginsInBatch() {
+
+    // arrange
+    IdeTestContext context = newContext(PROJECT_VSCODE);
+    CapturingVscode vscodeCommandlet = new CapturingVscode(context);
+    ToolPluginDescriptor firstPlugin = new ToolPluginDescriptor("publisher.first", "firstPlugin", null, "1.0.0", true, Set.of(), Set.of());
+    ToolPluginDescriptor secondPlugin = new ToolPluginDescriptor("publisher.second", "secondPlugin", null, null, true, Set.of(), Set.of());
+
+    // act
+    vscodeCommandlet.installPluginsForTest(List.of(firstPlugin, secondPlugin), new ProcessContextTestImpl(context));
+
+    // assert
+    assertThat(vscodeCommandlet.lastArgs).containsExactly("--force", "--install-extension", "publisher.first@1.0.0", "--install-extension",
+        "publisher.second");
+    assertThat(context).logAtSuccess().hasMessage("Successfully ended step 'Install 2 plugins'.");
+    assertThat(vscodeCommandlet.retrievePluginMarkerFilePath(firstPlugin)).exists();
+    assertThat(vscodeCommandlet.retrievePluginMarkerFilePath(secondPlugin)).exists();
+  }
+
   @Test
   void testCsvParsingOfExcludedEditions() {
     // arrange
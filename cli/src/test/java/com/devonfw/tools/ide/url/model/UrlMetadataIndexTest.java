@@ -0,0 +1,138 @@
+package com.devonfw.tools.ide.url.model;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.devonfw.tools.ide.context.AbstractIdeTestContext;
+import com.devonfw.tools.ide.context.IdeTestContext;
+import com.devonfw.tools.ide.os.SystemArchitecture;
+import com.devonfw.tools.ide.os.SystemInfoImpl;
+import com.devonfw.tools.ide.tool.python.Python;
+import com.devonfw.tools.ide.url.model.folder.UrlRepository;
+import com.devonfw.tools.ide.version.VersionIdentifier;
+
+/**
+ * Test of {@link UrlMetadataIndex}.
+ */
+class UrlMetadataIndexTest extends AbstractUrlModelTest {
+
+  private static final String COMMIT_ID_1 = "0123456789abcdef0123456789abcdef01234567";
+
+  private static final String COMMIT_ID_2 = "89abcdef0123456789abcdef0123456789abcdef";
+
+  private IdeTestContext newContext(Path urlsPath, String os, String arch) {
+
+    IdeTestContext context = new IdeTestContext();
+    context.setUrlsPath(urlsPath);
+    ((AbstractIdeTestContext) context).setSystemInfo(new SystemInfoImpl(os, "11", arch));
+    return context;
+  }
+
+  private static Path createUrlsRepository(Path tempDir, String commitId) throws IOException {
+
+    Path urlsPath = tempDir.resolve("urls");
+    IdeTestContext context = new IdeTestContext();
+    context.getFileAccess().copy(URLS_PATH, tempDir);
+    Path refs = urlsPath.resolve(".git/refs/heads");
+    Files.createDirectories(refs);
+    Files.writeString(urlsPath.resolve(".git/HEAD"), "ref: refs/heads/main\n");
+    Files.writeString(refs.resolve("main"), commitId + "\n");
+    return urlsPath;
+  }
+
+  /** Test that the versions resolved via the index are identical to those from the folder tree. */
+  @Test
+  void testGetSortedVersionsFromIndex(@TempDir Path tempDir) throws IOException {
+
+    // arrange
+    Path urlsPath = createUrlsRepository(tempDir, COMMIT_ID_1);
+
+    for (String os : List.of(OS.WINDOWS.toString(), OS.LINUX.toString(), OS.MAC.toString())) {
+      for (SystemArchitecture arch : SystemArchitecture.values()) {
+        IdeTestContext context = newContext(urlsPath, os, arch.toString());
+        UrlMetadata folderMetadata = new UrlMetadata(context, UrlRepository.load(urlsPath));
+
+        // act
+        UrlMetadata indexMetadata = new UrlMetadata(context);
+
+        // assert
+        for (String tool : List.of("python", "java", "mvn")) {
+          for (String edition : folderMetadata.getSortedEditions(tool)) {
+            List<VersionIdentifier> expected = folderMetadata.getSortedVersions(tool, edition, null);
+            assertThat(indexMetadata.getSortedVersions(tool, edition, null)).as("%s/%s on %s@%s", tool, edition, os, arch).isEqualTo(expected);
+          }
+          assertThat(indexMetadata.getSortedEditions(tool)).isEqualTo(folderMetadata.getSortedEditions(tool));
+        }
+      }
+    }
+    assertThat(tempDir.resolve(UrlMetadataIndex.FILENAME)).exists();
+  }
+
+  /** Test that versions resolved via the index respect the availability for the current OS and architecture. */
+  @Test
+  void testGetSortedVersionsFiltersByOs(@TempDir Path tempDir) throws IOException {
+
+    // arrange
+    Path urlsPath = createUrlsRepository(tempDir, COMMIT_ID_1);
+    IdeTestContext context = newContext(urlsPath, OS.WINDOWS.toString(), SystemArchitecture.ARM64.toString());
+
+    // act
+    List<VersionIdentifier> sortedVersions = new UrlMetadata(context).getSortedVersions("python", "python", new Python(context));
+
+    // assert
+    assertThat(sortedVersions).extracting(VersionIdentifier::toString).containsExactly("3.11.9");
+  }
+
+  /** Test that the index is created once per commit and rebuilt after the commit changed. */
+  @Test
+  void testIndexRebuiltOnNewCommit(@TempDir Path tempDir) throws IOException {
+
+    // arrange
+    Path urlsPath = createUrlsRepository(tempDir, COMMIT_ID_1);
+    Path indexFile = tempDir.resolve(UrlMetadataIndex.FILENAME);
+    IdeTestContext context = newContext(urlsPath, OS.LINUX.toString(), SystemArchitecture.X64.toString());
+    new UrlMetadata(context).getSortedVersions("python", "python", null);
+    FileTime outdated = FileTime.fromMillis(0);
+    Files.setLastModifiedTime(indexFile, outdated);
+
+    // act
+    new UrlMetadata(context).getSortedVersions("python", "python", null);
+
+    // assert
+    assertThat(Files.getLastModifiedTime(indexFile)).isEqualTo(outdated);
+
+    // act
+    Files.writeString(urlsPath.resolve(".git/refs/heads/main"), COMMIT_ID_2);
+    new UrlMetadata(context).getSortedVersions("python", "python", null);
+
+    // assert
+    assertThat(Files.getLastModifiedTime(indexFile)).isNotEqualTo(outdated);
+    assertThat(Files.readString(indexFile, StandardCharsets.ISO_8859_1)).contains(COMMIT_ID_2);
+  }
+
+  /** Test that the commit ID is determined from loose and packed refs and from a detached HEAD. */
+  @Test
+  void testGetCommitId(@TempDir Path tempDir) throws IOException {
+
+    // arrange
+    Path gitFolder = tempDir.resolve(".git");
+    Files.createDirectories(gitFolder);
+
+    // act & assert
+    assertThat(UrlMetadataIndex.getCommitId(tempDir.resolve("missing"))).isNull();
+    Files.writeString(gitFolder.resolve("HEAD"), "ref: refs/heads/main\n");
+    Files.writeString(gitFolder.resolve("packed-refs"), "# pack-refs with: peeled fully-peeled sorted\n" + COMMIT_ID_2 + " refs/heads/main\n");
+    assertThat(UrlMetadataIndex.getCommitId(tempDir)).isEqualTo(COMMIT_ID_2);
+    Files.writeString(gitFolder.resolve("HEAD"), COMMIT_ID_1 + "\n");
+    assertThat(UrlMetadataIndex.getCommitId(tempDir)).isEqualTo(COMMIT_ID_1);
+  }
+
+}
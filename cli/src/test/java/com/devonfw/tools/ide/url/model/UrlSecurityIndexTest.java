@@ -0,0 +1,49 @@
+package com.devonfw.tools.ide.url.model;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.devonfw.tools.ide.context.IdeTestContext;
+import com.devonfw.tools.ide.url.model.file.json.ToolSecurity;
+import com.devonfw.tools.ide.url.model.folder.UrlRepository;
+
+/**
+ * Test of {@link UrlSecurityIndex}.
+ */
+class UrlSecurityIndexTest extends AbstractUrlModelTest {
+
+  /** Test that the security information resolved via the index is identical to the one from the security.json files. */
+  @Test
+  void testFindSecurityFromIndex(@TempDir Path tempDir) throws IOException {
+
+    // arrange
+    IdeTestContext context = new IdeTestContext();
+    context.getFileAccess().copy(URLS_PATH, tempDir);
+    Path urlsPath = tempDir.resolve("urls");
+    Path refs = urlsPath.resolve(".git/refs/heads");
+    Files.createDirectories(refs);
+    Files.writeString(urlsPath.resolve(".git/HEAD"), "ref: refs/heads/main\n");
+    Files.writeString(refs.resolve("main"), "0123456789abcdef0123456789abcdef01234567\n");
+    context.setUrlsPath(urlsPath);
+    UrlMetadata folderMetadata = new UrlMetadata(context, UrlRepository.load(urlsPath));
+
+    // act
+    UrlMetadata indexMetadata = new UrlMetadata(context);
+
+    // assert
+    for (String tool : new String[] { "intellij", "java", "mvn" }) {
+      ToolSecurity expected = folderMetadata.findSecurity(tool, tool);
+      ToolSecurity actual = indexMetadata.findSecurity(tool, tool);
+      assertThat(new ArrayList<>(actual.getIssues())).as(tool).isEqualTo(new ArrayList<>(expected.getIssues()));
+    }
+    assertThat(indexMetadata.findSecurity("intellij", "intellij").getIssues()).isNotEmpty();
+    assertThat(indexMetadata.findSecurity("mvn", "mvn")).isSameAs(ToolSecurity.getEmpty());
+    assertThat(tempDir.resolve(UrlSecurityIndex.FILENAME)).exists();
+  }
+
+}
@@ -7,8 +7,10 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import com.devonfw.tools.ide.context.IdeContext;
+import com.devonfw.tools.ide.security.ToolVulnerabilities;
 import com.devonfw.tools.ide.url.model.AbstractUrlModelTest;
 import com.devonfw.tools.ide.url.model.folder.AbstractUrlToolOrEdition;
+import com.devonfw.tools.ide.version.VersionIdentifier;
 import com.devonfw.tools.ide.version.VersionRange;
 
 /**
@@ -32,4 +34,34 @@ class ToolSecurityTest extends AbstractUrlModelTest {
     // assert
     assertThat(security).contains(new Cve("CVE-2024-32002", 9.0f, versionRanges));
   }
+
+  /** Test that {@link ToolSecurity#findCves(VersionIdentifier, double)} finds the same CVEs as checking every {@link VersionRange}. */
+  @Test
+  void testFindCvesMatchesAllRanges() {
+
+    // arrange
+    List<Cve> issues = List.of(new Cve("CVE-1", 9.0, List.of(VersionRange.of("(0,2.39.4)"), VersionRange.of("[2.40.0,2.40.2)"))),
+        new Cve("CVE-2", 5.0, List.of(VersionRange.of("(0,2.39.5)"), VersionRange.of("[2.40.3,2.40.6)"), VersionRange.of("[2023.3.3]"))),
+        new Cve("CVE-3", 4.0, List.of(VersionRange.of("[2022.3.1,)"))), new Cve("CVE-4", 7.5, List.of(VersionRange.of("(,1.0]"))));
+    ToolSecurity security = new ToolSecurity(issues);
+
+    for (String version : List.of("0", "0.5", "1.0", "1.1", "2.39.4", "2.39.5", "2.40.0", "2.40.1", "2.40.2", "2.40.3", "2.40.5", "2.40.6", "2022.3.1",
+        "2023.3.3", "2023.3.4", "2025.1")) {
+      VersionIdentifier versionIdentifier = VersionIdentifier.of(version);
+      List<Cve> expected = new ArrayList<>();
+      for (Cve cve : issues) {
+        for (VersionRange range : cve.versions()) {
+          if (range.contains(versionIdentifier)) {
+            expected.add(cve);
+          }
+        }
+      }
+
+      // act
+      ToolVulnerabilities vulnerabilities = security.findCves(versionIdentifier, 0);
+
+      // assert
+      assertThat(vulnerabilities.getIssues()).as(version).containsExactlyInAnyOrderElementsOf(expected);
+    }
+  }
 }
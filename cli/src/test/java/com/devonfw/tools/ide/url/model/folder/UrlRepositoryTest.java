@@ -0,0 +1,39 @@
+package com.devonfw.tools.ide.url.model.folder;
+
+import org.junit.jupiter.api.Test;
+
+import com.devonfw.tools.ide.os.OperatingSystem;
+import com.devonfw.tools.ide.os.SystemArchitecture;
+import com.devonfw.tools.ide.url.model.AbstractUrlModelTest;
+import com.devonfw.tools.ide.url.model.file.UrlDownloadFile;
+
+/**
+ * Test of {@link UrlRepository}.
+ */
+class UrlRepositoryTest extends AbstractUrlModelTest {
+
+  /** Test that {@link UrlFolder#getChild(String)} only materializes the requested children if the repository is not loaded. */
+  @Test
+  void testGetChildLoadsOnlyRequestedChildren() {
+
+    // arrange
+    UrlRepository repository = new UrlRepository(URLS_PATH);
+    // act
+    UrlTool tool = repository.getChild("python");
+    UrlEdition edition = tool.getChild("python");
+    UrlVersion version = edition.getChild("3.11.9");
+    UrlDownloadFile urls = version.getMatchingUrls(OperatingSystem.LINUX, SystemArchitecture.X64);
+    // assert
+    assertThat(repository.getChildNames()).containsExactly("python");
+    assertThat(tool.getChildNames()).containsExactly("python");
+    assertThat(edition.getChildNames()).containsExactly("3.11.9");
+    assertThat(version.getChildNames()).containsExactly("linux_x64.urls");
+    assertThat(urls.getUrls()).isNotEmpty();
+    assertThat(repository.getChild("undefined")).isNull();
+    assertThat(repository.getChild(".git")).isNull();
+    assertThat(version.getChild("status.json")).isNull();
+    assertThat(edition.getChildCount()).isEqualTo(2);
+    assertThat(edition.getChild("3.11.9")).isSameAs(version);
+  }
+
+}
@@ -405,4 +405,45 @@ class VersionIdentifierTest extends Assertions {
         .isInstanceOf(CliException.class)
         .hasMessage(expectedMessage);
   }
+
+  /** Test of {@link VersionIdentifier#resolveVersionPattern(GenericVersionRange, List)} - exact version found by binary search in sorted versions. */
+  @Test
+  void testResolveVersionPatternVersionFoundInSortedVersions() {
+
+    final List<VersionIdentifier> availableVersions = new ArrayList<>();
+    for (int minor = 0; minor < 50; minor++) {
+      availableVersions.add(VersionIdentifier.of("1." + minor + ".0"));
+      availableVersions.add(VersionIdentifier.of("1." + minor + ".0-rc1"));
+    }
+    availableVersions.add(VersionIdentifier.of("1.01.0"));
+    availableVersions.sort(Collections.reverseOrder());
+    for (VersionIdentifier version : availableVersions) {
+      assertThat(VersionIdentifier.resolveVersionPattern(VersionIdentifier.of(version.toString()), availableVersions)).isSameAs(version);
+    }
+  }
+
+  /** Test that {@link VersionIdentifier#of(String)} returns the same instance for the same {@link String}. */
+  @Test
+  void testOfInterned() {
+
+    assertThat(VersionIdentifier.of("17.0.10_7")).isSameAs(VersionIdentifier.of("17.0.10_7"));
+    assertThat(VersionIdentifier.of("17.0.10_7")).isNotSameAs(VersionIdentifier.of("17.0.10+7"));
+  }
+
+  /** Test that the comparison of packed keys is identical to the comparison of the {@link VersionSegment}s. */
+  @Test
+  void testComparePackedKeysLikeSegments() {
+
+    List<String> versions = List.of("1", "1.0", "1.0.0", "1.00", "1.1", "1.01", "1-1", "1_1", "1.", "1.0-SNAPSHOT", "1.0.0-SNAPSHOT", "1.0-alpha1",
+        "1.0-a1", "1.0-beta", "1.0-beta2", "1.0-pre-beta2", "1.0-rc1", "1.0RC1", "1.0-rc1-SNAPSHOT", "1.0-release", "1.0.GA", "1.0-hf1", "1.0-bugfix2",
+        "1.0.0_1", "1.0.0-1", "1.0.0.1", "17.0.10_7", "17.0.10+7", "17.0.9_9", "2023.3.1", "2023.3", "2024.1-eap", "0.0.1", "1.0.0-M1", "1.0.0-milestone1",
+        "1.0-nightly", "1.0-rev2", "1.0-u3", "1.0-build5", "1.0-b5", "1.0-donut", "1.0*", "1.0.*!", "2147483647.1");
+    for (String version : versions) {
+      VersionIdentifier vid = VersionIdentifier.of(version);
+      for (String otherVersion : versions) {
+        VersionIdentifier otherVid = VersionIdentifier.of(otherVersion);
+        assertThat(vid.compareVersion(otherVid)).as("%s compared with %s", version, otherVersion).isSameAs(vid.compareSegments(otherVid));
+      }
+    }
+  }
 }
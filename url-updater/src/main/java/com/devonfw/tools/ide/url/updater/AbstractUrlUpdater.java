@@ -18,6 +18,11 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -54,6 +59,9 @@ public abstract class AbstractUrlUpdater extends AbstractProcessorWithTimeout im
 
   private static final Duration DAYS_UNTIL_DELETION_OF_BROKEN_URL = Duration.ofDays(14);
 
+  /** The maximum number of versions of a single updater that are processed concurrently. */
+  private static final int MAX_CONCURRENT_VERSIONS = 8;
+
   /** {@link OperatingSystem#WINDOWS}. */
   protected static final OperatingSystem WINDOWS = OperatingSystem.WINDOWS;
 
@@ -390,7 +398,7 @@ public abstract class AbstractUrlUpdater extends AbstractProcessorWithTimeout im
    */
   protected String doGetResponseBodyAsString(String url) {
 
-    try {
+    try (HostRateLimiter.Permit permit = HostRateLimiter.get().acquire(url)) {
       HttpRequest request = createRequestWithOptionalAuth(url).GET().build();
       HttpResponse<String> response = this.client.send(request, HttpResponse.BodyHandlers.ofString());
       if (response.statusCode() == 200) {
@@ -404,7 +412,7 @@ public abstract class AbstractUrlUpdater extends AbstractProcessorWithTimeout im
 
   /**
    * @param url the URL of the download file.
-   * @return the {@link InputStream} of response body.
+   * @return the {@link InputStream} of response body. The caller should hold a {@link HostRateLimiter.Permit} until the body has been read.
    */
   protected HttpResponse<InputStream> doGetResponseAsStream(String url) {
 
@@ -679,7 +687,9 @@ public abstract class AbstractUrlUpdater extends AbstractProcessorWithTimeout im
       }
       if (checksum == null || checksum.isEmpty()) {
         String contentType = response.headers().firstValue("content-type").orElse("undefined");
-        checksum = doGenerateChecksum(doGetResponseAsStream(url), url, edition, version, contentType);
+        try (HostRateLimiter.Permit permit = HostRateLimiter.get().acquire(url)) {
+          checksum = doGenerateChecksum(doGetResponseAsStream(url), url, edition, version, contentType);
+        }
       }
       // we only use getOrCreate here to avoid creating empty file if doGenerateChecksum fails
       if (urlChecksum == null) {
@@ -696,7 +706,7 @@ public abstract class AbstractUrlUpdater extends AbstractProcessorWithTimeout im
 
     doUpdateStatusJson(success, statusCode, edition, urlVersion, url, urlDownloadFile, update);
 
-    urlVersion.save();
+    save(urlVersion);
 
     return success;
   }
@@ -745,7 +755,7 @@ public abstract class AbstractUrlUpdater extends AbstractProcessorWithTimeout im
   protected HttpResponse<?> doCheckDownloadViaHeadRequest(String url) {
 
     HttpRequest request = null;
-    try {
+    try (HostRateLimiter.Permit permit = HostRateLimiter.get().acquire(url)) {
       request = createRequestWithOptionalAuth(url).method("HEAD", HttpRequest.BodyPublishers.noBody()).timeout(Duration.ofSeconds(5)).build();
       return this.client.send(request, HttpResponse.BodyHandlers.ofString());
     } catch (Exception e) {
@@ -956,6 +966,62 @@ public abstract class AbstractUrlUpdater extends AbstractProcessorWithTimeout im
     return this.updateManager.getStatusFile(urlVersion, create);
   }
 
+  /**
+   * Saves the given {@link UrlVersion} while holding the {@link UpdateManager#getToolLock(String) lock of the tool} so writes of concurrent updaters and
+   * versions of the same tool do not interfere.
+   *
+   * @param urlVersion the {@link UrlVersion} to save.
+   */
+  private void save(UrlVersion urlVersion) {
+
+    Lock lock = this.updateManager.getToolLock(getTool());
+    lock.lock();
+    try {
+      urlVersion.save();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void delete(UrlVersion urlVersion) {
+
+    Lock lock = this.updateManager.getToolLock(getTool());
+    lock.lock();
+    try {
+      urlVersion.delete();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Runs the given {@link Consumer} for all given items concurrently on virtual threads (limited to {@link #MAX_CONCURRENT_VERSIONS}) and waits until all
+   * are completed. Stops submitting further items once the {@link #isTimeoutExpired() timeout expired}.
+   *
+   * @param <T> type of the items.
+   * @param items the items to process.
+   * @param action the {@link Consumer} to process a single item. Has to handle its own errors.
+   */
+  private <T> void forEachConcurrently(Collection<T> items, Consumer<T> action) {
+
+    Semaphore semaphore = new Semaphore(MAX_CONCURRENT_VERSIONS);
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (T item : items) {
+        if (isTimeoutExpired()) {
+          break;
+        }
+        semaphore.acquireUninterruptibly();
+        executor.execute(() -> {
+          try {
+            action.accept(item);
+          } finally {
+            semaphore.release();
+          }
+        });
+      }
+    }
+  }
+
   /**
    * Updates the tool's versions in the URL repository.
    *
@@ -973,27 +1039,28 @@ public abstract class AbstractUrlUpdater extends AbstractProcessorWithTimeout im
       String toolWithEdition = getToolWithEdition(edition);
       logger.info("For tool {} we found the following versions : {}", toolWithEdition, versions);
 
+      // the edition is only modified here so the versions can afterwards be processed concurrently
+      List<UrlVersion> newVersions = new ArrayList<>();
       for (String version : versions) {
-
-        if (isTimeoutExpired()) {
-          break;
-        }
-
         UrlVersion urlVersion = urlEdition.getChild(version);
         if (urlVersion == null || isMissingOs(urlVersion)) {
-          try {
-            urlVersion = urlEdition.getOrCreateChild(version);
-            addVersion(urlVersion);
-            urlVersion.save();
-            getUrlUpdaterReport().incrementAddVersionSuccess();
-            logger.info("For tool {} we add version {}.", toolWithEdition, version);
-          } catch (Exception e) {
-            logger.error("For tool {} we failed to add version {}.", toolWithEdition, version, e);
-            getUrlUpdaterReport().incrementAddVersionFailure();
-          }
+          newVersions.add(urlEdition.getOrCreateChild(version));
         }
       }
-      getUrlFinalReport().addUrlUpdaterReport(getUrlUpdaterReport());
+      UrlUpdaterReport report = getUrlUpdaterReport();
+      forEachConcurrently(newVersions, urlVersion -> {
+        String version = urlVersion.getName();
+        try {
+          addVersion(urlVersion);
+          save(urlVersion);
+          report.incrementAddVersionSuccess();
+          logger.info("For tool {} we add version {}.", toolWithEdition, version);
+        } catch (Exception e) {
+          logger.error("For tool {} we failed to add version {}.", toolWithEdition, version, e);
+          report.incrementAddVersionFailure();
+        }
+      });
+      getUrlFinalReport().addUrlUpdaterReport(report);
     }
   }
 
@@ -1005,10 +1072,10 @@ public abstract class AbstractUrlUpdater extends AbstractProcessorWithTimeout im
   protected void updateExistingVersions(UrlEdition edition) {
 
     // since Java collections do not support modification while iterating, we need to create a copy
-    String[] existingVersions = edition.getChildNames().toArray(i -> new String[i]);
-    for (String version : existingVersions) {
-      UrlVersion urlVersion = edition.getChild(version);
-      if (urlVersion != null) {
+    List<UrlVersion> existingVersions = new ArrayList<>(edition.getChildren());
+    forEachConcurrently(existingVersions, urlVersion -> {
+      String version = urlVersion.getName();
+      try {
         UrlStatusFile urlStatusFile = getStatusFile(urlVersion, true);
         StatusJson statusJson = urlStatusFile.getStatusJson();
         if (statusJson.isManual()) {
@@ -1017,13 +1084,15 @@ public abstract class AbstractUrlUpdater extends AbstractProcessorWithTimeout im
           updateExistingVersion(edition.getName(), version, urlVersion, statusJson, urlStatusFile);
           if (urlVersion.getChildren().isEmpty()) {
             logger.warn("Finally deleting broken or disappeared version {}", urlVersion.getPath());
-            urlVersion.delete();
+            delete(urlVersion);
           } else {
-            urlVersion.save();
+            save(urlVersion);
           }
         }
+      } catch (Exception e) {
+        logger.error("For tool {} we failed to update existing version {}.", getToolWithEdition(edition.getName()), version, e);
       }
-    }
+    });
   }
 
   private void updateExistingVersion(String edition, String version, UrlVersion urlVersion, StatusJson statusJson, UrlStatusFile urlStatusFile) {
@@ -0,0 +1,143 @@
+package com.devonfw.tools.ide.url.updater;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Limits the number of concurrent HTTP requests and their rate per host. Since the {@link UpdateManager} runs the {@link AbstractUrlUpdater}s concurrently,
+ * this prevents that we get blocked by servers like GitHub, JetBrains or Maven Central that apply rate limits or abuse detection.
+ */
+public final class HostRateLimiter {
+
+  /** The {@link HostLimit} for hosts not explicitly configured. */
+  static final HostLimit DEFAULT_LIMIT = new HostLimit(8, Duration.ZERO);
+
+  /** The {@link HostLimit}s by host suffix. */
+  private static final Map<String, HostLimit> LIMITS = Map.of(
+      "api.github.com", new HostLimit(2, Duration.ofMillis(500)),
+      "github.com", new HostLimit(4, Duration.ofMillis(100)),
+      "githubusercontent.com", new HostLimit(4, Duration.ofMillis(100)),
+      "jetbrains.com", new HostLimit(2, Duration.ofMillis(250)),
+      "maven.org", new HostLimit(4, Duration.ofMillis(100)),
+      "maven.apache.org", new HostLimit(4, Duration.ofMillis(100)));
+
+  private static final HostRateLimiter INSTANCE = new HostRateLimiter();
+
+  private final Map<String, Limiter> limiters;
+
+  private HostRateLimiter() {
+
+    super();
+    this.limiters = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * @param url the URL to request.
+   * @return the acquired {@link Permit} that has to be {@link Permit#close() closed} when the request is completed.
+   */
+  public Permit acquire(String url) {
+
+    String host = null;
+    try {
+      host = URI.create(url).getHost();
+    } catch (Exception e) {
+      // invalid URL will fail in the actual request
+    }
+    if (host == null) {
+      host = "";
+    }
+    host = host.toLowerCase(Locale.ROOT);
+    Limiter limiter = this.limiters.computeIfAbsent(host, h -> new Limiter(getLimit(h)));
+    return limiter.acquire();
+  }
+
+  /**
+   * @param host the host name in lower case.
+   * @return the {@link HostLimit} for the given host.
+   */
+  static HostLimit getLimit(String host) {
+
+    String suffix = host;
+    while (true) {
+      HostLimit limit = LIMITS.get(suffix);
+      if (limit != null) {
+        return limit;
+      }
+      int dot = suffix.indexOf('.');
+      if (dot < 0) {
+        return DEFAULT_LIMIT;
+      }
+      suffix = suffix.substring(dot + 1);
+    }
+  }
+
+  /**
+   * @return the singleton instance shared by all {@link AbstractUrlUpdater}s.
+   */
+  public static HostRateLimiter get() {
+
+    return INSTANCE;
+  }
+
+  /**
+   * The limit for a host.
+   *
+   * @param maxConcurrentRequests the maximum number of concurrent requests.
+   * @param minInterval the minimum {@link Duration} between the start of two requests.
+   */
+  record HostLimit(int maxConcurrentRequests, Duration minInterval) {
+
+  }
+
+  /**
+   * A permit to send a request to a host. Has to be closed after the request (including reading the response body) is completed.
+   */
+  public interface Permit extends AutoCloseable {
+
+    @Override
+    void close();
+  }
+
+  private static final class Limiter {
+
+    private final Semaphore semaphore;
+
+    private final long minIntervalNanos;
+
+    private long nextStart;
+
+    private Limiter(HostLimit limit) {
+
+      this.semaphore = new Semaphore(limit.maxConcurrentRequests(), true);
+      this.minIntervalNanos = limit.minInterval().toNanos();
+      this.nextStart = System.nanoTime();
+    }
+
+    private Permit acquire() {
+
+      this.semaphore.acquireUninterruptibly();
+      if (this.minIntervalNanos > 0) {
+        long start = reserveStart();
+        long delay = start - System.nanoTime();
+        while (delay > 0) {
+          LockSupport.parkNanos(delay);
+          delay = start - System.nanoTime();
+        }
+      }
+      return this.semaphore::release;
+    }
+
+    private synchronized long reserveStart() {
+
+      long start = Math.max(System.nanoTime(), this.nextStart);
+      this.nextStart = start + this.minIntervalNanos;
+      return start;
+    }
+  }
+
+}
@@ -3,16 +3,25 @@ package com.devonfw.tools.ide.url.updater;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.devonfw.tools.ide.url.model.folder.UrlRepository;
+import com.devonfw.tools.ide.url.model.folder.UrlTool;
 import com.devonfw.tools.ide.url.model.folder.UrlVersion;
 import com.devonfw.tools.ide.url.model.report.UrlFinalReport;
+import com.devonfw.tools.ide.url.model.report.UrlUpdaterReport;
 import com.devonfw.tools.ide.url.tool.androidstudio.AndroidStudioUrlUpdater;
 import com.devonfw.tools.ide.url.tool.aws.AwsUrlUpdater;
 import com.devonfw.tools.ide.url.tool.az.AzureUrlUpdater;
@@ -81,7 +90,9 @@ public class UpdateManager extends AbstractProcessorWithTimeout {
 
   private final UrlFinalReport urlFinalReport;
 
-  private final Map<UrlVersion, UrlStatusFile> statusFiles = new HashMap<>();
+  private final Map<UrlVersion, UrlStatusFile> statusFiles = new ConcurrentHashMap<>();
+
+  private final Map<String, Lock> toolLocks = new ConcurrentHashMap<>();
 
   private final List<AbstractUrlUpdater> updaters = List.of(
       new AndroidStudioUrlUpdater(), new AwsUrlUpdater(), new AzureUrlUpdater(), new ClaudeUrlUpdater(), new CopilotUrlUpdater(), new CorepackUrlUpdater(),
@@ -129,15 +140,37 @@ public class UpdateManager extends AbstractProcessorWithTimeout {
   }
 
   /**
-   * Updates {@code ide-urls} for all tools their editions and all found versions.
+   * Updates {@code ide-urls} for all tools their editions and all found versions. The tools are updated concurrently on virtual threads while the
+   * {@link AbstractUrlUpdater updaters} of the same tool run sequentially as they share the same {@link UrlTool} folder. The {@link UrlUpdaterReport}s are
+   * added to the {@link UrlFinalReport} in the order of the {@link #getUpdaters() updaters} so the report stays deterministic.
    */
   public void updateAll() {
 
+    Map<String, List<AbstractUrlUpdater>> updatersByTool = new LinkedHashMap<>();
+    Map<AbstractUrlUpdater, UrlFinalReport> reports = new HashMap<>();
+    for (AbstractUrlUpdater updater : this.updaters) {
+      String tool = updater.getTool();
+      updatersByTool.computeIfAbsent(tool, t -> new ArrayList<>()).add(updater);
+      reports.put(updater, new UrlFinalReport());
+      // create the tool folder upfront since the repository itself is not thread-safe
+      this.urlRepository.getOrCreateChild(tool);
+    }
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (List<AbstractUrlUpdater> toolUpdaters : updatersByTool.values()) {
+        executor.execute(() -> {
+          for (AbstractUrlUpdater updater : toolUpdaters) {
+            if (isTimeoutExpired()) {
+              break;
+            }
+            update(updater, reports.get(updater));
+          }
+        });
+      }
+    }
     for (AbstractUrlUpdater updater : this.updaters) {
-      if (isTimeoutExpired()) {
-        break;
+      for (UrlUpdaterReport report : reports.get(updater).getUrlUpdaterReports()) {
+        this.urlFinalReport.addUrlUpdaterReport(report);
       }
-      update(updater);
     }
     saveStatusFiles();
   }
@@ -151,16 +184,16 @@ public class UpdateManager extends AbstractProcessorWithTimeout {
 
     for (AbstractUrlUpdater updater : this.updaters) {
       if (updater.getTool().equals(tool) || updater.getClass().getSimpleName().equals(tool)) {
-        update(updater);
+        update(updater, this.urlFinalReport);
       }
     }
     saveStatusFiles();
   }
 
-  private void update(AbstractUrlUpdater updater) {
+  private void update(AbstractUrlUpdater updater, UrlFinalReport report) {
     try {
       updater.setExpirationTime(getExpirationTime());
-      updater.setUrlFinalReport(this.urlFinalReport);
+      updater.setUrlFinalReport(report);
       updater.setUpdateManager(this);
       String updaterName = updater.getClass().getSimpleName();
       String toolName = updater.getTool();
@@ -212,12 +245,20 @@ public class UpdateManager extends AbstractProcessorWithTimeout {
       if (!create && !Files.exists(statusPath)) {
         return null;
       }
-      statusFile = new UrlStatusFile(statusPath);
-      this.statusFiles.put(urlVersion, statusFile);
+      statusFile = this.statusFiles.computeIfAbsent(urlVersion, v -> new UrlStatusFile(statusPath));
     }
     return statusFile;
   }
 
+  /**
+   * @param tool the name of the {@link UrlTool tool}.
+   * @return the {@link Lock} that has to be held while writing files of the given tool.
+   */
+  public Lock getToolLock(String tool) {
+
+    return this.toolLocks.computeIfAbsent(tool, t -> new ReentrantLock());
+  }
+
   private Path getStatusJsonPath(UrlVersion urlVersion) {
 
     Path urlRepositoryPath = urlVersion.getParent().getParent().getParent().getPath();
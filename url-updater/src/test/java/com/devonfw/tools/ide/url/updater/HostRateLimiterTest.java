@@ -0,0 +1,51 @@
+package com.devonfw.tools.ide.url.updater;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.devonfw.tools.ide.url.updater.HostRateLimiter.HostLimit;
+
+/**
+ * Test of {@link HostRateLimiter}.
+ */
+class HostRateLimiterTest {
+
+  /**
+   * Test that the {@link HostLimit} is resolved by the most specific host suffix.
+   */
+  @Test
+  void testGetLimit() {
+
+    assertThat(HostRateLimiter.getLimit("api.github.com")).isEqualTo(new HostLimit(2, Duration.ofMillis(500)));
+    assertThat(HostRateLimiter.getLimit("github.com")).isEqualTo(new HostLimit(4, Duration.ofMillis(100)));
+    assertThat(HostRateLimiter.getLimit("objects.githubusercontent.com")).isEqualTo(new HostLimit(4, Duration.ofMillis(100)));
+    assertThat(HostRateLimiter.getLimit("download.jetbrains.com")).isEqualTo(new HostLimit(2, Duration.ofMillis(250)));
+    assertThat(HostRateLimiter.getLimit("repo1.maven.org")).isEqualTo(new HostLimit(4, Duration.ofMillis(100)));
+    assertThat(HostRateLimiter.getLimit("localhost")).isSameAs(HostRateLimiter.DEFAULT_LIMIT);
+    assertThat(HostRateLimiter.getLimit("")).isSameAs(HostRateLimiter.DEFAULT_LIMIT);
+  }
+
+  /**
+   * Test that requests to a rate limited host are spaced by the minimum interval.
+   */
+  @Test
+  void testMinInterval() {
+
+    // arrange
+    HostRateLimiter limiter = HostRateLimiter.get();
+    String url = "https://www.jetbrains.com/rate-limit-test";
+    long start = System.nanoTime();
+    // act
+    for (int i = 0; i < 3; i++) {
+      try (HostRateLimiter.Permit permit = limiter.acquire(url)) {
+        assertThat(permit).isNotNull();
+      }
+    }
+    // assert
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(500));
+  }
+
+}